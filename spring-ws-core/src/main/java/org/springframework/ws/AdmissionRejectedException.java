@@ -0,0 +1,33 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws;
+
+/**
+ * Exception thrown when an incoming message is rejected because the server is
+ * overloaded.
+ *
+ * @since 4.0.12
+ * @see org.springframework.ws.server.AdmissionController
+ */
+@SuppressWarnings("serial")
+public class AdmissionRejectedException extends WebServiceException {
+
+	public AdmissionRejectedException(String msg) {
+		super(msg);
+	}
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.aot;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.xml.bind.JAXBElement;
+import jakarta.xml.bind.annotation.XmlEnum;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import jakarta.xml.bind.annotation.XmlType;
+
+import org.springframework.aot.hint.ExecutableMode;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.ws.server.endpoint.annotation.Endpoint;
+import org.springframework.ws.server.endpoint.annotation.PayloadRoot;
+import org.springframework.ws.server.endpoint.annotation.RequestPayload;
+import org.springframework.ws.server.endpoint.annotation.ResponsePayload;
+import org.springframework.ws.soap.addressing.server.annotation.Action;
+import org.springframework.ws.soap.server.endpoint.annotation.SoapAction;
+
+/**
+ * {@link BeanFactoryInitializationAotProcessor} that registers the reflection hints
+ * required by the annotation-based endpoint mappings and method processors.
+ * <p>
+ * For every bean annotated with {@link Endpoint @Endpoint}, the methods carrying
+ * {@link PayloadRoot @PayloadRoot}, {@link SoapAction @SoapAction}, or
+ * {@link Action @Action} are registered for invocation, so that the endpoint mappings
+ * can detect and invoke them in a native image. JAXB types used as
+ * {@link RequestPayload @RequestPayload} parameters or {@link ResponsePayload
+ * &#064;ResponsePayload} return values are registered for binding, along with the types
+ * they reference.
+ *
+ * @since 4.0.12
+ */
+class EndpointBeanFactoryInitializationAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+	private static final List<Class<? extends Annotation>> MAPPING_ANNOTATION_TYPES = List.of(PayloadRoot.class,
+			SoapAction.class, Action.class);
+
+	private static final List<Class<? extends Annotation>> JAXB_ANNOTATION_TYPES = List.of(XmlRootElement.class,
+			XmlType.class, XmlEnum.class);
+
+	@Override
+	public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+		Set<Class<?>> endpointTypes = new LinkedHashSet<>();
+		for (String beanName : beanFactory.getBeanDefinitionNames()) {
+			Class<?> beanType = RegisteredBean.of(beanFactory, beanName).getBeanClass();
+			Class<?> userType = ClassUtils.getUserClass(beanType);
+			if (AnnotatedElementUtils.hasAnnotation(userType, Endpoint.class)) {
+				endpointTypes.add(userType);
+			}
+		}
+		if (endpointTypes.isEmpty()) {
+			return null;
+		}
+		return (generationContext, beanFactoryInitializationCode) -> registerHints(
+				generationContext.getRuntimeHints(), endpointTypes);
+	}
+
+	private void registerHints(RuntimeHints hints, Set<Class<?>> endpointTypes) {
+		ReflectionHints reflectionHints = hints.reflection();
+		Set<Class<?>> jaxbTypes = new HashSet<>();
+		for (Class<?> endpointType : endpointTypes) {
+			reflectionHints.registerType(endpointType, MemberCategory.INTROSPECT_DECLARED_METHODS);
+			ReflectionUtils.doWithMethods(endpointType, method -> {
+				if (isEndpointMethod(method)) {
+					reflectionHints.registerMethod(method, ExecutableMode.INVOKE);
+					registerPayloadTypes(reflectionHints, method, jaxbTypes);
+				}
+			}, ReflectionUtils.USER_DECLARED_METHODS);
+		}
+	}
+
+	private boolean isEndpointMethod(Method method) {
+		MergedAnnotations annotations = MergedAnnotations.from(method);
+		for (Class<? extends Annotation> annotationType : MAPPING_ANNOTATION_TYPES) {
+			if (annotations.isPresent(annotationType)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void registerPayloadTypes(ReflectionHints hints, Method method, Set<Class<?>> jaxbTypes) {
+		for (int i = 0; i < method.getParameterCount(); i++) {
+			MethodParameter parameter = new MethodParameter(method, i);
+			if (parameter.hasParameterAnnotation(RequestPayload.class)) {
+				registerJaxbType(hints, ResolvableType.forMethodParameter(parameter), jaxbTypes);
+			}
+		}
+		MethodParameter returnType = new MethodParameter(method, -1);
+		if (returnType.hasMethodAnnotation(ResponsePayload.class)) {
+			registerJaxbType(hints, ResolvableType.forMethodParameter(returnType), jaxbTypes);
+		}
+	}
+
+	private void registerJaxbType(ReflectionHints hints, ResolvableType type, Set<Class<?>> jaxbTypes) {
+		Class<?> clazz = type.resolve();
+		if (clazz == null) {
+			return;
+		}
+		if (JAXBElement.class.isAssignableFrom(clazz)) {
+			registerJaxbType(hints, type.as(JAXBElement.class).getGeneric(0), jaxbTypes);
+		}
+		else if (CompletionStage.class.isAssignableFrom(clazz)) {
+			registerJaxbType(hints, type.as(CompletionStage.class).getGeneric(0), jaxbTypes);
+		}
+		else if (Collection.class.isAssignableFrom(clazz)) {
+			registerJaxbType(hints, type.asCollection().getGeneric(0), jaxbTypes);
+		}
+		else if (clazz.isArray()) {
+			registerJaxbType(hints, type.getComponentType(), jaxbTypes);
+		}
+		else if (isJaxbType(clazz) && jaxbTypes.add(clazz)) {
+			hints.registerType(clazz, MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+					MemberCategory.INVOKE_DECLARED_METHODS);
+			String objectFactoryName = clazz.getPackageName() + ".ObjectFactory";
+			if (ClassUtils.isPresent(objectFactoryName, clazz.getClassLoader())) {
+				hints.registerType(TypeReference.of(objectFactoryName), MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+						MemberCategory.INVOKE_DECLARED_METHODS);
+			}
+			ReflectionUtils.doWithLocalFields(clazz,
+					field -> registerJaxbType(hints, ResolvableType.forField(field, type), jaxbTypes));
+			if (clazz.getSuperclass() != null) {
+				registerJaxbType(hints, type.getSuperType(), jaxbTypes);
+			}
+		}
+	}
+
+	private boolean isJaxbType(Class<?> clazz) {
+		for (Class<? extends Annotation> annotationType : JAXB_ANNOTATION_TYPES) {
+			if (clazz.isAnnotationPresent(annotationType)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
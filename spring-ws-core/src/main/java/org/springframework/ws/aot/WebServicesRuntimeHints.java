@@ -0,0 +1,81 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.aot;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Properties;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.ws.support.DefaultStrategiesHelper;
+
+/**
+ * {@link RuntimeHintsRegistrar} for the resources and default strategies that Spring-WS
+ * loads reflectively.
+ * <p>
+ * The default strategies property files read by {@link DefaultStrategiesHelper} are
+ * parsed at build time, so that each strategy class they list is registered for
+ * reflective instantiation.
+ *
+ * @since 4.0.12
+ */
+class WebServicesRuntimeHints implements RuntimeHintsRegistrar {
+
+	static final List<String> DEFAULT_STRATEGIES_LOCATIONS = List.of(
+			"org/springframework/ws/server/MessageDispatcher.properties",
+			"org/springframework/ws/soap/server/SoapMessageDispatcher.properties",
+			"org/springframework/ws/transport/http/MessageDispatcherServlet.properties",
+			"org/springframework/ws/client/core/WebServiceTemplate.properties");
+
+	@Override
+	public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+		for (String location : DEFAULT_STRATEGIES_LOCATIONS) {
+			Resource resource = new ClassPathResource(location, classLoader);
+			if (resource.exists()) {
+				hints.resources().registerPattern(location);
+				registerDefaultStrategies(hints, resource);
+			}
+		}
+		hints.resources().registerPattern("org/springframework/ws/config/*.xsd");
+	}
+
+	private void registerDefaultStrategies(RuntimeHints hints, Resource resource) {
+		Properties defaultStrategies;
+		try {
+			defaultStrategies = PropertiesLoaderUtils.loadProperties(resource);
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Could not load '" + resource + "': " + ex.getMessage());
+		}
+		for (String key : defaultStrategies.stringPropertyNames()) {
+			hints.reflection().registerType(TypeReference.of(key));
+			String[] classNames = StringUtils.commaDelimitedListToStringArray(defaultStrategies.getProperty(key));
+			for (String className : classNames) {
+				hints.reflection()
+					.registerType(TypeReference.of(className.trim()), MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.client.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+import org.springframework.ws.FaultAwareWebServiceMessage;
+import org.springframework.ws.client.core.observation.ClientExchangeObservationContext;
+import org.springframework.ws.client.core.observation.ClientExchangePhase;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.transport.TransportStatistics;
+
+/**
+ * Java Flight Recorder event for an exchange performed by the
+ * {@link WebServiceTemplate}.
+ *
+ * @since 4.0.12
+ */
+@Name("org.springframework.ws.ClientExchange")
+@Label("Client Exchange")
+@Category({ "Spring Web Services", "Client" })
+@Description("Web service request sent, and its response received, by a WebServiceTemplate")
+class ClientExchangeEvent extends Event {
+
+	@Label("URI")
+	String uri;
+
+	@Label("Operation")
+	@Description("SOAP action or payload root of the request")
+	String operation;
+
+	@Label("Fault Code")
+	String faultCode;
+
+	@Label("Exception")
+	String exception;
+
+	@Label("Request Size")
+	@Description("Number of bytes written to the transport, or -1 if not recorded")
+	@DataAmount(DataAmount.BYTES)
+	long requestSize = -1;
+
+	@Label("Response Size")
+	@Description("Number of bytes read from the transport, or -1 if not recorded")
+	@DataAmount(DataAmount.BYTES)
+	long responseSize = -1;
+
+	@Label("Time To First Byte")
+	@Timespan(Timespan.NANOSECONDS)
+	long timeToFirstByte;
+
+	@Label("Marshal Time")
+	@Timespan(Timespan.NANOSECONDS)
+	long marshalTime;
+
+	@Label("Interceptor Time")
+	@Timespan(Timespan.NANOSECONDS)
+	long interceptorTime;
+
+	@Label("Send Time")
+	@Timespan(Timespan.NANOSECONDS)
+	long sendTime;
+
+	@Label("Await Response Time")
+	@Timespan(Timespan.NANOSECONDS)
+	long awaitResponseTime;
+
+	@Label("Parse Time")
+	@Timespan(Timespan.NANOSECONDS)
+	long parseTime;
+
+	@Label("Unmarshal Time")
+	@Timespan(Timespan.NANOSECONDS)
+	long unmarshalTime;
+
+	void recordPhase(ClientExchangePhase phase, long nanos) {
+		switch (phase) {
+			case MARSHAL:
+				this.marshalTime += nanos;
+				break;
+			case INTERCEPTOR:
+				this.interceptorTime += nanos;
+				break;
+			case SEND:
+				this.sendTime += nanos;
+				break;
+			case AWAIT_RESPONSE:
+				this.awaitResponseTime += nanos;
+				break;
+			case RESPONSE_PARSE:
+				this.parseTime += nanos;
+				break;
+			case UNMARSHAL:
+				this.unmarshalTime += nanos;
+				break;
+			default:
+				break;
+		}
+	}
+
+	void record(ClientExchangeObservationContext context, TransportStatistics statistics, Exception ex) {
+		if (statistics != null) {
+			this.requestSize = statistics.getBytesWritten();
+			this.responseSize = statistics.getBytesRead();
+			if (statistics.getTimeToFirstByte() != null) {
+				this.timeToFirstByte = statistics.getTimeToFirstByte().toNanos();
+			}
+		}
+		this.uri = context.getUri();
+		this.operation = context.getOperation();
+		MessageContext messageContext = context.getMessageContext();
+		if (messageContext != null && messageContext.hasResponse()
+				&& messageContext.getResponse() instanceof FaultAwareWebServiceMessage response && response.hasFault()
+				&& response.getFaultCode() != null) {
+			this.faultCode = response.getFaultCode().toString();
+		}
+		if (ex != null) {
+			this.exception = ex.getClass().getName();
+		}
+	}
+
+}
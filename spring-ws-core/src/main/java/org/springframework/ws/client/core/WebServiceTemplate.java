@@ -22,20 +22,26 @@ import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import javax.xml.namespace.QName;
 import javax.xml.transform.Result;
 import javax.xml.transform.Source;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerException;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.beans.factory.BeanInitializationException;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.oxm.Marshaller;
 import org.springframework.oxm.Unmarshaller;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
 import org.springframework.ws.FaultAwareWebServiceMessage;
 import org.springframework.ws.WebServiceMessage;
 import org.springframework.ws.WebServiceMessageFactory;
@@ -43,16 +49,25 @@ import org.springframework.ws.client.WebServiceClientException;
 import org.springframework.ws.client.WebServiceIOException;
 import org.springframework.ws.client.WebServiceTransformerException;
 import org.springframework.ws.client.WebServiceTransportException;
+import org.springframework.ws.client.core.observation.ClientExchangeObservationContext;
+import org.springframework.ws.client.core.observation.ClientExchangeObservationConvention;
+import org.springframework.ws.client.core.observation.ClientExchangeObservationDocumentation;
+import org.springframework.ws.client.core.observation.ClientExchangePhase;
+import org.springframework.ws.client.core.observation.DefaultClientExchangeObservationConvention;
 import org.springframework.ws.client.support.WebServiceAccessor;
 import org.springframework.ws.client.support.destination.DestinationProvider;
 import org.springframework.ws.client.support.interceptor.ClientInterceptor;
 import org.springframework.ws.context.DefaultMessageContext;
 import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.soap.SoapMessage;
 import org.springframework.ws.soap.client.core.SoapFaultMessageResolver;
 import org.springframework.ws.support.DefaultStrategiesHelper;
 import org.springframework.ws.support.MarshallingUtils;
+import org.springframework.ws.support.MessageTracer;
+import org.springframework.ws.transport.AbstractWebServiceConnection;
 import org.springframework.ws.transport.FaultAwareWebServiceConnection;
 import org.springframework.ws.transport.TransportException;
+import org.springframework.ws.transport.TransportStatistics;
 import org.springframework.ws.transport.WebServiceConnection;
 import org.springframework.ws.transport.WebServiceMessageSender;
 import org.springframework.ws.transport.context.DefaultTransportContext;
@@ -60,6 +75,8 @@ import org.springframework.ws.transport.context.TransportContext;
 import org.springframework.ws.transport.context.TransportContextHolder;
 import org.springframework.ws.transport.http.HttpUrlConnectionMessageSender;
 import org.springframework.ws.transport.support.TransportUtils;
+import org.springframework.xml.transform.TransformerHelper;
+import org.springframework.xml.transform.TraxUtils;
 
 /**
  * <strong>The central class for client-side Web services.</strong> It provides a
@@ -120,7 +137,7 @@ import org.springframework.ws.transport.support.TransportUtils;
  * @author Arjen Poutsma
  * @since 1.0.0
  */
-public class WebServiceTemplate extends WebServiceAccessor implements WebServiceOperations {
+public class WebServiceTemplate extends WebServiceAccessor implements WebServiceOperations, DisposableBean {
 
 	/** Log category to use for message tracing. */
 	public static final String MESSAGE_TRACING_LOG_CATEGORY = "org.springframework.ws.client.MessageTracing";
@@ -133,6 +150,10 @@ public class WebServiceTemplate extends WebServiceAccessor implements WebService
 	protected static final Log receivedMessageTracingLogger = LogFactory
 		.getLog(WebServiceTemplate.MESSAGE_TRACING_LOG_CATEGORY + ".received");
 
+	private static final String TRACED_REQUEST_PROPERTY = WebServiceTemplate.class.getName() + ".TRACED_REQUEST";
+
+	private static final ClientExchangeObservationConvention DEFAULT_OBSERVATION_CONVENTION = new DefaultClientExchangeObservationConvention();
+
 	private Marshaller marshaller;
 
 	private Unmarshaller unmarshaller;
@@ -147,6 +168,12 @@ public class WebServiceTemplate extends WebServiceAccessor implements WebService
 
 	private DestinationProvider destinationProvider;
 
+	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+	private ClientExchangeObservationConvention observationConvention;
+
+	private MessageTracer messageTracer;
+
 	/** Creates a new {@code WebServiceTemplate} using default settings. */
 	public WebServiceTemplate() {
 		initDefaultStrategies();
@@ -359,6 +386,50 @@ public class WebServiceTemplate extends WebServiceAccessor implements WebService
 		this.interceptors = interceptors;
 	}
 
+	/**
+	 * Configure an {@link ObservationRegistry} for observing the exchanges performed by
+	 * this template, with a nested observation for each {@linkplain ClientExchangePhase
+	 * phase}. By default, {@link ObservationRegistry#NOOP} is used, and exchanges are not
+	 * observed.
+	 */
+	public void setObservationRegistry(ObservationRegistry observationRegistry) {
+		Assert.notNull(observationRegistry, "observationRegistry must not be null");
+		this.observationRegistry = observationRegistry;
+	}
+
+	/**
+	 * Configure a {@link ClientExchangeObservationConvention} that sets the name and key
+	 * values of client exchange observations. By default, a
+	 * {@link DefaultClientExchangeObservationConvention} is used.
+	 */
+	public void setObservationConvention(ClientExchangeObservationConvention observationConvention) {
+		this.observationConvention = observationConvention;
+	}
+
+	/**
+	 * Sets the {@code MessageTracer} used to trace messages when the
+	 * {@value #MESSAGE_TRACING_LOG_CATEGORY} log categories are enabled at trace level.
+	 * When set, only sampled exchanges are traced, message contents are truncated, and
+	 * trace statements are written asynchronously. By default, all messages are traced in
+	 * full, on the calling thread.
+	 * <p>
+	 * The tracer is {@linkplain MessageTracer#destroy() destroyed} with this template.
+	 */
+	public void setMessageTracer(MessageTracer messageTracer) {
+		this.messageTracer = messageTracer;
+	}
+
+	/**
+	 * Destroys the {@linkplain #setMessageTracer(MessageTracer) message tracer}, which
+	 * stops its background thread.
+	 */
+	@Override
+	public void destroy() throws Exception {
+		if (messageTracer != null) {
+			messageTracer.destroy();
+		}
+	}
+
 	/**
 	 * Initialize the default implementations for the template's strategies:
 	 * {@link SoapFaultMessageResolver},
@@ -567,22 +638,57 @@ public class WebServiceTemplate extends WebServiceAccessor implements WebService
 		Assert.hasLength(uriString, "'uri' must not be empty");
 		TransportContext previousTransportContext = TransportContextHolder.getTransportContext();
 		WebServiceConnection connection = null;
-		try {
-			connection = createConnection(URI.create(uriString));
+		URI uri = URI.create(uriString);
+		MessageContext messageContext = null;
+		ClientExchangeObservationContext observationContext = new ClientExchangeObservationContext(uri);
+		Observation observation = ClientExchangeObservationDocumentation.CLIENT_EXCHANGE.observation(
+				observationConvention, DEFAULT_OBSERVATION_CONVENTION, () -> observationContext, observationRegistry);
+		ClientExchangeEvent event = new ClientExchangeEvent();
+		boolean timed = event.isEnabled() || !observationRegistry.isNoop();
+		observation.start();
+		event.begin();
+		Exception failure = null;
+		try (Observation.Scope scope = observation.openScope()) {
+			connection = createConnection(uri);
+			if (event.isEnabled() && connection instanceof AbstractWebServiceConnection abstractConnection) {
+				abstractConnection.setStatistics(new TransportStatistics());
+			}
 			TransportContextHolder.setTransportContext(new DefaultTransportContext(connection));
-			MessageContext messageContext = new DefaultMessageContext(getMessageFactory());
+			messageContext = new DefaultMessageContext(getMessageFactory());
+			observationContext.setMessageContext(messageContext);
+			if (timed) {
+				new ExchangePhases(observationRegistry, event, observationContext).bind(messageContext);
+			}
 
 			return doSendAndReceive(messageContext, connection, requestCallback, responseExtractor);
 		}
 		catch (TransportException ex) {
+			failure = ex;
 			throw new WebServiceTransportException("Could not use transport: " + ex.getMessage(), ex);
 		}
 		catch (IOException ex) {
+			failure = ex;
 			throw new WebServiceIOException("I/O error: " + ex.getMessage(), ex);
 		}
+		catch (RuntimeException ex) {
+			failure = ex;
+			throw ex;
+		}
 		finally {
 			TransportUtils.closeConnection(connection);
 			TransportContextHolder.setTransportContext(previousTransportContext);
+			if (failure != null) {
+				observation.error(failure);
+			}
+			observation.stop();
+			if (event.shouldCommit()) {
+				TransportStatistics statistics = null;
+				if (connection instanceof AbstractWebServiceConnection abstractConnection) {
+					statistics = abstractConnection.getStatistics();
+				}
+				event.record(observationContext, statistics, failure);
+				event.commit();
+			}
 		}
 	}
 
@@ -607,30 +713,70 @@ public class WebServiceTemplate extends WebServiceAccessor implements WebService
 			WebServiceMessageCallback requestCallback, WebServiceMessageExtractor<T> responseExtractor)
 			throws IOException {
 		int interceptorIndex = -1;
+		ExchangePhases phases = ExchangePhases.get(messageContext);
 		try {
 			if (requestCallback != null) {
-				requestCallback.doWithMessage(messageContext.getRequest());
+				ExchangePhases.Timer phase = startPhase(phases, ClientExchangePhase.MARSHAL, null);
+				try {
+					requestCallback.doWithMessage(messageContext.getRequest());
+				}
+				finally {
+					stopPhase(phase);
+				}
 			}
 			// Apply handleRequest of registered interceptors
 			boolean intercepted = false;
 			if (interceptors != null) {
 				for (int i = 0; i < interceptors.length; i++) {
 					interceptorIndex = i;
-					if (!interceptors[i].handleRequest(messageContext)) {
+					boolean proceed;
+					ExchangePhases.Timer phase = startPhase(phases, ClientExchangePhase.INTERCEPTOR, interceptors[i]);
+					try {
+						proceed = interceptors[i].handleRequest(messageContext);
+					}
+					finally {
+						stopPhase(phase);
+					}
+					if (!proceed) {
 						intercepted = true;
 						break;
 					}
 				}
 			}
+			if (phases != null) {
+				phases.setOperation(getObservedOperation(messageContext.getRequest()));
+			}
 			// no send/receive if an interceptor has set a response or if the chain
 			// has been interrupted
 			if (!messageContext.hasResponse() && !intercepted) {
-				sendRequest(connection, messageContext.getRequest());
-				if (hasError(connection, messageContext.getRequest())) {
+				boolean error;
+				if (phases != null) {
+					phases.startSend(connection);
+				}
+				try {
+					sendRequest(connection, messageContext);
+					if (phases != null) {
+						phases.requestWritten();
+					}
+					error = hasError(connection, messageContext.getRequest());
+				}
+				finally {
+					if (phases != null) {
+						phases.stopSend();
+					}
+				}
+				if (error) {
 					triggerAfterCompletion(interceptorIndex, messageContext, null);
 					return (T) handleError(connection, messageContext.getRequest());
 				}
-				WebServiceMessage response = connection.receive(getMessageFactory());
+				WebServiceMessage response;
+				ExchangePhases.Timer phase = startPhase(phases, ClientExchangePhase.RESPONSE_PARSE, null);
+				try {
+					response = connection.receive(getMessageFactory());
+				}
+				finally {
+					stopPhase(phase);
+				}
 				messageContext.setResponse(response);
 			}
 			logResponse(messageContext);
@@ -638,12 +784,24 @@ public class WebServiceTemplate extends WebServiceAccessor implements WebService
 				if (!hasFault(connection, messageContext.getResponse())) {
 					triggerHandleResponse(interceptorIndex, messageContext);
 					triggerAfterCompletion(interceptorIndex, messageContext, null);
-					return responseExtractor.extractData(messageContext.getResponse());
+					ExchangePhases.Timer phase = startPhase(phases, ClientExchangePhase.UNMARSHAL, null);
+					try {
+						return responseExtractor.extractData(messageContext.getResponse());
+					}
+					finally {
+						stopPhase(phase);
+					}
 				}
 				else {
 					triggerHandleFault(interceptorIndex, messageContext);
 					triggerAfterCompletion(interceptorIndex, messageContext, null);
-					return (T) handleFault(connection, messageContext);
+					ExchangePhases.Timer phase = startPhase(phases, ClientExchangePhase.UNMARSHAL, null);
+					try {
+						return (T) handleFault(connection, messageContext);
+					}
+					finally {
+						stopPhase(phase);
+					}
 				}
 			}
 			else {
@@ -662,9 +820,54 @@ public class WebServiceTemplate extends WebServiceAccessor implements WebService
 		}
 	}
 
+	private static ExchangePhases.Timer startPhase(ExchangePhases phases, ClientExchangePhase phase,
+			Object component) {
+		return (phases != null) ? phases.start(phase, component) : null;
+	}
+
+	private static void stopPhase(ExchangePhases.Timer phase) {
+		if (phase != null) {
+			phase.stop();
+		}
+	}
+
+	/**
+	 * Returns the operation under which the given request is
+	 * {@linkplain #setObservationRegistry(ObservationRegistry) observed}.
+	 * <p>
+	 * Default implementation returns the SOAP action of SOAP messages, if any, and the
+	 * qualified name of the payload root element otherwise.
+	 * @param request the request message
+	 * @return the operation name
+	 */
+	protected String getObservedOperation(WebServiceMessage request) {
+		if (request instanceof SoapMessage soapMessage) {
+			String soapAction = StringUtils.trimLeadingCharacter(
+					StringUtils.trimTrailingCharacter(soapMessage.getSoapAction(), '"'), '"');
+			if (StringUtils.hasLength(soapAction)) {
+				return soapAction;
+			}
+		}
+		try {
+			QName payloadRoot = TraxUtils.getRootElementName(request.getPayloadSource(),
+					new TransformerHelper(getTransformerFactory()));
+			return (payloadRoot != null) ? payloadRoot.toString() : ClientExchangeObservationContext.UNKNOWN_OPERATION;
+		}
+		catch (TransformerException ex) {
+			return ClientExchangeObservationContext.UNKNOWN_OPERATION;
+		}
+	}
+
 	/** Sends the request in the given message context over the connection. */
-	private void sendRequest(WebServiceConnection connection, WebServiceMessage request) throws IOException {
-		if (sentMessageTracingLogger.isTraceEnabled()) {
+	private void sendRequest(WebServiceConnection connection, MessageContext messageContext) throws IOException {
+		WebServiceMessage request = messageContext.getRequest();
+		if (messageTracer != null && sentMessageTracingLogger.isTraceEnabled()) {
+			String requestContent = getTracedRequest(messageContext, messageTracer);
+			if (requestContent != null) {
+				messageTracer.trace(sentMessageTracingLogger, "Sent request [" + requestContent + "]");
+			}
+		}
+		else if (sentMessageTracingLogger.isTraceEnabled()) {
 			ByteArrayOutputStream os = new ByteArrayOutputStream();
 			request.writeTo(os);
 			sentMessageTracingLogger.trace("Sent request [" + os.toString(StandardCharsets.UTF_8) + "]");
@@ -717,7 +920,15 @@ public class WebServiceTemplate extends WebServiceAccessor implements WebService
 
 	private void logResponse(MessageContext messageContext) throws IOException {
 		if (messageContext.hasResponse()) {
-			if (receivedMessageTracingLogger.isTraceEnabled()) {
+			if (messageTracer != null && receivedMessageTracingLogger.isTraceEnabled()) {
+				String requestContent = getTracedRequest(messageContext, messageTracer);
+				if (requestContent != null) {
+					String responseContent = messageTracer.toTraceString(messageContext.getResponse());
+					messageTracer.trace(receivedMessageTracingLogger,
+							"Received response [" + responseContent + "] for request [" + requestContent + "]");
+				}
+			}
+			else if (receivedMessageTracingLogger.isTraceEnabled()) {
 				ByteArrayOutputStream requestStream = new ByteArrayOutputStream();
 				messageContext.getRequest().writeTo(requestStream);
 				ByteArrayOutputStream responseStream = new ByteArrayOutputStream();
@@ -739,6 +950,22 @@ public class WebServiceTemplate extends WebServiceAccessor implements WebService
 		}
 	}
 
+	/**
+	 * Returns the traced contents of the request, or {@code null} if the exchange is not
+	 * sampled. The sampling decision and the contents are kept in the message context, so
+	 * that the request and response of an exchange are traced together.
+	 */
+	private String getTracedRequest(MessageContext messageContext, MessageTracer tracer) {
+		Object tracedRequest = messageContext.getProperty(TRACED_REQUEST_PROPERTY);
+		if (tracedRequest == null) {
+			WebServiceMessage request = messageContext.getRequest();
+			tracedRequest = tracer.isSampled(() -> getObservedOperation(request)) ? tracer.toTraceString(request)
+					: Boolean.FALSE;
+			messageContext.setProperty(TRACED_REQUEST_PROPERTY, tracedRequest);
+		}
+		return (tracedRequest instanceof String content) ? content : null;
+	}
+
 	/**
 	 * Determines whether the given connection or message has a fault.
 	 * <p>
@@ -779,8 +1006,17 @@ public class WebServiceTemplate extends WebServiceAccessor implements WebService
 	 */
 	private void triggerHandleResponse(int interceptorIndex, MessageContext messageContext) {
 		if (messageContext.hasResponse() && interceptors != null) {
+			ExchangePhases phases = ExchangePhases.get(messageContext);
 			for (int i = interceptorIndex; i >= 0; i--) {
-				if (!interceptors[i].handleResponse(messageContext)) {
+				boolean resume;
+				ExchangePhases.Timer phase = startPhase(phases, ClientExchangePhase.INTERCEPTOR, interceptors[i]);
+				try {
+					resume = interceptors[i].handleResponse(messageContext);
+				}
+				finally {
+					stopPhase(phase);
+				}
+				if (!resume) {
 					break;
 				}
 			}
@@ -798,8 +1034,17 @@ public class WebServiceTemplate extends WebServiceAccessor implements WebService
 	 */
 	private void triggerHandleFault(int interceptorIndex, MessageContext messageContext) {
 		if (messageContext.hasResponse() && interceptors != null) {
+			ExchangePhases phases = ExchangePhases.get(messageContext);
 			for (int i = interceptorIndex; i >= 0; i--) {
-				if (!interceptors[i].handleFault(messageContext)) {
+				boolean resume;
+				ExchangePhases.Timer phase = startPhase(phases, ClientExchangePhase.INTERCEPTOR, interceptors[i]);
+				try {
+					resume = interceptors[i].handleFault(messageContext);
+				}
+				finally {
+					stopPhase(phase);
+				}
+				if (!resume) {
 					break;
 				}
 			}
@@ -884,4 +1129,101 @@ public class WebServiceTemplate extends WebServiceAccessor implements WebService
 
 	}
 
+	/**
+	 * Times the phases of an exchange, for its observation and its JFR event. Stored in
+	 * the message context while the exchange is performed.
+	 */
+	private static final class ExchangePhases {
+
+		private static final String PROPERTY_NAME = ExchangePhases.class.getName();
+
+		private final ObservationRegistry observationRegistry;
+
+		private final ClientExchangeEvent event;
+
+		private final ClientExchangeObservationContext observationContext;
+
+		private Timer sendTimer;
+
+		ExchangePhases(ObservationRegistry observationRegistry, ClientExchangeEvent event,
+				ClientExchangeObservationContext observationContext) {
+			this.observationRegistry = observationRegistry;
+			this.event = event;
+			this.observationContext = observationContext;
+		}
+
+		static ExchangePhases get(MessageContext messageContext) {
+			return (ExchangePhases) messageContext.getProperty(PROPERTY_NAME);
+		}
+
+		void bind(MessageContext messageContext) {
+			messageContext.setProperty(PROPERTY_NAME, this);
+		}
+
+		void setOperation(String operation) {
+			this.observationContext.setOperation(operation);
+		}
+
+		Timer start(ClientExchangePhase phase, Object component) {
+			Observation observation = Observation.NOOP;
+			if (!this.observationRegistry.isNoop()) {
+				String componentName = (component != null) ? ClassUtils.getShortName(component.getClass()) : null;
+				observation = phase.observation(componentName, this.observationRegistry).start();
+			}
+			return new Timer(phase, observation);
+		}
+
+		/**
+		 * Starts the {@link ClientExchangePhase#SEND} phase. Connections that extend
+		 * {@link AbstractWebServiceConnection} report when the request has been written,
+		 * before they transmit a buffered request, so that the transmission is part of
+		 * the {@link ClientExchangePhase#AWAIT_RESPONSE} phase.
+		 */
+		void startSend(WebServiceConnection connection) {
+			this.sendTimer = start(ClientExchangePhase.SEND, null);
+			if (connection instanceof AbstractWebServiceConnection abstractConnection) {
+				abstractConnection.setMessageWrittenCallback(message -> requestWritten());
+			}
+		}
+
+		/**
+		 * Ends the {@link ClientExchangePhase#SEND} phase, if not ended yet, and starts the
+		 * {@link ClientExchangePhase#AWAIT_RESPONSE} phase.
+		 */
+		void requestWritten() {
+			if (this.sendTimer != null && this.sendTimer.phase == ClientExchangePhase.SEND) {
+				this.sendTimer.stop();
+				this.sendTimer = start(ClientExchangePhase.AWAIT_RESPONSE, null);
+			}
+		}
+
+		void stopSend() {
+			if (this.sendTimer != null) {
+				this.sendTimer.stop();
+				this.sendTimer = null;
+			}
+		}
+
+		final class Timer {
+
+			private final ClientExchangePhase phase;
+
+			private final Observation observation;
+
+			private final long startTime = System.nanoTime();
+
+			Timer(ClientExchangePhase phase, Observation observation) {
+				this.phase = phase;
+				this.observation = observation;
+			}
+
+			void stop() {
+				this.observation.stop();
+				event.recordPhase(this.phase, System.nanoTime() - this.startTime);
+			}
+
+		}
+
+	}
+
 }
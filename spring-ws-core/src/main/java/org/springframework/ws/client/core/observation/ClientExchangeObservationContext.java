@@ -0,0 +1,119 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.ws.client.core.observation;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+
+import io.micrometer.observation.Observation;
+
+import org.springframework.util.Assert;
+import org.springframework.ws.context.MessageContext;
+
+/**
+ * Context that holds information for the observation of an exchange performed by the
+ * {@link org.springframework.ws.client.core.WebServiceTemplate WebServiceTemplate}.
+ * <p>
+ * The {@linkplain #getOperation() operation} of an exchange is the SOAP action or
+ * payload root of its request, or {@link #UNKNOWN_OPERATION} if it has neither.
+ *
+ * @since 4.0.12
+ * @see ClientExchangeObservationDocumentation
+ */
+public class ClientExchangeObservationContext extends Observation.Context {
+
+	/**
+	 * The operation of exchanges whose request is not known.
+	 */
+	public static final String UNKNOWN_OPERATION = "UNKNOWN";
+
+	private final URI uri;
+
+	private String strippedUri;
+
+	private MessageContext messageContext;
+
+	private String operation = UNKNOWN_OPERATION;
+
+	/**
+	 * Create a new context for an exchange with the given destination.
+	 * @param uri the destination URI
+	 */
+	public ClientExchangeObservationContext(URI uri) {
+		Assert.notNull(uri, "uri must not be null");
+		this.uri = uri;
+	}
+
+	/**
+	 * Returns the destination URI, without its query, fragment, and user info.
+	 */
+	public String getUri() {
+		if (this.strippedUri == null) {
+			this.strippedUri = stripUri(this.uri);
+		}
+		return this.strippedUri;
+	}
+
+	/**
+	 * Returns the host of the destination URI, or {@code null} if it has none.
+	 */
+	public String getHost() {
+		return this.uri.getHost();
+	}
+
+	/**
+	 * Returns the message context of the exchange, or {@code null} if the exchange has not
+	 * started yet.
+	 */
+	public MessageContext getMessageContext() {
+		return this.messageContext;
+	}
+
+	/**
+	 * Sets the message context of the exchange.
+	 */
+	public void setMessageContext(MessageContext messageContext) {
+		this.messageContext = messageContext;
+	}
+
+	/**
+	 * Returns the operation of the exchange, or {@link #UNKNOWN_OPERATION} if it is not
+	 * known.
+	 */
+	public String getOperation() {
+		return this.operation;
+	}
+
+	/**
+	 * Sets the operation of the exchange.
+	 */
+	public void setOperation(String operation) {
+		Assert.hasLength(operation, "operation must not be empty");
+		this.operation = operation;
+	}
+
+	private static String stripUri(URI uri) {
+		try {
+			return new URI(uri.getScheme(), null, uri.getHost(), uri.getPort(), uri.getPath(), null, null).toString();
+		}
+		catch (URISyntaxException ex) {
+			return uri.getScheme() + ":" + uri.getSchemeSpecificPart();
+		}
+	}
+
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.ws.client.core.observation;
+
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationConvention;
+import io.micrometer.observation.docs.ObservationDocumentation;
+
+/**
+ * Documented {@link KeyName KeyNames} for the observations of the exchanges of the
+ * {@link org.springframework.ws.client.core.WebServiceTemplate WebServiceTemplate}.
+ *
+ * @since 4.0.12
+ * @see DefaultClientExchangeObservationConvention
+ * @see ClientExchangePhase
+ */
+public enum ClientExchangeObservationDocumentation implements ObservationDocumentation {
+
+	/**
+	 * Observation of an exchange, from writing the request to extracting the result from
+	 * the response.
+	 */
+	CLIENT_EXCHANGE {
+
+		@Override
+		public Class<? extends ObservationConvention<? extends Observation.Context>> getDefaultConvention() {
+			return DefaultClientExchangeObservationConvention.class;
+		}
+
+		@Override
+		public KeyName[] getLowCardinalityKeyNames() {
+			return LowCardinalityKeyNames.values();
+		}
+
+		@Override
+		public KeyName[] getHighCardinalityKeyNames() {
+			return HighCardinalityKeyNames.values();
+		}
+
+	},
+
+	/**
+	 * Observation of a single {@linkplain ClientExchangePhase phase} of an exchange,
+	 * nested in its {@link #CLIENT_EXCHANGE} observation.
+	 */
+	EXCHANGE_PHASE {
+
+		@Override
+		public String getName() {
+			return "spring.ws.client.requests.phase";
+		}
+
+		@Override
+		public KeyName[] getLowCardinalityKeyNames() {
+			return PhaseKeyNames.values();
+		}
+
+	};
+
+	/**
+	 * Low cardinality keys of {@link #CLIENT_EXCHANGE} observations.
+	 */
+	public enum LowCardinalityKeyNames implements KeyName {
+
+		/**
+		 * SOAP action or payload root of the request, or {@code "UNKNOWN"}.
+		 */
+		OPERATION {
+			@Override
+			public String asString() {
+				return "operation";
+			}
+		},
+
+		/**
+		 * Outcome of the exchange: {@code "SUCCESS"}, {@code "FAULT"}, or {@code "ERROR"}
+		 * if an exception was thrown.
+		 */
+		OUTCOME {
+			@Override
+			public String asString() {
+				return "outcome";
+			}
+		},
+
+		/**
+		 * Fault code of the response, or {@code "none"} if the response is not a fault.
+		 */
+		FAULT_CODE {
+			@Override
+			public String asString() {
+				return "fault.code";
+			}
+		},
+
+		/**
+		 * Simple class name of the exception thrown, or {@code "none"}.
+		 */
+		EXCEPTION {
+			@Override
+			public String asString() {
+				return "exception";
+			}
+		},
+
+		/**
+		 * Host of the destination URI, or {@code "none"}.
+		 */
+		CLIENT_NAME {
+			@Override
+			public String asString() {
+				return "client.name";
+			}
+		}
+
+	}
+
+	/**
+	 * High cardinality keys of {@link #CLIENT_EXCHANGE} observations.
+	 */
+	public enum HighCardinalityKeyNames implements KeyName {
+
+		/**
+		 * Destination URI, without its query, fragment, and user info.
+		 */
+		URI {
+			@Override
+			public String asString() {
+				return "uri";
+			}
+		}
+
+	}
+
+	/**
+	 * Low cardinality keys of {@link #EXCHANGE_PHASE} observations.
+	 */
+	public enum PhaseKeyNames implements KeyName {
+
+		/**
+		 * The {@linkplain ClientExchangePhase#getValue() phase}.
+		 */
+		PHASE {
+			@Override
+			public String asString() {
+				return "phase";
+			}
+		},
+
+		/**
+		 * Short class name of the component invoked during the phase, such as an
+		 * interceptor, or {@code "none"}.
+		 */
+		COMPONENT {
+			@Override
+			public String asString() {
+				return "component";
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.ws.client.core.observation;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import org.springframework.ws.client.core.observation.ClientExchangeObservationDocumentation.PhaseKeyNames;
+
+/**
+ * The phases of an exchange performed by the
+ * {@link org.springframework.ws.client.core.WebServiceTemplate WebServiceTemplate}, each
+ * observed as a {@link ClientExchangeObservationDocumentation#EXCHANGE_PHASE}
+ * observation.
+ *
+ * @since 4.0.12
+ */
+public enum ClientExchangePhase {
+
+	/**
+	 * Invoking the request callback, which typically marshals the request payload.
+	 */
+	MARSHAL("marshal"),
+
+	/**
+	 * Invoking a client interceptor, for the request, the response, or the fault.
+	 */
+	INTERCEPTOR("interceptor"),
+
+	/**
+	 * Writing the request to the connection. Transports that buffer the request, such as
+	 * the HttpComponents clients, only write it to memory during this phase.
+	 */
+	SEND("send"),
+
+	/**
+	 * Waiting for the response, from the moment the request was written to the
+	 * connection until its status is known. This includes transmitting the request for
+	 * transports that buffer it.
+	 */
+	AWAIT_RESPONSE("await.response"),
+
+	/**
+	 * Reading and parsing the response from the connection.
+	 */
+	RESPONSE_PARSE("response.parse"),
+
+	/**
+	 * Extracting the result from the response, which typically unmarshals its payload,
+	 * or resolving the fault.
+	 */
+	UNMARSHAL("unmarshal");
+
+	private final String value;
+
+	ClientExchangePhase(String value) {
+		this.value = value;
+	}
+
+	/**
+	 * Returns the value of the {@link PhaseKeyNames#PHASE} key of this phase.
+	 */
+	public String getValue() {
+		return this.value;
+	}
+
+	/**
+	 * Creates a not yet started observation of this phase, nested in the current
+	 * observation of the given registry.
+	 * @param component the short class name of the component invoked during the phase;
+	 * may be {@code null}
+	 * @param registry the registry to create the observation with
+	 * @return the observation, which is a no-op if the registry is a no-op
+	 */
+	public Observation observation(String component, ObservationRegistry registry) {
+		return ClientExchangeObservationDocumentation.EXCHANGE_PHASE.observation(registry)
+			.parentObservation(registry.getCurrentObservation())
+			.lowCardinalityKeyValue(PhaseKeyNames.PHASE.asString(), this.value)
+			.lowCardinalityKeyValue(PhaseKeyNames.COMPONENT.asString(),
+					(component != null) ? component : KeyValue.NONE_VALUE);
+	}
+
+}
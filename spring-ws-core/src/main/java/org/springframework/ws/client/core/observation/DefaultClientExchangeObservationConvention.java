@@ -0,0 +1,140 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.ws.client.core.observation;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+
+import org.springframework.ws.FaultAwareWebServiceMessage;
+import org.springframework.ws.client.core.observation.ClientExchangeObservationDocumentation.HighCardinalityKeyNames;
+import org.springframework.ws.client.core.observation.ClientExchangeObservationDocumentation.LowCardinalityKeyNames;
+import org.springframework.ws.context.MessageContext;
+
+/**
+ * Default {@link ClientExchangeObservationConvention}, which names observations
+ * {@value #DEFAULT_NAME}.
+ *
+ * @since 4.0.12
+ */
+public class DefaultClientExchangeObservationConvention implements ClientExchangeObservationConvention {
+
+	/**
+	 * The default name of client exchange observations.
+	 */
+	public static final String DEFAULT_NAME = "spring.ws.client.requests";
+
+	private static final KeyValue FAULT_CODE_NONE = KeyValue.of(LowCardinalityKeyNames.FAULT_CODE, KeyValue.NONE_VALUE);
+
+	private static final KeyValue EXCEPTION_NONE = KeyValue.of(LowCardinalityKeyNames.EXCEPTION, KeyValue.NONE_VALUE);
+
+	private static final KeyValue CLIENT_NAME_NONE = KeyValue.of(LowCardinalityKeyNames.CLIENT_NAME,
+			KeyValue.NONE_VALUE);
+
+	private static final KeyValue OUTCOME_SUCCESS = KeyValue.of(LowCardinalityKeyNames.OUTCOME, "SUCCESS");
+
+	private static final KeyValue OUTCOME_FAULT = KeyValue.of(LowCardinalityKeyNames.OUTCOME, "FAULT");
+
+	private static final KeyValue OUTCOME_ERROR = KeyValue.of(LowCardinalityKeyNames.OUTCOME, "ERROR");
+
+	private final String name;
+
+	/**
+	 * Create a convention with the default name {@value #DEFAULT_NAME}.
+	 */
+	public DefaultClientExchangeObservationConvention() {
+		this(DEFAULT_NAME);
+	}
+
+	/**
+	 * Create a convention with a custom name.
+	 * @param name the observation name
+	 */
+	public DefaultClientExchangeObservationConvention(String name) {
+		this.name = name;
+	}
+
+	@Override
+	public String getName() {
+		return this.name;
+	}
+
+	@Override
+	public String getContextualName(ClientExchangeObservationContext context) {
+		return "ws " + context.getOperation();
+	}
+
+	@Override
+	public KeyValues getLowCardinalityKeyValues(ClientExchangeObservationContext context) {
+		return KeyValues.of(operation(context), outcome(context), faultCode(context), exception(context),
+				clientName(context));
+	}
+
+	@Override
+	public KeyValues getHighCardinalityKeyValues(ClientExchangeObservationContext context) {
+		return KeyValues.of(uri(context));
+	}
+
+	protected KeyValue operation(ClientExchangeObservationContext context) {
+		return KeyValue.of(LowCardinalityKeyNames.OPERATION, context.getOperation());
+	}
+
+	protected KeyValue outcome(ClientExchangeObservationContext context) {
+		if (context.getError() != null) {
+			return OUTCOME_ERROR;
+		}
+		return (getFaultResponse(context) != null) ? OUTCOME_FAULT : OUTCOME_SUCCESS;
+	}
+
+	protected KeyValue faultCode(ClientExchangeObservationContext context) {
+		FaultAwareWebServiceMessage faultResponse = getFaultResponse(context);
+		if (faultResponse != null && faultResponse.getFaultCode() != null) {
+			return KeyValue.of(LowCardinalityKeyNames.FAULT_CODE, faultResponse.getFaultCode().toString());
+		}
+		return FAULT_CODE_NONE;
+	}
+
+	protected KeyValue exception(ClientExchangeObservationContext context) {
+		Throwable error = context.getError();
+		if (error != null) {
+			String simpleName = error.getClass().getSimpleName();
+			return KeyValue.of(LowCardinalityKeyNames.EXCEPTION,
+					!simpleName.isEmpty() ? simpleName : error.getClass().getName());
+		}
+		return EXCEPTION_NONE;
+	}
+
+	protected KeyValue clientName(ClientExchangeObservationContext context) {
+		String host = context.getHost();
+		return (host != null) ? KeyValue.of(LowCardinalityKeyNames.CLIENT_NAME, host) : CLIENT_NAME_NONE;
+	}
+
+	protected KeyValue uri(ClientExchangeObservationContext context) {
+		return KeyValue.of(HighCardinalityKeyNames.URI, context.getUri());
+	}
+
+	private static FaultAwareWebServiceMessage getFaultResponse(ClientExchangeObservationContext context) {
+		MessageContext messageContext = context.getMessageContext();
+		if (messageContext != null && messageContext.hasResponse()
+				&& messageContext.getResponse() instanceof FaultAwareWebServiceMessage faultResponse
+				&& faultResponse.hasFault()) {
+			return faultResponse;
+		}
+		return null;
+	}
+
+}
@@ -25,6 +25,7 @@ import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.ws.server.EndpointInterceptor;
+import org.springframework.ws.server.endpoint.adapter.BulkheadRegistry;
 import org.springframework.ws.server.endpoint.adapter.method.MethodArgumentResolver;
 import org.springframework.ws.server.endpoint.adapter.method.MethodReturnValueHandler;
 
@@ -69,6 +70,11 @@ public class DelegatingWsConfiguration extends WsConfigurationSupport {
 		this.configurers.addReturnValueHandlers(returnValueHandlers);
 	}
 
+	@Override
+	protected void configureBulkheads(BulkheadRegistry registry) {
+		this.configurers.configureBulkheads(registry);
+	}
+
 	private static class WsConfigurers implements WsConfigurer {
 
 		private final Supplier<Stream<WsConfigurer>> delegates;
@@ -96,6 +102,11 @@ public class DelegatingWsConfiguration extends WsConfigurationSupport {
 			this.delegates.get().forEach(configurer -> configurer.addReturnValueHandlers(returnValueHandlers));
 		}
 
+		@Override
+		public void configureBulkheads(BulkheadRegistry registry) {
+			this.delegates.get().forEach(configurer -> configurer.configureBulkheads(registry));
+		}
+
 	}
 
 }
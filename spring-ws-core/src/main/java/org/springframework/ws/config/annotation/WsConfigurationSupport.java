@@ -19,6 +19,7 @@ package org.springframework.ws.config.annotation;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
@@ -26,6 +27,7 @@ import org.springframework.ws.server.EndpointAdapter;
 import org.springframework.ws.server.EndpointExceptionResolver;
 import org.springframework.ws.server.EndpointInterceptor;
 import org.springframework.ws.server.EndpointMapping;
+import org.springframework.ws.server.endpoint.adapter.BulkheadRegistry;
 import org.springframework.ws.server.endpoint.adapter.DefaultMethodEndpointAdapter;
 import org.springframework.ws.server.endpoint.adapter.method.MethodArgumentResolver;
 import org.springframework.ws.server.endpoint.adapter.method.MethodReturnValueHandler;
@@ -64,6 +66,10 @@ import org.springframework.ws.soap.server.endpoint.mapping.SoapActionAnnotationM
  * endpoint methods.
  * </ul>
  * <p>
+ * Passes the bulkheads configured through {@link #configureBulkheads(BulkheadRegistry)}
+ * to the {@link DefaultMethodEndpointAdapter}, which invokes endpoint methods in them.
+ * The bulkheads are shut down when this configuration is destroyed.
+ * <p>
  * Registers the following {@link EndpointExceptionResolver}s:
  * <ul>
  * <li>{@link SoapFaultAnnotationExceptionResolver} for handling exceptions annotated with
@@ -77,10 +83,12 @@ import org.springframework.ws.soap.server.endpoint.mapping.SoapActionAnnotationM
  * @author Arjen Poutsma
  * @since 2.2
  */
-public class WsConfigurationSupport {
+public class WsConfigurationSupport implements DisposableBean {
 
 	private List<EndpointInterceptor> interceptors;
 
+	private BulkheadRegistry bulkheadRegistry;
+
 	/**
 	 * Returns a {@link PayloadRootAnnotationMethodEndpointMapping} ordered at 0 for
 	 * mapping requests to annotated endpoints.
@@ -144,6 +152,7 @@ public class WsConfigurationSupport {
 	 * <ul>
 	 * <li>{@link #addArgumentResolvers(List)} for adding custom argument resolvers.
 	 * <li>{@link #addReturnValueHandlers(List)} for adding custom return value handlers.
+	 * <li>{@link #configureBulkheads(BulkheadRegistry)} for isolating endpoint methods.
 	 * </ul>
 	 */
 	@Bean
@@ -158,9 +167,35 @@ public class WsConfigurationSupport {
 		adapter.setCustomMethodArgumentResolvers(argumentResolvers);
 		adapter.setCustomMethodReturnValueHandlers(returnValueHandlers);
 
+		BulkheadRegistry bulkheadRegistry = getBulkheadRegistry();
+		if (!bulkheadRegistry.isEmpty()) {
+			adapter.setBulkheadRegistry(bulkheadRegistry);
+		}
+
 		return adapter;
 	}
 
+	/**
+	 * Provide access to the {@link BulkheadRegistry} holding the bulkheads endpoint
+	 * methods are invoked in. This method cannot be overridden, use
+	 * {@link #configureBulkheads(BulkheadRegistry)} instead.
+	 */
+	protected final BulkheadRegistry getBulkheadRegistry() {
+		if (bulkheadRegistry == null) {
+			bulkheadRegistry = new BulkheadRegistry();
+			configureBulkheads(bulkheadRegistry);
+		}
+		return bulkheadRegistry;
+	}
+
+	/**
+	 * Template method to add bulkheads, which isolate the invocation of endpoint methods
+	 * on dedicated, bounded thread pools.
+	 * @param registry the registry of bulkheads; initially empty
+	 */
+	protected void configureBulkheads(BulkheadRegistry registry) {
+	}
+
 	/**
 	 * Add custom {@link MethodArgumentResolver}s to use in addition to the ones
 	 * registered by default.
@@ -202,4 +237,15 @@ public class WsConfigurationSupport {
 		return exceptionResolver;
 	}
 
+	/**
+	 * Shuts down the bulkheads configured through
+	 * {@link #configureBulkheads(BulkheadRegistry)}.
+	 */
+	@Override
+	public void destroy() {
+		if (bulkheadRegistry != null) {
+			bulkheadRegistry.destroy();
+		}
+	}
+
 }
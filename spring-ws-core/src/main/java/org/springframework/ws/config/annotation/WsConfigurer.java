@@ -19,6 +19,7 @@ package org.springframework.ws.config.annotation;
 import java.util.List;
 
 import org.springframework.ws.server.EndpointInterceptor;
+import org.springframework.ws.server.endpoint.adapter.BulkheadRegistry;
 import org.springframework.ws.server.endpoint.adapter.method.MethodArgumentResolver;
 import org.springframework.ws.server.endpoint.adapter.method.MethodReturnValueHandler;
 
@@ -58,4 +59,13 @@ public interface WsConfigurer {
 	 */
 	void addReturnValueHandlers(List<MethodReturnValueHandler> returnValueHandlers);
 
+	/**
+	 * Configure bulkheads that isolate the invocation of endpoint methods on dedicated,
+	 * bounded thread pools.
+	 * @param registry the registry of bulkheads; initially empty
+	 * @since 4.0.12
+	 */
+	default void configureBulkheads(BulkheadRegistry registry) {
+	}
+
 }
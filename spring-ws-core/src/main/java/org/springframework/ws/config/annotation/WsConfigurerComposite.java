@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.ws.server.EndpointInterceptor;
+import org.springframework.ws.server.endpoint.adapter.BulkheadRegistry;
 import org.springframework.ws.server.endpoint.adapter.method.MethodArgumentResolver;
 import org.springframework.ws.server.endpoint.adapter.method.MethodReturnValueHandler;
 
@@ -63,4 +64,11 @@ public class WsConfigurerComposite implements WsConfigurer {
 		}
 	}
 
+	@Override
+	public void configureBulkheads(BulkheadRegistry registry) {
+		for (WsConfigurer delegate : delegates) {
+			delegate.configureBulkheads(registry);
+		}
+	}
+
 }
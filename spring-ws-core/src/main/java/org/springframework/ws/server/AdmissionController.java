@@ -0,0 +1,301 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.server;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.util.Assert;
+import org.springframework.ws.AdmissionRejectedException;
+
+/**
+ * Limits the number of messages that are handled concurrently, so that excess messages
+ * are rejected early instead of piling up until they time out.
+ * <p>
+ * At most {@link #setMaxConcurrency(int) maxConcurrency} messages are admitted at the
+ * same time. Messages that arrive when that limit is reached wait for at most
+ * {@link #setMaxWait(Duration) maxWait}, and at most {@link #setMaxQueueSize(int)
+ * maxQueueSize} messages wait at the same time. Other messages are rejected with an
+ * {@link AdmissionRejectedException}, which transports translate to a SOAP {@code Server}
+ * fault, and to a {@code 503 Service Unavailable} status over HTTP.
+ * <p>
+ * When {@link #setAdaptive(boolean) adaptive} is enabled, the limit is adjusted to the
+ * observed latency: it shrinks when messages take longer than the lowest latency
+ * observed recently, and grows back up to {@code maxConcurrency} when they do not.
+ * <p>
+ * Can be set on a {@link org.springframework.ws.transport.support.WebServiceMessageReceiverObjectSupport
+ * WebServiceMessageReceiverObjectSupport} to limit all messages before they are parsed,
+ * or on a {@link MessageDispatcher} to limit each endpoint separately.
+ *
+ * @since 4.0.12
+ * @see org.springframework.ws.transport.support.WebServiceMessageReceiverObjectSupport#setAdmissionController(AdmissionController)
+ * @see MessageDispatcher#setEndpointAdmissionController(AdmissionController)
+ */
+public class AdmissionController {
+
+	/**
+	 * The default fault string of rejected messages.
+	 */
+	public static final String DEFAULT_REJECTION_FAULT_STRING = "Server busy, try again later";
+
+	/**
+	 * The number of samples after which the lowest observed latency is reset.
+	 */
+	private static final int LATENCY_WINDOW = 1000;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final Condition available = this.lock.newCondition();
+
+	private final LongAdder rejectedCount = new LongAdder();
+
+	private int maxConcurrency = 100;
+
+	private int maxQueueSize = 0;
+
+	private Duration maxWait = Duration.ZERO;
+
+	private boolean adaptive = false;
+
+	private String rejectionFaultString = DEFAULT_REJECTION_FAULT_STRING;
+
+	private int inFlight;
+
+	private int queued;
+
+	private double limit = this.maxConcurrency;
+
+	private long minLatency = Long.MAX_VALUE;
+
+	private long windowMinLatency = Long.MAX_VALUE;
+
+	private int samples;
+
+	/**
+	 * Sets the maximum number of messages handled concurrently. Default is 100.
+	 */
+	public void setMaxConcurrency(int maxConcurrency) {
+		Assert.isTrue(maxConcurrency > 0, "maxConcurrency must be positive");
+		this.lock.lock();
+		try {
+			this.maxConcurrency = maxConcurrency;
+			this.limit = maxConcurrency;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Sets the maximum number of messages that wait to be admitted. Default is 0: messages
+	 * that cannot be admitted immediately are rejected.
+	 */
+	public void setMaxQueueSize(int maxQueueSize) {
+		Assert.isTrue(maxQueueSize >= 0, "maxQueueSize must not be negative");
+		this.maxQueueSize = maxQueueSize;
+	}
+
+	/**
+	 * Sets the maximum time a message waits to be admitted. Default is 0.
+	 */
+	public void setMaxWait(Duration maxWait) {
+		Assert.notNull(maxWait, "maxWait must not be null");
+		this.maxWait = maxWait;
+	}
+
+	/**
+	 * Sets whether the concurrency limit adapts to the observed latency. Default is
+	 * {@code false}.
+	 */
+	public void setAdaptive(boolean adaptive) {
+		this.adaptive = adaptive;
+	}
+
+	/**
+	 * Sets the fault string of rejected messages. Default is
+	 * {@value #DEFAULT_REJECTION_FAULT_STRING}.
+	 */
+	public void setRejectionFaultString(String rejectionFaultString) {
+		Assert.hasLength(rejectionFaultString, "rejectionFaultString must not be empty");
+		this.rejectionFaultString = rejectionFaultString;
+	}
+
+	/**
+	 * Admits a message, waiting if necessary and allowed.
+	 * @return the permit of the message, to be released once it is handled
+	 * @throws AdmissionRejectedException if the message is not admitted
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public Permit acquire() throws InterruptedException {
+		this.lock.lock();
+		try {
+			if (this.inFlight < getLimitInternal()) {
+				this.inFlight++;
+				return new Permit();
+			}
+			if (this.queued >= this.maxQueueSize || this.maxWait.isZero() || this.maxWait.isNegative()) {
+				throw reject();
+			}
+			this.queued++;
+			try {
+				long nanos = this.maxWait.toNanos();
+				while (this.inFlight >= getLimitInternal()) {
+					if (nanos <= 0) {
+						throw reject();
+					}
+					nanos = this.available.awaitNanos(nanos);
+				}
+				this.inFlight++;
+				return new Permit();
+			}
+			finally {
+				this.queued--;
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private AdmissionRejectedException reject() {
+		this.rejectedCount.increment();
+		return new AdmissionRejectedException(this.rejectionFaultString);
+	}
+
+	private int getLimitInternal() {
+		return (int) this.limit;
+	}
+
+	private void release(long latency) {
+		this.lock.lock();
+		try {
+			this.inFlight--;
+			if (this.adaptive) {
+				adjustLimit(latency);
+			}
+			this.available.signal();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Moves the limit towards the ratio between the lowest recent latency and the given
+	 * one, allowing some headroom so that the limit can grow back.
+	 */
+	private void adjustLimit(long latency) {
+		this.windowMinLatency = Math.min(this.windowMinLatency, latency);
+		if (++this.samples >= LATENCY_WINDOW) {
+			this.minLatency = this.windowMinLatency;
+			this.windowMinLatency = Long.MAX_VALUE;
+			this.samples = 0;
+		}
+		else {
+			this.minLatency = Math.min(this.minLatency, latency);
+		}
+		double gradient = Math.max(0.5, Math.min(1.0, (double) this.minLatency / Math.max(latency, 1)));
+		double newLimit = this.limit * gradient + Math.sqrt(this.limit);
+		this.limit = Math.max(1, Math.min(this.maxConcurrency, this.limit * 0.8 + newLimit * 0.2));
+	}
+
+	/**
+	 * Returns the current concurrency limit.
+	 */
+	public int getLimit() {
+		this.lock.lock();
+		try {
+			return getLimitInternal();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the number of messages currently admitted.
+	 */
+	public int getInFlight() {
+		this.lock.lock();
+		try {
+			return this.inFlight;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the number of messages currently waiting to be admitted.
+	 */
+	public int getQueued() {
+		this.lock.lock();
+		try {
+			return this.queued;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the number of messages that were rejected.
+	 */
+	public long getRejectedCount() {
+		return this.rejectedCount.sum();
+	}
+
+	/**
+	 * Returns a new controller with the same configuration as this one.
+	 */
+	AdmissionController copy() {
+		AdmissionController copy = new AdmissionController();
+		copy.setMaxConcurrency(this.maxConcurrency);
+		copy.setMaxQueueSize(this.maxQueueSize);
+		copy.setMaxWait(this.maxWait);
+		copy.setAdaptive(this.adaptive);
+		copy.setRejectionFaultString(this.rejectionFaultString);
+		return copy;
+	}
+
+	/**
+	 * An admitted message. Must be released once the message is handled.
+	 */
+	public final class Permit {
+
+		private final long startTime = System.nanoTime();
+
+		private boolean released;
+
+		private Permit() {
+		}
+
+		/**
+		 * Releases this permit, so that another message can be admitted.
+		 */
+		public void release() {
+			if (!this.released) {
+				this.released = true;
+				AdmissionController.this.release(System.nanoTime() - this.startTime);
+			}
+		}
+
+	}
+
+}
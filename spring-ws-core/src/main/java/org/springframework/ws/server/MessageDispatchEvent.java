@@ -0,0 +1,114 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.server;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import org.springframework.ws.FaultAwareWebServiceMessage;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.server.observation.DispatchPhase;
+import org.springframework.ws.server.observation.MessageDispatchObservationContext;
+import org.springframework.ws.transport.TransportStatistics;
+import org.springframework.ws.transport.context.TransportContext;
+import org.springframework.ws.transport.context.TransportContextHolder;
+
+/**
+ * Java Flight Recorder event for the dispatch of a message by the
+ * {@link MessageDispatcher}.
+ *
+ * @since 4.0.12
+ */
+@Name("org.springframework.ws.MessageDispatch")
+@Label("Message Dispatch")
+@Category({ "Spring Web Services", "Server" })
+@Description("Dispatch of a Web service message to its endpoint")
+@StackTrace(false)
+class MessageDispatchEvent extends Event {
+
+	@Label("Operation")
+	@Description("Name of the endpoint the request was mapped to")
+	String operation = MessageDispatchObservationContext.UNKNOWN_OPERATION;
+
+	@Label("Fault Code")
+	String faultCode;
+
+	@Label("Exception")
+	String exception;
+
+	@Label("Request Size")
+	@Description("Number of bytes read from the transport, or -1 if not recorded")
+	@DataAmount(DataAmount.BYTES)
+	long requestSize = -1;
+
+	@Label("Endpoint Mapping Time")
+	@Timespan(Timespan.NANOSECONDS)
+	long mappingTime;
+
+	@Label("Interceptor Time")
+	@Timespan(Timespan.NANOSECONDS)
+	long interceptorTime;
+
+	@Label("Invocation Time")
+	@Timespan(Timespan.NANOSECONDS)
+	long invocationTime;
+
+	@Label("Exception Resolution Time")
+	@Timespan(Timespan.NANOSECONDS)
+	long exceptionResolutionTime;
+
+	void recordPhase(DispatchPhase phase, long nanos) {
+		switch (phase) {
+			case ENDPOINT_MAPPING:
+				this.mappingTime += nanos;
+				break;
+			case INTERCEPTOR:
+				this.interceptorTime += nanos;
+				break;
+			case ENDPOINT_INVOCATION:
+				this.invocationTime += nanos;
+				break;
+			case EXCEPTION_RESOLUTION:
+				this.exceptionResolutionTime += nanos;
+				break;
+			default:
+				break;
+		}
+	}
+
+	void record(MessageContext messageContext, Exception ex) {
+		if (messageContext.hasResponse() && messageContext.getResponse() instanceof FaultAwareWebServiceMessage response
+				&& response.hasFault() && response.getFaultCode() != null) {
+			this.faultCode = response.getFaultCode().toString();
+		}
+		if (ex != null) {
+			this.exception = ex.getClass().getName();
+		}
+		TransportContext transportContext = TransportContextHolder.getTransportContext();
+		TransportStatistics statistics = (transportContext != null) ? transportContext.getStatistics() : null;
+		if (statistics != null) {
+			this.requestSize = statistics.getBytesRead();
+		}
+	}
+
+}
@@ -22,30 +22,51 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import javax.xml.namespace.QName;
+import javax.xml.transform.TransformerException;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactoryUtils;
 import org.springframework.beans.factory.BeanNameAware;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.core.OrderComparator;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
 import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.ws.AdmissionRejectedException;
 import org.springframework.ws.FaultAwareWebServiceMessage;
 import org.springframework.ws.NoEndpointFoundException;
 import org.springframework.ws.WebServiceMessage;
 import org.springframework.ws.context.MessageContext;
 import org.springframework.ws.server.endpoint.MessageEndpoint;
+import org.springframework.ws.server.endpoint.MethodEndpoint;
 import org.springframework.ws.server.endpoint.PayloadEndpoint;
 import org.springframework.ws.server.endpoint.adapter.MessageEndpointAdapter;
 import org.springframework.ws.server.endpoint.adapter.PayloadEndpointAdapter;
+import org.springframework.ws.server.endpoint.support.PayloadRootUtils;
+import org.springframework.ws.server.observation.DefaultMessageDispatchObservationConvention;
+import org.springframework.ws.server.observation.DispatchPhase;
+import org.springframework.ws.server.observation.MessageDispatchObservationContext;
+import org.springframework.ws.server.observation.MessageDispatchObservationConvention;
+import org.springframework.ws.server.observation.MessageDispatchObservationDocumentation;
+import org.springframework.ws.soap.SoapMessage;
 import org.springframework.ws.soap.server.SoapMessageDispatcher;
 import org.springframework.ws.support.DefaultStrategiesHelper;
+import org.springframework.ws.support.MessageTracer;
 import org.springframework.ws.transport.WebServiceMessageReceiver;
+import org.springframework.xml.transform.TransformerHelper;
 
 /**
  * Central dispatcher for use within Spring-WS, dispatching Web service messages to
@@ -81,7 +102,8 @@ import org.springframework.ws.transport.WebServiceMessageReceiver;
  * @see org.springframework.web.servlet.DispatcherServlet
  * @since 1.0.0
  */
-public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAware, ApplicationContextAware {
+public class MessageDispatcher
+		implements WebServiceMessageReceiver, BeanNameAware, ApplicationContextAware, DisposableBean {
 
 	/** Logger available to subclasses. */
 	protected final Log logger = LogFactory.getLog(getClass());
@@ -104,6 +126,8 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 	protected static final Log receivedMessageTracingLogger = LogFactory
 		.getLog(MessageDispatcher.MESSAGE_TRACING_LOG_CATEGORY + ".received");
 
+	private static final MessageDispatchObservationConvention DEFAULT_OBSERVATION_CONVENTION = new DefaultMessageDispatchObservationConvention();
+
 	private final DefaultStrategiesHelper defaultStrategiesHelper;
 
 	/** The registered bean name for this dispatcher. */
@@ -118,6 +142,19 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 	/** List of EndpointMappings used in this dispatcher. */
 	private List<EndpointMapping> endpointMappings;
 
+	/** Prototype of the AdmissionControllers used for each endpoint. */
+	private AdmissionController endpointAdmissionController;
+
+	private final Map<Object, AdmissionController> endpointAdmissionControllers = new ConcurrentHashMap<>();
+
+	private final TransformerHelper transformerHelper = new TransformerHelper();
+
+	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+	private MessageDispatchObservationConvention observationConvention;
+
+	private MessageTracer messageTracer;
+
 	/** Initializes a new instance of the {@code MessageDispatcher}. */
 	public MessageDispatcher() {
 		defaultStrategiesHelper = new DefaultStrategiesHelper(getClass());
@@ -159,6 +196,56 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 		this.endpointMappings = endpointMappings;
 	}
 
+	/**
+	 * Sets the {@code AdmissionController} that limits the number of messages each
+	 * endpoint handles concurrently. Every endpoint gets its own controller, configured
+	 * like the given one. Method endpoints are told apart by their bean and method, and
+	 * other endpoints by their class, so that prototype endpoints share a controller.
+	 * Messages that are rejected result in an {@link AdmissionRejectedException}, which
+	 * is passed on to the transport rather than resolved by the
+	 * {@code EndpointExceptionResolver}s. By default, endpoints are not limited.
+	 */
+	public void setEndpointAdmissionController(AdmissionController endpointAdmissionController) {
+		this.endpointAdmissionController = endpointAdmissionController;
+		this.endpointAdmissionControllers.clear();
+	}
+
+	/**
+	 * Configure an {@link ObservationRegistry} for observing the dispatch of messages, with
+	 * a nested observation for each {@linkplain DispatchPhase phase}. Messages already
+	 * observed by the transport, as configured with
+	 * {@link org.springframework.ws.transport.support.WebServiceMessageReceiverObjectSupport#setObservationRegistry(ObservationRegistry)},
+	 * are recorded in the observation of the transport instead, which should use the same
+	 * registry. By default, {@link ObservationRegistry#NOOP} is used, and messages are not
+	 * observed.
+	 */
+	public void setObservationRegistry(ObservationRegistry observationRegistry) {
+		Assert.notNull(observationRegistry, "observationRegistry must not be null");
+		this.observationRegistry = observationRegistry;
+	}
+
+	/**
+	 * Configure a {@link MessageDispatchObservationConvention} that sets the name and key
+	 * values of message dispatch observations. By default, a
+	 * {@link DefaultMessageDispatchObservationConvention} is used.
+	 */
+	public void setObservationConvention(MessageDispatchObservationConvention observationConvention) {
+		this.observationConvention = observationConvention;
+	}
+
+	/**
+	 * Sets the {@code MessageTracer} used to trace messages when the
+	 * {@value #MESSAGE_TRACING_LOG_CATEGORY} log categories are enabled at trace level.
+	 * When set, only sampled messages are traced, their contents are truncated, and trace
+	 * statements are written asynchronously. By default, all messages are traced in full,
+	 * on the thread that handles them.
+	 * <p>
+	 * The tracer is {@linkplain MessageTracer#destroy() destroyed} with this dispatcher.
+	 */
+	public void setMessageTracer(MessageTracer messageTracer) {
+		this.messageTracer = messageTracer;
+	}
+
 	@Override
 	public final void setBeanName(String beanName) {
 		this.beanName = beanName;
@@ -171,8 +258,75 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 		initEndpointMappings(applicationContext);
 	}
 
+	/**
+	 * Destroys the {@linkplain #setMessageTracer(MessageTracer) message tracer}, which
+	 * stops its background thread.
+	 */
+	@Override
+	public void destroy() throws Exception {
+		if (messageTracer != null) {
+			messageTracer.destroy();
+		}
+	}
+
 	@Override
 	public void receive(MessageContext messageContext) throws Exception {
+		if (MessageDispatchObservationContext.get(messageContext) != null) {
+			// observed by the transport
+			receiveTimed(messageContext);
+			return;
+		}
+		MessageDispatchObservationContext observationContext = new MessageDispatchObservationContext();
+		Observation observation = MessageDispatchObservationDocumentation.MESSAGE_DISPATCH.observation(
+				observationConvention, DEFAULT_OBSERVATION_CONVENTION, () -> observationContext, observationRegistry);
+		if (!observation.isNoop()) {
+			observationContext.bind(messageContext);
+		}
+		observation.start();
+		try (Observation.Scope scope = observation.openScope()) {
+			receiveTimed(messageContext);
+		}
+		catch (Exception ex) {
+			observation.error(ex);
+			throw ex;
+		}
+		finally {
+			observation.stop();
+		}
+	}
+
+	private void receiveTimed(MessageContext messageContext) throws Exception {
+		MessageDispatchEvent event = new MessageDispatchEvent();
+		boolean timed = event.isEnabled() || !observationRegistry.isNoop();
+		if (timed) {
+			new DispatchPhases(observationRegistry, event).bind(messageContext);
+		}
+		event.begin();
+		Exception failure = null;
+		try {
+			doReceive(messageContext);
+		}
+		catch (Exception ex) {
+			failure = ex;
+			throw ex;
+		}
+		finally {
+			if (timed) {
+				DispatchPhases.unbind(messageContext);
+			}
+			if (event.shouldCommit()) {
+				event.record(messageContext, failure);
+				event.commit();
+			}
+		}
+	}
+
+	private void doReceive(MessageContext messageContext) throws Exception {
+		if (messageTracer != null
+				&& (receivedMessageTracingLogger.isTraceEnabled() || sentMessageTracingLogger.isTraceEnabled())) {
+			receiveTraced(messageContext, messageTracer);
+			return;
+		}
 		// Let's keep a reference to the request content as it came in, it might be
 		// changed by interceptors in dispatch()
 		String requestContent = "";
@@ -204,6 +358,29 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 		}
 	}
 
+	private void receiveTraced(MessageContext messageContext, MessageTracer tracer) throws Exception {
+		if (!tracer.isSampled(() -> getTracedOperation(messageContext))) {
+			dispatch(messageContext);
+			return;
+		}
+		String requestContent = tracer.toTraceString(messageContext.getRequest());
+		if (receivedMessageTracingLogger.isTraceEnabled()) {
+			tracer.trace(receivedMessageTracingLogger, "Received request [" + requestContent + "]");
+		}
+		dispatch(messageContext);
+		if (sentMessageTracingLogger.isTraceEnabled()) {
+			if (messageContext.hasResponse()) {
+				String responseContent = tracer.toTraceString(messageContext.getResponse());
+				tracer.trace(sentMessageTracingLogger,
+						"Sent response [" + responseContent + "] for request [" + requestContent + "]");
+			}
+			else {
+				tracer.trace(sentMessageTracingLogger, "MessageDispatcher with name '" + beanName
+						+ "' sends no response for request [" + requestContent + "]");
+			}
+		}
+	}
+
 	private String getMessageContent(WebServiceMessage message) throws IOException {
 		ByteArrayOutputStream bos = new ByteArrayOutputStream();
 		message.writeTo(bos);
@@ -219,13 +396,33 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 	protected final void dispatch(MessageContext messageContext) throws Exception {
 		EndpointInvocationChain mappedEndpoint = null;
 		int interceptorIndex = -1;
+		AdmissionController.Permit permit = null;
+		DispatchPhases phases = DispatchPhases.get(messageContext);
 		try {
 			try {
 				// Determine endpoint for the current context
-				mappedEndpoint = getEndpoint(messageContext);
+				DispatchPhases.Timer phase = startPhase(phases, DispatchPhase.ENDPOINT_MAPPING, null);
+				try {
+					mappedEndpoint = getEndpoint(messageContext);
+				}
+				finally {
+					stopPhase(phase);
+				}
 				if (mappedEndpoint == null || mappedEndpoint.getEndpoint() == null) {
 					throw new NoEndpointFoundException(messageContext.getRequest());
 				}
+				MessageDispatchObservationContext observationContext = MessageDispatchObservationContext
+					.get(messageContext);
+				if (observationContext != null || phases != null) {
+					String operation = getObservedOperation(mappedEndpoint.getEndpoint());
+					if (observationContext != null) {
+						observationContext.setOperation(operation);
+					}
+					if (phases != null) {
+						phases.setOperation(operation);
+					}
+				}
+				permit = acquireEndpointPermit(mappedEndpoint.getEndpoint());
 				if (!handleRequest(mappedEndpoint, messageContext)) {
 					return;
 				}
@@ -234,7 +431,15 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 					for (int i = 0; i < mappedEndpoint.getInterceptors().length; i++) {
 						EndpointInterceptor interceptor = mappedEndpoint.getInterceptors()[i];
 						interceptorIndex = i;
-						if (!interceptor.handleRequest(messageContext, mappedEndpoint.getEndpoint())) {
+						boolean proceed;
+						phase = startPhase(phases, DispatchPhase.INTERCEPTOR, interceptor);
+						try {
+							proceed = interceptor.handleRequest(messageContext, mappedEndpoint.getEndpoint());
+						}
+						finally {
+							stopPhase(phase);
+						}
+						if (!proceed) {
 							triggerHandleResponse(mappedEndpoint, interceptorIndex, messageContext);
 							triggerAfterCompletion(mappedEndpoint, interceptorIndex, messageContext, null);
 							return;
@@ -243,7 +448,13 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 				}
 				// Actually invoke the endpoint
 				EndpointAdapter endpointAdapter = getEndpointAdapter(mappedEndpoint.getEndpoint());
-				endpointAdapter.invoke(messageContext, mappedEndpoint.getEndpoint());
+				phase = startPhase(phases, DispatchPhase.ENDPOINT_INVOCATION, null);
+				try {
+					endpointAdapter.invoke(messageContext, mappedEndpoint.getEndpoint());
+				}
+				finally {
+					stopPhase(phase);
+				}
 
 				// Apply handleResponse methods of registered interceptors
 				triggerHandleResponse(mappedEndpoint, interceptorIndex, messageContext);
@@ -255,9 +466,23 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 				}
 				throw ex;
 			}
+			catch (AdmissionRejectedException ex) {
+				// No triggering of interceptors if the endpoint is overloaded
+				if (logger.isDebugEnabled()) {
+					logger.debug(
+							"Endpoint [" + mappedEndpoint.getEndpoint() + "] rejected request: " + ex.getMessage());
+				}
+				throw ex;
+			}
 			catch (Exception ex) {
 				Object endpoint = mappedEndpoint != null ? mappedEndpoint.getEndpoint() : null;
-				processEndpointException(messageContext, endpoint, ex);
+				DispatchPhases.Timer phase = startPhase(phases, DispatchPhase.EXCEPTION_RESOLUTION, null);
+				try {
+					processEndpointException(messageContext, endpoint, ex);
+				}
+				finally {
+					stopPhase(phase);
+				}
 				triggerHandleResponse(mappedEndpoint, interceptorIndex, messageContext);
 			}
 			triggerAfterCompletion(mappedEndpoint, interceptorIndex, messageContext, null);
@@ -270,6 +495,34 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 			triggerAfterCompletion(mappedEndpoint, interceptorIndex, messageContext, ex);
 			throw ex;
 		}
+		finally {
+			if (permit != null) {
+				permit.release();
+			}
+		}
+	}
+
+	private static DispatchPhases.Timer startPhase(DispatchPhases phases, DispatchPhase phase, Object component) {
+		return (phases != null) ? phases.start(phase, component) : null;
+	}
+
+	private static void stopPhase(DispatchPhases.Timer phase) {
+		if (phase != null) {
+			phase.stop();
+		}
+	}
+
+	private AdmissionController.Permit acquireEndpointPermit(Object endpoint) throws InterruptedException {
+		if (this.endpointAdmissionController == null) {
+			return null;
+		}
+		return this.endpointAdmissionControllers
+			.computeIfAbsent(getAdmissionKey(endpoint), key -> this.endpointAdmissionController.copy())
+			.acquire();
+	}
+
+	private static Object getAdmissionKey(Object endpoint) {
+		return (endpoint instanceof MethodEndpoint) ? endpoint : endpoint.getClass();
 	}
 
 	/**
@@ -294,6 +547,54 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 		return null;
 	}
 
+	/**
+	 * Returns the operation under which messages handled by the given endpoint are
+	 * {@linkplain #setObservationRegistry(ObservationRegistry) observed}. Since it is derived from the endpoint, and
+	 * not from the request, the number of distinct operations is bounded by the number of
+	 * endpoints.
+	 * <p>
+	 * Default implementation returns the short class name and the method name of
+	 * {@link MethodEndpoint}s, as in {@code OrderEndpoint#placeOrder}, and the short class
+	 * name of other endpoints.
+	 * @param endpoint the mapped endpoint
+	 * @return the operation name
+	 */
+	protected String getObservedOperation(Object endpoint) {
+		if (endpoint instanceof MethodEndpoint methodEndpoint) {
+			return ClassUtils.getShortName(ClassUtils.getUserClass(methodEndpoint.getMethod().getDeclaringClass()))
+					+ "#" + methodEndpoint.getMethod().getName();
+		}
+		return ClassUtils.getShortName(ClassUtils.getUserClass(endpoint));
+	}
+
+	/**
+	 * Returns the operation under which the {@linkplain #setMessageTracer(MessageTracer)
+	 * tracing} of the given message is sampled. It is only looked up in the
+	 * {@linkplain MessageTracer#setOperationSampleRates(Map) configured sample rates}.
+	 * <p>
+	 * Default implementation returns the SOAP action of SOAP messages, if any, and the
+	 * qualified name of the payload root element otherwise.
+	 * @param messageContext the current message context
+	 * @return the operation name
+	 */
+	protected String getTracedOperation(MessageContext messageContext) {
+		WebServiceMessage request = messageContext.getRequest();
+		if (request instanceof SoapMessage soapMessage) {
+			String soapAction = StringUtils.trimLeadingCharacter(
+					StringUtils.trimTrailingCharacter(soapMessage.getSoapAction(), '"'), '"');
+			if (StringUtils.hasLength(soapAction)) {
+				return soapAction;
+			}
+		}
+		try {
+			QName payloadRoot = PayloadRootUtils.getPayloadRootQName(request.getPayloadSource(), transformerHelper);
+			return (payloadRoot != null) ? payloadRoot.toString() : MessageDispatchObservationContext.UNKNOWN_OPERATION;
+		}
+		catch (TransformerException ex) {
+			return MessageDispatchObservationContext.UNKNOWN_OPERATION;
+		}
+	}
+
 	/**
 	 * Returns the {@code EndpointAdapter} for the given endpoint.
 	 * @param endpoint the endpoint to find an adapter for
@@ -370,14 +671,21 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 			if (response instanceof FaultAwareWebServiceMessage) {
 				hasFault = ((FaultAwareWebServiceMessage) response).hasFault();
 			}
+			DispatchPhases phases = DispatchPhases.get(messageContext);
 			boolean resume = true;
 			for (int i = interceptorIndex; resume && i >= 0; i--) {
 				EndpointInterceptor interceptor = mappedEndpoint.getInterceptors()[i];
-				if (!hasFault) {
-					resume = interceptor.handleResponse(messageContext, mappedEndpoint.getEndpoint());
+				DispatchPhases.Timer phase = startPhase(phases, DispatchPhase.INTERCEPTOR, interceptor);
+				try {
+					if (!hasFault) {
+						resume = interceptor.handleResponse(messageContext, mappedEndpoint.getEndpoint());
+					}
+					else {
+						resume = interceptor.handleFault(messageContext, mappedEndpoint.getEndpoint());
+					}
 				}
-				else {
-					resume = interceptor.handleFault(messageContext, mappedEndpoint.getEndpoint());
+				finally {
+					stopPhase(phase);
 				}
 			}
 		}
@@ -485,4 +793,68 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 		}
 	}
 
+	/**
+	 * Times the phases of the dispatch of a message, for its observation and its JFR
+	 * event. Stored in the message context while the message is dispatched.
+	 */
+	private static final class DispatchPhases {
+
+		private static final String PROPERTY_NAME = DispatchPhases.class.getName();
+
+		private final ObservationRegistry observationRegistry;
+
+		private final MessageDispatchEvent event;
+
+		DispatchPhases(ObservationRegistry observationRegistry, MessageDispatchEvent event) {
+			this.observationRegistry = observationRegistry;
+			this.event = event;
+		}
+
+		static DispatchPhases get(MessageContext messageContext) {
+			return (DispatchPhases) messageContext.getProperty(PROPERTY_NAME);
+		}
+
+		static void unbind(MessageContext messageContext) {
+			messageContext.removeProperty(PROPERTY_NAME);
+		}
+
+		void bind(MessageContext messageContext) {
+			messageContext.setProperty(PROPERTY_NAME, this);
+		}
+
+		void setOperation(String operation) {
+			this.event.operation = operation;
+		}
+
+		Timer start(DispatchPhase phase, Object component) {
+			Observation observation = Observation.NOOP;
+			if (!this.observationRegistry.isNoop()) {
+				String componentName = (component != null) ? ClassUtils.getShortName(component.getClass()) : null;
+				observation = phase.observation(componentName, this.observationRegistry).start();
+			}
+			return new Timer(phase, observation);
+		}
+
+		final class Timer {
+
+			private final DispatchPhase phase;
+
+			private final Observation observation;
+
+			private final long startTime = System.nanoTime();
+
+			Timer(DispatchPhase phase, Observation observation) {
+				this.phase = phase;
+				this.observation = observation;
+			}
+
+			void stop() {
+				this.observation.stop();
+				event.recordPhase(this.phase, System.nanoTime() - this.startTime);
+			}
+
+		}
+
+	}
+
 }
@@ -17,6 +17,9 @@
 package org.springframework.ws.server.endpoint;
 
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Source;
@@ -28,9 +31,13 @@ import javax.xml.transform.stream.StreamResult;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.Assert;
 import org.springframework.ws.WebServiceMessage;
 import org.springframework.ws.context.MessageContext;
 import org.springframework.ws.server.EndpointInterceptor;
+import org.springframework.ws.support.AsyncLogWriter;
+import org.springframework.ws.support.TruncatingOutputStream;
 import org.springframework.xml.transform.TransformerObjectSupport;
 
 /**
@@ -38,11 +45,25 @@ import org.springframework.xml.transform.TransformerObjectSupport;
  * {@code WebServiceMessage}. By default, both request and response messages are logged,
  * but this behaviour can be changed using the {@code logRequest} and {@code logResponse}
  * properties.
+ * <p>
+ * Logged payloads can be truncated with the {@link #setMaxLogLength(int) maxLogLength}
+ * property. When {@link #setAsync(boolean) async} is enabled, payloads are copied once
+ * into a pooled buffer on the thread that handles the message, and logged by a
+ * background thread fed by a bounded queue, so that logging does not add to the latency
+ * of the message exchange. That thread stops when no message was logged for a while, so
+ * an interceptor that is not a bean, and therefore never {@linkplain #destroy()
+ * destroyed}, does not hold on to a thread. Messages still pending when the JVM exits
+ * are lost, unless the interceptor is destroyed first.
  *
  * @author Arjen Poutsma
  * @since 1.0.0
  */
-public abstract class AbstractLoggingInterceptor extends TransformerObjectSupport implements EndpointInterceptor {
+public abstract class AbstractLoggingInterceptor extends TransformerObjectSupport
+		implements EndpointInterceptor, DisposableBean {
+
+	private static final int BUFFER_POOL_SIZE = 64;
+
+	private static final int MAX_POOLED_BUFFER_SIZE = 64 * 1024;
 
 	/**
 	 * The default {@code Log} instance used to write trace messages. This instance is
@@ -54,6 +75,18 @@ public abstract class AbstractLoggingInterceptor extends TransformerObjectSuppor
 
 	private boolean logResponse = true;
 
+	private int maxLogLength = -1;
+
+	private boolean async = false;
+
+	private int asyncQueueCapacity = AsyncLogWriter.DEFAULT_CAPACITY;
+
+	private AsyncLogWriter.OverflowPolicy asyncOverflowPolicy = AsyncLogWriter.OverflowPolicy.DROP_OLDEST;
+
+	private volatile AsyncLogWriter asyncLogWriter;
+
+	private final BlockingQueue<TruncatingOutputStream> bufferPool = new ArrayBlockingQueue<>(BUFFER_POOL_SIZE);
+
 	/** Indicates whether the request should be logged. Default is {@code true}. */
 	public final void setLogRequest(boolean logRequest) {
 		this.logRequest = logRequest;
@@ -64,6 +97,54 @@ public abstract class AbstractLoggingInterceptor extends TransformerObjectSuppor
 		this.logResponse = logResponse;
 	}
 
+	/**
+	 * Sets the maximum number of bytes of a payload that are logged. Longer payloads are
+	 * truncated, and their transformation stops once the maximum is reached. Default is
+	 * -1: payloads are logged in full.
+	 */
+	public void setMaxLogLength(int maxLogLength) {
+		this.maxLogLength = maxLogLength;
+	}
+
+	/**
+	 * Indicates whether payloads are logged asynchronously, by a background thread.
+	 * Default is {@code false}.
+	 * <p>
+	 * In asynchronous mode, {@link #logMessage(String)} is invoked on the background
+	 * thread, and log messages are dropped when more than
+	 * {@link #setAsyncQueueCapacity(int) asyncQueueCapacity} are pending.
+	 */
+	public void setAsync(boolean async) {
+		this.async = async;
+	}
+
+	/**
+	 * Sets the maximum number of log messages pending in asynchronous mode. Default is
+	 * {@value AsyncLogWriter#DEFAULT_CAPACITY}.
+	 */
+	public void setAsyncQueueCapacity(int asyncQueueCapacity) {
+		Assert.isTrue(asyncQueueCapacity > 0, "asyncQueueCapacity must be positive");
+		this.asyncQueueCapacity = asyncQueueCapacity;
+	}
+
+	/**
+	 * Sets which log message is dropped when the queue of pending log messages is full in
+	 * asynchronous mode. Default is to drop the oldest message.
+	 */
+	public void setAsyncOverflowPolicy(AsyncLogWriter.OverflowPolicy asyncOverflowPolicy) {
+		Assert.notNull(asyncOverflowPolicy, "asyncOverflowPolicy must not be null");
+		this.asyncOverflowPolicy = asyncOverflowPolicy;
+	}
+
+	/**
+	 * Returns the number of log messages dropped in asynchronous mode because too many
+	 * were pending.
+	 */
+	public long getDroppedLogCount() {
+		AsyncLogWriter writer = this.asyncLogWriter;
+		return (writer != null) ? writer.getDroppedCount() : 0;
+	}
+
 	/**
 	 * Set the name of the logger to use. The name will be passed to the underlying logger
 	 * implementation through Commons Logging, getting interpreted as log category
@@ -117,6 +198,21 @@ public abstract class AbstractLoggingInterceptor extends TransformerObjectSuppor
 	public void afterCompletion(MessageContext messageContext, Object endpoint, Exception ex) {
 	}
 
+	/**
+	 * Stops the background thread used in asynchronous mode, after it has logged the
+	 * pending messages. Invoked by the container when this interceptor is a bean;
+	 * interceptors created otherwise, for instance in
+	 * {@link org.springframework.ws.config.annotation.WsConfigurer#addInterceptors(java.util.List)
+	 * WsConfigurer.addInterceptors}, should be destroyed by their creator.
+	 */
+	@Override
+	public void destroy() throws InterruptedException {
+		AsyncLogWriter writer = this.asyncLogWriter;
+		if (writer != null) {
+			writer.destroy();
+		}
+	}
+
 	/**
 	 * Determine whether the {@link #logger} field is enabled.
 	 * <p>
@@ -139,19 +235,89 @@ public abstract class AbstractLoggingInterceptor extends TransformerObjectSuppor
 	 * prefix.
 	 * <p>
 	 * By default, this message creates a string representation of the given source, and
-	 * delegates to {@link #logMessage(String)}.
+	 * delegates to {@link #logMessage(String)}, on a background thread if
+	 * {@link #setAsync(boolean) async} is enabled.
 	 * @param logMessage the log message
 	 * @param source the source to be logged
 	 * @throws TransformerException in case of errors
 	 */
 	protected void logMessageSource(String logMessage, Source source) throws TransformerException {
-		if (source != null) {
+		if (source == null) {
+			return;
+		}
+		if (!async && maxLogLength < 0) {
 			Transformer transformer = createNonIndentingTransformer();
 			StringWriter writer = new StringWriter();
 			transformer.transform(source, new StreamResult(writer));
 			String message = logMessage + writer;
 			logMessage(message);
+			return;
+		}
+		TruncatingOutputStream buffer = acquireBuffer();
+		transform(source, buffer);
+		if (async) {
+			getAsyncLogWriter().submit(() -> {
+				try {
+					logMessage(logMessage + buffer.getContent());
+				}
+				finally {
+					releaseBuffer(buffer);
+				}
+			});
+		}
+		else {
+			try {
+				logMessage(logMessage + buffer.getContent());
+			}
+			finally {
+				releaseBuffer(buffer);
+			}
+		}
+	}
+
+	private void transform(Source source, TruncatingOutputStream buffer) throws TransformerException {
+		Transformer transformer = createNonIndentingTransformer();
+		transformer.setOutputProperty(OutputKeys.ENCODING, StandardCharsets.UTF_8.name());
+		try {
+			transformer.transform(source, new StreamResult(buffer));
+		}
+		catch (TransformerException | RuntimeException ex) {
+			// thrown by the buffer to stop the transformation once the maximum is reached
+			if (!buffer.isLimitReached()) {
+				releaseBuffer(buffer);
+				throw ex;
+			}
+		}
+	}
+
+	private TruncatingOutputStream acquireBuffer() {
+		TruncatingOutputStream buffer = bufferPool.poll();
+		if (buffer == null) {
+			return new TruncatingOutputStream(maxLogLength);
+		}
+		buffer.setLimit(maxLogLength);
+		return buffer;
+	}
+
+	private void releaseBuffer(TruncatingOutputStream buffer) {
+		if (buffer.capacity() <= MAX_POOLED_BUFFER_SIZE) {
+			buffer.reset();
+			bufferPool.offer(buffer);
+		}
+	}
+
+	private AsyncLogWriter getAsyncLogWriter() {
+		AsyncLogWriter writer = this.asyncLogWriter;
+		if (writer == null) {
+			synchronized (this) {
+				writer = this.asyncLogWriter;
+				if (writer == null) {
+					writer = new AsyncLogWriter(getClass().getSimpleName(), asyncQueueCapacity, asyncOverflowPolicy);
+					this.asyncLogWriter = writer;
+				}
+			}
 		}
+		return writer;
 	}
 
 	/**
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.server.endpoint.adapter;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+import org.springframework.ws.transport.context.TransportContext;
+import org.springframework.ws.transport.context.TransportContextHolder;
+
+/**
+ * Isolates the invocation of a group of endpoints on a dedicated, bounded pool of
+ * threads, so that slow endpoints cannot occupy the threads of unrelated ones.
+ * <p>
+ * At most {@code maxConcurrency} invocations run at the same time, and at most
+ * {@code queueCapacity} wait for a thread. Other invocations are rejected with a
+ * {@link BulkheadFullException}. Invocations that do not complete within the
+ * {@code timeout} are cancelled, and result in a {@link TimeoutException}. Both are
+ * resolved to a SOAP fault by the default exception resolvers.
+ * <p>
+ * The {@link TransportContext} of the calling thread is available to the endpoint. Other
+ * thread-bound state, such as a security context, is not propagated.
+ *
+ * @since 4.0.12
+ * @see BulkheadRegistry
+ */
+public class Bulkhead implements DisposableBean {
+
+	private final String name;
+
+	private final Duration timeout;
+
+	private final ThreadPoolExecutor executor;
+
+	private final LongAdder rejectedCount = new LongAdder();
+
+	private final LongAdder timeoutCount = new LongAdder();
+
+	/**
+	 * Create a new {@code Bulkhead}.
+	 * @param name the name of the bulkhead, used for its threads
+	 * @param maxConcurrency the maximum number of concurrent invocations
+	 * @param queueCapacity the maximum number of invocations waiting for a thread
+	 * @param timeout the maximum duration of an invocation, or {@code null} for none
+	 */
+	public Bulkhead(String name, int maxConcurrency, int queueCapacity, Duration timeout) {
+		Assert.hasLength(name, "name must not be empty");
+		Assert.isTrue(maxConcurrency > 0, "maxConcurrency must be positive");
+		Assert.isTrue(queueCapacity >= 0, "queueCapacity must not be negative");
+		this.name = name;
+		this.timeout = timeout;
+		BlockingQueue<Runnable> queue = (queueCapacity > 0) ? new ArrayBlockingQueue<>(queueCapacity)
+				: new SynchronousQueue<>();
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("bulkhead-" + name + "-");
+		threadFactory.setDaemon(true);
+		this.executor = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 60, TimeUnit.SECONDS, queue,
+				threadFactory);
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Returns the name of this bulkhead.
+	 */
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Invokes the given callable in this bulkhead, and waits for its result.
+	 * @param callable the invocation
+	 * @return the result of the invocation
+	 * @throws BulkheadFullException if this bulkhead is full
+	 * @throws TimeoutException if the invocation timed out
+	 * @throws Exception if the invocation failed
+	 */
+	public <T> T execute(Callable<T> callable) throws Exception {
+		TransportContext transportContext = TransportContextHolder.getTransportContext();
+		Future<T> future;
+		try {
+			future = this.executor.submit(() -> {
+				TransportContext previousTransportContext = TransportContextHolder.getTransportContext();
+				TransportContextHolder.setTransportContext(transportContext);
+				try {
+					return callable.call();
+				}
+				finally {
+					TransportContextHolder.setTransportContext(previousTransportContext);
+				}
+			});
+		}
+		catch (RejectedExecutionException ex) {
+			this.rejectedCount.increment();
+			throw new BulkheadFullException("Bulkhead '" + this.name + "' is full");
+		}
+		try {
+			return (this.timeout != null) ? future.get(this.timeout.toMillis(), TimeUnit.MILLISECONDS) : future.get();
+		}
+		catch (ExecutionException ex) {
+			if (ex.getCause() instanceof Exception cause) {
+				throw cause;
+			}
+			if (ex.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw ex;
+		}
+		catch (TimeoutException ex) {
+			this.timeoutCount.increment();
+			future.cancel(true);
+			throw new TimeoutException("Invocation in bulkhead '" + this.name + "' timed out after " + this.timeout);
+		}
+		catch (InterruptedException ex) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw ex;
+		}
+	}
+
+	/**
+	 * Returns the number of invocations currently running.
+	 */
+	public int getActiveCount() {
+		return this.executor.getActiveCount();
+	}
+
+	/**
+	 * Returns the number of invocations currently waiting for a thread.
+	 */
+	public int getQueueSize() {
+		return this.executor.getQueue().size();
+	}
+
+	/**
+	 * Returns the number of invocations that completed, including those that failed.
+	 */
+	public long getCompletedCount() {
+		return this.executor.getCompletedTaskCount();
+	}
+
+	/**
+	 * Returns the number of invocations rejected because this bulkhead was full.
+	 */
+	public long getRejectedCount() {
+		return this.rejectedCount.sum();
+	}
+
+	/**
+	 * Returns the number of invocations that timed out.
+	 */
+	public long getTimeoutCount() {
+		return this.timeoutCount.sum();
+	}
+
+	@Override
+	public void destroy() {
+		this.executor.shutdownNow();
+	}
+
+	@Override
+	public String toString() {
+		return "Bulkhead '" + this.name + "'";
+	}
+
+}
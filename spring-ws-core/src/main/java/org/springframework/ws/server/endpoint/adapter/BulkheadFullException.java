@@ -0,0 +1,34 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.server.endpoint.adapter;
+
+import org.springframework.ws.WebServiceException;
+
+/**
+ * Exception thrown when an endpoint invocation is rejected because its {@link Bulkhead}
+ * is full.
+ *
+ * @since 4.0.12
+ */
+@SuppressWarnings("serial")
+public class BulkheadFullException extends WebServiceException {
+
+	public BulkheadFullException(String msg) {
+		super(msg);
+	}
+
+}
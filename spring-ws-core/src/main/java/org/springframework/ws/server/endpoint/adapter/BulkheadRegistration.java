@@ -0,0 +1,132 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.server.endpoint.adapter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.namespace.QName;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.ws.server.endpoint.MethodEndpoint;
+import org.springframework.xml.namespace.QNameUtils;
+
+/**
+ * Assists with the creation of a {@link Bulkhead}, and with the selection of the
+ * endpoints it applies to.
+ *
+ * @since 4.0.12
+ * @see BulkheadRegistry#addBulkhead(String)
+ */
+public class BulkheadRegistration {
+
+	private final String name;
+
+	private final List<Class<?>> endpointTypes = new ArrayList<>();
+
+	private final List<QName> payloadRoots = new ArrayList<>();
+
+	private int maxConcurrency = 10;
+
+	private int queueCapacity = 0;
+
+	private Duration timeout;
+
+	private Bulkhead bulkhead;
+
+	BulkheadRegistration(String name) {
+		Assert.hasLength(name, "name must not be empty");
+		this.name = name;
+	}
+
+	/**
+	 * Sets the maximum number of concurrent invocations. Default is 10.
+	 */
+	public BulkheadRegistration maxConcurrency(int maxConcurrency) {
+		Assert.isTrue(maxConcurrency > 0, "maxConcurrency must be positive");
+		this.maxConcurrency = maxConcurrency;
+		return this;
+	}
+
+	/**
+	 * Sets the maximum number of invocations waiting for a thread. Default is 0.
+	 */
+	public BulkheadRegistration queueCapacity(int queueCapacity) {
+		Assert.isTrue(queueCapacity >= 0, "queueCapacity must not be negative");
+		this.queueCapacity = queueCapacity;
+		return this;
+	}
+
+	/**
+	 * Sets the maximum duration of an invocation. By default, there is no limit.
+	 */
+	public BulkheadRegistration timeout(Duration timeout) {
+		this.timeout = timeout;
+		return this;
+	}
+
+	/**
+	 * Applies the bulkhead to the methods of endpoints of the given types.
+	 */
+	public BulkheadRegistration endpoints(Class<?>... endpointTypes) {
+		this.endpointTypes.addAll(List.of(endpointTypes));
+		return this;
+	}
+
+	/**
+	 * Applies the bulkhead to requests with the given payload root elements, in
+	 * {@code {namespace}localPart} form.
+	 */
+	public BulkheadRegistration payloadRoots(String... payloadRoots) {
+		for (String payloadRoot : payloadRoots) {
+			this.payloadRoots.add(QNameUtils.parseQNameString(payloadRoot));
+		}
+		return this;
+	}
+
+	boolean hasPayloadRoots() {
+		return !this.payloadRoots.isEmpty();
+	}
+
+	boolean matches(MethodEndpoint methodEndpoint) {
+		Class<?> endpointType = ClassUtils.getUserClass(methodEndpoint.getBean().getClass());
+		for (Class<?> type : this.endpointTypes) {
+			if (type.isAssignableFrom(endpointType)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	boolean matches(QName payloadRoot) {
+		return this.payloadRoots.contains(payloadRoot);
+	}
+
+	synchronized Bulkhead getBulkhead() {
+		if (this.bulkhead == null) {
+			this.bulkhead = new Bulkhead(this.name, this.maxConcurrency, this.queueCapacity, this.timeout);
+		}
+		return this.bulkhead;
+	}
+
+	synchronized Bulkhead getBulkheadIfCreated() {
+		return this.bulkhead;
+	}
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.server.endpoint.adapter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.namespace.QName;
+import javax.xml.transform.TransformerException;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.Assert;
+import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.server.endpoint.MethodEndpoint;
+import org.springframework.ws.server.endpoint.support.PayloadRootUtils;
+import org.springframework.xml.transform.TransformerHelper;
+
+/**
+ * Registry of {@link Bulkhead}s, and of the endpoints they apply to. Endpoints are
+ * matched by type first, and then by the payload root of the request. Invocations of
+ * endpoints that match no bulkhead run on the calling thread.
+ * <p>
+ * Typically configured through
+ * {@link org.springframework.ws.config.annotation.WsConfigurer#configureBulkheads(BulkheadRegistry)
+ * WsConfigurer}, for example:
+ *
+ * <pre class="code">
+ * &#064;Override
+ * public void configureBulkheads(BulkheadRegistry registry) {
+ *     registry.addBulkhead("orders")
+ *         .endpoints(OrderEndpoint.class)
+ *         .maxConcurrency(20)
+ *         .timeout(Duration.ofSeconds(5));
+ * }
+ * </pre>
+ *
+ * @since 4.0.12
+ * @see DefaultMethodEndpointAdapter#setBulkheadRegistry(BulkheadRegistry)
+ */
+public class BulkheadRegistry implements DisposableBean {
+
+	private final Map<String, BulkheadRegistration> registrations = new LinkedHashMap<>();
+
+	private final Map<MethodEndpoint, Optional<BulkheadRegistration>> endpointRegistrations = new ConcurrentHashMap<>();
+
+	private final TransformerHelper transformerHelper = new TransformerHelper();
+
+	/**
+	 * Adds a bulkhead with the given name.
+	 * @param name the name of the bulkhead
+	 * @return a registration to further configure the bulkhead
+	 */
+	public BulkheadRegistration addBulkhead(String name) {
+		Assert.isTrue(!this.registrations.containsKey(name), () -> "Bulkhead '" + name + "' already registered");
+		BulkheadRegistration registration = new BulkheadRegistration(name);
+		this.registrations.put(name, registration);
+		return registration;
+	}
+
+	/**
+	 * Returns whether no bulkhead is registered.
+	 */
+	public boolean isEmpty() {
+		return this.registrations.isEmpty();
+	}
+
+	/**
+	 * Returns the bulkhead with the given name, or {@code null} if none.
+	 */
+	public Bulkhead getBulkhead(String name) {
+		BulkheadRegistration registration = this.registrations.get(name);
+		return (registration != null) ? registration.getBulkhead() : null;
+	}
+
+	/**
+	 * Returns all registered bulkheads, for instance to expose their metrics.
+	 */
+	public List<Bulkhead> getBulkheads() {
+		List<Bulkhead> bulkheads = new ArrayList<>();
+		for (BulkheadRegistration registration : this.registrations.values()) {
+			bulkheads.add(registration.getBulkhead());
+		}
+		return bulkheads;
+	}
+
+	/**
+	 * Returns the bulkhead that applies to the given endpoint and request, or
+	 * {@code null} if none.
+	 */
+	Bulkhead resolveBulkhead(MethodEndpoint methodEndpoint, WebServiceMessage request) throws TransformerException {
+		BulkheadRegistration registration = this.endpointRegistrations
+			.computeIfAbsent(methodEndpoint, this::findRegistration)
+			.orElse(null);
+		if (registration == null) {
+			registration = findRegistration(request);
+		}
+		return (registration != null) ? registration.getBulkhead() : null;
+	}
+
+	private Optional<BulkheadRegistration> findRegistration(MethodEndpoint methodEndpoint) {
+		for (BulkheadRegistration registration : this.registrations.values()) {
+			if (registration.matches(methodEndpoint)) {
+				return Optional.of(registration);
+			}
+		}
+		return Optional.empty();
+	}
+
+	private BulkheadRegistration findRegistration(WebServiceMessage request) throws TransformerException {
+		QName payloadRoot = null;
+		for (BulkheadRegistration registration : this.registrations.values()) {
+			if (registration.hasPayloadRoots()) {
+				if (payloadRoot == null) {
+					payloadRoot = PayloadRootUtils.getPayloadRootQName(request.getPayloadSource(),
+							this.transformerHelper);
+					if (payloadRoot == null) {
+						return null;
+					}
+				}
+				if (registration.matches(payloadRoot)) {
+					return registration;
+				}
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public void destroy() {
+		for (BulkheadRegistration registration : this.registrations.values()) {
+			Bulkhead bulkhead = registration.getBulkheadIfCreated();
+			if (bulkhead != null) {
+				bulkhead.destroy();
+			}
+		}
+	}
+
+}
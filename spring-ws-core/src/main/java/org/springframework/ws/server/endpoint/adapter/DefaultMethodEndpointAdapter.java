@@ -16,14 +16,27 @@
 
 package org.springframework.ws.server.endpoint.adapter;
 
+import java.lang.reflect.Type;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.core.MethodParameter;
+import org.springframework.core.ReactiveAdapter;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.core.ResolvableType;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
 import org.springframework.ws.context.MessageContext;
@@ -45,6 +58,19 @@ import org.springframework.ws.server.endpoint.adapter.method.jaxb.XmlRootElement
  * Default extension of {@link AbstractMethodEndpointAdapter} with support for pluggable
  * {@linkplain MethodArgumentResolver argument resolvers} and
  * {@linkplain MethodReturnValueHandler return value handlers}.
+ * <p>
+ * Endpoint methods can return a {@link CompletionStage}, or a single-valued reactive type
+ * such as Reactor's {@code Mono} if Reactive Streams is present. The adapter waits for
+ * the result, and handles it as if the method had returned it directly. The response is
+ * therefore complete, and interceptors are invoked, when the result is available.
+ * <p>
+ * Note that waiting for the result blocks the thread that handles the message. Such
+ * return types let an endpoint compose asynchronous calls, but do not make message
+ * handling non-blocking: with asynchronous handling in the transport, for instance through
+ * {@link org.springframework.ws.transport.http.MessageDispatcherServlet#setAsyncTaskExecutor
+ * MessageDispatcherServlet}, a thread of that executor is blocked instead of the container
+ * thread. Consider setting an {@link #setAsyncResultTimeout(Duration) asyncResultTimeout}
+ * to bound that wait.
  *
  * @author Arjen Poutsma
  * @since 2.0
@@ -66,6 +92,9 @@ public class DefaultMethodEndpointAdapter extends AbstractMethodEndpointAdapter
 
 	private static final String SOAP_HEADER_ELEMENT_ARGUMENT_RESOLVER_CLASS_NAME = "org.springframework.ws.soap.server.endpoint.adapter.method.SoapHeaderElementMethodArgumentResolver";
 
+	private static final boolean reactiveStreamsPresent = ClassUtils.isPresent("org.reactivestreams.Publisher",
+			DefaultMethodEndpointAdapter.class.getClassLoader());
+
 	private List<MethodArgumentResolver> methodArgumentResolvers;
 
 	private List<MethodArgumentResolver> customMethodArgumentResolvers;
@@ -76,6 +105,10 @@ public class DefaultMethodEndpointAdapter extends AbstractMethodEndpointAdapter
 
 	private ClassLoader classLoader;
 
+	private Duration asyncResultTimeout;
+
+	private BulkheadRegistry bulkheadRegistry;
+
 	/**
 	 * Returns the list of {@code MethodArgumentResolver}s to use.
 	 */
@@ -136,6 +169,26 @@ public class DefaultMethodEndpointAdapter extends AbstractMethodEndpointAdapter
 		this.customMethodReturnValueHandlers = customMethodReturnValueHandlers;
 	}
 
+	/**
+	 * Sets the maximum time to wait for the result of an endpoint method that returns a
+	 * {@link CompletionStage} or a reactive type, during which the handling thread is
+	 * blocked. When exceeded, the result is cancelled and a {@link TimeoutException} is
+	 * thrown, which can be resolved to a fault by an
+	 * {@link org.springframework.ws.server.EndpointExceptionResolver
+	 * EndpointExceptionResolver}. By default, there is no limit.
+	 */
+	public void setAsyncResultTimeout(Duration asyncResultTimeout) {
+		this.asyncResultTimeout = asyncResultTimeout;
+	}
+
+	/**
+	 * Sets the registry of {@link Bulkhead}s that endpoint methods are invoked in. By
+	 * default, endpoint methods are invoked on the calling thread.
+	 */
+	public void setBulkheadRegistry(BulkheadRegistry bulkheadRegistry) {
+		this.bulkheadRegistry = bulkheadRegistry;
+	}
+
 	private ClassLoader getClassLoader() {
 		return this.classLoader != null ? this.classLoader : DefaultMethodEndpointAdapter.class.getClassLoader();
 	}
@@ -242,7 +295,7 @@ public class DefaultMethodEndpointAdapter extends AbstractMethodEndpointAdapter
 	@Override
 	protected boolean supportsInternal(MethodEndpoint methodEndpoint) {
 		return supportsParameters(methodEndpoint.getMethodParameters())
-				&& supportsReturnType(methodEndpoint.getReturnType());
+				&& supportsReturnType(getResultType(methodEndpoint.getReturnType()));
 	}
 
 	private boolean supportsParameters(MethodParameter[] methodParameters) {
@@ -285,18 +338,98 @@ public class DefaultMethodEndpointAdapter extends AbstractMethodEndpointAdapter
 			logger.trace("Invoking [" + methodEndpoint + "] with arguments " + Arrays.asList(args));
 		}
 
-		Object returnValue = methodEndpoint.invoke(args);
+		Object returnValue = invokeMethod(messageContext, methodEndpoint, args);
 
 		if (logger.isTraceEnabled()) {
 			logger.trace("Method [" + methodEndpoint + "] returned [" + returnValue + "]");
 		}
 
 		Class<?> returnType = methodEndpoint.getMethod().getReturnType();
-		if (!Void.TYPE.equals(returnType)) {
+		if (isAsyncReturnType(returnType)) {
+			MethodParameter resultType = getResultType(methodEndpoint.getReturnType());
+			Object result = awaitResult(returnValue, methodEndpoint);
+			if (!Void.TYPE.equals(resultType.getParameterType())) {
+				handleMethodReturnValue(messageContext, result, resultType);
+			}
+		}
+		else if (!Void.TYPE.equals(returnType)) {
 			handleMethodReturnValue(messageContext, returnValue, methodEndpoint);
 		}
 	}
 
+	private Object invokeMethod(MessageContext messageContext, MethodEndpoint methodEndpoint, Object[] args)
+			throws Exception {
+		Bulkhead bulkhead = (this.bulkheadRegistry != null)
+				? this.bulkheadRegistry.resolveBulkhead(methodEndpoint, messageContext.getRequest()) : null;
+		if (bulkhead == null) {
+			return methodEndpoint.invoke(args);
+		}
+		if (logger.isTraceEnabled()) {
+			logger.trace("Invoking [" + methodEndpoint + "] in " + bulkhead);
+		}
+		return bulkhead.execute(() -> methodEndpoint.invoke(args));
+	}
+
+	private boolean isAsyncReturnType(Class<?> returnType) {
+		return CompletionStage.class.isAssignableFrom(returnType) || getReactiveAdapter(returnType) != null;
+	}
+
+	private ReactiveAdapter getReactiveAdapter(Class<?> returnType) {
+		if (!reactiveStreamsPresent) {
+			return null;
+		}
+		ReactiveAdapter adapter = ReactiveAdapterRegistry.getSharedInstance().getAdapter(returnType);
+		return (adapter != null && !adapter.isMultiValue()) ? adapter : null;
+	}
+
+	/**
+	 * Returns the type of the result of the given return type: the type of the value
+	 * produced by a {@link CompletionStage} or reactive type, or the return type itself.
+	 */
+	private MethodParameter getResultType(MethodParameter returnType) {
+		return isAsyncReturnType(returnType.getParameterType()) ? new AsyncResultMethodParameter(returnType)
+				: returnType;
+	}
+
+	private Object awaitResult(Object returnValue, MethodEndpoint methodEndpoint) throws Exception {
+		if (returnValue == null) {
+			return null;
+		}
+		CompletableFuture<?> future;
+		if (returnValue instanceof CompletionStage<?> stage) {
+			future = stage.toCompletableFuture();
+		}
+		else {
+			future = ReactiveStreamsDelegate.toFuture(getReactiveAdapter(returnValue.getClass()), returnValue);
+		}
+		try {
+			Object result = (this.asyncResultTimeout != null)
+					? future.get(this.asyncResultTimeout.toMillis(), TimeUnit.MILLISECONDS) : future.get();
+			if (logger.isTraceEnabled()) {
+				logger.trace("Method [" + methodEndpoint + "] completed with [" + result + "]");
+			}
+			return result;
+		}
+		catch (ExecutionException ex) {
+			if (ex.getCause() instanceof Exception cause) {
+				throw cause;
+			}
+			if (ex.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw ex;
+		}
+		catch (TimeoutException ex) {
+			future.cancel(true);
+			throw ex;
+		}
+		catch (InterruptedException ex) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw ex;
+		}
+	}
+
 	/**
 	 * Returns the argument array for the given method endpoint.
 	 * <p>
@@ -336,7 +469,11 @@ public class DefaultMethodEndpointAdapter extends AbstractMethodEndpointAdapter
 	 */
 	protected void handleMethodReturnValue(MessageContext messageContext, Object returnValue,
 			MethodEndpoint methodEndpoint) throws Exception {
-		MethodParameter returnType = methodEndpoint.getReturnType();
+		handleMethodReturnValue(messageContext, returnValue, methodEndpoint.getReturnType());
+	}
+
+	private void handleMethodReturnValue(MessageContext messageContext, Object returnValue,
+			MethodParameter returnType) throws Exception {
 		for (MethodReturnValueHandler methodReturnValueHandler : methodReturnValueHandlers) {
 			if (methodReturnValueHandler.supportsReturnType(returnType)) {
 				methodReturnValueHandler.handleReturnValue(messageContext, returnType, returnValue);
@@ -347,4 +484,88 @@ public class DefaultMethodEndpointAdapter extends AbstractMethodEndpointAdapter
 				"Return value [" + returnValue + "] not resolved by any MethodReturnValueHandler");
 	}
 
+	/**
+	 * {@link MethodParameter} for the value produced by an asynchronous return type, so
+	 * that return value handlers see the same type as for a synchronous method.
+	 */
+	private static final class AsyncResultMethodParameter extends MethodParameter {
+
+		private final ResolvableType resultType;
+
+		private AsyncResultMethodParameter(MethodParameter returnType) {
+			super(returnType);
+			ResolvableType type = ResolvableType.forMethodParameter(returnType);
+			if (CompletionStage.class.isAssignableFrom(returnType.getParameterType())) {
+				type = type.as(CompletionStage.class);
+			}
+			this.resultType = type.getGeneric(0);
+		}
+
+		private AsyncResultMethodParameter(AsyncResultMethodParameter original) {
+			super(original);
+			this.resultType = original.resultType;
+		}
+
+		@Override
+		public Class<?> getParameterType() {
+			Class<?> type = this.resultType.toClass();
+			return Void.class.equals(type) ? Void.TYPE : type;
+		}
+
+		@Override
+		public Type getGenericParameterType() {
+			return this.resultType.getType();
+		}
+
+		@Override
+		public AsyncResultMethodParameter clone() {
+			return new AsyncResultMethodParameter(this);
+		}
+
+	}
+
+	/**
+	 * Inner class to avoid a hard dependency on Reactive Streams.
+	 */
+	private static final class ReactiveStreamsDelegate {
+
+		static CompletableFuture<Object> toFuture(ReactiveAdapter adapter, Object returnValue) {
+			CompletableFuture<Object> future = new CompletableFuture<>();
+			adapter.toPublisher(returnValue).subscribe(new Subscriber<Object>() {
+
+				private Subscription subscription;
+
+				@Override
+				public void onSubscribe(Subscription subscription) {
+					this.subscription = subscription;
+					future.whenComplete((result, ex) -> {
+						if (future.isCancelled()) {
+							subscription.cancel();
+						}
+					});
+					subscription.request(1);
+				}
+
+				@Override
+				public void onNext(Object value) {
+					future.complete(value);
+					this.subscription.cancel();
+				}
+
+				@Override
+				public void onError(Throwable ex) {
+					future.completeExceptionally(ex);
+				}
+
+				@Override
+				public void onComplete() {
+					future.complete(null);
+				}
+
+			});
+			return future;
+		}
+
+	}
+
 }
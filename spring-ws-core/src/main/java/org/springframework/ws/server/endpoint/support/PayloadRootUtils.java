@@ -16,26 +16,11 @@
 
 package org.springframework.ws.server.endpoint.support;
 
-import java.io.InputStream;
-import java.io.Reader;
-
 import javax.xml.namespace.QName;
-import javax.xml.stream.XMLEventReader;
-import javax.xml.stream.XMLStreamConstants;
-import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.XMLStreamReader;
-import javax.xml.stream.events.XMLEvent;
 import javax.xml.transform.Source;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMResult;
-
-import org.w3c.dom.Document;
-import org.w3c.dom.Node;
-import org.xml.sax.InputSource;
-import org.xml.sax.XMLReader;
 
-import org.springframework.xml.namespace.QNameUtils;
 import org.springframework.xml.transform.TransformerHelper;
 import org.springframework.xml.transform.TraxUtils;
 
@@ -64,98 +49,7 @@ public abstract class PayloadRootUtils {
 
 	public static QName getPayloadRootQName(Source source, TransformerHelper transformerHelper)
 			throws TransformerException {
-		if (source == null) {
-			return null;
-		}
-		try {
-			PayloadRootSourceCallback callback = new PayloadRootSourceCallback();
-			TraxUtils.doWithSource(source, callback);
-			if (callback.result != null) {
-				return callback.result;
-			}
-			else {
-				// we have no other option than to transform
-				DOMResult domResult = new DOMResult();
-				transformerHelper.transform(source, domResult);
-				Document document = (Document) domResult.getNode();
-				return QNameUtils.getQNameForNode(document.getDocumentElement());
-			}
-		}
-		catch (TransformerException ex) {
-			throw ex;
-		}
-		catch (Exception ex) {
-			return null;
-		}
-	}
-
-	private static class PayloadRootSourceCallback implements TraxUtils.SourceCallback {
-
-		private QName result;
-
-		@Override
-		public void domSource(Node node) throws Exception {
-			if (node.getNodeType() == Node.ELEMENT_NODE) {
-				result = QNameUtils.getQNameForNode(node);
-			}
-			else if (node.getNodeType() == Node.DOCUMENT_NODE) {
-				Document document = (Document) node;
-				result = QNameUtils.getQNameForNode(document.getDocumentElement());
-			}
-		}
-
-		@Override
-		public void staxSource(XMLEventReader eventReader) throws Exception {
-			XMLEvent event = eventReader.peek();
-			if (event != null && event.isStartDocument()) {
-				event = eventReader.nextTag();
-			}
-			if (event != null) {
-				if (event.isStartElement()) {
-					result = event.asStartElement().getName();
-				}
-				else if (event.isEndElement()) {
-					result = event.asEndElement().getName();
-				}
-			}
-		}
-
-		@Override
-		public void staxSource(XMLStreamReader streamReader) throws Exception {
-			if (streamReader.getEventType() == XMLStreamConstants.START_DOCUMENT) {
-				try {
-					streamReader.nextTag();
-				}
-				catch (XMLStreamException ex) {
-					throw new IllegalStateException("Could not read next tag: " + ex.getMessage(), ex);
-				}
-			}
-			if (streamReader.getEventType() == XMLStreamConstants.START_ELEMENT
-					|| streamReader.getEventType() == XMLStreamConstants.END_ELEMENT) {
-				result = streamReader.getName();
-			}
-		}
-
-		@Override
-		public void saxSource(XMLReader reader, InputSource inputSource) throws Exception {
-			// Do nothing
-		}
-
-		@Override
-		public void streamSource(InputStream inputStream) throws Exception {
-			// Do nothing
-		}
-
-		@Override
-		public void streamSource(Reader reader) throws Exception {
-			// Do nothing
-		}
-
-		@Override
-		public void source(String systemId) throws Exception {
-			// Do nothing
-		}
-
+		return TraxUtils.getRootElementName(source, transformerHelper);
 	}
 
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.ws.server.endpoint.support;
+
+import java.security.Principal;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.ClassUtils;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.transport.support.TransportUtils;
+
+/**
+ * Helper class for determining the principal that sent a Web Service request.
+ *
+ * @since 4.0.12
+ */
+public abstract class PrincipalUtils {
+
+	/**
+	 * Name of the {@link MessageContext} property that holds the {@link Principal}
+	 * authenticated by message-level security, such as a WS-Security header. Set by the
+	 * security interceptors of Spring Web Services.
+	 */
+	public static final String PRINCIPAL_PROPERTY = PrincipalUtils.class.getName() + ".PRINCIPAL";
+
+	private static final boolean springSecurityPresent = ClassUtils.isPresent(
+			"org.springframework.security.core.context.SecurityContextHolder", PrincipalUtils.class.getClassLoader());
+
+	private PrincipalUtils() {
+	}
+
+	/**
+	 * Returns the principal that sent the request of the given message context. That is,
+	 * in order:
+	 * <ol>
+	 * <li>the principal in the {@link #PRINCIPAL_PROPERTY} property of the message
+	 * context,</li>
+	 * <li>the non-anonymous authentication in the Spring Security
+	 * {@code SecurityContext}, if Spring Security is present,</li>
+	 * <li>the principal authenticated by the transport, if any.</li>
+	 * </ol>
+	 * @param messageContext the message context
+	 * @return the principal, or {@code null} if the request was not authenticated
+	 */
+	public static Principal getPrincipal(MessageContext messageContext) {
+		if (messageContext.getProperty(PRINCIPAL_PROPERTY) instanceof Principal principal) {
+			return principal;
+		}
+		if (springSecurityPresent) {
+			Principal principal = SpringSecurityDelegate.getAuthentication();
+			if (principal != null) {
+				return principal;
+			}
+		}
+		return TransportUtils.getUserPrincipal();
+	}
+
+	/**
+	 * Inner class to avoid a hard dependency on Spring Security.
+	 */
+	private static final class SpringSecurityDelegate {
+
+		private static Principal getAuthentication() {
+			Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+			if (authentication != null && authentication.isAuthenticated()
+					&& !(authentication instanceof AnonymousAuthenticationToken)) {
+				return authentication;
+			}
+			return null;
+		}
+
+	}
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.ws.server.observation;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import org.springframework.ws.server.observation.MessageDispatchObservationDocumentation.PhaseKeyNames;
+
+/**
+ * The phases of the dispatch of a Web service message, each observed as a
+ * {@link MessageDispatchObservationDocumentation#DISPATCH_PHASE} observation.
+ *
+ * @since 4.0.12
+ */
+public enum DispatchPhase {
+
+	/**
+	 * Reading and parsing the request from the connection.
+	 */
+	MESSAGE_PARSE("message.parse"),
+
+	/**
+	 * Mapping the request to an endpoint.
+	 */
+	ENDPOINT_MAPPING("endpoint.mapping"),
+
+	/**
+	 * Invoking an {@link org.springframework.ws.server.EndpointInterceptor
+	 * EndpointInterceptor}, for the request or the response.
+	 */
+	INTERCEPTOR("interceptor"),
+
+	/**
+	 * Invoking the endpoint through its {@link org.springframework.ws.server.EndpointAdapter
+	 * EndpointAdapter}.
+	 */
+	ENDPOINT_INVOCATION("endpoint.invocation"),
+
+	/**
+	 * Resolving an exception thrown by the endpoint or an interceptor.
+	 */
+	EXCEPTION_RESOLUTION("exception.resolution"),
+
+	/**
+	 * Writing the response to the connection.
+	 */
+	RESPONSE_WRITE("response.write");
+
+	private final String value;
+
+	DispatchPhase(String value) {
+		this.value = value;
+	}
+
+	/**
+	 * Returns the value of the {@link PhaseKeyNames#PHASE} key of this phase.
+	 */
+	public String getValue() {
+		return this.value;
+	}
+
+	/**
+	 * Creates a not yet started observation of this phase, nested in the current
+	 * observation of the given registry.
+	 * @param component the short class name of the component invoked during the phase;
+	 * may be {@code null}
+	 * @param registry the registry to create the observation with
+	 * @return the observation, which is a no-op if the registry is a no-op
+	 */
+	public Observation observation(String component, ObservationRegistry registry) {
+		return MessageDispatchObservationDocumentation.DISPATCH_PHASE.observation(registry)
+			.parentObservation(registry.getCurrentObservation())
+			.lowCardinalityKeyValue(PhaseKeyNames.PHASE.asString(), this.value)
+			.lowCardinalityKeyValue(PhaseKeyNames.COMPONENT.asString(),
+					(component != null) ? component : KeyValue.NONE_VALUE);
+	}
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.ws.server.observation;
+
+import io.micrometer.observation.Observation;
+
+import org.springframework.util.Assert;
+import org.springframework.ws.context.MessageContext;
+
+/**
+ * Context that holds information for the observation of the dispatch of a Web service
+ * message.
+ * <p>
+ * The context is stored in the {@link MessageContext} under {@link #PROPERTY_NAME}, so
+ * that the {@link org.springframework.ws.server.MessageDispatcher MessageDispatcher}
+ * completes the observation started by the transport, if any, rather than starting its
+ * own.
+ * <p>
+ * The {@linkplain #getOperation() operation} of a message is derived from the endpoint it
+ * was mapped to, or is {@link #UNKNOWN_OPERATION} if the message was not mapped to an
+ * endpoint. Operations are not taken from request headers, so that the number of
+ * distinct values is bounded by the number of endpoints rather than by the requests sent.
+ *
+ * @since 4.0.12
+ * @see MessageDispatchObservationDocumentation
+ */
+public class MessageDispatchObservationContext extends Observation.Context {
+
+	/**
+	 * The name of the {@link MessageContext} property that holds the current observation
+	 * context.
+	 */
+	public static final String PROPERTY_NAME = MessageDispatchObservationContext.class.getName();
+
+	/**
+	 * The operation of messages that were not mapped to an endpoint.
+	 */
+	public static final String UNKNOWN_OPERATION = "UNKNOWN";
+
+	private MessageContext messageContext;
+
+	private String operation = UNKNOWN_OPERATION;
+
+	/**
+	 * Returns the observation context stored in the given message context, if any.
+	 * @param messageContext the message context
+	 * @return the observation context, or {@code null} if the message is not observed
+	 */
+	public static MessageDispatchObservationContext get(MessageContext messageContext) {
+		return (MessageDispatchObservationContext) messageContext.getProperty(PROPERTY_NAME);
+	}
+
+	/**
+	 * Stores this observation context in the given message context.
+	 * @param messageContext the message context of the observed message
+	 */
+	public void bind(MessageContext messageContext) {
+		Assert.notNull(messageContext, "messageContext must not be null");
+		this.messageContext = messageContext;
+		messageContext.setProperty(PROPERTY_NAME, this);
+	}
+
+	/**
+	 * Returns the message context of the observed message, or {@code null} if the request
+	 * has not been read yet.
+	 */
+	public MessageContext getMessageContext() {
+		return this.messageContext;
+	}
+
+	/**
+	 * Returns the operation of the message, or {@link #UNKNOWN_OPERATION} if it is not
+	 * known.
+	 */
+	public String getOperation() {
+		return this.operation;
+	}
+
+	/**
+	 * Sets the operation of the message.
+	 */
+	public void setOperation(String operation) {
+		Assert.hasLength(operation, "operation must not be empty");
+		this.operation = operation;
+	}
+
+}
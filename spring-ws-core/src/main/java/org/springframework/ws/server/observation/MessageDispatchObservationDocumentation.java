@@ -0,0 +1,147 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.ws.server.observation;
+
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationConvention;
+import io.micrometer.observation.docs.ObservationDocumentation;
+
+/**
+ * Documented {@link KeyName KeyNames} for the observations of the dispatch of Web
+ * service messages.
+ *
+ * @since 4.0.12
+ * @see DefaultMessageDispatchObservationConvention
+ * @see DispatchPhase
+ */
+public enum MessageDispatchObservationDocumentation implements ObservationDocumentation {
+
+	/**
+	 * Observation of the dispatch of a Web service message, from reading the request to
+	 * writing the response.
+	 */
+	MESSAGE_DISPATCH {
+
+		@Override
+		public Class<? extends ObservationConvention<? extends Observation.Context>> getDefaultConvention() {
+			return DefaultMessageDispatchObservationConvention.class;
+		}
+
+		@Override
+		public KeyName[] getLowCardinalityKeyNames() {
+			return LowCardinalityKeyNames.values();
+		}
+
+	},
+
+	/**
+	 * Observation of a single {@linkplain DispatchPhase phase} of the dispatch of a Web
+	 * service message, nested in its {@link #MESSAGE_DISPATCH} observation.
+	 */
+	DISPATCH_PHASE {
+
+		@Override
+		public String getName() {
+			return "spring.ws.server.requests.phase";
+		}
+
+		@Override
+		public KeyName[] getLowCardinalityKeyNames() {
+			return PhaseKeyNames.values();
+		}
+
+	};
+
+	/**
+	 * Low cardinality keys of {@link #MESSAGE_DISPATCH} observations.
+	 */
+	public enum LowCardinalityKeyNames implements KeyName {
+
+		/**
+		 * Name of the endpoint the message was mapped to, or {@code "UNKNOWN"}.
+		 */
+		OPERATION {
+			@Override
+			public String asString() {
+				return "operation";
+			}
+		},
+
+		/**
+		 * Outcome of the dispatch: {@code "SUCCESS"}, {@code "FAULT"}, or {@code "ERROR"}
+		 * if an exception was thrown.
+		 */
+		OUTCOME {
+			@Override
+			public String asString() {
+				return "outcome";
+			}
+		},
+
+		/**
+		 * Fault code of the response, or {@code "none"} if the response is not a fault.
+		 */
+		FAULT_CODE {
+			@Override
+			public String asString() {
+				return "fault.code";
+			}
+		},
+
+		/**
+		 * Simple class name of the exception thrown, or {@code "none"}.
+		 */
+		EXCEPTION {
+			@Override
+			public String asString() {
+				return "exception";
+			}
+		}
+
+	}
+
+	/**
+	 * Low cardinality keys of {@link #DISPATCH_PHASE} observations.
+	 */
+	public enum PhaseKeyNames implements KeyName {
+
+		/**
+		 * The {@linkplain DispatchPhase#getValue() phase}.
+		 */
+		PHASE {
+			@Override
+			public String asString() {
+				return "phase";
+			}
+		},
+
+		/**
+		 * Short class name of the component invoked during the phase, such as an
+		 * interceptor, or {@code "none"}.
+		 */
+		COMPONENT {
+			@Override
+			public String asString() {
+				return "component";
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.soap.addressing.messageid;
+
+import java.net.URI;
+import java.security.SecureRandom;
+import java.util.UUID;
+
+import org.springframework.ws.soap.SoapMessage;
+
+/**
+ * Implementation of the {@link MessageIdStrategy} interface that generates time-ordered,
+ * version 7 {@link UUID UUIDs}, as defined in RFC 9562. The UUID is prefixed by
+ * {@code urn:uuid:}.
+ * <p>
+ * The 48 most significant bits hold the current time in milliseconds; the remaining 74
+ * non-fixed bits are random. Message ids are used to detect duplicate and replayed
+ * messages, so the random bits are drawn from a {@link SecureRandom}. Unlike
+ * {@link UUID#randomUUID()}, which shares a single instance, this strategy keeps one
+ * instance per thread, so that threads generating message ids do not contend with each
+ * other.
+ *
+ * @since 4.0.12
+ * @see UuidMessageIdStrategy
+ */
+public class TimeOrderedUuidMessageIdStrategy implements MessageIdStrategy {
+
+	private static final ThreadLocal<SecureRandom> random = ThreadLocal.withInitial(SecureRandom::new);
+
+	/** Returns {@code false}. */
+	@Override
+	public boolean isDuplicate(URI messageId) {
+		return false;
+	}
+
+	@Override
+	public URI newMessageId(SoapMessage message) {
+		return URI.create(UuidMessageIdStrategy.PREFIX + newUuid(System.currentTimeMillis()));
+	}
+
+	static UUID newUuid(long timestamp) {
+		SecureRandom secureRandom = random.get();
+		long mostSigBits = (timestamp << 16) | 0x7000L | (secureRandom.nextInt() & 0x0FFFL);
+		long leastSigBits = (secureRandom.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+		return new UUID(mostSigBits, leastSigBits);
+	}
+
+}
@@ -19,6 +19,8 @@ package org.springframework.ws.soap.addressing.server;
 import java.net.URI;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.BeansException;
 import org.springframework.util.Assert;
@@ -48,6 +50,14 @@ public abstract class AbstractActionEndpointMapping extends AbstractAddressingEn
 	// keys are action URIs, values are endpoints
 	private final Map<URI, Object> endpointMap = new HashMap<>();
 
+	// keys are endpoints, values are their (optional) addresses
+	private final Map<Object, Optional<URI>> endpointAddresses = new ConcurrentHashMap<>();
+
+	// keys are request action URIs, values are the corresponding default reply actions
+	private final Map<URI, URI> responseActions = new ConcurrentHashMap<>();
+
+	private final Map<URI, URI> faultActions = new ConcurrentHashMap<>();
+
 	private String outputActionSuffix = DEFAULT_OUTPUT_ACTION_SUFFIX;
 
 	private String faultActionSuffix = DEFAULT_OUTPUT_ACTION_SUFFIX;
@@ -64,6 +74,7 @@ public abstract class AbstractActionEndpointMapping extends AbstractAddressingEn
 	public void setOutputActionSuffix(String outputActionSuffix) {
 		Assert.hasText(outputActionSuffix, "'outputActionSuffix' must not be empty");
 		this.outputActionSuffix = outputActionSuffix;
+		this.responseActions.clear();
 	}
 
 	/** Returns the suffix to add to request {@code Action}s for reply fault messages. */
@@ -78,6 +89,7 @@ public abstract class AbstractActionEndpointMapping extends AbstractAddressingEn
 	public void setFaultActionSuffix(String faultActionSuffix) {
 		Assert.hasText(faultActionSuffix, "'faultActionSuffix' must not be empty");
 		this.faultActionSuffix = faultActionSuffix;
+		this.faultActions.clear();
 	}
 
 	@Override
@@ -88,7 +100,7 @@ public abstract class AbstractActionEndpointMapping extends AbstractAddressingEn
 		}
 		Object endpoint = lookupEndpoint(action);
 		if (endpoint != null) {
-			URI endpointAddress = getEndpointAddress(endpoint);
+			URI endpointAddress = getCachedEndpointAddress(endpoint);
 			if (endpointAddress == null || endpointAddress.equals(map.getTo())) {
 				return endpoint;
 			}
@@ -96,6 +108,19 @@ public abstract class AbstractActionEndpointMapping extends AbstractAddressingEn
 		return null;
 	}
 
+	/**
+	 * Returns the {@link #getEndpointAddress(Object) address} of the given endpoint,
+	 * which is only determined once per endpoint.
+	 */
+	private URI getCachedEndpointAddress(Object endpoint) {
+		Optional<URI> endpointAddress = this.endpointAddresses.get(endpoint);
+		if (endpointAddress == null) {
+			endpointAddress = Optional.ofNullable(getEndpointAddress(endpoint));
+			this.endpointAddresses.put(endpoint, endpointAddress);
+		}
+		return endpointAddress.orElse(null);
+	}
+
 	/**
 	 * Returns the address property of the given endpoint. The value of this property
 	 * should match the {@link MessageAddressingProperties#getTo() destination} of
@@ -105,6 +130,15 @@ public abstract class AbstractActionEndpointMapping extends AbstractAddressingEn
 	 */
 	protected abstract URI getEndpointAddress(Object endpoint);
 
+	/**
+	 * Clears the endpoint addresses determined so far. Subclasses should call this
+	 * method when the result of {@link #getEndpointAddress(Object)} changes.
+	 * @since 4.0.12
+	 */
+	protected void clearEndpointAddresses() {
+		this.endpointAddresses.clear();
+	}
+
 	/**
 	 * Looks up an endpoint instance for the given action. All keys are tried in order.
 	 * @param action the action URI
@@ -142,6 +176,7 @@ public abstract class AbstractActionEndpointMapping extends AbstractAddressingEn
 		}
 		else {
 			this.endpointMap.put(action, resolvedEndpoint);
+			this.endpointAddresses.remove(resolvedEndpoint);
 			if (logger.isDebugEnabled()) {
 				logger.debug("Mapped Action [" + action + "] onto endpoint [" + resolvedEndpoint + "]");
 			}
@@ -152,7 +187,7 @@ public abstract class AbstractActionEndpointMapping extends AbstractAddressingEn
 	protected URI getResponseAction(Object endpoint, MessageAddressingProperties requestMap) {
 		URI requestAction = requestMap.getAction();
 		if (requestAction != null) {
-			return URI.create(requestAction + getOutputActionSuffix());
+			return getSuffixedAction(this.responseActions, requestAction, getOutputActionSuffix());
 		}
 		else {
 			return null;
@@ -163,11 +198,19 @@ public abstract class AbstractActionEndpointMapping extends AbstractAddressingEn
 	protected URI getFaultAction(Object endpoint, MessageAddressingProperties requestMap) {
 		URI requestAction = requestMap.getAction();
 		if (requestAction != null) {
-			return URI.create(requestAction + getFaultActionSuffix());
+			return getSuffixedAction(this.faultActions, requestAction, getFaultActionSuffix());
 		}
 		else {
 			return null;
 		}
 	}
 
+	private URI getSuffixedAction(Map<URI, URI> actions, URI requestAction, String suffix) {
+		// only cache actions that are mapped, so that the cache is bounded
+		if (!this.endpointMap.containsKey(requestAction)) {
+			return URI.create(requestAction + suffix);
+		}
+		return actions.computeIfAbsent(requestAction, action -> URI.create(action + suffix));
+	}
+
 }
@@ -17,9 +17,9 @@
 package org.springframework.ws.soap.addressing.server;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -31,14 +31,13 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.core.Ordered;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.util.Assert;
 import org.springframework.ws.context.MessageContext;
 import org.springframework.ws.server.EndpointInterceptor;
 import org.springframework.ws.server.EndpointInvocationChain;
 import org.springframework.ws.server.EndpointMapping;
 import org.springframework.ws.server.SmartEndpointInterceptor;
-import org.springframework.ws.soap.SoapHeader;
-import org.springframework.ws.soap.SoapHeaderElement;
 import org.springframework.ws.soap.SoapMessage;
 import org.springframework.ws.soap.addressing.core.MessageAddressingProperties;
 import org.springframework.ws.soap.addressing.messageid.MessageIdStrategy;
@@ -67,7 +66,10 @@ import org.springframework.xml.transform.TransformerObjectSupport;
  * <p>
  * The {@link #setMessageSenders(WebServiceMessageSender[]) messageSenders} are used to
  * send out-of-band reply messages. If a request messages defines a non-anonymous reply
- * address, these senders will be used to send the message.
+ * address, these senders will be used to send the message. By default, out-of-band
+ * replies are sent synchronously, before the inbound request completes. Setting an
+ * {@link #setOutOfBandTaskExecutor(TaskExecutor) outOfBandTaskExecutor} acknowledges the
+ * inbound request immediately, and sends the reply from that executor instead.
  * <p>
  * This mapping (and all subclasses) uses an implicit WS-Addressing
  * {@link EndpointInterceptor}, which is added in every {@link EndpointInvocationChain}
@@ -92,6 +94,12 @@ public abstract class AbstractAddressingEndpointMapping extends TransformerObjec
 
 	private WebServiceMessageSender[] messageSenders = new WebServiceMessageSender[0];
 
+	private TaskExecutor outOfBandTaskExecutor;
+
+	private int outOfBandDeliveryAttempts = 1;
+
+	private Duration outOfBandRetryInterval = Duration.ofSeconds(1);
+
 	private AddressingVersion[] versions;
 
 	private EndpointInterceptor[] preInterceptors = new EndpointInterceptor[0];
@@ -226,6 +234,47 @@ public abstract class AbstractAddressingEndpointMapping extends TransformerObjec
 		return this.messageSenders;
 	}
 
+	/**
+	 * Sets the executor used to send out-of-band reply messages. When set, the inbound
+	 * request is acknowledged without a response (i.e. with HTTP 202 Accepted) as soon as
+	 * the reply has been handed to the executor, instead of waiting for the reply to be
+	 * delivered.
+	 * <p>
+	 * The executor should be bounded. If it rejects a reply, that reply is sent
+	 * synchronously by the inbound thread, slowing down inbound requests while the reply
+	 * endpoints cannot keep up.
+	 * <p>
+	 * By default, out-of-band replies are sent synchronously.
+	 * @param outOfBandTaskExecutor the executor, or {@code null} to send synchronously
+	 * @since 4.0.12
+	 */
+	public final void setOutOfBandTaskExecutor(TaskExecutor outOfBandTaskExecutor) {
+		this.outOfBandTaskExecutor = outOfBandTaskExecutor;
+	}
+
+	/**
+	 * Sets the number of attempts made to send an out-of-band reply message before giving
+	 * up. Default is 1, meaning that failed deliveries are not retried.
+	 * @param outOfBandDeliveryAttempts the number of delivery attempts
+	 * @since 4.0.12
+	 */
+	public final void setOutOfBandDeliveryAttempts(int outOfBandDeliveryAttempts) {
+		Assert.isTrue(outOfBandDeliveryAttempts > 0, "'outOfBandDeliveryAttempts' must be positive");
+		this.outOfBandDeliveryAttempts = outOfBandDeliveryAttempts;
+	}
+
+	/**
+	 * Sets the interval between attempts to send an out-of-band reply message. Default is
+	 * one second.
+	 * @param outOfBandRetryInterval the retry interval
+	 * @since 4.0.12
+	 * @see #setOutOfBandDeliveryAttempts(int)
+	 */
+	public final void setOutOfBandRetryInterval(Duration outOfBandRetryInterval) {
+		Assert.notNull(outOfBandRetryInterval, "'outOfBandRetryInterval' must not be null");
+		this.outOfBandRetryInterval = outOfBandRetryInterval;
+	}
+
 	/**
 	 * Sets the WS-Addressing versions to be supported by this mapping.
 	 * <p>
@@ -261,7 +310,8 @@ public abstract class AbstractAddressingEndpointMapping extends TransformerObjec
 				if (logger.isDebugEnabled()) {
 					logger.debug("Request [" + request + "] uses [" + version + "]");
 				}
-				MessageAddressingProperties requestMap = version.getMessageAddressingProperties(request);
+				MessageAddressingProperties requestMap = MessageAddressingPropertiesCache
+					.getMessageAddressingProperties(messageContext, version);
 				if (requestMap == null) {
 					return null;
 				}
@@ -290,7 +340,8 @@ public abstract class AbstractAddressingEndpointMapping extends TransformerObjec
 		List<EndpointInterceptor> interceptors = new ArrayList<>(Arrays.asList(preInterceptors));
 
 		AddressingEndpointInterceptor addressingInterceptor = new AddressingEndpointInterceptor(version,
-				messageIdStrategy, messageSenders, responseAction, faultAction);
+				messageIdStrategy, messageSenders, responseAction, faultAction, outOfBandTaskExecutor,
+				outOfBandDeliveryAttempts, outOfBandRetryInterval.toMillis());
 		interceptors.add(addressingInterceptor);
 		interceptors.addAll(Arrays.asList(postInterceptors));
 
@@ -307,16 +358,7 @@ public abstract class AbstractAddressingEndpointMapping extends TransformerObjec
 	}
 
 	private boolean supports(AddressingVersion version, SoapMessage request) {
-		SoapHeader header = request.getSoapHeader();
-		if (header != null) {
-			for (Iterator<SoapHeaderElement> iterator = header.examineAllHeaderElements(); iterator.hasNext();) {
-				SoapHeaderElement headerElement = iterator.next();
-				if (version.understands(headerElement)) {
-					return true;
-				}
-			}
-		}
-		return false;
+		return MessageAddressingPropertiesCache.supports(version, request);
 	}
 
 	/**
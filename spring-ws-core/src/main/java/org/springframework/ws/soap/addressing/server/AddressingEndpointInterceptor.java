@@ -22,7 +22,10 @@ import java.net.URI;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.util.Assert;
+import org.springframework.ws.WebServiceMessage;
 import org.springframework.ws.context.MessageContext;
 import org.springframework.ws.soap.SoapHeaderElement;
 import org.springframework.ws.soap.SoapMessage;
@@ -55,23 +58,39 @@ class AddressingEndpointInterceptor implements SoapEndpointInterceptor {
 
 	private URI faultAction;
 
+	private final TaskExecutor outOfBandTaskExecutor;
+
+	private final int outOfBandDeliveryAttempts;
+
+	private final long outOfBandRetryIntervalMillis;
+
 	AddressingEndpointInterceptor(AddressingVersion version, MessageIdStrategy messageIdStrategy,
 			WebServiceMessageSender[] messageSenders, URI replyAction, URI faultAction) {
+		this(version, messageIdStrategy, messageSenders, replyAction, faultAction, null, 1, 0);
+	}
+
+	AddressingEndpointInterceptor(AddressingVersion version, MessageIdStrategy messageIdStrategy,
+			WebServiceMessageSender[] messageSenders, URI replyAction, URI faultAction,
+			TaskExecutor outOfBandTaskExecutor, int outOfBandDeliveryAttempts, long outOfBandRetryIntervalMillis) {
 		Assert.notNull(version, "version must not be null");
 		Assert.notNull(messageIdStrategy, "messageIdStrategy must not be null");
 		Assert.notNull(messageSenders, "'messageSenders' must not be null");
+		Assert.isTrue(outOfBandDeliveryAttempts > 0, "'outOfBandDeliveryAttempts' must be positive");
 		this.version = version;
 		this.messageIdStrategy = messageIdStrategy;
 		this.messageSenders = messageSenders;
 		this.replyAction = replyAction;
 		this.faultAction = faultAction;
+		this.outOfBandTaskExecutor = outOfBandTaskExecutor;
+		this.outOfBandDeliveryAttempts = outOfBandDeliveryAttempts;
+		this.outOfBandRetryIntervalMillis = outOfBandRetryIntervalMillis;
 	}
 
 	@Override
 	public final boolean handleRequest(MessageContext messageContext, Object endpoint) throws Exception {
 		Assert.isInstanceOf(SoapMessage.class, messageContext.getRequest());
-		SoapMessage request = (SoapMessage) messageContext.getRequest();
-		MessageAddressingProperties requestMap = version.getMessageAddressingProperties(request);
+		MessageAddressingProperties requestMap = MessageAddressingPropertiesCache
+			.getMessageAddressingProperties(messageContext, version);
 		if (!version.hasRequiredProperties(requestMap)) {
 			version.addMessageAddressingHeaderRequiredFault((SoapMessage) messageContext.getResponse());
 			return false;
@@ -96,8 +115,8 @@ class AddressingEndpointInterceptor implements SoapEndpointInterceptor {
 	private boolean handleResponseOrFault(MessageContext messageContext, boolean isFault) throws Exception {
 		Assert.isInstanceOf(SoapMessage.class, messageContext.getRequest());
 		Assert.isInstanceOf(SoapMessage.class, messageContext.getResponse());
-		MessageAddressingProperties requestMap = version
-			.getMessageAddressingProperties((SoapMessage) messageContext.getRequest());
+		MessageAddressingProperties requestMap = MessageAddressingPropertiesCache
+			.getMessageAddressingProperties(messageContext, version);
 		EndpointReference replyEpr = !isFault ? requestMap.getReplyTo() : requestMap.getFaultTo();
 		if (handleNoneAddress(messageContext, replyEpr)) {
 			return false;
@@ -145,22 +164,83 @@ class AddressingEndpointInterceptor implements SoapEndpointInterceptor {
 					+ "] reply address; sending out-of-band reply [" + messageContext.getResponse() + "]");
 		}
 
-		boolean supported = false;
+		URI address = replyEpr.getAddress();
+		WebServiceMessageSender messageSender = getMessageSender(address);
+		if (messageSender == null) {
+			if (logger.isWarnEnabled()) {
+				logger.warn("Could not send out-of-band response to [" + address + "]. "
+						+ "Configure WebServiceMessageSenders which support this uri.");
+			}
+			return;
+		}
+		WebServiceMessage response = messageContext.getResponse();
+		messageContext.clearResponse();
+		if (outOfBandTaskExecutor != null) {
+			try {
+				outOfBandTaskExecutor.execute(() -> deliverAsynchronously(messageSender, address, response));
+				return;
+			}
+			catch (TaskRejectedException ex) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Out-of-band executor rejected reply to [" + address + "]; sending synchronously");
+				}
+			}
+		}
+		deliver(messageSender, address, response);
+	}
+
+	private WebServiceMessageSender getMessageSender(URI address) {
 		for (WebServiceMessageSender messageSender : messageSenders) {
-			if (messageSender.supports(replyEpr.getAddress())) {
-				supported = true;
-				try (WebServiceConnection connection = messageSender.createConnection(replyEpr.getAddress())) {
-					connection.send(messageContext.getResponse());
-					break;
+			if (messageSender.supports(address)) {
+				return messageSender;
+			}
+		}
+		return null;
+	}
+
+	private void deliverAsynchronously(WebServiceMessageSender messageSender, URI address,
+			WebServiceMessage response) {
+		try {
+			deliver(messageSender, address, response);
+		}
+		catch (IOException ex) {
+			logger.error("Could not send out-of-band response to [" + address + "]", ex);
+		}
+	}
+
+	private void deliver(WebServiceMessageSender messageSender, URI address, WebServiceMessage response)
+			throws IOException {
+		for (int attempt = 1;; attempt++) {
+			try (WebServiceConnection connection = messageSender.createConnection(address)) {
+				connection.send(response);
+				return;
+			}
+			catch (IOException ex) {
+				if (attempt >= outOfBandDeliveryAttempts) {
+					throw ex;
+				}
+				if (logger.isDebugEnabled()) {
+					logger.debug("Attempt " + attempt + " to send out-of-band response to [" + address
+							+ "] failed; retrying", ex);
 				}
-				finally {
-					messageContext.clearResponse();
+				if (!sleep(outOfBandRetryIntervalMillis)) {
+					throw ex;
 				}
 			}
 		}
-		if (!supported && logger.isWarnEnabled()) {
-			logger.warn("Could not send out-of-band response to [" + replyEpr.getAddress() + "]. "
-					+ "Configure WebServiceMessageSenders which support this uri.");
+	}
+
+	private static boolean sleep(long millis) {
+		if (millis <= 0) {
+			return true;
+		}
+		try {
+			Thread.sleep(millis);
+			return true;
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return false;
 		}
 	}
 
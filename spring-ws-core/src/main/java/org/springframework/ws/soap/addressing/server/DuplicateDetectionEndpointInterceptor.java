@@ -0,0 +1,363 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.soap.addressing.server;
+
+import java.io.OutputStream;
+import java.net.URI;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.xml.transform.Source;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.stream.StreamResult;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.util.Assert;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.server.EndpointInterceptor;
+import org.springframework.ws.server.endpoint.support.PrincipalUtils;
+import org.springframework.ws.soap.SoapBody;
+import org.springframework.ws.soap.SoapMessage;
+import org.springframework.ws.soap.addressing.core.MessageAddressingProperties;
+import org.springframework.ws.soap.addressing.version.Addressing10;
+import org.springframework.ws.soap.addressing.version.Addressing200408;
+import org.springframework.ws.soap.addressing.version.AddressingVersion;
+import org.springframework.ws.support.SerializedWebServiceMessage;
+import org.springframework.xml.transform.TransformerHelper;
+
+/**
+ * {@link EndpointInterceptor} that detects requests carrying a WS-Addressing
+ * {@code MessageID} that was seen recently, typically because a client retried a request.
+ * Duplicate requests are not passed on to the endpoint.
+ * <p>
+ * Message ids are remembered per {@link #getPrincipal(MessageContext) principal}, so that
+ * clients cannot interfere with each other's requests, and a request is only considered a
+ * duplicate if its payload is also that of the original request; other requests are
+ * passed on to the endpoint.
+ * <p>
+ * By default, duplicates are answered with a client or sender SOAP fault. When
+ * {@link #setReplayResponses(boolean) replayResponses} is enabled, the response of the
+ * original request is kept, and returned for its duplicates. Duplicates of a request
+ * that is still being processed, or whose response is too large to be kept, are still
+ * answered with a fault. Requests that result in a fault or an exception are forgotten,
+ * so that they can be retried.
+ * <p>
+ * Message ids are remembered for a {@link #setWindow(Duration) window} of five minutes
+ * by default, and at most {@link #setMaxEntries(int) 10000} are kept. This interceptor
+ * can be registered as a pre- or post-interceptor of an
+ * {@link AbstractAddressingEndpointMapping}, or on any other endpoint mapping.
+ *
+ * @since 4.0.12
+ * @see org.springframework.ws.soap.addressing.messageid.MessageIdStrategy#isDuplicate(URI)
+ */
+public class DuplicateDetectionEndpointInterceptor implements EndpointInterceptor {
+
+	/** The default maximum number of remembered message ids. */
+	public static final int DEFAULT_MAX_ENTRIES = 10000;
+
+	/** The default time during which message ids are remembered. */
+	public static final Duration DEFAULT_WINDOW = Duration.ofMinutes(5);
+
+	/** The default maximum size of a replayed response, in bytes. */
+	public static final int DEFAULT_MAX_RESPONSE_SIZE = 64 * 1024;
+
+	/** The default fault string or reason of the fault returned for duplicates. */
+	public static final String DEFAULT_FAULTSTRING_OR_REASON = "Duplicate request";
+
+	private static final String KEY_PROPERTY = DuplicateDetectionEndpointInterceptor.class.getName() + ".KEY";
+
+	private static final Log logger = LogFactory.getLog(DuplicateDetectionEndpointInterceptor.class);
+
+	private final Map<Key, Entry> entries = new LinkedHashMap<>();
+
+	private final TransformerHelper transformerHelper = new TransformerHelper();
+
+	private AddressingVersion[] versions = new AddressingVersion[] { new Addressing200408(), new Addressing10() };
+
+	private boolean replayResponses;
+
+	private int maxEntries = DEFAULT_MAX_ENTRIES;
+
+	private long windowMillis = DEFAULT_WINDOW.toMillis();
+
+	private int maxResponseSize = DEFAULT_MAX_RESPONSE_SIZE;
+
+	private String faultStringOrReason = DEFAULT_FAULTSTRING_OR_REASON;
+
+	private Locale faultStringOrReasonLocale = Locale.ENGLISH;
+
+	private Clock clock = Clock.systemUTC();
+
+	private long duplicateCount;
+
+	/**
+	 * Sets the WS-Addressing versions supported by this interceptor. By default, these
+	 * are {@link Addressing200408} and {@link Addressing10}.
+	 */
+	public void setVersions(AddressingVersion[] versions) {
+		Assert.notEmpty(versions, "'versions' must not be empty");
+		this.versions = versions;
+	}
+
+	/**
+	 * Sets whether the response of the original request is returned for its duplicates.
+	 * Default is {@code false}, meaning that duplicates are answered with a fault.
+	 */
+	public void setReplayResponses(boolean replayResponses) {
+		this.replayResponses = replayResponses;
+	}
+
+	/**
+	 * Sets the maximum number of remembered message ids. When exceeded, the oldest ones
+	 * are forgotten. Default is {@value #DEFAULT_MAX_ENTRIES}.
+	 */
+	public void setMaxEntries(int maxEntries) {
+		Assert.isTrue(maxEntries > 0, "'maxEntries' must be positive");
+		this.maxEntries = maxEntries;
+	}
+
+	/**
+	 * Sets the time during which message ids are remembered. Default is five minutes.
+	 */
+	public void setWindow(Duration window) {
+		Assert.notNull(window, "'window' must not be null");
+		Assert.isTrue(!window.isNegative() && !window.isZero(), "'window' must be positive");
+		this.windowMillis = window.toMillis();
+	}
+
+	/**
+	 * Sets the maximum size of a response kept for replay, in bytes. Duplicates of
+	 * requests with larger responses are answered with a fault. Default is 64 KB.
+	 */
+	public void setMaxResponseSize(int maxResponseSize) {
+		this.maxResponseSize = maxResponseSize;
+	}
+
+	/**
+	 * Sets the fault string or reason of the fault returned for duplicates. Default is
+	 * {@value #DEFAULT_FAULTSTRING_OR_REASON}.
+	 */
+	public void setFaultStringOrReason(String faultStringOrReason) {
+		this.faultStringOrReason = faultStringOrReason;
+	}
+
+	/**
+	 * Sets the locale of the fault string or reason. Default is English.
+	 */
+	public void setFaultStringOrReasonLocale(Locale faultStringOrReasonLocale) {
+		this.faultStringOrReasonLocale = faultStringOrReasonLocale;
+	}
+
+	void setClock(Clock clock) {
+		this.clock = clock;
+	}
+
+	/**
+	 * Returns the number of duplicate requests detected.
+	 */
+	public long getDuplicateCount() {
+		synchronized (this.entries) {
+			return this.duplicateCount;
+		}
+	}
+
+	@Override
+	public boolean handleRequest(MessageContext messageContext, Object endpoint) throws Exception {
+		MessageAddressingProperties map = MessageAddressingPropertiesCache
+			.getMessageAddressingProperties(messageContext, this.versions);
+		URI messageId = (map != null) ? map.getMessageId() : null;
+		if (messageId == null) {
+			return true;
+		}
+		Principal principal = getPrincipal(messageContext);
+		Key key = new Key((principal != null) ? principal.getName() : null, messageId);
+		String fingerprint = createFingerprint(messageContext);
+		long now = this.clock.millis();
+		SerializedWebServiceMessage response;
+		synchronized (this.entries) {
+			expireEntries(now);
+			Entry entry = this.entries.get(key);
+			if (entry == null) {
+				this.entries.put(key, new Entry(now + this.windowMillis, fingerprint));
+				if (this.entries.size() > this.maxEntries) {
+					Iterator<Entry> iterator = this.entries.values().iterator();
+					iterator.next();
+					iterator.remove();
+				}
+				messageContext.setProperty(KEY_PROPERTY, key);
+				return true;
+			}
+			if (!fingerprint.equals(entry.fingerprint)) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Request with MessageID [" + messageId + "] differs from the original request");
+				}
+				return true;
+			}
+			this.duplicateCount++;
+			response = entry.response;
+		}
+		if (response != null) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Duplicate MessageID [" + messageId + "]; replaying original response");
+			}
+			messageContext.readResponse(response.getInputStream());
+		}
+		else {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Duplicate MessageID [" + messageId + "]; returning fault");
+			}
+			SoapBody body = ((SoapMessage) messageContext.getResponse()).getSoapBody();
+			body.addClientOrSenderFault(this.faultStringOrReason, this.faultStringOrReasonLocale);
+		}
+		return false;
+	}
+
+	@Override
+	public boolean handleResponse(MessageContext messageContext, Object endpoint) throws Exception {
+		Key key = (Key) messageContext.getProperty(KEY_PROPERTY);
+		if (key != null && this.replayResponses && messageContext.hasResponse()) {
+			SerializedWebServiceMessage response = SerializedWebServiceMessage.of(messageContext.getResponse(),
+					this.maxResponseSize);
+			if (response != null) {
+				synchronized (this.entries) {
+					Entry entry = this.entries.get(key);
+					if (entry != null) {
+						entry.response = response;
+					}
+				}
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public boolean handleFault(MessageContext messageContext, Object endpoint) throws Exception {
+		forget(messageContext);
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(MessageContext messageContext, Object endpoint, Exception ex) throws Exception {
+		if (ex != null) {
+			forget(messageContext);
+		}
+	}
+
+	/**
+	 * Returns the principal that sent the request of the given message context, if any.
+	 * Message ids are remembered per principal, so that responses are only replayed to
+	 * the principal that sent the original request.
+	 * <p>
+	 * The default implementation returns the principal authenticated by a security
+	 * interceptor, by Spring Security, or by the servlet container, as determined by
+	 * {@link PrincipalUtils#getPrincipal(MessageContext)}.
+	 * @param messageContext the message context
+	 * @return the principal, or {@code null} if the request was not authenticated
+	 */
+	protected Principal getPrincipal(MessageContext messageContext) {
+		return PrincipalUtils.getPrincipal(messageContext);
+	}
+
+	private String createFingerprint(MessageContext messageContext) throws TransformerException {
+		MessageDigest digest = createDigest();
+		Source payload = messageContext.getRequest().getPayloadSource();
+		if (payload != null) {
+			OutputStream os = new DigestOutputStream(OutputStream.nullOutputStream(), digest);
+			this.transformerHelper.transform(payload, new StreamResult(os));
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("SHA-256 is not supported", ex);
+		}
+	}
+
+	private void forget(MessageContext messageContext) {
+		Key key = (Key) messageContext.getProperty(KEY_PROPERTY);
+		if (key != null) {
+			synchronized (this.entries) {
+				this.entries.remove(key);
+			}
+		}
+	}
+
+	private void expireEntries(long now) {
+		for (Iterator<Entry> iterator = this.entries.values().iterator(); iterator.hasNext();) {
+			if (iterator.next().expiresAt > now) {
+				break;
+			}
+			iterator.remove();
+		}
+	}
+
+	private static final class Key {
+
+		private final String principalName;
+
+		private final URI messageId;
+
+		private Key(String principalName, URI messageId) {
+			this.principalName = principalName;
+			this.messageId = messageId;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			return (this == other) || (other instanceof Key that
+					&& Objects.equals(this.principalName, that.principalName) && this.messageId.equals(that.messageId));
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * Objects.hashCode(this.principalName) + this.messageId.hashCode();
+		}
+
+	}
+
+	private static final class Entry {
+
+		private final long expiresAt;
+
+		private final String fingerprint;
+
+		private SerializedWebServiceMessage response;
+
+		private Entry(long expiresAt, String fingerprint) {
+			this.expiresAt = expiresAt;
+			this.fingerprint = fingerprint;
+		}
+
+	}
+
+}
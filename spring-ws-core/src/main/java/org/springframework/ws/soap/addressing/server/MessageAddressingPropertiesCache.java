@@ -0,0 +1,119 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.soap.addressing.server;
+
+import java.util.Iterator;
+
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.soap.SoapHeader;
+import org.springframework.ws.soap.SoapHeaderElement;
+import org.springframework.ws.soap.SoapMessage;
+import org.springframework.ws.soap.addressing.core.MessageAddressingProperties;
+import org.springframework.ws.soap.addressing.version.AddressingVersion;
+
+/**
+ * Keeps the {@link MessageAddressingProperties} of a request on its
+ * {@link MessageContext}, so that the endpoint mappings and interceptors of this package
+ * read the addressing headers of a request only once. Addressing versions are stateless,
+ * so properties read by one instance are reused for any instance of the same class.
+ *
+ * @since 4.0.12
+ */
+final class MessageAddressingPropertiesCache {
+
+	private static final String PROPERTY_NAME = MessageAddressingPropertiesCache.class.getName() + ".PROPERTIES";
+
+	private MessageAddressingPropertiesCache() {
+	}
+
+	/**
+	 * Returns the addressing properties of the request, as read by the given version.
+	 * @param messageContext the message context
+	 * @param version the addressing version
+	 * @return the addressing properties, or {@code null} if not available
+	 */
+	static MessageAddressingProperties getMessageAddressingProperties(MessageContext messageContext,
+			AddressingVersion version) {
+		if (messageContext.getProperty(PROPERTY_NAME) instanceof Entry entry && entry.isReadBy(version)) {
+			return entry.properties;
+		}
+		MessageAddressingProperties properties = version
+			.getMessageAddressingProperties((SoapMessage) messageContext.getRequest());
+		messageContext.setProperty(PROPERTY_NAME, new Entry(version, properties));
+		return properties;
+	}
+
+	/**
+	 * Returns the addressing properties of the request, as read by the first of the given
+	 * versions that understands its headers. Properties read earlier by an instance of
+	 * one of these versions are reused.
+	 * @param messageContext the message context
+	 * @param versions the supported addressing versions
+	 * @return the addressing properties, or {@code null} if the request does not use any
+	 * of the given versions
+	 */
+	static MessageAddressingProperties getMessageAddressingProperties(MessageContext messageContext,
+			AddressingVersion[] versions) {
+		if (messageContext.getProperty(PROPERTY_NAME) instanceof Entry entry) {
+			for (AddressingVersion version : versions) {
+				if (entry.isReadBy(version)) {
+					return entry.properties;
+				}
+			}
+		}
+		if (!(messageContext.getRequest() instanceof SoapMessage request)) {
+			return null;
+		}
+		for (AddressingVersion version : versions) {
+			if (supports(version, request)) {
+				return getMessageAddressingProperties(messageContext, version);
+			}
+		}
+		return null;
+	}
+
+	static boolean supports(AddressingVersion version, SoapMessage request) {
+		SoapHeader header = request.getSoapHeader();
+		if (header != null) {
+			for (Iterator<SoapHeaderElement> iterator = header.examineAllHeaderElements(); iterator.hasNext();) {
+				SoapHeaderElement headerElement = iterator.next();
+				if (version.understands(headerElement)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static final class Entry {
+
+		private final AddressingVersion version;
+
+		private final MessageAddressingProperties properties;
+
+		private Entry(AddressingVersion version, MessageAddressingProperties properties) {
+			this.version = version;
+			this.properties = properties;
+		}
+
+		private boolean isReadBy(AddressingVersion version) {
+			return this.version.getClass() == version.getClass();
+		}
+
+	}
+
+}
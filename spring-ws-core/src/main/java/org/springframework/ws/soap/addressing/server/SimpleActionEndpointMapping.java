@@ -99,6 +99,7 @@ public class SimpleActionEndpointMapping extends AbstractActionEndpointMapping {
 	 */
 	public void setAddress(URI address) {
 		this.address = address;
+		clearEndpointAddresses();
 	}
 
 	@Override
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.soap.saaj;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event for the parsing of a SAAJ message by the
+ * {@link SaajSoapMessageFactory}.
+ *
+ * @since 4.0.12
+ */
+@Name("org.springframework.ws.SaajMessageCreation")
+@Label("SAAJ Message Creation")
+@Category({ "Spring Web Services", "SOAP" })
+@Description("Parsing of a SOAP message from a stream into a SAAJ message")
+class SaajMessageCreationEvent extends Event {
+
+	@Label("Size")
+	@Description("Number of bytes read from the stream, excluding the MIME headers")
+	@DataAmount(DataAmount.BYTES)
+	long size;
+
+	@Label("SOAP Version")
+	String soapVersion;
+
+}
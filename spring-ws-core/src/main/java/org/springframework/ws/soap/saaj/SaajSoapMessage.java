@@ -16,8 +16,6 @@
 
 package org.springframework.ws.soap.saaj;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Iterator;
@@ -40,6 +38,7 @@ import org.w3c.dom.ls.LSOutput;
 import org.w3c.dom.ls.LSSerializer;
 
 import org.springframework.util.Assert;
+import org.springframework.util.FastByteArrayOutputStream;
 import org.springframework.util.ObjectUtils;
 import org.springframework.ws.mime.Attachment;
 import org.springframework.ws.mime.AttachmentException;
@@ -195,10 +194,12 @@ public class SaajSoapMessage extends AbstractSoapMessage {
 		// return saajSoapMessage.getSaajMessage().getSOAPPart(); // does not work, see
 		// SWS-345
 		try {
-			ByteArrayOutputStream bos = new ByteArrayOutputStream();
+			// read back from the buffer chunks directly, rather than copying them
+			// into a single array first
+			FastByteArrayOutputStream bos = new FastByteArrayOutputStream();
 			getSaajMessage().writeTo(bos);
-			ByteArrayInputStream bis = new ByteArrayInputStream(bos.toByteArray());
-			SOAPMessage saajMessage = messageFactory.createMessage(getSaajMessage().getMimeHeaders(), bis);
+			SOAPMessage saajMessage = messageFactory.createMessage(getSaajMessage().getMimeHeaders(),
+					bos.getInputStream());
 			setSaajMessage(saajMessage);
 			return saajMessage.getSOAPPart();
 		}
@@ -217,16 +218,29 @@ public class SaajSoapMessage extends AbstractSoapMessage {
 
 				DOMImplementationLS loadSaveImplementation = (DOMImplementationLS) implementation;
 				LSOutput output = loadSaveImplementation.createLSOutput();
-				ByteArrayOutputStream bos = new ByteArrayOutputStream();
+				FastByteArrayOutputStream bos = new FastByteArrayOutputStream();
 				output.setByteStream(bos);
 
 				LSSerializer serializer = loadSaveImplementation.createLSSerializer();
 				serializer.write(document, output);
 
-				ByteArrayInputStream bis = new ByteArrayInputStream(bos.toByteArray());
-
-				this.saajMessage = messageFactory.createMessage(saajMessage.getMimeHeaders(), bis);
-
+				SOAPMessage previousMessage = this.saajMessage;
+				int attachmentCount = previousMessage.countAttachments();
+				boolean xopPackage = attachmentCount > 0 && isXopPackage();
+				MimeHeaders mimeHeaders = previousMessage.getMimeHeaders();
+				if (attachmentCount > 0) {
+					// the document only holds the envelope, not the MIME package described by
+					// the headers; the attachments are moved to the new message instead
+					mimeHeaders = withContentType(mimeHeaders, getVersion().getContentType());
+				}
+				SOAPMessage message = messageFactory.createMessage(mimeHeaders, bos.getInputStream());
+				for (Iterator<AttachmentPart> iterator = previousMessage.getAttachments(); iterator.hasNext();) {
+					message.addAttachmentPart(iterator.next());
+				}
+				this.saajMessage = message;
+				if (xopPackage) {
+					convertToXopPackage();
+				}
 			}
 			catch (SOAPException | IOException ex) {
 				throw new SaajSoapMessageException("Could not read input stream", ex);
@@ -234,6 +248,18 @@ public class SaajSoapMessage extends AbstractSoapMessage {
 		}
 	}
 
+	private static MimeHeaders withContentType(MimeHeaders mimeHeaders, String contentType) {
+		MimeHeaders result = new MimeHeaders();
+		for (Iterator<MimeHeader> iterator = mimeHeaders.getAllHeaders(); iterator.hasNext();) {
+			MimeHeader mimeHeader = iterator.next();
+			if (!TransportConstants.HEADER_CONTENT_TYPE.equalsIgnoreCase(mimeHeader.getName())) {
+				result.addHeader(mimeHeader.getName(), mimeHeader.getValue());
+			}
+		}
+		result.addHeader(TransportConstants.HEADER_CONTENT_TYPE, contentType);
+		return result;
+	}
+
 	@Override
 	public void writeTo(OutputStream outputStream) throws IOException {
 		MimeHeaders mimeHeaders = getSaajMessage().getMimeHeaders();
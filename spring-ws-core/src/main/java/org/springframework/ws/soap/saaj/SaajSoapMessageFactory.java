@@ -17,6 +17,7 @@
 package org.springframework.ws.soap.saaj;
 
 import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PushbackInputStream;
@@ -192,6 +193,25 @@ public class SaajSoapMessageFactory implements SoapMessageFactory, InitializingB
 	@Override
 	public SaajSoapMessage createWebServiceMessage(InputStream inputStream) throws IOException {
 		MimeHeaders mimeHeaders = parseMimeHeaders(inputStream);
+		SaajMessageCreationEvent event = new SaajMessageCreationEvent();
+		if (!event.isEnabled()) {
+			return createWebServiceMessage(mimeHeaders, inputStream);
+		}
+		event.begin();
+		CountingInputStream countingStream = new CountingInputStream(inputStream);
+		try {
+			SaajSoapMessage message = createWebServiceMessage(mimeHeaders, countingStream);
+			event.soapVersion = message.getVersion().toString();
+			return message;
+		}
+		finally {
+			event.size = countingStream.count;
+			event.commit();
+		}
+	}
+
+	private SaajSoapMessage createWebServiceMessage(MimeHeaders mimeHeaders, InputStream inputStream)
+			throws IOException {
 		try {
 			inputStream = checkForUtf8ByteOrderMark(inputStream);
 			SOAPMessage saajMessage = messageFactory.createMessage(mimeHeaders, inputStream);
@@ -334,4 +354,42 @@ public class SaajSoapMessageFactory implements SoapMessageFactory, InitializingB
 		return builder.toString();
 	}
 
+	/**
+	 * Counts the bytes read from a stream, for the {@link SaajMessageCreationEvent}.
+	 */
+	private static final class CountingInputStream extends FilterInputStream {
+
+		private long count;
+
+		CountingInputStream(InputStream in) {
+			super(in);
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if (b != -1) {
+				this.count++;
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int n = super.read(b, off, len);
+			if (n > 0) {
+				this.count += n;
+			}
+			return n;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(n);
+			this.count += skipped;
+			return skipped;
+		}
+
+	}
+
 }
@@ -16,8 +16,15 @@
 
 package org.springframework.ws.soap.server;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.namespace.QName;
+
+import org.springframework.util.ObjectUtils;
 import org.springframework.ws.server.EndpointInterceptor;
 import org.springframework.ws.server.EndpointInvocationChain;
+import org.springframework.ws.soap.SoapHeaderElement;
 
 /**
  * SOAP-specific subclass of the {@code EndpointInvocationChain}. Adds associated actors
@@ -35,6 +42,8 @@ public class SoapEndpointInvocationChain extends EndpointInvocationChain {
 
 	private boolean isUltimateReceiver = true;
 
+	private final Map<QName, Boolean> understoodHeaderNames = new ConcurrentHashMap<>();
+
 	/**
 	 * Create new {@code SoapEndpointInvocationChain}.
 	 * @param endpoint the endpoint object to invoke
@@ -84,4 +93,40 @@ public class SoapEndpointInvocationChain extends EndpointInvocationChain {
 		return isUltimateReceiver;
 	}
 
+	/**
+	 * Indicates whether the given header element is understood by any of the
+	 * {@link SoapEndpointInterceptor}s in this chain.
+	 * <p>
+	 * The outcome is cached by header name, so that a header that occurs several times
+	 * in a message is only checked against the interceptors once. This requires the
+	 * {@link SoapEndpointInterceptor#understands(SoapHeaderElement) understands} method
+	 * of the interceptors to depend on the qualified name of the header element alone,
+	 * not on its attributes or content.
+	 * @param headerElement the header element to check
+	 * @return {@code true} if the header is understood; {@code false} otherwise
+	 * @see SoapEndpointInterceptor#understands(SoapHeaderElement)
+	 * @since 4.0.12
+	 */
+	public boolean understands(SoapHeaderElement headerElement) {
+		return understoodHeaderNames.computeIfAbsent(headerElement.getName(),
+				headerName -> understands(getInterceptors(), headerElement));
+	}
+
+	/**
+	 * Indicates whether the given header element is understood by any of the given
+	 * interceptors.
+	 */
+	static boolean understands(EndpointInterceptor[] interceptors, SoapHeaderElement headerElement) {
+		if (ObjectUtils.isEmpty(interceptors)) {
+			return false;
+		}
+		for (EndpointInterceptor interceptor : interceptors) {
+			if (interceptor instanceof SoapEndpointInterceptor
+					&& ((SoapEndpointInterceptor) interceptor).understands(headerElement)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 }
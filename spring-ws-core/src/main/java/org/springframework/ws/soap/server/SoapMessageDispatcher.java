@@ -26,7 +26,6 @@ import javax.xml.namespace.QName;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.ws.context.MessageContext;
-import org.springframework.ws.server.EndpointInterceptor;
 import org.springframework.ws.server.EndpointInvocationChain;
 import org.springframework.ws.server.MessageDispatcher;
 import org.springframework.ws.soap.SoapBody;
@@ -56,6 +55,8 @@ public class SoapMessageDispatcher extends MessageDispatcher {
 
 	private Locale mustUnderstandFaultStringLocale = Locale.ENGLISH;
 
+	private boolean cacheUnderstoodHeaders = false;
+
 	/**
 	 * Sets the message used for {@code MustUnderstand} fault. Default to
 	 * {@link #DEFAULT_MUST_UNDERSTAND_FAULT_STRING}.
@@ -72,6 +73,22 @@ public class SoapMessageDispatcher extends MessageDispatcher {
 		this.mustUnderstandFaultStringLocale = mustUnderstandFaultStringLocale;
 	}
 
+	/**
+	 * Indicates whether the outcome of the {@code MustUnderstand} check is cached by header
+	 * name for the duration of a request, so that a header that occurs several times is
+	 * only checked against the interceptors once. Default is {@code false}.
+	 * <p>
+	 * Only enable this when the
+	 * {@link SoapEndpointInterceptor#understands(SoapHeaderElement) understands} method of
+	 * all interceptors depends on the qualified name of the header element alone, not on
+	 * its attributes or content.
+	 * @since 4.0.12
+	 * @see SoapEndpointInvocationChain#understands(SoapHeaderElement)
+	 */
+	public void setCacheUnderstoodHeaders(boolean cacheUnderstoodHeaders) {
+		this.cacheUnderstoodHeaders = cacheUnderstoodHeaders;
+	}
+
 	/**
 	 * Process the headers targeted at the actor or role fullfilled by the endpoint. Also
 	 * processed the {@code MustUnderstand} headers in the incoming SOAP request message.
@@ -144,17 +161,10 @@ public class SoapMessageDispatcher extends MessageDispatcher {
 	 * @see SoapEndpointInterceptor#understands(org.springframework.ws.soap.SoapHeaderElement)
 	 */
 	private boolean headerUnderstood(EndpointInvocationChain mappedEndpoint, SoapHeaderElement headerElement) {
-		EndpointInterceptor[] interceptors = mappedEndpoint.getInterceptors();
-		if (ObjectUtils.isEmpty(interceptors)) {
-			return false;
-		}
-		for (EndpointInterceptor interceptor : interceptors) {
-			if (interceptor instanceof SoapEndpointInterceptor
-					&& ((SoapEndpointInterceptor) interceptor).understands(headerElement)) {
-				return true;
-			}
+		if (cacheUnderstoodHeaders && mappedEndpoint instanceof SoapEndpointInvocationChain soapChain) {
+			return soapChain.understands(headerElement);
 		}
-		return false;
+		return SoapEndpointInvocationChain.understands(mappedEndpoint.getInterceptors(), headerElement);
 	}
 
 	private void createMustUnderstandFault(SoapMessage soapResponse, List<QName> notUnderstoodHeaderNames,
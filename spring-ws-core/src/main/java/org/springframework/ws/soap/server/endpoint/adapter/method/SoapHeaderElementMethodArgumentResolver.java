@@ -19,8 +19,11 @@ package org.springframework.ws.soap.server.endpoint.adapter.method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.xml.namespace.QName;
 
@@ -46,6 +49,10 @@ import org.springframework.xml.namespace.QNameUtils;
  *
  * public void soapHeaderElementList(@SoapHeader("{http://springframework.org/ws}header") List<SoapHeaderElement> elements)
  * } </pre>
+ * <p>
+ * The header elements of the request are indexed by name on first access, and the index
+ * is kept as a property of the message context, so that methods with several
+ * {@code @SoapHeader} parameters only iterate over the SOAP header once.
  *
  * @author Tareq Abedrabbo
  * @author Arjen Poutsma
@@ -54,6 +61,9 @@ import org.springframework.xml.namespace.QNameUtils;
  */
 public class SoapHeaderElementMethodArgumentResolver implements MethodArgumentResolver {
 
+	private static final String HEADER_INDEX_PROPERTY = SoapHeaderElementMethodArgumentResolver.class.getName()
+			+ ".HEADER_INDEX";
+
 	@Override
 	public boolean supportsParameter(MethodParameter parameter) {
 		SoapHeader soapHeader = parameter.getParameterAnnotation(SoapHeader.class);
@@ -96,38 +106,55 @@ public class SoapHeaderElementMethodArgumentResolver implements MethodArgumentRe
 
 		Class<?> parameterType = parameter.getParameterType();
 
+		List<SoapHeaderElement> elements = getHeaderIndex(messageContext, soapHeader).getHeaderElements(qname);
 		if (SoapHeaderElement.class.equals(parameterType)) {
-			return extractSoapHeader(qname, soapHeader);
+			return !elements.isEmpty() ? elements.get(0) : null;
 		}
 		else if (List.class.equals(parameterType)) {
-			return extractSoapHeaderList(qname, soapHeader);
+			return new ArrayList<>(elements);
 		}
 		// should not happen
 		throw new UnsupportedOperationException();
 	}
 
-	private SoapHeaderElement extractSoapHeader(QName qname, org.springframework.ws.soap.SoapHeader soapHeader) {
-		Iterator<SoapHeaderElement> elements = soapHeader.examineAllHeaderElements();
-		while (elements.hasNext()) {
-			SoapHeaderElement e = elements.next();
-			if (e.getName().equals(qname)) {
-				return e;
-			}
+	/**
+	 * Returns the index of the given SOAP header, stored in the message context. The
+	 * index is rebuilt when the request header has been replaced since it was created.
+	 */
+	private HeaderIndex getHeaderIndex(MessageContext messageContext,
+			org.springframework.ws.soap.SoapHeader soapHeader) {
+		HeaderIndex index = (HeaderIndex) messageContext.getProperty(HEADER_INDEX_PROPERTY);
+		if (index == null || index.soapHeader != soapHeader) {
+			index = new HeaderIndex(soapHeader);
+			messageContext.setProperty(HEADER_INDEX_PROPERTY, index);
 		}
-		return null;
+		return index;
 	}
 
-	private List<SoapHeaderElement> extractSoapHeaderList(QName qname,
-			org.springframework.ws.soap.SoapHeader soapHeader) {
-		List<SoapHeaderElement> result = new ArrayList<>();
-		Iterator<SoapHeaderElement> elements = soapHeader.examineAllHeaderElements();
-		while (elements.hasNext()) {
-			SoapHeaderElement e = elements.next();
-			if (e.getName().equals(qname)) {
-				result.add(e);
+	/**
+	 * Index of the elements of a SOAP header, keyed by qualified name.
+	 */
+	private static final class HeaderIndex {
+
+		private final org.springframework.ws.soap.SoapHeader soapHeader;
+
+		private final Map<QName, List<SoapHeaderElement>> headerElements = new LinkedHashMap<>();
+
+		HeaderIndex(org.springframework.ws.soap.SoapHeader soapHeader) {
+			this.soapHeader = soapHeader;
+			if (soapHeader != null) {
+				Iterator<SoapHeaderElement> elements = soapHeader.examineAllHeaderElements();
+				while (elements.hasNext()) {
+					SoapHeaderElement e = elements.next();
+					headerElements.computeIfAbsent(e.getName(), name -> new ArrayList<>(1)).add(e);
+				}
 			}
 		}
-		return result;
+
+		List<SoapHeaderElement> getHeaderElements(QName qname) {
+			return headerElements.getOrDefault(qname, Collections.emptyList());
+		}
+
 	}
 
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.soap.server.endpoint.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indicates that the responses of an endpoint method can be cached, and returned for
+ * subsequent identical requests without invoking the method. Two requests are identical
+ * when their payloads, and the SOAP header elements listed in {@link #headers()}, are.
+ * <p>
+ * This annotation has no effect unless a
+ * {@link org.springframework.ws.soap.server.endpoint.interceptor.ResponseCachingInterceptor
+ * ResponseCachingInterceptor} is registered.
+ *
+ * @since 4.0.12
+ * @see org.springframework.ws.soap.server.endpoint.interceptor.ResponseCachingInterceptor
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CacheableResponse {
+
+	/**
+	 * The time, in seconds, a cached response is returned. Defaults to 60 seconds.
+	 */
+	long timeToLive() default 60;
+
+	/**
+	 * The maximum number of responses cached for the method. When exceeded, the least
+	 * recently used response is evicted. Defaults to 1000.
+	 */
+	int maxEntries() default 1000;
+
+	/**
+	 * The qualified names of the SOAP header elements that are part of the cache key, in
+	 * {@code {namespace}localPart} form. Other header elements are ignored. Defaults to
+	 * none.
+	 */
+	String[] headers() default {};
+
+}
@@ -0,0 +1,340 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.soap.server.endpoint.interceptor;
+
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+import java.time.Clock;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.xml.namespace.QName;
+import javax.xml.transform.Source;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.stream.StreamResult;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.Assert;
+import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.server.endpoint.MethodEndpoint;
+import org.springframework.ws.server.endpoint.support.PrincipalUtils;
+import org.springframework.ws.soap.SoapHeader;
+import org.springframework.ws.soap.SoapHeaderElement;
+import org.springframework.ws.soap.SoapMessage;
+import org.springframework.ws.soap.server.SoapEndpointInterceptor;
+import org.springframework.ws.soap.server.endpoint.annotation.CacheableResponse;
+import org.springframework.ws.support.SerializedWebServiceMessage;
+import org.springframework.xml.namespace.QNameUtils;
+import org.springframework.xml.transform.TransformerObjectSupport;
+
+/**
+ * SOAP-specific {@code EndpointInterceptor} that caches the responses of endpoint methods
+ * annotated with {@link CacheableResponse @CacheableResponse}.
+ * <p>
+ * Only the responses to authenticated requests are cached. Requests are identified by a
+ * SHA-256 hash of their serialized payload, of the header elements listed in the
+ * annotation, and of the {@link #getPrincipal(MessageContext) principal} that sent them,
+ * so that users never receive each other's responses. When a
+ * request matches a cached response, that response is returned as is, and the endpoint
+ * is not invoked. Otherwise, the response of the endpoint is serialized and cached,
+ * unless it is a fault or larger than {@link #setMaxResponseSize(int) maxResponseSize}.
+ * Each endpoint method has its own cache, bounded by the time to live and maximum number
+ * of entries of its annotation.
+ * <p>
+ * Note that cached responses are returned before any interceptor that follows this one
+ * is invoked. Interceptors that authenticate or validate requests, such as the
+ * WS-Security interceptors, should therefore be registered before this one, so that the
+ * principal they authenticate is known.
+ *
+ * @since 4.0.12
+ * @see CacheableResponse
+ */
+public class ResponseCachingInterceptor extends TransformerObjectSupport implements SoapEndpointInterceptor {
+
+	/**
+	 * The default maximum size of a cached response, in bytes.
+	 */
+	public static final int DEFAULT_MAX_RESPONSE_SIZE = 64 * 1024;
+
+	private static final String CACHE_KEY_PROPERTY = ResponseCachingInterceptor.class.getName() + ".CACHE_KEY";
+
+	private final Map<Method, Optional<ResponseCache>> caches = new ConcurrentHashMap<>();
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	private final LongAdder evictionCount = new LongAdder();
+
+	private int maxResponseSize = DEFAULT_MAX_RESPONSE_SIZE;
+
+	private Clock clock = Clock.systemUTC();
+
+	/**
+	 * Sets the maximum size of a cached response, in bytes. Larger responses are not
+	 * cached. Default is {@value #DEFAULT_MAX_RESPONSE_SIZE}.
+	 */
+	public void setMaxResponseSize(int maxResponseSize) {
+		Assert.isTrue(maxResponseSize >= 0, "maxResponseSize must not be negative");
+		this.maxResponseSize = maxResponseSize;
+	}
+
+	void setClock(Clock clock) {
+		this.clock = clock;
+	}
+
+	/**
+	 * Returns the number of requests that were answered with a cached response.
+	 */
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+
+	/**
+	 * Returns the number of requests to a cacheable endpoint that were not answered with
+	 * a cached response.
+	 */
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+
+	/**
+	 * Returns the number of cached responses that were evicted, either because they
+	 * expired, or to make room for others.
+	 */
+	public long getEvictionCount() {
+		return this.evictionCount.sum();
+	}
+
+	/**
+	 * Returns the number of responses currently cached, over all endpoints.
+	 */
+	public int size() {
+		int size = 0;
+		for (Optional<ResponseCache> cache : this.caches.values()) {
+			if (cache.isPresent()) {
+				size += cache.get().size();
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Removes all cached responses.
+	 */
+	public void clear() {
+		for (Optional<ResponseCache> cache : this.caches.values()) {
+			cache.ifPresent(ResponseCache::clear);
+		}
+	}
+
+	@Override
+	public boolean handleRequest(MessageContext messageContext, Object endpoint) throws Exception {
+		ResponseCache cache = getCache(endpoint);
+		if (cache == null) {
+			return true;
+		}
+		Principal principal = getPrincipal(messageContext);
+		if (principal == null) {
+			return true;
+		}
+		String key = createKey(messageContext, principal, cache);
+		SerializedWebServiceMessage response = cache.get(key, this.clock.millis());
+		if (response != null) {
+			this.hitCount.increment();
+			if (logger.isDebugEnabled()) {
+				logger.debug("Returning cached response for endpoint [" + endpoint + "]");
+			}
+			messageContext.readResponse(response.getInputStream());
+			return false;
+		}
+		this.missCount.increment();
+		messageContext.setProperty(CACHE_KEY_PROPERTY, key);
+		return true;
+	}
+
+	@Override
+	public boolean handleResponse(MessageContext messageContext, Object endpoint) throws Exception {
+		String key = (String) messageContext.getProperty(CACHE_KEY_PROPERTY);
+		ResponseCache cache = getCache(endpoint);
+		if (key != null && cache != null && messageContext.hasResponse()) {
+			SerializedWebServiceMessage response = SerializedWebServiceMessage.of(messageContext.getResponse(),
+					this.maxResponseSize);
+			if (response != null) {
+				cache.put(key, response, this.clock.millis());
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public boolean handleFault(MessageContext messageContext, Object endpoint) throws Exception {
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(MessageContext messageContext, Object endpoint, Exception ex) throws Exception {
+	}
+
+	@Override
+	public boolean understands(SoapHeaderElement header) {
+		return false;
+	}
+
+	/**
+	 * Returns the principal that sent the request of the given message context, if any.
+	 * Responses are only returned to the principal that sent the original request, and
+	 * requests without a principal are not cached.
+	 * <p>
+	 * The default implementation returns the principal authenticated by a security
+	 * interceptor, by Spring Security, or by the servlet container, as determined by
+	 * {@link PrincipalUtils#getPrincipal(MessageContext)}.
+	 * @param messageContext the message context
+	 * @return the principal, or {@code null} if the request was not authenticated
+	 */
+	protected Principal getPrincipal(MessageContext messageContext) {
+		return PrincipalUtils.getPrincipal(messageContext);
+	}
+
+	private ResponseCache getCache(Object endpoint) {
+		if (!(endpoint instanceof MethodEndpoint methodEndpoint)) {
+			return null;
+		}
+		return this.caches.computeIfAbsent(methodEndpoint.getMethod(), method -> {
+			CacheableResponse annotation = AnnotatedElementUtils.findMergedAnnotation(method, CacheableResponse.class);
+			return Optional.ofNullable((annotation != null) ? new ResponseCache(annotation) : null);
+		}).orElse(null);
+	}
+
+	private String createKey(MessageContext messageContext, Principal principal, ResponseCache cache)
+			throws TransformerException {
+		MessageDigest digest = createDigest();
+		digest.update(principal.getName().getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+		WebServiceMessage request = messageContext.getRequest();
+		OutputStream os = new DigestOutputStream(OutputStream.nullOutputStream(), digest);
+		Source payload = request.getPayloadSource();
+		if (payload != null) {
+			transform(payload, new StreamResult(os));
+		}
+		if (cache.headers.length > 0 && request instanceof SoapMessage soapMessage) {
+			SoapHeader header = soapMessage.getSoapHeader();
+			if (header != null) {
+				for (QName headerName : cache.headers) {
+					digest.update(headerName.toString().getBytes(StandardCharsets.UTF_8));
+					for (Iterator<SoapHeaderElement> iterator = header.examineHeaderElements(headerName); iterator
+						.hasNext();) {
+						transform(iterator.next().getSource(), new StreamResult(os));
+					}
+				}
+			}
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("SHA-256 is not supported", ex);
+		}
+	}
+
+	private final class ResponseCache {
+
+		private final long timeToLive;
+
+		private final QName[] headers;
+
+		private final Map<String, Entry> entries;
+
+		private ResponseCache(CacheableResponse annotation) {
+			Assert.isTrue(annotation.timeToLive() > 0, "timeToLive must be positive");
+			Assert.isTrue(annotation.maxEntries() > 0, "maxEntries must be positive");
+			this.timeToLive = annotation.timeToLive() * 1000;
+			this.headers = new QName[annotation.headers().length];
+			for (int i = 0; i < this.headers.length; i++) {
+				this.headers[i] = QNameUtils.parseQNameString(annotation.headers()[i]);
+			}
+			int maxEntries = annotation.maxEntries();
+			this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+					if (size() > maxEntries) {
+						evictionCount.increment();
+						return true;
+					}
+					return false;
+				}
+
+			};
+		}
+
+		synchronized SerializedWebServiceMessage get(String key, long now) {
+			Entry entry = this.entries.get(key);
+			if (entry == null) {
+				return null;
+			}
+			if (entry.expiresAt <= now) {
+				this.entries.remove(key);
+				evictionCount.increment();
+				return null;
+			}
+			return entry.response;
+		}
+
+		synchronized void put(String key, SerializedWebServiceMessage response, long now) {
+			this.entries.put(key, new Entry(response, now + this.timeToLive));
+		}
+
+		synchronized int size() {
+			return this.entries.size();
+		}
+
+		synchronized void clear() {
+			this.entries.clear();
+		}
+
+	}
+
+	private static final class Entry {
+
+		private final SerializedWebServiceMessage response;
+
+		private final long expiresAt;
+
+		private Entry(SerializedWebServiceMessage response, long expiresAt) {
+			this.response = response;
+			this.expiresAt = expiresAt;
+		}
+
+	}
+
+}
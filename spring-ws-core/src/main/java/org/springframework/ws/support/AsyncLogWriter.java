@@ -0,0 +1,273 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.support;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Writes log statements on a background thread, so that formatting and writing large
+ * log messages does not add to the latency of the thread that handles a message.
+ * <p>
+ * Statements are held in a bounded queue. When the queue is full, a statement is
+ * dropped according to the {@link OverflowPolicy}, and counted in
+ * {@link #getDroppedCount()}.
+ * <p>
+ * The background thread is a daemon thread, started when a statement is submitted. It
+ * stops when no statement was submitted for the {@link #setKeepAliveTime(Duration)
+ * keepAliveTime}, and is started again for the next statement, so that a writer that is
+ * never destroyed does not hold on to a thread. When this writer is
+ * {@linkplain #destroy() destroyed}, the thread stops after writing the pending
+ * statements.
+ *
+ * @since 4.0.12
+ */
+public class AsyncLogWriter implements DisposableBean {
+
+	/**
+	 * The default capacity of the queue.
+	 */
+	public static final int DEFAULT_CAPACITY = 1024;
+
+	/**
+	 * The default time the background thread waits for a statement before it stops.
+	 */
+	public static final Duration DEFAULT_KEEP_ALIVE_TIME = Duration.ofSeconds(60);
+
+	/**
+	 * Queued by {@link #destroy()} to stop the background thread once it has written the
+	 * statements queued before.
+	 */
+	private static final Runnable STOP = () -> {
+	};
+
+	private static final Log logger = LogFactory.getLog(AsyncLogWriter.class);
+
+	private final BlockingQueue<Runnable> queue;
+
+	private final OverflowPolicy overflowPolicy;
+
+	private final CustomizableThreadFactory threadFactory;
+
+	private final LongAdder droppedCount = new LongAdder();
+
+	private volatile long keepAliveNanos = DEFAULT_KEEP_ALIVE_TIME.toNanos();
+
+	private Thread thread;
+
+	private volatile boolean started;
+
+	private volatile boolean destroyed;
+
+	/**
+	 * Create a new {@code AsyncLogWriter} with a queue of {@value #DEFAULT_CAPACITY}
+	 * statements, that drops the oldest statement when full.
+	 * @param name the name of the writer, used for its thread
+	 */
+	public AsyncLogWriter(String name) {
+		this(name, DEFAULT_CAPACITY, OverflowPolicy.DROP_OLDEST);
+	}
+
+	/**
+	 * Create a new {@code AsyncLogWriter}.
+	 * @param name the name of the writer, used for its thread
+	 * @param capacity the maximum number of pending statements
+	 * @param overflowPolicy what to drop when the queue is full
+	 */
+	public AsyncLogWriter(String name, int capacity, OverflowPolicy overflowPolicy) {
+		Assert.hasLength(name, "name must not be empty");
+		Assert.isTrue(capacity > 0, "capacity must be positive");
+		Assert.notNull(overflowPolicy, "overflowPolicy must not be null");
+		this.queue = new ArrayBlockingQueue<>(capacity);
+		this.overflowPolicy = overflowPolicy;
+		this.threadFactory = new CustomizableThreadFactory(name + "-");
+		this.threadFactory.setDaemon(true);
+	}
+
+	/**
+	 * Sets the time the background thread waits for a statement before it stops. Default
+	 * is {@link #DEFAULT_KEEP_ALIVE_TIME 60 seconds}.
+	 */
+	public void setKeepAliveTime(Duration keepAliveTime) {
+		Assert.isTrue(keepAliveTime != null && keepAliveTime.toNanos() > 0, "keepAliveTime must be positive");
+		this.keepAliveNanos = keepAliveTime.toNanos();
+	}
+
+	/**
+	 * Submits a statement to be run on the background thread. The statement typically
+	 * formats a message and writes it to a {@link Log}.
+	 * @param statement the statement
+	 * @return {@code true} if the statement was queued; {@code false} if it was dropped
+	 */
+	public boolean submit(Runnable statement) {
+		Assert.notNull(statement, "statement must not be null");
+		if (this.destroyed) {
+			this.droppedCount.increment();
+			return false;
+		}
+		boolean queued = enqueue(statement);
+		// queue first: a thread that stops when idle either sees the statement, or has
+		// stopped before this check, or re-checks the queue once stopped
+		if (!this.started) {
+			start();
+		}
+		return queued;
+	}
+
+	private boolean enqueue(Runnable statement) {
+		if (this.queue.offer(statement)) {
+			return true;
+		}
+		if (this.overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+			// make room by dropping the oldest statement; retry once, as the writer may
+			// have taken it concurrently
+			if (this.queue.poll() != null) {
+				this.droppedCount.increment();
+			}
+			if (this.queue.offer(statement)) {
+				return true;
+			}
+		}
+		this.droppedCount.increment();
+		return false;
+	}
+
+	private synchronized void start() {
+		if (!this.started && !this.destroyed) {
+			this.thread = this.threadFactory.newThread(this::run);
+			this.thread.start();
+			this.started = true;
+		}
+	}
+
+	private void run() {
+		try {
+			while (true) {
+				Runnable statement = this.queue.poll(this.keepAliveNanos, TimeUnit.NANOSECONDS);
+				if (statement == STOP) {
+					// write what was submitted concurrently with destroy()
+					while ((statement = this.queue.poll()) != null) {
+						if (statement != STOP) {
+							write(statement);
+						}
+					}
+					return;
+				}
+				if (statement != null) {
+					write(statement);
+				}
+				else if (stopIfIdle()) {
+					// a statement queued while stopping may have been submitted by a
+					// thread that still saw this one as started
+					if (!this.queue.isEmpty()) {
+						start();
+					}
+					return;
+				}
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		finally {
+			stopped();
+		}
+	}
+
+	private synchronized boolean stopIfIdle() {
+		// a destroyed writer whose stop signal was dropped also stops here
+		if (!this.queue.isEmpty()) {
+			return false;
+		}
+		stopped();
+		return true;
+	}
+
+	private synchronized void stopped() {
+		if (this.thread == Thread.currentThread()) {
+			this.thread = null;
+			this.started = false;
+		}
+	}
+
+	private static void write(Runnable statement) {
+		try {
+			statement.run();
+		}
+		catch (RuntimeException ex) {
+			logger.warn("Could not write log statement", ex);
+		}
+	}
+
+	/**
+	 * Returns the number of statements waiting to be written.
+	 */
+	public int getPendingCount() {
+		return this.queue.size();
+	}
+
+	/**
+	 * Returns the number of statements dropped because the queue was full.
+	 */
+	public long getDroppedCount() {
+		return this.droppedCount.sum();
+	}
+
+	/**
+	 * Stops the background thread, after it has written the pending statements. Waits at
+	 * most 5 seconds for the thread to stop. Statements submitted afterwards are dropped.
+	 */
+	@Override
+	public void destroy() throws InterruptedException {
+		Thread thread;
+		synchronized (this) {
+			this.destroyed = true;
+			thread = this.thread;
+		}
+		if (thread != null && this.queue.offer(STOP, 5, TimeUnit.SECONDS)) {
+			thread.join(TimeUnit.SECONDS.toMillis(5));
+		}
+	}
+
+	/**
+	 * What to drop when the queue of an {@code AsyncLogWriter} is full.
+	 */
+	public enum OverflowPolicy {
+
+		/**
+		 * Drop the oldest pending statement, to make room for the new one.
+		 */
+		DROP_OLDEST,
+
+		/**
+		 * Drop the new statement.
+		 */
+		DROP_NEWEST
+
+	}
+
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.support;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.Assert;
+import org.springframework.ws.WebServiceMessage;
+
+/**
+ * Message tracing facility that can be left enabled in production: only a sample of the
+ * messages is traced, message contents are truncated, and trace statements are written
+ * on a background thread by an {@link AsyncLogWriter}.
+ * <p>
+ * Messages are sampled with the {@link #setSampleRate(double) sampleRate} probability,
+ * which can be overridden per operation with {@link #setOperationSampleRates(Map)}. The
+ * contents of sampled messages are serialized up to
+ * {@link #setMaxPayloadLength(int) maxPayloadLength} bytes; serialization stops as soon
+ * as that length is reached.
+ * <p>
+ * Set on a {@link org.springframework.ws.server.MessageDispatcher MessageDispatcher} or
+ * a {@link org.springframework.ws.client.core.WebServiceTemplate WebServiceTemplate}, it
+ * replaces their synchronous message tracing, which is enabled with the
+ * {@code MessageTracing} log categories, and is destroyed along with them. The background
+ * thread stops when no message was traced for a while, so a tracer that is not destroyed
+ * does not hold on to a thread.
+ *
+ * @since 4.0.12
+ * @see org.springframework.ws.server.MessageDispatcher#setMessageTracer(MessageTracer)
+ * @see org.springframework.ws.client.core.WebServiceTemplate#setMessageTracer(MessageTracer)
+ */
+public class MessageTracer implements DisposableBean {
+
+	/**
+	 * The default maximum number of bytes of a message that are traced.
+	 */
+	public static final int DEFAULT_MAX_PAYLOAD_LENGTH = 4096;
+
+	private final AsyncLogWriter writer;
+
+	private double sampleRate = 1.0;
+
+	private Map<String, Double> operationSampleRates = Map.of();
+
+	private int maxPayloadLength = DEFAULT_MAX_PAYLOAD_LENGTH;
+
+	/**
+	 * Create a new {@code MessageTracer} that holds at most
+	 * {@value AsyncLogWriter#DEFAULT_CAPACITY} pending trace statements.
+	 */
+	public MessageTracer() {
+		this(AsyncLogWriter.DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Create a new {@code MessageTracer}.
+	 * @param bufferSize the maximum number of pending trace statements; when reached, the
+	 * oldest statement is dropped
+	 */
+	public MessageTracer(int bufferSize) {
+		this.writer = new AsyncLogWriter("message-tracer", bufferSize, AsyncLogWriter.OverflowPolicy.DROP_OLDEST);
+	}
+
+	/**
+	 * Sets the probability that a message is traced, between 0 and 1. Default is 1: all
+	 * messages are traced.
+	 */
+	public void setSampleRate(double sampleRate) {
+		Assert.isTrue(sampleRate >= 0 && sampleRate <= 1, "sampleRate must be between 0 and 1");
+		this.sampleRate = sampleRate;
+	}
+
+	/**
+	 * Sets the probability that a message is traced, per operation. Keys are the SOAP
+	 * action, or the qualified name of the payload root element in
+	 * {@code {namespace}localPart} form; values are between 0 and 1. Operations that are
+	 * not listed use the {@link #setSampleRate(double) sampleRate}.
+	 */
+	public void setOperationSampleRates(Map<String, Double> operationSampleRates) {
+		Assert.notNull(operationSampleRates, "operationSampleRates must not be null");
+		operationSampleRates.values()
+			.forEach(rate -> Assert.isTrue(rate >= 0 && rate <= 1, "sample rates must be between 0 and 1"));
+		this.operationSampleRates = Map.copyOf(operationSampleRates);
+	}
+
+	/**
+	 * Sets the maximum number of bytes of a message that are traced. Default is
+	 * {@value #DEFAULT_MAX_PAYLOAD_LENGTH}.
+	 */
+	public void setMaxPayloadLength(int maxPayloadLength) {
+		Assert.isTrue(maxPayloadLength > 0, "maxPayloadLength must be positive");
+		this.maxPayloadLength = maxPayloadLength;
+	}
+
+	/**
+	 * Determines whether a message is traced.
+	 * @param operation supplies the operation of the message; only invoked if sample rates
+	 * are defined per operation
+	 * @return {@code true} if the message should be traced
+	 */
+	public boolean isSampled(Supplier<String> operation) {
+		double rate = this.sampleRate;
+		if (!this.operationSampleRates.isEmpty()) {
+			Double operationRate = this.operationSampleRates.get(operation.get());
+			if (operationRate != null) {
+				rate = operationRate;
+			}
+		}
+		if (rate >= 1) {
+			return true;
+		}
+		return rate > 0 && ThreadLocalRandom.current().nextDouble() < rate;
+	}
+
+	/**
+	 * Returns the contents of the given message, truncated to
+	 * {@link #setMaxPayloadLength(int) maxPayloadLength} bytes. Never throws: if the
+	 * message cannot be serialized, a description of the error is returned instead.
+	 * @param message the message
+	 * @return the contents
+	 */
+	public String toTraceString(WebServiceMessage message) {
+		TruncatingOutputStream outputStream = new TruncatingOutputStream(this.maxPayloadLength);
+		try {
+			message.writeTo(outputStream);
+		}
+		catch (Exception ex) {
+			if (!outputStream.isLimitReached()) {
+				return "[could not serialize message: " + ex.getMessage() + "]";
+			}
+		}
+		return outputStream.getContent();
+	}
+
+	/**
+	 * Writes the given trace statement to the given log, at trace level, on the background
+	 * thread.
+	 * @param log the log
+	 * @param statement the statement
+	 */
+	public void trace(Log log, String statement) {
+		this.writer.submit(() -> log.trace(statement));
+	}
+
+	/**
+	 * Returns the number of trace statements dropped because too many were pending.
+	 */
+	public long getDroppedCount() {
+		return this.writer.getDroppedCount();
+	}
+
+	/**
+	 * Stops the background thread, after it has written the pending trace statements.
+	 */
+	@Override
+	public void destroy() throws InterruptedException {
+		this.writer.destroy();
+	}
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.springframework.util.FastByteArrayOutputStream;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.transport.TransportInputStream;
+import org.springframework.ws.transport.TransportOutputStream;
+
+/**
+ * Immutable, serialized form of a {@link WebServiceMessage}, including the transport
+ * headers (such as the content type) the message writes. Used to keep a message around,
+ * for instance in a cache, and to read it back into a
+ * {@link org.springframework.ws.context.MessageContext} later.
+ *
+ * @since 4.0.12
+ * @see org.springframework.ws.context.MessageContext#readResponse(InputStream)
+ */
+public final class SerializedWebServiceMessage {
+
+	private final byte[] content;
+
+	private final MultiValueMap<String, String> headers;
+
+	private SerializedWebServiceMessage(byte[] content, MultiValueMap<String, String> headers) {
+		this.content = content;
+		this.headers = headers;
+	}
+
+	/**
+	 * Serializes the given message.
+	 * @param message the message to serialize
+	 * @return the serialized message
+	 * @throws IOException in case of I/O errors
+	 */
+	public static SerializedWebServiceMessage of(WebServiceMessage message) throws IOException {
+		return of(message, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Serializes the given message, unless it is larger than the given size. Serializing
+	 * stops as soon as the size is exceeded.
+	 * @param message the message to serialize
+	 * @param maxSize the maximum size of the serialized message content, in bytes
+	 * @return the serialized message, or {@code null} if it is larger than
+	 * {@code maxSize}
+	 * @throws IOException in case of I/O errors
+	 */
+	public static SerializedWebServiceMessage of(WebServiceMessage message, int maxSize) throws IOException {
+		CapturingOutputStream os = new CapturingOutputStream(maxSize);
+		try {
+			message.writeTo(os);
+			os.flush();
+		}
+		catch (IOException | RuntimeException ex) {
+			if (os.sizeExceeded) {
+				return null;
+			}
+			throw ex;
+		}
+		return new SerializedWebServiceMessage(os.content.toByteArrayUnsafe(), os.headers);
+	}
+
+	/**
+	 * Returns the size of the serialized message content, in bytes.
+	 */
+	public int size() {
+		return this.content.length;
+	}
+
+	/**
+	 * Returns a new input stream that reads the serialized message, and exposes its
+	 * transport headers to {@link org.springframework.ws.WebServiceMessageFactory
+	 * WebServiceMessageFactory} implementations.
+	 */
+	public InputStream getInputStream() {
+		return new SerializedInputStream();
+	}
+
+	private static final class CapturingOutputStream extends TransportOutputStream {
+
+		private final FastByteArrayOutputStream content = new FastByteArrayOutputStream();
+
+		private final MultiValueMap<String, String> headers = new LinkedMultiValueMap<>();
+
+		private final int maxSize;
+
+		private boolean sizeExceeded;
+
+		private CapturingOutputStream(int maxSize) {
+			this.maxSize = maxSize;
+		}
+
+		@Override
+		public void addHeader(String name, String value) {
+			this.headers.add(name, value);
+		}
+
+		@Override
+		protected OutputStream createOutputStream() {
+			return new OutputStream() {
+
+				@Override
+				public void write(int b) throws IOException {
+					checkSize(1);
+					content.write(b);
+				}
+
+				@Override
+				public void write(byte[] b, int off, int len) throws IOException {
+					checkSize(len);
+					content.write(b, off, len);
+				}
+
+			};
+		}
+
+		private void checkSize(int length) throws IOException {
+			if ((long) this.content.size() + length > this.maxSize) {
+				this.sizeExceeded = true;
+				throw new IOException("Serialized message exceeds " + this.maxSize + " bytes");
+			}
+		}
+
+	}
+
+	private final class SerializedInputStream extends TransportInputStream {
+
+		@Override
+		protected InputStream createInputStream() {
+			return new ByteArrayInputStream(content);
+		}
+
+		@Override
+		public Iterator<String> getHeaderNames() {
+			return headers.keySet().iterator();
+		}
+
+		@Override
+		public Iterator<String> getHeaders(String name) {
+			List<String> values = headers.get(name);
+			return (values != null) ? values.iterator() : Collections.emptyIterator();
+		}
+
+	}
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.ws.support;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@code ByteArrayOutputStream} for UTF-8 encoded text that is logged, which stops the
+ * writer once its limit is reached. Writing past the limit throws an unchecked exception,
+ * so that serializing or transforming a large message stops early; callers check
+ * {@link #isLimitReached()} to tell that exception apart from actual errors.
+ * <p>
+ * Can be reused after a {@link #reset()}. Not thread-safe.
+ *
+ * @since 4.0.12
+ */
+public class TruncatingOutputStream extends ByteArrayOutputStream {
+
+	/**
+	 * The suffix appended to truncated content.
+	 */
+	public static final String TRUNCATED_SUFFIX = "... [truncated]";
+
+	private int limit;
+
+	private boolean limitReached;
+
+	/**
+	 * Create a new {@code TruncatingOutputStream}.
+	 * @param limit the maximum number of bytes held, or -1 for no limit
+	 */
+	public TruncatingOutputStream(int limit) {
+		super((limit >= 0) ? Math.min(limit, 1024) : 1024);
+		this.limit = limit;
+	}
+
+	/**
+	 * Sets the maximum number of bytes held, or -1 for no limit.
+	 */
+	public void setLimit(int limit) {
+		this.limit = limit;
+	}
+
+	/**
+	 * Indicates whether writing was stopped because the limit was reached.
+	 */
+	public boolean isLimitReached() {
+		return this.limitReached;
+	}
+
+	@Override
+	public void write(int b) {
+		if (this.limit >= 0 && this.count >= this.limit) {
+			reachLimit();
+		}
+		super.write(b);
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) {
+		if (this.limit >= 0 && len > this.limit - this.count) {
+			super.write(b, off, this.limit - this.count);
+			reachLimit();
+		}
+		super.write(b, off, len);
+	}
+
+	private void reachLimit() {
+		this.limitReached = true;
+		throw new LimitReachedException();
+	}
+
+	/**
+	 * Returns the content, decoded as UTF-8. Truncated content does not end with the
+	 * incomplete character cut off by the limit, if any, and is followed by
+	 * {@link #TRUNCATED_SUFFIX}.
+	 */
+	public String getContent() {
+		if (!this.limitReached) {
+			return toString(StandardCharsets.UTF_8);
+		}
+		return new String(this.buf, 0, characterBoundary(), StandardCharsets.UTF_8) + TRUNCATED_SUFFIX;
+	}
+
+	/**
+	 * Returns the length of the content without a trailing, incomplete UTF-8 encoded
+	 * character, cut off by the limit.
+	 */
+	private int characterBoundary() {
+		int start = this.count - 1;
+		while (start >= 0 && (this.buf[start] & 0xC0) == 0x80) {
+			start--;
+		}
+		if (start < 0) {
+			return this.count;
+		}
+		int lead = this.buf[start] & 0xFF;
+		int length = (lead >= 0xF0) ? 4 : (lead >= 0xE0) ? 3 : (lead >= 0xC0) ? 2 : 1;
+		return (this.count - start < length) ? start : this.count;
+	}
+
+	/**
+	 * Returns the size of the internal buffer, which grows as content is written.
+	 */
+	public int capacity() {
+		return this.buf.length;
+	}
+
+	@Override
+	public void reset() {
+		super.reset();
+		this.limitReached = false;
+	}
+
+	/**
+	 * Thrown to stop the writer once the limit is reached.
+	 */
+	@SuppressWarnings("serial")
+	private static final class LimitReachedException extends RuntimeException {
+
+		LimitReachedException() {
+			super("Maximum length reached", null, false, false);
+		}
+
+	}
+
+}
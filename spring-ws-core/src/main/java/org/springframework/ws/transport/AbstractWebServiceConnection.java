@@ -35,6 +35,10 @@ public abstract class AbstractWebServiceConnection implements WebServiceConnecti
 
 	private boolean closed = false;
 
+	private TransportStatistics statistics;
+
+	private MessageWrittenCallback messageWrittenCallback;
+
 	@Override
 	public final void send(WebServiceMessage message) throws IOException {
 		checkClosed();
@@ -43,9 +47,29 @@ public abstract class AbstractWebServiceConnection implements WebServiceConnecti
 		if (tos == null) {
 			return;
 		}
+		tos.setStatistics(statistics);
 		message.writeTo(tos);
 		tos.flush();
+		if (messageWrittenCallback != null) {
+			messageWrittenCallback.messageWritten(message);
+		}
 		onSendAfterWrite(message);
+		if (statistics != null) {
+			statistics.sendCompleted();
+		}
+	}
+
+	/**
+	 * Sets a callback invoked from {@link #send(WebServiceMessage)} once the message has
+	 * been written to the {@code TransportOutputStream}, and before
+	 * {@link #onSendAfterWrite(WebServiceMessage)} is called. Transports that buffer the
+	 * message only transmit it in {@code onSendAfterWrite}, so the callback tells the time
+	 * spent writing a message apart from the time spent transmitting it.
+	 * @param messageWrittenCallback the callback, or {@code null} if none
+	 * @since 4.0.12
+	 */
+	public void setMessageWrittenCallback(MessageWrittenCallback messageWrittenCallback) {
+		this.messageWrittenCallback = messageWrittenCallback;
 	}
 
 	/**
@@ -81,11 +105,15 @@ public abstract class AbstractWebServiceConnection implements WebServiceConnecti
 	@Override
 	public final WebServiceMessage receive(WebServiceMessageFactory messageFactory) throws IOException {
 		checkClosed();
+		if (statistics != null) {
+			statistics.receiveStarted();
+		}
 		onReceiveBeforeRead();
 		tis = createTransportInputStream();
 		if (tis == null) {
 			return null;
 		}
+		tis.setStatistics(statistics);
 		WebServiceMessage message = messageFactory.createWebServiceMessage(tis);
 		onReceiveAfterRead(message);
 		return message;
@@ -120,6 +148,27 @@ public abstract class AbstractWebServiceConnection implements WebServiceConnecti
 	protected void onReceiveAfterRead(WebServiceMessage message) throws IOException {
 	}
 
+	/**
+	 * Sets the statistics to record the I/O of this connection in: the bytes read and
+	 * written, and the time spent doing so. Must be set before a message is sent or
+	 * received. By default, no statistics are recorded.
+	 * @param statistics the statistics, or {@code null} to not record any
+	 * @since 4.0.12
+	 */
+	public void setStatistics(TransportStatistics statistics) {
+		this.statistics = statistics;
+	}
+
+	/**
+	 * Returns the I/O statistics of this connection.
+	 * @return the statistics, or {@code null} if none are recorded
+	 * @since 4.0.12
+	 * @see #setStatistics(TransportStatistics)
+	 */
+	public TransportStatistics getStatistics() {
+		return statistics;
+	}
+
 	@Override
 	public final void close() throws IOException {
 		IOException ioex = null;
@@ -159,4 +208,21 @@ public abstract class AbstractWebServiceConnection implements WebServiceConnecti
 	protected void onClose() throws IOException {
 	}
 
+	/**
+	 * Callback invoked once a message has been written to a connection.
+	 *
+	 * @since 4.0.12
+	 * @see #setMessageWrittenCallback(MessageWrittenCallback)
+	 */
+	@FunctionalInterface
+	public interface MessageWrittenCallback {
+
+		/**
+		 * Called once the given message has been written to the connection.
+		 * @param message the message
+		 */
+		void messageWritten(WebServiceMessage message);
+
+	}
+
 }
@@ -36,9 +36,18 @@ public abstract class TransportInputStream extends InputStream {
 
 	private InputStream inputStream;
 
+	private TransportStatistics statistics;
+
 	protected TransportInputStream() {
 	}
 
+	/**
+	 * Sets the statistics to record the bytes read, and the time spent reading, in.
+	 */
+	void setStatistics(TransportStatistics statistics) {
+		this.statistics = statistics;
+	}
+
 	private InputStream getInputStream() throws IOException {
 		if (inputStream == null) {
 			inputStream = createInputStream();
@@ -81,12 +90,24 @@ public abstract class TransportInputStream extends InputStream {
 
 	@Override
 	public int read(byte[] b) throws IOException {
-		return getInputStream().read(b);
+		if (statistics == null) {
+			return getInputStream().read(b);
+		}
+		long startTime = System.nanoTime();
+		int count = getInputStream().read(b);
+		statistics.recordRead(count, startTime);
+		return count;
 	}
 
 	@Override
 	public int read(byte[] b, int off, int len) throws IOException {
-		return getInputStream().read(b, off, len);
+		if (statistics == null) {
+			return getInputStream().read(b, off, len);
+		}
+		long startTime = System.nanoTime();
+		int count = getInputStream().read(b, off, len);
+		statistics.recordRead(count, startTime);
+		return count;
 	}
 
 	@Override
@@ -96,12 +117,24 @@ public abstract class TransportInputStream extends InputStream {
 
 	@Override
 	public long skip(long n) throws IOException {
-		return getInputStream().skip(n);
+		if (statistics == null) {
+			return getInputStream().skip(n);
+		}
+		long startTime = System.nanoTime();
+		long count = getInputStream().skip(n);
+		statistics.recordRead(count, startTime);
+		return count;
 	}
 
 	@Override
 	public int read() throws IOException {
-		return getInputStream().read();
+		if (statistics == null) {
+			return getInputStream().read();
+		}
+		long startTime = System.nanoTime();
+		int b = getInputStream().read();
+		statistics.recordRead((b != -1) ? 1 : 0, startTime);
+		return b;
 	}
 
 	/** Returns the input stream to read from. */
@@ -34,9 +34,18 @@ public abstract class TransportOutputStream extends OutputStream {
 
 	private OutputStream outputStream;
 
+	private TransportStatistics statistics;
+
 	protected TransportOutputStream() {
 	}
 
+	/**
+	 * Sets the statistics to record the bytes written, and the time spent writing, in.
+	 */
+	void setStatistics(TransportStatistics statistics) {
+		this.statistics = statistics;
+	}
+
 	private OutputStream getOutputStream() throws IOException {
 		if (outputStream == null) {
 			outputStream = createOutputStream();
@@ -55,23 +64,47 @@ public abstract class TransportOutputStream extends OutputStream {
 	@Override
 	public void flush() throws IOException {
 		if (outputStream != null) {
+			if (statistics == null) {
+				getOutputStream().flush();
+				return;
+			}
+			long startTime = System.nanoTime();
 			getOutputStream().flush();
+			statistics.recordWrite(0, startTime);
 		}
 	}
 
 	@Override
 	public void write(byte[] b) throws IOException {
+		if (statistics == null) {
+			getOutputStream().write(b);
+			return;
+		}
+		long startTime = System.nanoTime();
 		getOutputStream().write(b);
+		statistics.recordWrite(b.length, startTime);
 	}
 
 	@Override
 	public void write(byte[] b, int off, int len) throws IOException {
+		if (statistics == null) {
+			getOutputStream().write(b, off, len);
+			return;
+		}
+		long startTime = System.nanoTime();
 		getOutputStream().write(b, off, len);
+		statistics.recordWrite(len, startTime);
 	}
 
 	@Override
 	public void write(int b) throws IOException {
+		if (statistics == null) {
+			getOutputStream().write(b);
+			return;
+		}
+		long startTime = System.nanoTime();
 		getOutputStream().write(b);
+		statistics.recordWrite(1, startTime);
 	}
 
 	/**
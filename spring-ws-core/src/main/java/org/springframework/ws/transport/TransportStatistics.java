@@ -0,0 +1,149 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.transport;
+
+import java.time.Duration;
+
+/**
+ * I/O statistics of a single {@link WebServiceConnection}: the number of bytes read and
+ * written, the time spent reading and writing, and the time to first byte.
+ * <p>
+ * Recorded by the {@link TransportInputStream} and {@link TransportOutputStream} of
+ * connections that extend {@link AbstractWebServiceConnection}, once
+ * {@linkplain AbstractWebServiceConnection#setStatistics(TransportStatistics) set} on
+ * the connection, and exposed through the
+ * {@link org.springframework.ws.transport.context.TransportContext TransportContext}.
+ * Intended to be read by the thread that uses the connection.
+ * <p>
+ * The times measure the streams of the connection, which are not always backed by the
+ * network. Transports that buffer messages, such as the HttpComponents clients and
+ * asynchronously handled servlet requests, only write to or read from memory.
+ *
+ * @since 4.0.12
+ * @see AbstractWebServiceConnection#getStatistics()
+ * @see org.springframework.ws.transport.context.TransportContext#getStatistics()
+ */
+public class TransportStatistics {
+
+	private long bytesRead;
+
+	private long bytesWritten;
+
+	private long readTime;
+
+	private long writeTime;
+
+	private boolean sent;
+
+	private long sentTime;
+
+	private boolean receiving;
+
+	private long receiveStartTime;
+
+	private boolean firstByteRead;
+
+	private long firstByteTime;
+
+	void recordRead(long count, long startTime) {
+		long now = System.nanoTime();
+		this.readTime += now - startTime;
+		if (count > 0) {
+			this.bytesRead += count;
+			if (!this.firstByteRead) {
+				this.firstByteRead = true;
+				this.firstByteTime = now;
+			}
+		}
+	}
+
+	void recordWrite(long count, long startTime) {
+		this.writeTime += System.nanoTime() - startTime;
+		this.bytesWritten += count;
+	}
+
+	void sendCompleted() {
+		this.sent = true;
+		this.sentTime = System.nanoTime();
+	}
+
+	void receiveStarted() {
+		if (!this.receiving) {
+			this.receiving = true;
+			this.receiveStartTime = System.nanoTime();
+		}
+	}
+
+	/**
+	 * Returns the number of bytes read from the connection, excluding transport headers.
+	 */
+	public long getBytesRead() {
+		return this.bytesRead;
+	}
+
+	/**
+	 * Returns the number of bytes written to the connection, excluding transport headers.
+	 */
+	public long getBytesWritten() {
+		return this.bytesWritten;
+	}
+
+	/**
+	 * Returns the time spent reading from the connection, including the time spent opening
+	 * the underlying input stream. For messages that were buffered before being read, such
+	 * as asynchronously handled servlet requests, this is the time spent reading the
+	 * buffer.
+	 */
+	public Duration getReadTime() {
+		return Duration.ofNanos(this.readTime);
+	}
+
+	/**
+	 * Returns the time spent writing to the connection, including the time spent opening
+	 * and flushing the underlying output stream. For transports that buffer the message
+	 * and only transmit it once it has been written, such as the HttpComponents clients,
+	 * this is the time spent writing the buffer.
+	 */
+	public Duration getWriteTime() {
+		return Duration.ofNanos(this.writeTime);
+	}
+
+	/**
+	 * Returns the time between the moment the connection was ready to read, and the
+	 * moment the first byte was read. The connection is ready to read once a message was
+	 * sent over it, as is the case for clients, or once a message starts being received
+	 * otherwise. Transports that buffer the message, such as the HttpComponents clients,
+	 * only complete sending it once the response status has been received, so the time to
+	 * first byte excludes waiting for the response.
+	 * @return the time to first byte, or {@code null} if no byte has been read
+	 */
+	public Duration getTimeToFirstByte() {
+		if (!this.firstByteRead) {
+			return null;
+		}
+		long startTime = this.sent ? this.sentTime : this.receiveStartTime;
+		return Duration.ofNanos(Math.max(0, this.firstByteTime - startTime));
+	}
+
+	@Override
+	public String toString() {
+		return "TransportStatistics[bytesRead=" + this.bytesRead + ", bytesWritten=" + this.bytesWritten
+				+ ", readTime=" + getReadTime() + ", writeTime=" + getWriteTime() + ", timeToFirstByte="
+				+ getTimeToFirstByte() + "]";
+	}
+
+}
@@ -16,6 +16,8 @@
 
 package org.springframework.ws.transport.context;
 
+import org.springframework.ws.transport.AbstractWebServiceConnection;
+import org.springframework.ws.transport.TransportStatistics;
 import org.springframework.ws.transport.WebServiceConnection;
 
 /**
@@ -33,4 +35,19 @@ public interface TransportContext {
 	/** Returns the current {@code WebServiceConnection}. */
 	WebServiceConnection getConnection();
 
+	/**
+	 * Returns the I/O statistics of the current connection, if it records any.
+	 * <p>
+	 * Default implementation returns the
+	 * {@linkplain AbstractWebServiceConnection#setStatistics statistics} of connections
+	 * that extend {@link AbstractWebServiceConnection}, which is the case for all the
+	 * built-in transports.
+	 * @return the statistics, or {@code null} if not recorded
+	 * @since 4.0.12
+	 */
+	default TransportStatistics getStatistics() {
+		return (getConnection() instanceof AbstractWebServiceConnection connection) ? connection.getStatistics()
+				: null;
+	}
+
 }
@@ -19,6 +19,7 @@ package org.springframework.ws.transport.http;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.apache.hc.client5.http.HttpRoute;
@@ -31,6 +32,7 @@ import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
 import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.pool.PoolStats;
 import org.apache.hc.core5.util.Timeout;
 
 import org.springframework.beans.factory.FactoryBean;
@@ -248,6 +250,34 @@ public class HttpComponents5ClientFactory implements FactoryBean<CloseableHttpCl
 		return this.connectionManager;
 	}
 
+	/**
+	 * Returns the statistics of the connection pool of the created client: the number of
+	 * leased, pending, and available connections, and the maximum. Suitable for gauges.
+	 * @return the pool statistics, or {@code null} if the client has not been created yet
+	 * @since 4.0.12
+	 */
+	public PoolStats getTotalPoolStats() {
+		return (this.connectionManager != null) ? this.connectionManager.getTotalStats() : null;
+	}
+
+	/**
+	 * Returns the statistics of the connection pool of the created client, per target
+	 * host. The keys are the URIs of the target hosts, such as
+	 * {@code https://www.example.com:443}.
+	 * @return the pool statistics per host, or an empty map if the client has not been
+	 * created yet
+	 * @since 4.0.12
+	 */
+	public Map<String, PoolStats> getPoolStatsPerHost() {
+		Map<String, PoolStats> stats = new LinkedHashMap<>();
+		if (this.connectionManager != null) {
+			for (HttpRoute route : this.connectionManager.getRoutes()) {
+				stats.put(route.getTargetHost().toURI(), this.connectionManager.getStats(route));
+			}
+		}
+		return stats;
+	}
+
 	public void setClientBuilderCustomizer(HttpClientBuilderCustomizer clientBuilderCustomizer) {
 		this.clientBuilderCustomizer = clientBuilderCustomizer;
 	}
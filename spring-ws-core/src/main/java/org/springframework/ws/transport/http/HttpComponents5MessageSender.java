@@ -34,6 +34,7 @@ import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.hc.core5.http.HttpRequest;
 import org.apache.hc.core5.http.HttpRequestInterceptor;
 import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.pool.PoolStats;
 
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
@@ -180,6 +181,28 @@ public class HttpComponents5MessageSender extends AbstractHttpWebServiceMessageS
 		this.clientFactory.setMaxConnectionsPerHost(maxConnectionsPerHost);
 	}
 
+	/**
+	 * Returns the statistics of the connection pool, if the client was created by this
+	 * sender.
+	 * @return the pool statistics, or {@code null} if not available
+	 * @since 4.0.12
+	 * @see HttpComponents5ClientFactory#getTotalPoolStats()
+	 */
+	public PoolStats getTotalPoolStats() {
+		return (this.clientFactory != null) ? this.clientFactory.getTotalPoolStats() : null;
+	}
+
+	/**
+	 * Returns the statistics of the connection pool per target host, if the client was
+	 * created by this sender.
+	 * @return the pool statistics per host, or an empty map if not available
+	 * @since 4.0.12
+	 * @see HttpComponents5ClientFactory#getPoolStatsPerHost()
+	 */
+	public Map<String, PoolStats> getPoolStatsPerHost() {
+		return (this.clientFactory != null) ? this.clientFactory.getPoolStatsPerHost() : Map.of();
+	}
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
 
@@ -21,6 +21,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.security.Principal;
 import java.util.Iterator;
 
 import javax.xml.namespace.QName;
@@ -71,12 +72,31 @@ public class HttpServletConnection extends AbstractReceiverConnection
 		return httpServletResponse;
 	}
 
+	/**
+	 * Returns the principal authenticated by the servlet container, if any.
+	 * @see HttpServletRequest#getUserPrincipal()
+	 * @since 4.0.12
+	 */
+	public Principal getUserPrincipal() {
+		return getHttpServletRequest().getUserPrincipal();
+	}
+
 	@Override
 	public void endpointNotFound() {
 		getHttpServletResponse().setStatus(HttpTransportConstants.STATUS_NOT_FOUND);
 		statusCodeSet = true;
 	}
 
+	/**
+	 * Indicates that the server is overloaded, by setting the status to
+	 * {@code 503 Service Unavailable}.
+	 * @since 4.0.12
+	 */
+	public void serviceUnavailable() {
+		getHttpServletResponse().setStatus(HttpTransportConstants.STATUS_SERVICE_UNAVAILABLE);
+		statusCodeSet = true;
+	}
+
 	/*
 	 * Errors
 	 */
@@ -16,8 +16,10 @@
 
 package org.springframework.ws.transport.http;
 
+import java.time.Duration;
 import java.util.Map;
 
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
@@ -26,10 +28,12 @@ import org.springframework.beans.factory.BeanInitializationException;
 import org.springframework.beans.factory.BeanNameAware;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.context.ApplicationContext;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.servlet.DispatcherServlet;
 import org.springframework.web.servlet.FrameworkServlet;
 import org.springframework.ws.WebServiceMessageFactory;
+import org.springframework.ws.server.AdmissionController;
 import org.springframework.ws.server.EndpointAdapter;
 import org.springframework.ws.server.EndpointExceptionResolver;
 import org.springframework.ws.server.EndpointMapping;
@@ -59,6 +63,10 @@ import org.springframework.xml.xsd.XsdSchema;
  * {@code transformWsdlLocations} init-param is set to {@code true} in this servlet's
  * configuration in {@code web.xml}, all {@code location} attributes in the WSDL
  * definitions will reflect the URL of the incoming request.
+ * <p>
+ * When an {@link #setAsyncTaskExecutor(TaskExecutor) asyncTaskExecutor} is set, and this
+ * servlet is registered with asynchronous support, Web service messages are handled on
+ * that executor, so that the container thread is released while the endpoint runs.
  *
  * @author Arjen Poutsma
  * @see org.springframework.web.servlet.DispatcherServlet
@@ -138,6 +146,14 @@ public class MessageDispatcherServlet extends FrameworkServlet {
 
 	private boolean transformSchemaLocations = false;
 
+	private TaskExecutor asyncTaskExecutor;
+
+	private long asyncTimeout = -1;
+
+	private AdmissionController admissionController;
+
+	private ObservationRegistry observationRegistry;
+
 	/**
 	 * Public constructor, necessary for some Web application servers.
 	 */
@@ -197,6 +213,50 @@ public class MessageDispatcherServlet extends FrameworkServlet {
 		defaultStrategiesHelper = new DefaultStrategiesHelper(MessageDispatcherServlet.class);
 	}
 
+	/**
+	 * Sets the executor used to handle Web service messages asynchronously. Applied to
+	 * the {@link WebServiceMessageReceiverHandlerAdapter} of this servlet. By default,
+	 * messages are handled on the container thread.
+	 * @see WebServiceMessageReceiverHandlerAdapter#setAsyncTaskExecutor(TaskExecutor)
+	 */
+	public void setAsyncTaskExecutor(TaskExecutor asyncTaskExecutor) {
+		this.asyncTaskExecutor = asyncTaskExecutor;
+	}
+
+	/**
+	 * Sets the time, in milliseconds, after which an asynchronously handled message is
+	 * answered with a SOAP fault. Defaults to the timeout of the servlet container. Can be
+	 * set through the {@code asyncTimeout} init-param.
+	 * @see WebServiceMessageReceiverHandlerAdapter#setAsyncTimeout(Duration)
+	 */
+	public void setAsyncTimeout(long asyncTimeout) {
+		this.asyncTimeout = asyncTimeout;
+	}
+
+	/**
+	 * Sets the {@code AdmissionController} that limits the number of Web service messages
+	 * handled concurrently. Applied to the {@link WebServiceMessageReceiverHandlerAdapter}
+	 * of this servlet. Rejected messages receive a SOAP fault with status 503. By default,
+	 * messages are not limited.
+	 * @see WebServiceMessageReceiverHandlerAdapter#setAdmissionController(AdmissionController)
+	 */
+	public void setAdmissionController(AdmissionController admissionController) {
+		this.admissionController = admissionController;
+	}
+
+	/**
+	 * Sets the {@link ObservationRegistry} for observing every Web service message handled
+	 * by this servlet, with the time spent in each phase. Applied to the
+	 * {@link WebServiceMessageReceiverHandlerAdapter} of this servlet, and to its message
+	 * receiver if that is a {@link MessageDispatcher}. By default, messages are not
+	 * observed.
+	 * @see WebServiceMessageReceiverHandlerAdapter#setObservationRegistry(ObservationRegistry)
+	 * @see MessageDispatcher#setObservationRegistry(ObservationRegistry)
+	 */
+	public void setObservationRegistry(ObservationRegistry observationRegistry) {
+		this.observationRegistry = observationRegistry;
+	}
+
 	/** Returns the bean name used to lookup a {@link WebServiceMessageFactory}. */
 	public String getMessageFactoryBeanName() {
 		return messageFactoryBeanName;
@@ -407,6 +467,18 @@ public class MessageDispatcherServlet extends FrameworkServlet {
 				messageReceiverHandlerAdapter = new WebServiceMessageReceiverHandlerAdapter();
 			}
 			initWebServiceMessageFactory(context);
+			if (asyncTaskExecutor != null) {
+				messageReceiverHandlerAdapter.setAsyncTaskExecutor(asyncTaskExecutor);
+			}
+			if (asyncTimeout >= 0) {
+				messageReceiverHandlerAdapter.setAsyncTimeout(Duration.ofMillis(asyncTimeout));
+			}
+			if (admissionController != null) {
+				messageReceiverHandlerAdapter.setAdmissionController(admissionController);
+			}
+			if (observationRegistry != null) {
+				messageReceiverHandlerAdapter.setObservationRegistry(observationRegistry);
+			}
 			messageReceiverHandlerAdapter.afterPropertiesSet();
 		}
 		catch (Exception ex) {
@@ -478,6 +550,9 @@ public class MessageDispatcherServlet extends FrameworkServlet {
 				logger.debug("No MessageDispatcher found in servlet '" + getServletName() + "': using default");
 			}
 		}
+		if (observationRegistry != null && messageReceiver instanceof MessageDispatcher messageDispatcher) {
+			messageDispatcher.setObservationRegistry(observationRegistry);
+		}
 	}
 
 	private void initWsdlDefinitions(ApplicationContext context) {
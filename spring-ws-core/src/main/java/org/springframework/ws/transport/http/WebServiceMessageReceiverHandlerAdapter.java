@@ -16,12 +16,41 @@
 
 package org.springframework.ws.transport.http;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.xml.namespace.QName;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.servlet.HandlerAdapter;
 import org.springframework.web.servlet.ModelAndView;
+import org.springframework.ws.AdmissionRejectedException;
 import org.springframework.ws.InvalidXmlException;
+import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.server.AdmissionController;
+import org.springframework.ws.soap.SoapBody;
+import org.springframework.ws.soap.SoapMessage;
 import org.springframework.ws.transport.WebServiceConnection;
 import org.springframework.ws.transport.WebServiceMessageReceiver;
 import org.springframework.ws.transport.support.WebServiceMessageReceiverObjectSupport;
@@ -37,6 +66,24 @@ import org.springframework.ws.transport.support.WebServiceMessageReceiverObjectS
  * Note that the {@code MessageDispatcher} implements the
  * {@code WebServiceMessageReceiver} interface, enabling this adapter to function as a
  * gateway to further message handling logic.
+ * <p>
+ * When an {@link #setAsyncTaskExecutor(TaskExecutor) asyncTaskExecutor} is set, and the
+ * servlet supports asynchronous processing, messages are handled by that executor after
+ * starting asynchronous processing of the request, which releases the container thread.
+ * Requests that are not answered within the {@link #setAsyncTimeout(Duration)
+ * asyncTimeout} receive a SOAP fault.
+ * <p>
+ * Since the container recycles the request once it is answered, which may happen on
+ * timeout while the message is still being handled, the request body, headers, URI and
+ * user principal are read on the container thread, before asynchronous processing is
+ * started; the {@code HttpServletRequest} itself should not be accessed by endpoints.
+ * Requests with a body larger than the {@link #setAsyncMaxRequestSize(int)
+ * asyncMaxRequestSize} are answered with status 413: Payload Too Large. When an
+ * {@link #setAdmissionController admission controller} is set, requests are admitted
+ * before their body is read, and hold their permit until they are handled.
+ * Note that thread-bound state, such as the Spring Security {@code SecurityContext},
+ * the {@code RequestContextHolder} attributes or the logging MDC, is not propagated to
+ * the executor.
  *
  * @author Arjen Poutsma
  * @see #setMessageFactory(org.springframework.ws.WebServiceMessageFactory)
@@ -48,6 +95,58 @@ import org.springframework.ws.transport.support.WebServiceMessageReceiverObjectS
 public class WebServiceMessageReceiverHandlerAdapter extends WebServiceMessageReceiverObjectSupport
 		implements HandlerAdapter {
 
+	/**
+	 * The fault string of the SOAP fault returned when an asynchronous request times out.
+	 */
+	public static final String ASYNC_TIMEOUT_FAULT_STRING = "Request timed out";
+
+	/**
+	 * The default maximum size of the body of an asynchronously handled request, in bytes.
+	 */
+	public static final int DEFAULT_ASYNC_MAX_REQUEST_SIZE = 10 * 1024 * 1024;
+
+	private TaskExecutor asyncTaskExecutor;
+
+	private Duration asyncTimeout;
+
+	private int asyncMaxRequestSize = DEFAULT_ASYNC_MAX_REQUEST_SIZE;
+
+	/**
+	 * Sets the executor used to handle messages asynchronously. By default, messages are
+	 * handled on the container thread.
+	 * <p>
+	 * Asynchronous handling also requires the servlet, and any filter in front of it, to
+	 * support asynchronous processing. If it does not, messages are handled on the
+	 * container thread. If the executor rejects a message, it is handled on the container
+	 * thread as well.
+	 * @see HttpServletRequest#isAsyncSupported()
+	 */
+	public void setAsyncTaskExecutor(TaskExecutor asyncTaskExecutor) {
+		this.asyncTaskExecutor = asyncTaskExecutor;
+	}
+
+	/**
+	 * Sets the time after which an asynchronously handled request is answered with a SOAP
+	 * {@code Server} or {@code Receiver} fault. Defaults to the timeout of the servlet
+	 * container. Zero or a negative value disables the timeout.
+	 * @see AsyncContext#setTimeout(long)
+	 */
+	public void setAsyncTimeout(Duration asyncTimeout) {
+		this.asyncTimeout = asyncTimeout;
+	}
+
+	/**
+	 * Sets the maximum size of the body of an asynchronously handled request, in bytes.
+	 * Since the body is buffered in memory, on the container thread, before the message
+	 * is handed to the executor, larger requests are answered with status 413: Payload
+	 * Too Large. Default is 10 MB.
+	 */
+	public void setAsyncMaxRequestSize(int asyncMaxRequestSize) {
+		Assert.isTrue(asyncMaxRequestSize > 0 && asyncMaxRequestSize < Integer.MAX_VALUE,
+				"asyncMaxRequestSize must be positive, and less than Integer.MAX_VALUE");
+		this.asyncMaxRequestSize = asyncMaxRequestSize;
+	}
+
 	@Override
 	@Deprecated
 	public long getLastModified(HttpServletRequest request, Object handler) {
@@ -58,6 +157,10 @@ public class WebServiceMessageReceiverHandlerAdapter extends WebServiceMessageRe
 	public ModelAndView handle(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse,
 			Object handler) throws Exception {
 		if (HttpTransportConstants.METHOD_POST.equals(httpServletRequest.getMethod())) {
+			if (this.asyncTaskExecutor != null && httpServletRequest.isAsyncSupported()) {
+				handleAsync(httpServletRequest, httpServletResponse, handler);
+				return null;
+			}
 			WebServiceConnection connection = new HttpServletConnection(httpServletRequest, httpServletResponse);
 			try {
 				handleConnection(connection, (WebServiceMessageReceiver) handler);
@@ -72,6 +175,59 @@ public class WebServiceMessageReceiverHandlerAdapter extends WebServiceMessageRe
 		return null;
 	}
 
+	private void handleAsync(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse,
+			Object handler) throws Exception {
+		AdmissionController.Permit permit;
+		try {
+			permit = admit();
+		}
+		catch (AdmissionRejectedException ex) {
+			handleAdmissionRejectedException(ex, new HttpServletConnection(httpServletRequest, httpServletResponse),
+					(WebServiceMessageReceiver) handler);
+			return;
+		}
+		AsyncExchange exchange;
+		try {
+			BufferedRequest request = BufferedRequest.read(httpServletRequest, this.asyncMaxRequestSize);
+			if (request == null) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Request [" + httpServletRequest.getRequestURI() + "] exceeds the maximum size of "
+							+ this.asyncMaxRequestSize + " bytes");
+				}
+				httpServletResponse.setStatus(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+				releasePermit(permit);
+				return;
+			}
+			AsyncContext asyncContext = httpServletRequest.startAsync(httpServletRequest, httpServletResponse);
+			if (this.asyncTimeout != null) {
+				asyncContext.setTimeout(Math.max(this.asyncTimeout.toMillis(), 0));
+			}
+			exchange = new AsyncExchange(asyncContext, request, httpServletRequest, httpServletResponse, handler,
+					permit);
+			asyncContext.addListener(exchange);
+		}
+		catch (IOException | RuntimeException ex) {
+			releasePermit(permit);
+			throw ex;
+		}
+		try {
+			this.asyncTaskExecutor.execute(exchange);
+		}
+		catch (TaskRejectedException ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Asynchronous handling rejected, handling [" + httpServletRequest.getRequestURI()
+						+ "] on the container thread", ex);
+			}
+			exchange.run();
+		}
+	}
+
+	private static void releasePermit(AdmissionController.Permit permit) {
+		if (permit != null) {
+			permit.release();
+		}
+	}
+
 	@Override
 	public boolean supports(Object handler) {
 		return handler instanceof WebServiceMessageReceiver;
@@ -109,4 +265,298 @@ public class WebServiceMessageReceiverHandlerAdapter extends WebServiceMessageRe
 		httpServletResponse.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 	}
 
+	/**
+	 * Sets the response status to 503: Service Unavailable, and sends the response created
+	 * by {@link #createAdmissionRejectedResponse(AdmissionRejectedException)}, if any.
+	 */
+	@Override
+	protected void handleAdmissionRejectedException(AdmissionRejectedException ex, WebServiceConnection connection,
+			WebServiceMessageReceiver receiver) throws Exception {
+		if (connection instanceof HttpServletConnection httpServletConnection) {
+			httpServletConnection.serviceUnavailable();
+			WebServiceMessage response = createAdmissionRejectedResponse(ex);
+			if (response != null) {
+				connection.send(response);
+			}
+		}
+		else {
+			super.handleAdmissionRejectedException(ex, connection, receiver);
+		}
+	}
+
+	/**
+	 * Template method that is invoked when an asynchronously handled request times out.
+	 * <p>
+	 * Default implementation sends a SOAP {@code Server} or {@code Receiver} fault if the
+	 * message factory creates SOAP messages, and sets the response status to 503: Service
+	 * Unavailable otherwise. Can be overridden in subclasses.
+	 * @param httpServletRequest current HTTP request
+	 * @param httpServletResponse current HTTP response
+	 * @param handler current handler
+	 * @see #setAsyncTimeout(Duration)
+	 */
+	protected void handleAsyncTimeout(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse,
+			Object handler) throws Exception {
+		WebServiceMessage message = getMessageFactory().createWebServiceMessage();
+		if (message instanceof SoapMessage soapMessage) {
+			SoapBody body = soapMessage.getSoapBody();
+			body.addServerOrReceiverFault(ASYNC_TIMEOUT_FAULT_STRING, Locale.ENGLISH);
+			HttpServletConnection connection = new HttpServletConnection(httpServletRequest, httpServletResponse);
+			connection.setFaultCode(soapMessage.getFaultCode());
+			connection.send(message);
+		}
+		else {
+			httpServletResponse.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+		}
+	}
+
+	/**
+	 * Handles a message on the async executor, and answers the request on timeout. Both
+	 * race for the response: whichever touches it first owns it.
+	 */
+	private final class AsyncExchange implements Runnable, AsyncListener {
+
+		private final AsyncContext asyncContext;
+
+		private final BufferedRequest request;
+
+		private final HttpServletRequest httpServletRequest;
+
+		private final HttpServletResponse httpServletResponse;
+
+		private final Object handler;
+
+		private final AdmissionController.Permit permit;
+
+		private final AtomicBoolean responded = new AtomicBoolean();
+
+		private AsyncExchange(AsyncContext asyncContext, BufferedRequest request,
+				HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse, Object handler,
+				AdmissionController.Permit permit) {
+			this.asyncContext = asyncContext;
+			this.request = request;
+			this.httpServletRequest = httpServletRequest;
+			this.httpServletResponse = httpServletResponse;
+			this.handler = handler;
+			this.permit = permit;
+		}
+
+		@Override
+		public void run() {
+			AsyncHttpServletConnection connection = new AsyncHttpServletConnection(this);
+			try {
+				handleAdmittedConnection(connection, (WebServiceMessageReceiver) this.handler, this.permit);
+			}
+			catch (InvalidXmlException ex) {
+				if (connection.acquireResponse()) {
+					try {
+						handleInvalidXmlException(this.httpServletRequest, this.httpServletResponse, this.handler, ex);
+					}
+					catch (Exception ex2) {
+						handleException(ex2);
+					}
+				}
+			}
+			catch (Exception ex) {
+				if (connection.acquireResponse()) {
+					handleException(ex);
+				}
+			}
+			finally {
+				if (connection.acquireResponse()) {
+					this.asyncContext.complete();
+				}
+			}
+		}
+
+		private void handleException(Exception ex) {
+			logger.error("Could not handle [" + this.request.requestUri + "] asynchronously", ex);
+			if (!this.httpServletResponse.isCommitted()) {
+				this.httpServletResponse.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+			}
+		}
+
+		@Override
+		public void onTimeout(AsyncEvent event) throws IOException {
+			if (this.responded.compareAndSet(false, true)) {
+				try {
+					handleAsyncTimeout(this.httpServletRequest, this.httpServletResponse, this.handler);
+				}
+				catch (Exception ex) {
+					handleException(ex);
+				}
+				finally {
+					this.asyncContext.complete();
+				}
+			}
+		}
+
+		@Override
+		public void onError(AsyncEvent event) {
+			if (this.responded.compareAndSet(false, true)) {
+				this.asyncContext.complete();
+			}
+		}
+
+		@Override
+		public void onComplete(AsyncEvent event) {
+		}
+
+		@Override
+		public void onStartAsync(AsyncEvent event) {
+		}
+
+	}
+
+	/**
+	 * The parts of a request read by an {@link AsyncHttpServletConnection}, read on the
+	 * container thread.
+	 */
+	private static final class BufferedRequest {
+
+		private final byte[] body;
+
+		private final MultiValueMap<String, String> headers = CollectionUtils
+			.toMultiValueMap(new LinkedCaseInsensitiveMap<>(8, Locale.ENGLISH));
+
+		private final String scheme;
+
+		private final String serverName;
+
+		private final int serverPort;
+
+		private final String requestUri;
+
+		private final String queryString;
+
+		private final Principal userPrincipal;
+
+		private BufferedRequest(HttpServletRequest httpServletRequest, byte[] body) {
+			this.body = body;
+			for (String name : Collections.list(httpServletRequest.getHeaderNames())) {
+				this.headers.put(name, Collections.list(httpServletRequest.getHeaders(name)));
+			}
+			this.scheme = httpServletRequest.getScheme();
+			this.serverName = httpServletRequest.getServerName();
+			this.serverPort = httpServletRequest.getServerPort();
+			this.requestUri = httpServletRequest.getRequestURI();
+			this.queryString = httpServletRequest.getQueryString();
+			this.userPrincipal = httpServletRequest.getUserPrincipal();
+		}
+
+		/**
+		 * Reads the given request, or returns {@code null} if its body is larger than the
+		 * given maximum size.
+		 */
+		private static BufferedRequest read(HttpServletRequest httpServletRequest, int maxSize) throws IOException {
+			if (httpServletRequest.getContentLengthLong() > maxSize) {
+				return null;
+			}
+			byte[] body = httpServletRequest.getInputStream().readNBytes(maxSize + 1);
+			return (body.length <= maxSize) ? new BufferedRequest(httpServletRequest, body) : null;
+		}
+
+	}
+
+	/**
+	 * {@link HttpServletConnection} that reads the {@link BufferedRequest}, and only
+	 * writes to the response if the request did not time out in the meantime.
+	 */
+	private static final class AsyncHttpServletConnection extends HttpServletConnection {
+
+		private final AsyncExchange exchange;
+
+		private boolean ownsResponse;
+
+		private AsyncHttpServletConnection(AsyncExchange exchange) {
+			super(exchange.httpServletRequest, exchange.httpServletResponse);
+			this.exchange = exchange;
+		}
+
+		/**
+		 * Returns whether this connection owns the response, acquiring it if it is still
+		 * available.
+		 */
+		boolean acquireResponse() {
+			if (!this.ownsResponse) {
+				this.ownsResponse = this.exchange.responded.compareAndSet(false, true);
+			}
+			return this.ownsResponse;
+		}
+
+		private void requireResponse() throws IOException {
+			if (!acquireResponse()) {
+				throw new IOException("Asynchronous request timed out");
+			}
+		}
+
+		@Override
+		public Principal getUserPrincipal() {
+			return this.exchange.request.userPrincipal;
+		}
+
+		@Override
+		public URI getUri() throws URISyntaxException {
+			BufferedRequest request = this.exchange.request;
+			return new URI(request.scheme, null, request.serverName, request.serverPort, request.requestUri,
+					request.queryString, null);
+		}
+
+		@Override
+		public Iterator<String> getRequestHeaderNames() {
+			return this.exchange.request.headers.keySet().iterator();
+		}
+
+		@Override
+		public Iterator<String> getRequestHeaders(String name) {
+			List<String> values = this.exchange.request.headers.get(name);
+			return (values != null) ? values.iterator() : Collections.emptyIterator();
+		}
+
+		@Override
+		protected InputStream getRequestInputStream() {
+			return new ByteArrayInputStream(this.exchange.request.body);
+		}
+
+		@Override
+		public void endpointNotFound() {
+			if (acquireResponse()) {
+				super.endpointNotFound();
+			}
+		}
+
+		@Override
+		public void serviceUnavailable() {
+			if (acquireResponse()) {
+				super.serviceUnavailable();
+			}
+		}
+
+		@Override
+		public void addResponseHeader(String name, String value) throws IOException {
+			requireResponse();
+			super.addResponseHeader(name, value);
+		}
+
+		@Override
+		protected void onSendBeforeWrite(WebServiceMessage message) throws IOException {
+			requireResponse();
+			super.onSendBeforeWrite(message);
+		}
+
+		@Override
+		public void setFaultCode(QName faultCode) throws IOException {
+			requireResponse();
+			super.setFaultCode(faultCode);
+		}
+
+		@Override
+		public void onClose() throws IOException {
+			if (acquireResponse()) {
+				super.onClose();
+			}
+		}
+
+	}
+
 }
@@ -17,11 +17,16 @@
 package org.springframework.ws.transport.support;
 
 import java.io.IOException;
+import java.security.Principal;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.springframework.util.ClassUtils;
 import org.springframework.ws.transport.WebServiceConnection;
+import org.springframework.ws.transport.context.TransportContext;
+import org.springframework.ws.transport.context.TransportContextHolder;
+import org.springframework.ws.transport.http.HttpServletConnection;
 
 /**
  * Generic utility methods for working with Web service transports. Mainly for internal
@@ -34,6 +39,9 @@ public abstract class TransportUtils {
 
 	private static final Log logger = LogFactory.getLog(TransportUtils.class);
 
+	private static final boolean servletPresent = ClassUtils.isPresent("jakarta.servlet.http.HttpServletRequest",
+			TransportUtils.class.getClassLoader());
+
 	/**
 	 * Close the given {@link WebServiceConnection} and ignore any thrown exception. This
 	 * is useful for typical {@code finally} blocks.
@@ -53,4 +61,21 @@ public abstract class TransportUtils {
 		}
 	}
 
+	/**
+	 * Returns the principal that the transport of the current request authenticated, if
+	 * any. Only requests received over a servlet {@link HttpServletConnection} carry a
+	 * principal.
+	 * @return the authenticated principal, or {@code null} if there is no current
+	 * request, or if it was not authenticated
+	 * @since 4.0.12
+	 */
+	public static Principal getUserPrincipal() {
+		TransportContext transportContext = TransportContextHolder.getTransportContext();
+		if (servletPresent && transportContext != null
+				&& transportContext.getConnection() instanceof HttpServletConnection connection) {
+			return connection.getUserPrincipal();
+		}
+		return null;
+	}
+
 }
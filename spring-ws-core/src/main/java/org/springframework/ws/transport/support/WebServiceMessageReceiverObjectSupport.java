@@ -17,20 +17,33 @@
 package org.springframework.ws.transport.support;
 
 import java.net.URISyntaxException;
+import java.util.Locale;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.util.Assert;
+import org.springframework.ws.AdmissionRejectedException;
 import org.springframework.ws.FaultAwareWebServiceMessage;
 import org.springframework.ws.NoEndpointFoundException;
 import org.springframework.ws.WebServiceMessage;
 import org.springframework.ws.WebServiceMessageFactory;
 import org.springframework.ws.context.DefaultMessageContext;
 import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.server.AdmissionController;
+import org.springframework.ws.server.observation.DefaultMessageDispatchObservationConvention;
+import org.springframework.ws.server.observation.DispatchPhase;
+import org.springframework.ws.server.observation.MessageDispatchObservationContext;
+import org.springframework.ws.server.observation.MessageDispatchObservationConvention;
+import org.springframework.ws.server.observation.MessageDispatchObservationDocumentation;
+import org.springframework.ws.soap.SoapMessage;
+import org.springframework.ws.transport.AbstractWebServiceConnection;
 import org.springframework.ws.transport.EndpointAwareWebServiceConnection;
 import org.springframework.ws.transport.FaultAwareWebServiceConnection;
+import org.springframework.ws.transport.TransportStatistics;
 import org.springframework.ws.transport.WebServiceConnection;
 import org.springframework.ws.transport.WebServiceMessageReceiver;
 import org.springframework.ws.transport.context.DefaultTransportContext;
@@ -48,11 +61,21 @@ import org.springframework.ws.transport.context.TransportContextHolder;
  */
 public abstract class WebServiceMessageReceiverObjectSupport implements InitializingBean {
 
+	private static final MessageDispatchObservationConvention DEFAULT_OBSERVATION_CONVENTION = new DefaultMessageDispatchObservationConvention();
+
 	/** Logger available to subclasses. */
 	protected final Log logger = LogFactory.getLog(getClass());
 
 	private WebServiceMessageFactory messageFactory;
 
+	private AdmissionController admissionController;
+
+	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+	private MessageDispatchObservationConvention observationConvention;
+
+	private boolean recordTransportStatistics = false;
+
 	/** Returns the {@code WebServiceMessageFactory}. */
 	public WebServiceMessageFactory getMessageFactory() {
 		return messageFactory;
@@ -63,6 +86,49 @@ public abstract class WebServiceMessageReceiverObjectSupport implements Initiali
 		this.messageFactory = messageFactory;
 	}
 
+	/**
+	 * Sets the {@code AdmissionController} that limits the number of connections handled
+	 * concurrently. Connections are admitted before their message is read, so that
+	 * rejecting them is cheap. By default, connections are not limited.
+	 * @see #handleAdmissionRejectedException
+	 */
+	public void setAdmissionController(AdmissionController admissionController) {
+		this.admissionController = admissionController;
+	}
+
+	/**
+	 * Configure an {@link ObservationRegistry} for observing every connection handled,
+	 * with nested observations of parsing the request and writing the response. The
+	 * observation is completed by the {@link org.springframework.ws.server.MessageDispatcher
+	 * MessageDispatcher}, which adds the phases of the dispatch if it is configured with the
+	 * same registry. By default, {@link ObservationRegistry#NOOP} is used, and connections
+	 * are not observed.
+	 */
+	public void setObservationRegistry(ObservationRegistry observationRegistry) {
+		Assert.notNull(observationRegistry, "observationRegistry must not be null");
+		this.observationRegistry = observationRegistry;
+	}
+
+	/**
+	 * Configure a {@link MessageDispatchObservationConvention} that sets the name and key
+	 * values of message dispatch observations. By default, a
+	 * {@link DefaultMessageDispatchObservationConvention} is used.
+	 */
+	public void setObservationConvention(MessageDispatchObservationConvention observationConvention) {
+		this.observationConvention = observationConvention;
+	}
+
+	/**
+	 * Indicates whether the {@linkplain TransportStatistics I/O statistics} of every
+	 * connection handled are recorded, and exposed through the {@link TransportContext}.
+	 * Only applies to connections that extend {@link AbstractWebServiceConnection}.
+	 * Default is {@code false}.
+	 * @since 4.0.12
+	 */
+	public void setRecordTransportStatistics(boolean recordTransportStatistics) {
+		this.recordTransportStatistics = recordTransportStatistics;
+	}
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
 		Assert.notNull(messageFactory, "messageFactory is required");
@@ -82,13 +148,69 @@ public abstract class WebServiceMessageReceiverObjectSupport implements Initiali
 	 */
 	protected final void handleConnection(WebServiceConnection connection, WebServiceMessageReceiver receiver)
 			throws Exception {
+		handleConnection(connection, receiver, null, false);
+	}
+
+	/**
+	 * Admits a message with the {@linkplain #setAdmissionController(AdmissionController)
+	 * admission controller}, if any. Allows transports to admit a message before doing
+	 * any work for it, such as buffering its body, and to then pass the permit to
+	 * {@link #handleAdmittedConnection}.
+	 * @return the permit, to be released once the message is handled; or {@code null} if
+	 * there is no admission controller
+	 * @throws AdmissionRejectedException if the message is not admitted
+	 * @throws InterruptedException if interrupted while waiting to be admitted
+	 * @since 4.0.12
+	 */
+	protected final AdmissionController.Permit admit() throws InterruptedException {
+		return (admissionController != null) ? admissionController.acquire() : null;
+	}
+
+	/**
+	 * Handles an incoming connection like {@link #handleConnection}, for a message that
+	 * was already {@linkplain #admit() admitted}. The given permit is released once the
+	 * connection is handled.
+	 * @param connection the incoming connection
+	 * @param receiver the handler of the message
+	 * @param permit the permit returned by {@link #admit()}; may be {@code null}
+	 * @since 4.0.12
+	 */
+	protected final void handleAdmittedConnection(WebServiceConnection connection, WebServiceMessageReceiver receiver,
+			AdmissionController.Permit permit) throws Exception {
+		handleConnection(connection, receiver, permit, true);
+	}
+
+	private void handleConnection(WebServiceConnection connection, WebServiceMessageReceiver receiver,
+			AdmissionController.Permit permit, boolean admitted) throws Exception {
 		logUri(connection);
+		if (recordTransportStatistics && connection instanceof AbstractWebServiceConnection abstractConnection) {
+			abstractConnection.setStatistics(new TransportStatistics());
+		}
 		TransportContext previousTransportContext = TransportContextHolder.getTransportContext();
 		TransportContextHolder.setTransportContext(new DefaultTransportContext(connection));
 
+		MessageDispatchObservationContext observationContext = new MessageDispatchObservationContext();
+		Observation observation = MessageDispatchObservationDocumentation.MESSAGE_DISPATCH
+			.observation(observationConvention, DEFAULT_OBSERVATION_CONVENTION, () -> observationContext,
+					observationRegistry)
+			.start();
+		Observation.Scope scope = observation.openScope();
 		try {
-			WebServiceMessage request = connection.receive(getMessageFactory());
+			if (!admitted) {
+				permit = admit();
+			}
+			Observation phase = DispatchPhase.MESSAGE_PARSE.observation(null, observationRegistry).start();
+			WebServiceMessage request;
+			try {
+				request = connection.receive(getMessageFactory());
+			}
+			finally {
+				phase.stop();
+			}
 			MessageContext messageContext = new DefaultMessageContext(request, getMessageFactory());
+			if (!observation.isNoop()) {
+				observationContext.bind(messageContext);
+			}
 			receiver.receive(messageContext);
 			if (messageContext.hasResponse()) {
 				WebServiceMessage response = messageContext.getResponse();
@@ -96,13 +218,33 @@ public abstract class WebServiceMessageReceiverObjectSupport implements Initiali
 						&& connection instanceof FaultAwareWebServiceConnection faultConnection) {
 					faultConnection.setFaultCode(faultResponse.getFaultCode());
 				}
-				connection.send(messageContext.getResponse());
+				phase = DispatchPhase.RESPONSE_WRITE.observation(null, observationRegistry).start();
+				try {
+					connection.send(messageContext.getResponse());
+				}
+				finally {
+					phase.stop();
+				}
 			}
 		}
 		catch (NoEndpointFoundException ex) {
+			observation.error(ex);
 			handleNoEndpointFoundException(ex, connection, receiver);
 		}
+		catch (AdmissionRejectedException ex) {
+			observation.error(ex);
+			handleAdmissionRejectedException(ex, connection, receiver);
+		}
+		catch (Exception ex) {
+			observation.error(ex);
+			throw ex;
+		}
 		finally {
+			if (permit != null) {
+				permit.release();
+			}
+			scope.close();
+			observation.stop();
 			TransportUtils.closeConnection(connection);
 			TransportContextHolder.setTransportContext(previousTransportContext);
 		}
@@ -126,6 +268,52 @@ public abstract class WebServiceMessageReceiverObjectSupport implements Initiali
 		}
 	}
 
+	/**
+	 * Template method for handling {@code AdmissionRejectedException}s, thrown when the
+	 * {@linkplain #setAdmissionController(AdmissionController) admission controller} or
+	 * the receiver rejects a message.
+	 * <p>
+	 * Default implementation sends the response created by
+	 * {@link #createAdmissionRejectedResponse(AdmissionRejectedException)}, if any.
+	 * @param ex the {@code AdmissionRejectedException}
+	 * @param connection the current {@code WebServiceConnection}
+	 * @param receiver the {@code WebServiceMessageReceiver}
+	 * @throws Exception in case of errors
+	 */
+	protected void handleAdmissionRejectedException(AdmissionRejectedException ex, WebServiceConnection connection,
+			WebServiceMessageReceiver receiver) throws Exception {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Rejecting incoming [" + connection + "]: " + ex.getMessage());
+		}
+		WebServiceMessage response = createAdmissionRejectedResponse(ex);
+		if (response != null) {
+			if (response instanceof FaultAwareWebServiceMessage faultResponse
+					&& connection instanceof FaultAwareWebServiceConnection faultConnection) {
+				faultConnection.setFaultCode(faultResponse.getFaultCode());
+			}
+			connection.send(response);
+		}
+	}
+
+	/**
+	 * Creates the response to a message that was rejected by an
+	 * {@link AdmissionController}.
+	 * <p>
+	 * Default implementation creates a SOAP {@code Server} or {@code Receiver} fault if the
+	 * message factory creates SOAP messages, and returns {@code null} otherwise.
+	 * @param ex the {@code AdmissionRejectedException}
+	 * @return the response, or {@code null} if none
+	 * @throws Exception in case of errors
+	 */
+	protected WebServiceMessage createAdmissionRejectedResponse(AdmissionRejectedException ex) throws Exception {
+		WebServiceMessage response = getMessageFactory().createWebServiceMessage();
+		if (response instanceof SoapMessage soapMessage) {
+			soapMessage.getSoapBody().addServerOrReceiverFault(ex.getMessage(), Locale.ENGLISH);
+			return soapMessage;
+		}
+		return null;
+	}
+
 	private void logUri(WebServiceConnection connection) {
 		if (logger.isDebugEnabled()) {
 			try {
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.aot;
+
+import java.util.List;
+
+import jakarta.xml.bind.JAXBElement;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import jakarta.xml.bind.annotation.XmlType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.aot.test.generate.TestGenerationContext;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.ws.server.endpoint.annotation.Endpoint;
+import org.springframework.ws.server.endpoint.annotation.PayloadRoot;
+import org.springframework.ws.server.endpoint.annotation.RequestPayload;
+import org.springframework.ws.server.endpoint.annotation.ResponsePayload;
+import org.springframework.ws.soap.addressing.server.annotation.Action;
+import org.springframework.ws.soap.server.endpoint.annotation.SoapAction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EndpointBeanFactoryInitializationAotProcessorTest {
+
+	private EndpointBeanFactoryInitializationAotProcessor processor;
+
+	@BeforeEach
+	public void setUp() {
+		processor = new EndpointBeanFactoryInitializationAotProcessor();
+	}
+
+	@Test
+	public void noContributionWithoutEndpoints() {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerBeanDefinition("bean", new RootBeanDefinition(String.class));
+
+		assertThat(processor.processAheadOfTime(beanFactory)).isNull();
+	}
+
+	@Test
+	public void endpointMethodsHaveHints() throws Exception {
+		RuntimeHints hints = process(MyEndpoint.class);
+
+		assertThat(RuntimeHintsPredicates.reflection()
+			.onType(MyEndpoint.class)
+			.withMemberCategory(MemberCategory.INTROSPECT_DECLARED_METHODS)).accepts(hints);
+		assertThat(RuntimeHintsPredicates.reflection()
+			.onMethod(MyEndpoint.class.getDeclaredMethod("payloadRoot", MyRequest.class))
+			.invoke()).accepts(hints);
+		assertThat(RuntimeHintsPredicates.reflection()
+			.onMethod(MyEndpoint.class.getDeclaredMethod("soapAction", JAXBElement.class))
+			.invoke()).accepts(hints);
+		assertThat(RuntimeHintsPredicates.reflection().onMethod(MyEndpoint.class.getDeclaredMethod("action")).invoke())
+			.accepts(hints);
+		assertThat(RuntimeHintsPredicates.reflection().onMethod(MyEndpoint.class.getDeclaredMethod("other")).invoke())
+			.rejects(hints);
+	}
+
+	@Test
+	public void payloadTypesHaveHints() {
+		RuntimeHints hints = process(MyEndpoint.class);
+
+		assertThat(RuntimeHintsPredicates.reflection()
+			.onType(MyRequest.class)
+			.withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+			.accepts(hints);
+		assertThat(RuntimeHintsPredicates.reflection()
+			.onType(MyItem.class)
+			.withMemberCategory(MemberCategory.DECLARED_FIELDS)).accepts(hints);
+		assertThat(RuntimeHintsPredicates.reflection()
+			.onType(MyResponse.class)
+			.withMemberCategory(MemberCategory.DECLARED_FIELDS)).accepts(hints);
+		assertThat(RuntimeHintsPredicates.reflection()
+			.onType(MyElementType.class)
+			.withMemberCategory(MemberCategory.DECLARED_FIELDS)).accepts(hints);
+	}
+
+	private RuntimeHints process(Class<?> endpointClass) {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerBeanDefinition("endpoint", new RootBeanDefinition(endpointClass));
+		BeanFactoryInitializationAotContribution contribution = processor.processAheadOfTime(beanFactory);
+		assertThat(contribution).isNotNull();
+		TestGenerationContext generationContext = new TestGenerationContext();
+		contribution.applyTo(generationContext, null);
+		return generationContext.getRuntimeHints();
+	}
+
+	@Endpoint
+	static class MyEndpoint {
+
+		@PayloadRoot(localPart = "request", namespace = "http://example.com")
+		@ResponsePayload
+		public MyResponse payloadRoot(@RequestPayload MyRequest request) {
+			return new MyResponse();
+		}
+
+		@SoapAction("http://example.com/soapAction")
+		public void soapAction(@RequestPayload JAXBElement<MyElementType> request) {
+		}
+
+		@Action("http://example.com/action")
+		public void action() {
+		}
+
+		public void other() {
+		}
+
+	}
+
+	@XmlRootElement
+	static class MyRequest {
+
+		private List<MyItem> items;
+
+	}
+
+	@XmlType
+	static class MyItem {
+
+		private String name;
+
+	}
+
+	@XmlRootElement
+	static class MyResponse {
+
+		private String result;
+
+	}
+
+	@XmlType
+	static class MyElementType {
+
+		private String value;
+
+	}
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.aot;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.ws.server.endpoint.adapter.DefaultMethodEndpointAdapter;
+import org.springframework.ws.soap.saaj.SaajSoapMessageFactory;
+import org.springframework.ws.soap.server.SoapMessageDispatcher;
+import org.springframework.ws.soap.server.endpoint.mapping.SoapActionAnnotationMethodEndpointMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WebServicesRuntimeHintsTest {
+
+	private RuntimeHints hints;
+
+	@BeforeEach
+	public void setUp() {
+		hints = new RuntimeHints();
+		new WebServicesRuntimeHints().registerHints(hints, getClass().getClassLoader());
+	}
+
+	@Test
+	public void defaultStrategiesResourcesHaveHints() {
+		for (String location : WebServicesRuntimeHints.DEFAULT_STRATEGIES_LOCATIONS) {
+			assertThat(RuntimeHintsPredicates.resource().forResource(location)).accepts(hints);
+		}
+	}
+
+	@Test
+	public void defaultStrategiesHaveHints() {
+		assertThat(RuntimeHintsPredicates.reflection()
+			.onType(DefaultMethodEndpointAdapter.class)
+			.withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+		assertThat(RuntimeHintsPredicates.reflection()
+			.onType(SoapActionAnnotationMethodEndpointMapping.class)
+			.withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+		assertThat(RuntimeHintsPredicates.reflection()
+			.onType(SoapMessageDispatcher.class)
+			.withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+		assertThat(RuntimeHintsPredicates.reflection()
+			.onType(SaajSoapMessageFactory.class)
+			.withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+	}
+
+	@Test
+	public void configSchemasHaveHints() {
+		assertThat(RuntimeHintsPredicates.resource().forResource("org/springframework/ws/config/web-services-2.0.xsd"))
+			.accepts(hints);
+	}
+
+}
@@ -16,25 +16,49 @@
 
 package org.springframework.ws.client.core;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 import javax.xml.transform.Result;
 import javax.xml.transform.Source;
 
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.commons.logging.LogFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import org.springframework.oxm.Marshaller;
 import org.springframework.oxm.Unmarshaller;
 import org.springframework.ws.MockWebServiceMessage;
 import org.springframework.ws.MockWebServiceMessageFactory;
 import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.client.WebServiceIOException;
 import org.springframework.ws.client.WebServiceTransportException;
 import org.springframework.ws.client.support.destination.DestinationProvider;
 import org.springframework.ws.client.support.interceptor.ClientInterceptor;
 import org.springframework.ws.context.DefaultMessageContext;
 import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.support.MessageTracer;
+import org.springframework.ws.transport.AbstractWebServiceConnection;
 import org.springframework.ws.transport.FaultAwareWebServiceConnection;
+import org.springframework.ws.transport.MockTransportInputStream;
+import org.springframework.ws.transport.MockTransportOutputStream;
+import org.springframework.ws.transport.TransportInputStream;
+import org.springframework.ws.transport.TransportOutputStream;
 import org.springframework.ws.transport.WebServiceConnection;
 import org.springframework.ws.transport.WebServiceMessageSender;
 import org.springframework.xml.transform.StringResult;
@@ -43,6 +67,7 @@ import org.springframework.xml.transform.StringSource;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.isA;
 import static org.mockito.Mockito.isNull;
 import static org.mockito.Mockito.mock;
@@ -124,6 +149,142 @@ public class WebServiceTemplateTest {
 		assertThat(result).isEqualTo(extracted);
 	}
 
+	@Test
+	public void testSendAndReceiveObserved() throws Exception {
+
+		List<Observation.Context> observations = new ArrayList<>();
+		template.setObservationRegistry(createObservationRegistry(observations));
+
+		when(connectionMock.hasError()).thenReturn(false);
+		when(connectionMock.receive(messageFactory)).thenReturn(new MockWebServiceMessage("<response/>"));
+		when(connectionMock.hasFault()).thenReturn(false);
+
+		Object result = template.sendAndReceive(
+				request -> ((MockWebServiceMessage) request).setPayload("<request xmlns='urn:test'/>"),
+				response -> "result");
+
+		assertThat(result).isEqualTo("result");
+		assertThat(observations).extracting(Observation.Context::getName)
+			.containsExactly("spring.ws.client.requests.phase", "spring.ws.client.requests.phase",
+					"spring.ws.client.requests.phase", "spring.ws.client.requests.phase",
+					"spring.ws.client.requests.phase", "spring.ws.client.requests");
+		assertThat(observations.subList(0, 5))
+			.extracting(context -> context.getLowCardinalityKeyValue("phase").getValue())
+			.containsExactly("marshal", "send", "await.response", "response.parse", "unmarshal");
+		Observation.Context observation = observations.get(5);
+		assertThat(observation.getLowCardinalityKeyValue("operation").getValue()).isEqualTo("{urn:test}request");
+		assertThat(observation.getLowCardinalityKeyValue("outcome").getValue()).isEqualTo("SUCCESS");
+		assertThat(observation.getLowCardinalityKeyValue("fault.code").getValue()).isEqualTo("none");
+		assertThat(observation.getLowCardinalityKeyValue("exception").getValue()).isEqualTo("none");
+		assertThat(observation.getLowCardinalityKeyValue("client.name").getValue())
+			.isEqualTo("www.springframework.org");
+		assertThat(observation.getHighCardinalityKeyValue("uri").getValue())
+			.isEqualTo("http://www.springframework.org/spring-ws");
+	}
+
+	@Test
+	public void testSendAndReceiveObservedError() throws Exception {
+
+		List<Observation.Context> observations = new ArrayList<>();
+		template.setObservationRegistry(createObservationRegistry(observations));
+
+		doThrow(new IOException("connection refused")).when(connectionMock).send(isA(WebServiceMessage.class));
+
+		assertThatExceptionOfType(WebServiceIOException.class)
+			.isThrownBy(() -> template.sendAndReceive(
+					request -> ((MockWebServiceMessage) request).setPayload("<request xmlns='urn:test'/>"),
+					response -> "result"));
+
+		assertThat(observations).extracting(Observation.Context::getName)
+			.containsExactly("spring.ws.client.requests.phase", "spring.ws.client.requests.phase",
+					"spring.ws.client.requests");
+		assertThat(observations.get(1).getLowCardinalityKeyValue("phase").getValue()).isEqualTo("send");
+		Observation.Context observation = observations.get(2);
+		assertThat(observation.getLowCardinalityKeyValue("outcome").getValue()).isEqualTo("ERROR");
+		assertThat(observation.getLowCardinalityKeyValue("exception").getValue()).isEqualTo("IOException");
+	}
+
+	@Test
+	public void testSendAndReceiveObservedAwaitsBufferedRequest() throws Exception {
+
+		List<String> events = new ArrayList<>();
+		ObservationRegistry registry = ObservationRegistry.create();
+		registry.observationConfig().observationHandler(new ObservationHandler<>() {
+
+			@Override
+			public void onStart(Observation.Context context) {
+				phase(context).ifPresent(phase -> events.add("start " + phase));
+			}
+
+			@Override
+			public void onStop(Observation.Context context) {
+				phase(context).ifPresent(phase -> events.add("stop " + phase));
+			}
+
+			private Optional<String> phase(Observation.Context context) {
+				return Optional.ofNullable(context.getLowCardinalityKeyValue("phase")).map(KeyValue::getValue);
+			}
+
+			@Override
+			public boolean supportsContext(Observation.Context context) {
+				return true;
+			}
+
+		});
+		template.setObservationRegistry(registry);
+		template.setMessageSender(new WebServiceMessageSender() {
+
+			@Override
+			public WebServiceConnection createConnection(URI uri) {
+				return new BufferingConnection(uri, events);
+			}
+
+			@Override
+			public boolean supports(URI uri) {
+				return true;
+			}
+		});
+
+		Object result = template.sendAndReceive(
+				request -> ((MockWebServiceMessage) request).setPayload("<request xmlns='urn:test'/>"),
+				response -> "result");
+
+		assertThat(result).isEqualTo("result");
+		assertThat(events).containsExactly("start marshal", "stop marshal", "start send", "stop send",
+				"start await.response", "transmit", "stop await.response", "start response.parse",
+				"stop response.parse", "start unmarshal", "stop unmarshal");
+	}
+
+	@Test
+	public void testSendAndReceiveRecordsEvent(@TempDir Path tempDir) throws Exception {
+
+		when(connectionMock.hasError()).thenReturn(false);
+		when(connectionMock.receive(messageFactory)).thenReturn(new MockWebServiceMessage("<response/>"));
+		when(connectionMock.hasFault()).thenReturn(false);
+
+		Path file = tempDir.resolve("client.jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("org.springframework.ws.ClientExchange");
+			recording.start();
+			template.sendAndReceive(
+					request -> ((MockWebServiceMessage) request).setPayload("<request xmlns='urn:test'/>"),
+					response -> "result");
+			recording.stop();
+			recording.dump(file);
+		}
+
+		List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+		assertThat(events).singleElement().satisfies(event -> {
+			assertThat(event.getString("uri")).isEqualTo("http://www.springframework.org/spring-ws");
+			assertThat(event.getString("operation")).isEqualTo("{urn:test}request");
+			assertThat(event.getString("faultCode")).isNull();
+			assertThat(event.getString("exception")).isNull();
+			assertThat(event.getLong("awaitResponseTime")).isPositive();
+			assertThat(event.getLong("interceptorTime")).isZero();
+			assertThat(event.getLong("requestSize")).isEqualTo(-1);
+		});
+	}
+
 	@Test
 	public void testSendAndReceiveMessageNoResponse() throws Exception {
 
@@ -454,4 +615,79 @@ public class WebServiceTemplateTest {
 		assertThat(result).isNull();
 	}
 
+	@Test
+	public void testDestroyDestroysMessageTracer() throws Exception {
+
+		MessageTracer tracer = new MessageTracer();
+		template.setMessageTracer(tracer);
+
+		template.destroy();
+		tracer.trace(LogFactory.getLog(getClass()), "statement");
+
+		assertThat(tracer.getDroppedCount()).isEqualTo(1);
+	}
+
+	private static ObservationRegistry createObservationRegistry(List<Observation.Context> observations) {
+		ObservationRegistry registry = ObservationRegistry.create();
+		registry.observationConfig().observationHandler(new ObservationHandler<>() {
+
+			@Override
+			public void onStop(Observation.Context context) {
+				observations.add(context);
+			}
+
+			@Override
+			public boolean supportsContext(Observation.Context context) {
+				return true;
+			}
+
+		});
+		return registry;
+	}
+
+	/** Connection that only transmits the request once it has been written, like the HttpComponents clients. */
+	private static final class BufferingConnection extends AbstractWebServiceConnection {
+
+		private final URI uri;
+
+		private final List<String> events;
+
+		BufferingConnection(URI uri, List<String> events) {
+			this.uri = uri;
+			this.events = events;
+		}
+
+		@Override
+		protected TransportOutputStream createTransportOutputStream() {
+			return new MockTransportOutputStream(new ByteArrayOutputStream());
+		}
+
+		@Override
+		protected void onSendAfterWrite(WebServiceMessage message) {
+			this.events.add("transmit");
+		}
+
+		@Override
+		protected TransportInputStream createTransportInputStream() {
+			return new MockTransportInputStream(
+					new ByteArrayInputStream("<response/>".getBytes(StandardCharsets.UTF_8)));
+		}
+
+		@Override
+		public URI getUri() {
+			return this.uri;
+		}
+
+		@Override
+		public boolean hasError() {
+			return false;
+		}
+
+		@Override
+		public String getErrorMessage() {
+			return null;
+		}
+
+	}
+
 }
@@ -16,6 +16,7 @@
 
 package org.springframework.ws.config.annotation;
 
+import java.time.Duration;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -27,6 +28,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.core.MethodParameter;
 import org.springframework.ws.context.MessageContext;
 import org.springframework.ws.server.EndpointInterceptor;
+import org.springframework.ws.server.endpoint.adapter.BulkheadRegistry;
 import org.springframework.ws.server.endpoint.adapter.DefaultMethodEndpointAdapter;
 import org.springframework.ws.server.endpoint.adapter.method.MethodArgumentResolver;
 import org.springframework.ws.server.endpoint.adapter.method.MethodReturnValueHandler;
@@ -98,6 +100,18 @@ public class WsConfigurerAdapterTest {
 		assertThat(returnValueHandlers).isNotEmpty();
 	}
 
+	@Test
+	public void bulkheads() {
+
+		assertThat(this.applicationContext.getBeanNamesForType(BulkheadRegistry.class)).isEmpty();
+
+		BulkheadRegistry registry = this.applicationContext.getBean(WsConfigurationSupport.class)
+			.getBulkheadRegistry();
+
+		assertThat(registry.getBulkheads()).singleElement()
+			.satisfies(bulkhead -> assertThat(bulkhead.getName()).isEqualTo("orders"));
+	}
+
 	@Configuration
 	@EnableWs
 	public static class TestConfig extends WsConfigurerAdapter {
@@ -117,6 +131,11 @@ public class WsConfigurerAdapterTest {
 			returnValueHandlers.add(new MyReturnValueHandler());
 		}
 
+		@Override
+		public void configureBulkheads(BulkheadRegistry registry) {
+			registry.addBulkhead("orders").maxConcurrency(2).timeout(Duration.ofSeconds(1));
+		}
+
 	}
 
 	public static class MyInterceptor extends EndpointInterceptorAdapter {
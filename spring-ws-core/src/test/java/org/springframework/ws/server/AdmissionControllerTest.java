@@ -0,0 +1,129 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.server;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ws.AdmissionRejectedException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class AdmissionControllerTest {
+
+	private AdmissionController controller;
+
+	@BeforeEach
+	public void setUp() {
+		controller = new AdmissionController();
+		controller.setMaxConcurrency(2);
+	}
+
+	@Test
+	public void testAcquireRelease() throws Exception {
+
+		AdmissionController.Permit permit1 = controller.acquire();
+		AdmissionController.Permit permit2 = controller.acquire();
+
+		assertThat(controller.getInFlight()).isEqualTo(2);
+		assertThatExceptionOfType(AdmissionRejectedException.class).isThrownBy(controller::acquire)
+			.withMessage(AdmissionController.DEFAULT_REJECTION_FAULT_STRING);
+		assertThat(controller.getRejectedCount()).isEqualTo(1);
+
+		permit1.release();
+		permit1.release();
+
+		assertThat(controller.getInFlight()).isEqualTo(1);
+
+		controller.acquire();
+		permit2.release();
+
+		assertThat(controller.getInFlight()).isEqualTo(1);
+	}
+
+	@Test
+	public void testWait() throws Exception {
+
+		controller.setMaxQueueSize(1);
+		controller.setMaxWait(Duration.ofSeconds(10));
+		AdmissionController.Permit permit = controller.acquire();
+		controller.acquire();
+
+		CompletableFuture<AdmissionController.Permit> waiting = CompletableFuture.supplyAsync(() -> {
+			try {
+				return controller.acquire();
+			}
+			catch (InterruptedException ex) {
+				throw new IllegalStateException(ex);
+			}
+		});
+		while (controller.getQueued() == 0) {
+			Thread.sleep(10);
+		}
+
+		assertThatExceptionOfType(AdmissionRejectedException.class).isThrownBy(controller::acquire);
+
+		permit.release();
+
+		assertThat(waiting.get()).isNotNull();
+		assertThat(controller.getInFlight()).isEqualTo(2);
+		assertThat(controller.getQueued()).isZero();
+	}
+
+	@Test
+	public void testWaitTimeout() throws Exception {
+
+		controller.setMaxQueueSize(1);
+		controller.setMaxWait(Duration.ofMillis(10));
+		controller.acquire();
+		controller.acquire();
+
+		assertThatExceptionOfType(AdmissionRejectedException.class).isThrownBy(controller::acquire);
+		assertThat(controller.getQueued()).isZero();
+	}
+
+	@Test
+	public void testInterruptedWhileWaiting() throws Exception {
+
+		controller.setMaxQueueSize(1);
+		controller.setMaxWait(Duration.ofSeconds(10));
+		controller.acquire();
+		controller.acquire();
+
+		Thread.currentThread().interrupt();
+
+		assertThatExceptionOfType(InterruptedException.class).isThrownBy(controller::acquire);
+		assertThat(Thread.interrupted()).isFalse();
+		assertThat(controller.getQueued()).isZero();
+	}
+
+	@Test
+	public void testAdaptiveLimitStaysWithinBounds() throws Exception {
+
+		controller.setAdaptive(true);
+		for (int i = 0; i < 100; i++) {
+			controller.acquire().release();
+		}
+
+		assertThat(controller.getLimit()).isBetween(1, 2);
+	}
+
+}
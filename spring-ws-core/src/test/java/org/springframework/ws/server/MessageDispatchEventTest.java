@@ -0,0 +1,81 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.server;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.ws.MockWebServiceMessage;
+import org.springframework.ws.MockWebServiceMessageFactory;
+import org.springframework.ws.context.DefaultMessageContext;
+import org.springframework.ws.context.MessageContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MessageDispatchEventTest {
+
+	private static final Duration INVOCATION_TIME = Duration.ofMillis(20);
+
+	@Test
+	public void recordsDispatch(@TempDir Path tempDir) throws Exception {
+
+		MessageDispatcher dispatcher = new MessageDispatcher();
+		Object endpoint = new Object();
+		dispatcher.setEndpointMappings(Collections.singletonList(context -> new EndpointInvocationChain(endpoint)));
+		dispatcher.setEndpointAdapters(Collections.singletonList(new EndpointAdapter() {
+
+			@Override
+			public boolean supports(Object endpoint) {
+				return true;
+			}
+
+			@Override
+			public void invoke(MessageContext messageContext, Object endpoint) throws Exception {
+				Thread.sleep(INVOCATION_TIME.toMillis());
+			}
+
+		}));
+		MessageContext messageContext = new DefaultMessageContext(
+				new MockWebServiceMessage("<root xmlns='urn:test'/>"), new MockWebServiceMessageFactory());
+
+		Path file = tempDir.resolve("dispatch.jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("org.springframework.ws.MessageDispatch");
+			recording.start();
+			dispatcher.receive(messageContext);
+			recording.stop();
+			recording.dump(file);
+		}
+
+		List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+		assertThat(events).singleElement().satisfies(event -> {
+			assertThat(event.getString("operation")).isEqualTo("Object");
+			assertThat(event.getString("faultCode")).isNull();
+			assertThat(event.getDuration("invocationTime")).isGreaterThanOrEqualTo(INVOCATION_TIME);
+			assertThat(event.getDuration()).isGreaterThanOrEqualTo(INVOCATION_TIME);
+		});
+	}
+
+}
@@ -16,20 +16,31 @@
 
 package org.springframework.ws.server;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import org.apache.commons.logging.LogFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.ws.AdmissionRejectedException;
 import org.springframework.ws.MockWebServiceMessage;
 import org.springframework.ws.NoEndpointFoundException;
 import org.springframework.ws.WebServiceMessageFactory;
 import org.springframework.ws.context.DefaultMessageContext;
 import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.server.endpoint.MethodEndpoint;
 import org.springframework.ws.server.endpoint.adapter.PayloadEndpointAdapter;
+import org.springframework.ws.server.endpoint.interceptor.EndpointInterceptorAdapter;
 import org.springframework.ws.server.endpoint.mapping.PayloadRootQNameEndpointMapping;
+import org.springframework.ws.server.observation.MessageDispatchObservationContext;
 import org.springframework.ws.soap.server.endpoint.SimpleSoapExceptionResolver;
+import org.springframework.ws.support.MessageTracer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -402,6 +413,110 @@ public class MessageDispatcherTest {
 		assertThatExceptionOfType(NoEndpointFoundException.class).isThrownBy(() -> dispatcher.receive(messageContext));
 	}
 
+	@Test
+	public void testEndpointAdmissionRejected() throws Exception {
+
+		Object endpoint = new Object();
+		dispatcher.setEndpointMappings(Collections.singletonList(context -> new EndpointInvocationChain(endpoint)));
+		AdmissionController admissionController = new AdmissionController();
+		admissionController.setMaxConcurrency(1);
+		dispatcher.setEndpointAdmissionController(admissionController);
+		List<Exception> nestedExceptions = new ArrayList<>();
+		dispatcher.setEndpointAdapters(Collections.singletonList(new EndpointAdapter() {
+
+			@Override
+			public boolean supports(Object endpoint) {
+				return true;
+			}
+
+			@Override
+			public void invoke(MessageContext context, Object endpoint) {
+				if (context != messageContext) {
+					return;
+				}
+				try {
+					dispatcher.receive(new DefaultMessageContext(new MockWebServiceMessage(), factoryMock));
+				}
+				catch (Exception ex) {
+					nestedExceptions.add(ex);
+				}
+			}
+
+		}));
+
+		dispatcher.receive(messageContext);
+
+		assertThat(nestedExceptions).singleElement().isInstanceOf(AdmissionRejectedException.class);
+
+	}
+
+	@Test
+	public void testObservation() throws Exception {
+
+		messageContext = new DefaultMessageContext(new MockWebServiceMessage("<root xmlns='urn:test'/>"), factoryMock);
+		Object endpoint = new MethodEndpoint(this, "testObservation");
+		EndpointInterceptor interceptor = new EndpointInterceptorAdapter();
+		dispatcher.setEndpointMappings(Collections.singletonList(
+				context -> new EndpointInvocationChain(endpoint, new EndpointInterceptor[] { interceptor })));
+		EndpointAdapter adapterMock = createMock(EndpointAdapter.class);
+		dispatcher.setEndpointAdapters(Collections.singletonList(adapterMock));
+		List<Observation.Context> observations = new ArrayList<>();
+		dispatcher.setObservationRegistry(createObservationRegistry(observations));
+
+		expect(adapterMock.supports(endpoint)).andReturn(true);
+		adapterMock.invoke(messageContext, endpoint);
+
+		replay(adapterMock, factoryMock);
+
+		dispatcher.receive(messageContext);
+
+		verify(adapterMock, factoryMock);
+
+		assertThat(observations).extracting(Observation.Context::getName)
+			.containsExactly("spring.ws.server.requests.phase", "spring.ws.server.requests.phase",
+					"spring.ws.server.requests.phase", "spring.ws.server.requests");
+		assertThat(observations.subList(0, 3))
+			.extracting(context -> context.getLowCardinalityKeyValue("phase").getValue())
+			.containsExactly("endpoint.mapping", "interceptor", "endpoint.invocation");
+		assertThat(observations.get(1).getLowCardinalityKeyValue("component").getValue())
+			.isEqualTo("EndpointInterceptorAdapter");
+		Observation.Context observation = observations.get(3);
+		assertThat(observation.getLowCardinalityKeyValue("operation").getValue())
+			.isEqualTo("MessageDispatcherTest#testObservation");
+		assertThat(observation.getLowCardinalityKeyValue("outcome").getValue()).isEqualTo("SUCCESS");
+		assertThat(observation.getLowCardinalityKeyValue("fault.code").getValue()).isEqualTo("none");
+		assertThat(observation.getLowCardinalityKeyValue("exception").getValue()).isEqualTo("none");
+		assertThat(MessageDispatchObservationContext.get(messageContext)).isSameAs(observation);
+	}
+
+	@Test
+	public void testObservationNoEndpointFound() {
+
+		dispatcher.setEndpointMappings(Collections.emptyList());
+		List<Observation.Context> observations = new ArrayList<>();
+		dispatcher.setObservationRegistry(createObservationRegistry(observations));
+
+		assertThatExceptionOfType(NoEndpointFoundException.class).isThrownBy(() -> dispatcher.receive(messageContext));
+
+		assertThat(observations).last().satisfies(observation -> {
+			assertThat(observation.getLowCardinalityKeyValue("operation").getValue())
+				.isEqualTo(MessageDispatchObservationContext.UNKNOWN_OPERATION);
+			assertThat(observation.getLowCardinalityKeyValue("outcome").getValue()).isEqualTo("ERROR");
+			assertThat(observation.getLowCardinalityKeyValue("exception").getValue())
+				.isEqualTo("NoEndpointFoundException");
+		});
+	}
+
+	@Test
+	public void testNotObservedByDefault() throws Exception {
+
+		dispatcher.setEndpointMappings(Collections.emptyList());
+
+		assertThatExceptionOfType(NoEndpointFoundException.class).isThrownBy(() -> dispatcher.receive(messageContext));
+
+		assertThat(MessageDispatchObservationContext.get(messageContext)).isNull();
+	}
+
 	@Test
 	public void testDetectStrategies() {
 
@@ -430,4 +545,34 @@ public class MessageDispatcherTest {
 		dispatcher.setApplicationContext(applicationContext);
 	}
 
+	@Test
+	public void testDestroyDestroysMessageTracer() throws Exception {
+
+		MessageTracer tracer = new MessageTracer();
+		dispatcher.setMessageTracer(tracer);
+
+		dispatcher.destroy();
+		tracer.trace(LogFactory.getLog(getClass()), "statement");
+
+		assertThat(tracer.getDroppedCount()).isEqualTo(1);
+	}
+
+	private static ObservationRegistry createObservationRegistry(List<Observation.Context> observations) {
+		ObservationRegistry registry = ObservationRegistry.create();
+		registry.observationConfig().observationHandler(new ObservationHandler<>() {
+
+			@Override
+			public void onStop(Observation.Context context) {
+				observations.add(context);
+			}
+
+			@Override
+			public boolean supportsContext(Observation.Context context) {
+				return true;
+			}
+
+		});
+		return registry;
+	}
+
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.server.endpoint.adapter;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ws.transport.context.DefaultTransportContext;
+import org.springframework.ws.transport.context.TransportContext;
+import org.springframework.ws.transport.context.TransportContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+public class BulkheadTest {
+
+	private Bulkhead bulkhead;
+
+	@BeforeEach
+	public void setUp() {
+		bulkhead = new Bulkhead("test", 1, 0, Duration.ofSeconds(10));
+	}
+
+	@AfterEach
+	public void tearDown() {
+		bulkhead.destroy();
+		TransportContextHolder.setTransportContext(null);
+	}
+
+	@Test
+	public void testExecute() throws Exception {
+
+		TransportContext transportContext = new DefaultTransportContext(null);
+		TransportContextHolder.setTransportContext(transportContext);
+
+		Object[] result = bulkhead.execute(() -> new Object[] { Thread.currentThread().getName(),
+				TransportContextHolder.getTransportContext() });
+
+		assertThat((String) result[0]).startsWith("bulkhead-test-");
+		assertThat(result[1]).isSameAs(transportContext);
+	}
+
+	@Test
+	public void testExecuteException() {
+
+		assertThatIllegalStateException().isThrownBy(() -> bulkhead.execute(() -> {
+			throw new IllegalStateException();
+		}));
+	}
+
+	@Test
+	public void testFull() throws Exception {
+
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<Object> running = CompletableFuture.supplyAsync(() -> {
+			try {
+				return bulkhead.execute(() -> {
+					started.countDown();
+					return release.await(10, TimeUnit.SECONDS);
+				});
+			}
+			catch (Exception ex) {
+				throw new IllegalStateException(ex);
+			}
+		});
+		started.await(10, TimeUnit.SECONDS);
+
+		assertThatExceptionOfType(BulkheadFullException.class).isThrownBy(() -> bulkhead.execute(() -> null));
+		assertThat(bulkhead.getRejectedCount()).isEqualTo(1);
+		assertThat(bulkhead.getActiveCount()).isEqualTo(1);
+
+		release.countDown();
+
+		assertThat(running.get()).isEqualTo(true);
+	}
+
+	@Test
+	public void testTimeout() {
+
+		Bulkhead timeoutBulkhead = new Bulkhead("timeout", 1, 0, Duration.ofMillis(10));
+		try {
+			assertThatExceptionOfType(TimeoutException.class).isThrownBy(() -> timeoutBulkhead.execute(() -> {
+				Thread.sleep(10000);
+				return null;
+			}));
+			assertThat(timeoutBulkhead.getTimeoutCount()).isEqualTo(1);
+		}
+		finally {
+			timeoutBulkhead.destroy();
+		}
+	}
+
+}
@@ -17,11 +17,17 @@
 package org.springframework.ws.server.endpoint.adapter;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeoutException;
 
+import org.easymock.Capture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
 
 import org.springframework.core.MethodParameter;
 import org.springframework.ws.MockWebServiceMessage;
@@ -33,7 +39,10 @@ import org.springframework.ws.server.endpoint.adapter.method.MethodArgumentResol
 import org.springframework.ws.server.endpoint.adapter.method.MethodReturnValueHandler;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIOException;
 import static org.assertj.core.api.Assertions.fail;
+import static org.easymock.EasyMock.capture;
 import static org.easymock.EasyMock.createMock;
 import static org.easymock.EasyMock.eq;
 import static org.easymock.EasyMock.expect;
@@ -214,6 +223,102 @@ public class DefaultMethodEndpointAdapterTest {
 		verify(argumentResolver1, argumentResolver2, returnValueHandler);
 	}
 
+	@Test
+	public void supportsCompletionStage() throws Exception {
+
+		Capture<MethodParameter> returnType = Capture.newInstance();
+		expect(argumentResolver1.supportsParameter(isA(MethodParameter.class))).andReturn(true);
+		expect(returnValueHandler.supportsReturnType(capture(returnType))).andReturn(true);
+
+		replay(argumentResolver1, argumentResolver2, returnValueHandler);
+
+		boolean result = adapter.supports(new MethodEndpoint(this, "completionStage", String.class));
+
+		assertThat(result).isTrue();
+		assertThat(returnType.getValue().getParameterType()).isEqualTo(String.class);
+
+		verify(argumentResolver1, argumentResolver2, returnValueHandler);
+	}
+
+	@Test
+	public void invokeCompletionStage() throws Exception {
+
+		MockWebServiceMessage request = new MockWebServiceMessage("<root xmlns='http://springframework.org'/>");
+		MessageContext messageContext = new DefaultMessageContext(request, new MockWebServiceMessageFactory());
+
+		String value = "Foo";
+
+		expect(argumentResolver1.supportsParameter(isA(MethodParameter.class))).andReturn(true);
+		expect(argumentResolver1.resolveArgument(eq(messageContext), isA(MethodParameter.class))).andReturn(value);
+
+		expect(returnValueHandler.supportsReturnType(isA(MethodParameter.class))).andReturn(true);
+		returnValueHandler.handleReturnValue(eq(messageContext), isA(MethodParameter.class), eq(value));
+
+		replay(argumentResolver1, argumentResolver2, returnValueHandler);
+
+		adapter.invoke(messageContext, new MethodEndpoint(this, "completionStage", String.class));
+
+		assertThat(supportedArgument).isEqualTo(value);
+
+		verify(argumentResolver1, argumentResolver2, returnValueHandler);
+	}
+
+	@Test
+	public void invokeMono() throws Exception {
+
+		MockWebServiceMessage request = new MockWebServiceMessage("<root xmlns='http://springframework.org'/>");
+		MessageContext messageContext = new DefaultMessageContext(request, new MockWebServiceMessageFactory());
+
+		String value = "Foo";
+
+		expect(argumentResolver1.supportsParameter(isA(MethodParameter.class))).andReturn(true);
+		expect(argumentResolver1.resolveArgument(eq(messageContext), isA(MethodParameter.class))).andReturn(value);
+
+		expect(returnValueHandler.supportsReturnType(isA(MethodParameter.class))).andReturn(true);
+		returnValueHandler.handleReturnValue(eq(messageContext), isA(MethodParameter.class), eq(value));
+
+		replay(argumentResolver1, argumentResolver2, returnValueHandler);
+
+		adapter.invoke(messageContext, new MethodEndpoint(this, "mono", String.class));
+
+		verify(argumentResolver1, argumentResolver2, returnValueHandler);
+	}
+
+	@Test
+	public void invokeCompletionStageException() throws Exception {
+
+		MockWebServiceMessage request = new MockWebServiceMessage("<root xmlns='http://springframework.org'/>");
+		MessageContext messageContext = new DefaultMessageContext(request, new MockWebServiceMessageFactory());
+
+		expect(argumentResolver1.supportsParameter(isA(MethodParameter.class))).andReturn(true);
+		expect(argumentResolver1.resolveArgument(eq(messageContext), isA(MethodParameter.class))).andReturn("Foo");
+
+		replay(argumentResolver1, argumentResolver2, returnValueHandler);
+
+		assertThatIOException().isThrownBy(() -> adapter.invoke(messageContext,
+				new MethodEndpoint(this, "failedCompletionStage", String.class)));
+
+		verify(argumentResolver1, argumentResolver2, returnValueHandler);
+	}
+
+	@Test
+	public void invokeCompletionStageTimeout() throws Exception {
+
+		adapter.setAsyncResultTimeout(Duration.ofMillis(10));
+		MockWebServiceMessage request = new MockWebServiceMessage("<root xmlns='http://springframework.org'/>");
+		MessageContext messageContext = new DefaultMessageContext(request, new MockWebServiceMessageFactory());
+
+		expect(argumentResolver1.supportsParameter(isA(MethodParameter.class))).andReturn(true);
+		expect(argumentResolver1.resolveArgument(eq(messageContext), isA(MethodParameter.class))).andReturn("Foo");
+
+		replay(argumentResolver1, argumentResolver2, returnValueHandler);
+
+		assertThatExceptionOfType(TimeoutException.class).isThrownBy(() -> adapter.invoke(messageContext,
+				new MethodEndpoint(this, "incompleteCompletionStage", String.class)));
+
+		verify(argumentResolver1, argumentResolver2, returnValueHandler);
+	}
+
 	public String supported(String s, Integer i) {
 
 		supportedArgument = s;
@@ -237,4 +342,22 @@ public class DefaultMethodEndpointAdapterTest {
 		throw new IOException(s);
 	}
 
+	public CompletionStage<String> completionStage(String s) {
+
+		supportedArgument = s;
+		return CompletableFuture.supplyAsync(() -> s);
+	}
+
+	public Mono<String> mono(String s) {
+		return Mono.just(s);
+	}
+
+	public CompletionStage<String> failedCompletionStage(String s) {
+		return CompletableFuture.failedFuture(new IOException(s));
+	}
+
+	public CompletionStage<String> incompleteCompletionStage(String s) {
+		return new CompletableFuture<>();
+	}
+
 }
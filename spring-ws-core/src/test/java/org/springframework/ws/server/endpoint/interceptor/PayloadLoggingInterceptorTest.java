@@ -0,0 +1,108 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.server.endpoint.interceptor;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ws.MockWebServiceMessage;
+import org.springframework.ws.MockWebServiceMessageFactory;
+import org.springframework.ws.context.DefaultMessageContext;
+import org.springframework.ws.context.MessageContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PayloadLoggingInterceptorTest {
+
+	private RecordingInterceptor interceptor;
+
+	private MessageContext messageContext;
+
+	@BeforeEach
+	public void setUp() {
+		interceptor = new RecordingInterceptor();
+		messageContext = new DefaultMessageContext(new MockWebServiceMessage("<root>0123456789</root>"),
+				new MockWebServiceMessageFactory());
+	}
+
+	@Test
+	public void testHandleRequest() throws Exception {
+		interceptor.handleRequest(messageContext, null);
+
+		assertThat(interceptor.messages).containsExactly("Request: <root>0123456789</root>");
+	}
+
+	@Test
+	public void testHandleRequestTruncated() throws Exception {
+		interceptor.setMaxLogLength(10);
+
+		interceptor.handleRequest(messageContext, null);
+
+		assertThat(interceptor.messages).containsExactly("Request: <root>0123... [truncated]");
+	}
+
+	@Test
+	public void testHandleRequestTruncatedAtCharacterBoundary() throws Exception {
+		// e acute takes 2 bytes in UTF-8, the euro sign 3, and the emoji 4
+		messageContext = new DefaultMessageContext(
+				new MockWebServiceMessage("<root>\u00e9\u20ac\ud83d\ude00</root>"), new MockWebServiceMessageFactory());
+		interceptor.setMaxLogLength(10);
+
+		interceptor.handleRequest(messageContext, null);
+
+		assertThat(interceptor.messages).containsExactly("Request: <root>\u00e9... [truncated]");
+
+		for (int maxLogLength = 6; maxLogLength < 16; maxLogLength++) {
+			interceptor.setMaxLogLength(maxLogLength);
+			interceptor.handleRequest(messageContext, null);
+		}
+		assertThat(interceptor.messages).noneMatch(message -> message.indexOf('\uFFFD') >= 0);
+	}
+
+	@Test
+	public void testHandleRequestAsync() throws Exception {
+		interceptor.setAsync(true);
+
+		interceptor.handleRequest(messageContext, null);
+		interceptor.handleRequest(messageContext, null);
+		interceptor.destroy();
+
+		assertThat(interceptor.messages).containsExactly("Request: <root>0123456789</root>",
+				"Request: <root>0123456789</root>");
+		assertThat(interceptor.getDroppedLogCount()).isZero();
+	}
+
+	private static final class RecordingInterceptor extends PayloadLoggingInterceptor {
+
+		private final List<String> messages = new CopyOnWriteArrayList<>();
+
+		@Override
+		protected boolean isLogEnabled() {
+			return true;
+		}
+
+		@Override
+		protected void logMessage(String message) {
+			messages.add(message);
+		}
+
+	}
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.soap.addressing.messageid;
+
+import java.net.URI;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TimeOrderedUuidMessageIdStrategyTest {
+
+	private MessageIdStrategy strategy;
+
+	@BeforeEach
+	public final void setUp() {
+		strategy = new TimeOrderedUuidMessageIdStrategy();
+	}
+
+	@Test
+	public void testStrategy() {
+
+		URI messageId1 = strategy.newMessageId(null);
+
+		assertThat(messageId1).isNotNull();
+		assertThat(messageId1.toString()).startsWith(UuidMessageIdStrategy.PREFIX);
+
+		URI messageId2 = strategy.newMessageId(null);
+
+		assertThat(messageId2).isNotNull();
+		assertThat(messageId2).isNotEqualTo(messageId1);
+	}
+
+	@Test
+	public void testVersionAndVariant() {
+
+		URI messageId = strategy.newMessageId(null);
+		UUID uuid = UUID.fromString(messageId.toString().substring(UuidMessageIdStrategy.PREFIX.length()));
+
+		assertThat(uuid.version()).isEqualTo(7);
+		assertThat(uuid.variant()).isEqualTo(2);
+	}
+
+	@Test
+	public void testTimeOrdered() {
+
+		UUID earlier = TimeOrderedUuidMessageIdStrategy.newUuid(1_700_000_000_000L);
+		UUID later = TimeOrderedUuidMessageIdStrategy.newUuid(1_700_000_000_001L);
+
+		assertThat(earlier.getMostSignificantBits() >>> 16).isEqualTo(1_700_000_000_000L);
+		assertThat(Long.compareUnsigned(earlier.getMostSignificantBits(), later.getMostSignificantBits()))
+			.isNegative();
+	}
+
+}
@@ -16,13 +16,18 @@
 
 package org.springframework.ws.soap.addressing.server;
 
+import java.io.IOException;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.ws.context.DefaultMessageContext;
 import org.springframework.ws.context.MessageContext;
 import org.springframework.ws.soap.SoapHeaderElement;
@@ -227,6 +232,85 @@ public abstract class AbstractAddressingInterceptorTest extends AbstractWsAddres
 		verify(strategyMock, senderMock, connectionMock);
 	}
 
+	@Test
+	public void testOutOfBandReplyToAsynchronous() throws Exception {
+
+		WebServiceMessageSender senderMock = createMock(WebServiceMessageSender.class);
+		List<Runnable> tasks = new ArrayList<>();
+		TaskExecutor executor = tasks::add;
+
+		URI replyAction = new URI("urn:replyAction");
+		URI faultAction = new URI("urn:replyAction");
+		interceptor = new AddressingEndpointInterceptor(getVersion(), strategyMock,
+				new WebServiceMessageSender[] { senderMock }, replyAction, faultAction, executor, 2, 0);
+
+		WebServiceConnection connectionMock = createMock(WebServiceConnection.class);
+
+		SaajSoapMessage valid = loadSaajMessage(getTestPath() + "/valid.xml");
+		MessageContext context = new DefaultMessageContext(valid, new SaajSoapMessageFactory(messageFactory));
+		SaajSoapMessage response = (SaajSoapMessage) context.getResponse();
+
+		URI messageId = new URI("uid:1234");
+		expect(strategyMock.newMessageId((SoapMessage) context.getResponse())).andReturn(messageId);
+
+		URI uri = new URI("http://example.com/business/client1");
+		expect(senderMock.supports(uri)).andReturn(true);
+		expect(senderMock.createConnection(uri)).andThrow(new IOException("Connection refused"));
+		expect(senderMock.createConnection(uri)).andReturn(connectionMock);
+		connectionMock.send(response);
+		connectionMock.close();
+
+		replay(strategyMock, senderMock, connectionMock);
+
+		boolean result = interceptor.handleResponse(context, null);
+
+		assertThat(result).isFalse();
+		assertThat(context.hasResponse()).isFalse();
+		assertThat(tasks).hasSize(1);
+
+		tasks.get(0).run();
+
+		verify(strategyMock, senderMock, connectionMock);
+	}
+
+	@Test
+	public void testOutOfBandReplyToRejected() throws Exception {
+
+		WebServiceMessageSender senderMock = createMock(WebServiceMessageSender.class);
+		TaskExecutor executor = (task) -> {
+			throw new TaskRejectedException("Queue full");
+		};
+
+		URI replyAction = new URI("urn:replyAction");
+		URI faultAction = new URI("urn:replyAction");
+		interceptor = new AddressingEndpointInterceptor(getVersion(), strategyMock,
+				new WebServiceMessageSender[] { senderMock }, replyAction, faultAction, executor, 1, 0);
+
+		WebServiceConnection connectionMock = createMock(WebServiceConnection.class);
+
+		SaajSoapMessage valid = loadSaajMessage(getTestPath() + "/valid.xml");
+		MessageContext context = new DefaultMessageContext(valid, new SaajSoapMessageFactory(messageFactory));
+		SaajSoapMessage response = (SaajSoapMessage) context.getResponse();
+
+		URI messageId = new URI("uid:1234");
+		expect(strategyMock.newMessageId((SoapMessage) context.getResponse())).andReturn(messageId);
+
+		URI uri = new URI("http://example.com/business/client1");
+		expect(senderMock.supports(uri)).andReturn(true);
+		expect(senderMock.createConnection(uri)).andReturn(connectionMock);
+		connectionMock.send(response);
+		connectionMock.close();
+
+		replay(strategyMock, senderMock, connectionMock);
+
+		boolean result = interceptor.handleResponse(context, null);
+
+		assertThat(result).isFalse();
+		assertThat(context.hasResponse()).isFalse();
+
+		verify(strategyMock, senderMock, connectionMock);
+	}
+
 	protected abstract AddressingVersion getVersion();
 
 	protected abstract String getTestPath();
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.soap.addressing.server;
+
+import java.security.Principal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Locale;
+
+import javax.xml.namespace.QName;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ws.context.DefaultMessageContext;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.soap.SoapBody;
+import org.springframework.ws.soap.SoapMessage;
+import org.springframework.ws.soap.addressing.AbstractWsAddressingTest;
+import org.springframework.ws.soap.saaj.SaajSoapMessage;
+import org.springframework.ws.soap.saaj.SaajSoapMessageFactory;
+import org.springframework.xml.transform.StringSource;
+import org.springframework.xml.transform.TransformerFactoryUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DuplicateDetectionEndpointInterceptorTest extends AbstractWsAddressingTest {
+
+	private DuplicateDetectionEndpointInterceptor interceptor;
+
+	@BeforeEach
+	public void setUp() {
+		interceptor = new DuplicateDetectionEndpointInterceptor();
+	}
+
+	@Test
+	public void testFaultForDuplicate() throws Exception {
+
+		MessageContext original = createMessageContext("10/valid.xml");
+
+		assertThat(interceptor.handleRequest(original, null)).isTrue();
+
+		MessageContext duplicate = createMessageContext("10/valid.xml");
+
+		assertThat(interceptor.handleRequest(duplicate, null)).isFalse();
+		assertThat(duplicate.hasResponse()).isTrue();
+
+		SoapBody body = ((SoapMessage) duplicate.getResponse()).getSoapBody();
+
+		assertThat(body.hasFault()).isTrue();
+		assertThat(body.getFault().getFaultStringOrReason())
+			.isEqualTo(DuplicateDetectionEndpointInterceptor.DEFAULT_FAULTSTRING_OR_REASON);
+		assertThat(interceptor.getDuplicateCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void testDifferentPayloadIsNotDuplicate() throws Exception {
+
+		MessageContext original = createMessageContext("10/valid.xml");
+		interceptor.handleRequest(original, null);
+
+		MessageContext other = createMessageContext("10/valid.xml");
+		setPayload(other, "<f:Delete xmlns:f='http://example.com/fabrikam'><f:maxCount>7</f:maxCount></f:Delete>");
+
+		assertThat(interceptor.handleRequest(other, null)).isTrue();
+		assertThat(other.hasResponse()).isFalse();
+		assertThat(interceptor.getDuplicateCount()).isZero();
+	}
+
+	@Test
+	public void testFaultForDuplicateInProgress() throws Exception {
+
+		interceptor.setReplayResponses(true);
+		MessageContext original = createMessageContext("10/valid.xml");
+		interceptor.handleRequest(original, null);
+
+		MessageContext duplicate = createMessageContext("10/valid.xml");
+
+		assertThat(interceptor.handleRequest(duplicate, null)).isFalse();
+		assertThat(((SoapMessage) duplicate.getResponse()).getSoapBody().hasFault()).isTrue();
+	}
+
+	@Test
+	public void testReplayResponse() throws Exception {
+
+		interceptor.setReplayResponses(true);
+		MessageContext original = createMessageContext("10/valid.xml");
+
+		assertThat(interceptor.handleRequest(original, null)).isTrue();
+
+		SaajSoapMessage response = (SaajSoapMessage) original.getResponse();
+		response.getSoapHeader().addHeaderElement(new QName("urn:test", "Original"));
+
+		assertThat(interceptor.handleResponse(original, null)).isTrue();
+
+		MessageContext duplicate = createMessageContext("10/valid.xml");
+
+		assertThat(interceptor.handleRequest(duplicate, null)).isFalse();
+		assertThat(duplicate.hasResponse()).isTrue();
+		assertXMLSimilar(response, (SaajSoapMessage) duplicate.getResponse());
+	}
+
+	@Test
+	public void testReplayResponseOnlyForSamePayload() throws Exception {
+
+		interceptor.setReplayResponses(true);
+		MessageContext original = createMessageContext("10/valid.xml");
+		interceptor.handleRequest(original, null);
+		interceptor.handleResponse(original, null);
+
+		MessageContext other = createMessageContext("10/valid.xml");
+		setPayload(other, "<f:Delete xmlns:f='http://example.com/fabrikam'><f:maxCount>7</f:maxCount></f:Delete>");
+
+		assertThat(interceptor.handleRequest(other, null)).isTrue();
+		assertThat(other.hasResponse()).isFalse();
+		assertThat(interceptor.getDuplicateCount()).isZero();
+	}
+
+	@Test
+	public void testReplayResponseOnlyForSamePrincipal() throws Exception {
+
+		String[] principal = { "alice" };
+		interceptor = new DuplicateDetectionEndpointInterceptor() {
+
+			@Override
+			protected Principal getPrincipal(MessageContext messageContext) {
+				return () -> principal[0];
+			}
+
+		};
+		interceptor.setReplayResponses(true);
+		MessageContext original = createMessageContext("10/valid.xml");
+		interceptor.handleRequest(original, null);
+		interceptor.handleResponse(original, null);
+
+		principal[0] = "bob";
+		MessageContext other = createMessageContext("10/valid.xml");
+
+		assertThat(interceptor.handleRequest(other, null)).isTrue();
+		assertThat(other.hasResponse()).isFalse();
+		assertThat(interceptor.getDuplicateCount()).isZero();
+
+		principal[0] = "alice";
+		MessageContext duplicate = createMessageContext("10/valid.xml");
+
+		assertThat(interceptor.handleRequest(duplicate, null)).isFalse();
+		assertThat(duplicate.hasResponse()).isTrue();
+	}
+
+	@Test
+	public void testFaultIsForgotten() throws Exception {
+
+		MessageContext original = createMessageContext("10/valid.xml");
+		interceptor.handleRequest(original, null);
+		((SoapMessage) original.getResponse()).getSoapBody().addServerOrReceiverFault("Error", Locale.ENGLISH);
+		interceptor.handleFault(original, null);
+
+		MessageContext retry = createMessageContext("10/valid.xml");
+
+		assertThat(interceptor.handleRequest(retry, null)).isTrue();
+	}
+
+	@Test
+	public void testExceptionIsForgotten() throws Exception {
+
+		MessageContext original = createMessageContext("10/valid.xml");
+		interceptor.handleRequest(original, null);
+		interceptor.afterCompletion(original, null, new IllegalStateException());
+
+		MessageContext retry = createMessageContext("10/valid.xml");
+
+		assertThat(interceptor.handleRequest(retry, null)).isTrue();
+	}
+
+	@Test
+	public void testWindow() throws Exception {
+
+		Instant now = Instant.now();
+		interceptor.setWindow(Duration.ofMinutes(1));
+		interceptor.setClock(Clock.fixed(now, ZoneOffset.UTC));
+		interceptor.handleRequest(createMessageContext("10/valid.xml"), null);
+
+		interceptor.setClock(Clock.fixed(now.plus(Duration.ofMinutes(1)), ZoneOffset.UTC));
+
+		assertThat(interceptor.handleRequest(createMessageContext("10/valid.xml"), null)).isTrue();
+	}
+
+	@Test
+	public void testNoMessageId() throws Exception {
+
+		assertThat(interceptor.handleRequest(createMessageContext("10/request-no-message-id.xml"), null)).isTrue();
+		assertThat(interceptor.handleRequest(createMessageContext("10/request-no-message-id.xml"), null)).isTrue();
+	}
+
+	private MessageContext createMessageContext(String fileName) throws Exception {
+		return new DefaultMessageContext(loadSaajMessage(fileName), new SaajSoapMessageFactory(messageFactory));
+	}
+
+	private static void setPayload(MessageContext messageContext, String payload) throws Exception {
+		TransformerFactoryUtils.newInstance()
+			.newTransformer()
+			.transform(new StringSource(payload), messageContext.getRequest().getPayloadResult());
+	}
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.soap.addressing.server;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ws.context.DefaultMessageContext;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.soap.addressing.AbstractWsAddressingTest;
+import org.springframework.ws.soap.addressing.core.MessageAddressingProperties;
+import org.springframework.ws.soap.addressing.version.Addressing10;
+import org.springframework.ws.soap.addressing.version.Addressing200408;
+import org.springframework.ws.soap.addressing.version.AddressingVersion;
+import org.springframework.ws.soap.saaj.SaajSoapMessageFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MessageAddressingPropertiesCacheTest extends AbstractWsAddressingTest {
+
+	@Test
+	public void testPropertiesAreReused() throws Exception {
+
+		MessageContext messageContext = new DefaultMessageContext(loadSaajMessage("10/valid.xml"),
+				new SaajSoapMessageFactory(messageFactory));
+
+		MessageAddressingProperties properties = MessageAddressingPropertiesCache
+			.getMessageAddressingProperties(messageContext, new Addressing10());
+
+		assertThat(properties).isNotNull();
+		assertThat(properties.getMessageId()).isNotNull();
+		assertThat(MessageAddressingPropertiesCache.getMessageAddressingProperties(messageContext, new Addressing10()))
+			.isSameAs(properties);
+		assertThat(MessageAddressingPropertiesCache.getMessageAddressingProperties(messageContext,
+				new AddressingVersion[] { new Addressing200408(), new Addressing10() }))
+			.isSameAs(properties);
+	}
+
+	@Test
+	public void testPropertiesOfOtherVersionAreNotReused() throws Exception {
+
+		MessageContext messageContext = new DefaultMessageContext(loadSaajMessage("10/valid.xml"),
+				new SaajSoapMessageFactory(messageFactory));
+
+		MessageAddressingPropertiesCache.getMessageAddressingProperties(messageContext, new Addressing10());
+
+		assertThat(MessageAddressingPropertiesCache.getMessageAddressingProperties(messageContext,
+				new AddressingVersion[] { new Addressing200408() }))
+			.isNull();
+	}
+
+	@Test
+	public void testVersionDetection() throws Exception {
+
+		MessageContext messageContext = new DefaultMessageContext(loadSaajMessage("10/valid.xml"),
+				new SaajSoapMessageFactory(messageFactory));
+
+		MessageAddressingProperties properties = MessageAddressingPropertiesCache.getMessageAddressingProperties(
+				messageContext, new AddressingVersion[] { new Addressing200408(), new Addressing10() });
+
+		assertThat(properties).isNotNull();
+		assertThat(properties.getMessageId()).isNotNull();
+	}
+
+}
@@ -90,6 +90,19 @@ public class SimpleActionEndpointMappingTest extends AbstractWsAddressingTest {
 		assertThat(endpoint).isNull();
 	}
 
+	@Test
+	public void testAddressChange() throws Exception {
+
+		SaajSoapMessage message = loadSaajMessage("200408/valid.xml");
+		MessageContext messageContext = new DefaultMessageContext(message, new SaajSoapMessageFactory(messageFactory));
+
+		assertThat(mapping.getEndpoint(messageContext)).isNotNull();
+
+		mapping.setAddress(new URI("mailto:other@example.com"));
+
+		assertThat(mapping.getEndpoint(messageContext)).isNull();
+	}
+
 	private static class Endpoint1 {
 
 	}
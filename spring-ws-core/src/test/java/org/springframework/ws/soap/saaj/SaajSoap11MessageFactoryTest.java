@@ -16,20 +16,29 @@
 
 package org.springframework.ws.soap.saaj;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import jakarta.xml.soap.MessageFactory;
 import jakarta.xml.soap.SOAPConstants;
 import jakarta.xml.soap.SOAPMessage;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import org.springframework.ws.WebServiceMessageFactory;
 import org.springframework.ws.soap.SoapMessage;
+import org.springframework.ws.soap.SoapVersion;
 import org.springframework.ws.soap.soap11.AbstractSoap11MessageFactoryTest;
+import org.springframework.ws.transport.MockTransportInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -55,4 +64,29 @@ public class SaajSoap11MessageFactoryTest extends AbstractSoap11MessageFactoryTe
 		assertThat(result).startsWith("<?xml version=\"1.0\"");
 	}
 
+	@Test
+	public void creationEvent(@TempDir Path tempDir) throws Exception {
+
+		String envelope = "<SOAP-ENV:Envelope xmlns:SOAP-ENV='http://schemas.xmlsoap.org/soap/envelope/'>"
+				+ "<SOAP-ENV:Body/></SOAP-ENV:Envelope>";
+		byte[] content = envelope.getBytes(StandardCharsets.UTF_8);
+		Map<String, String> headers = Collections.singletonMap("Content-Type", "text/xml");
+
+		Path file = tempDir.resolve("creation.jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("org.springframework.ws.SaajMessageCreation");
+			recording.start();
+			messageFactory.createWebServiceMessage(
+					new MockTransportInputStream(new ByteArrayInputStream(content), headers));
+			recording.stop();
+			recording.dump(file);
+		}
+
+		List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+		assertThat(events).singleElement().satisfies(event -> {
+			assertThat(event.getLong("size")).isEqualTo(content.length);
+			assertThat(event.getString("soapVersion")).isEqualTo(SoapVersion.SOAP_11.toString());
+		});
+	}
+
 }
@@ -18,6 +18,7 @@ package org.springframework.ws.soap.saaj;
 
 import java.util.Iterator;
 
+import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.transform.Result;
 import javax.xml.transform.Source;
 
@@ -27,11 +28,19 @@ import jakarta.xml.soap.SOAPBodyElement;
 import jakarta.xml.soap.SOAPConstants;
 import jakarta.xml.soap.SOAPMessage;
 import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
 import org.xmlunit.assertj.XmlAssert;
 
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.ws.mime.AbstractMimeMessageTest;
+import org.springframework.ws.mime.Attachment;
 import org.springframework.ws.soap.SoapMessage;
 import org.springframework.ws.soap.soap11.AbstractSoap11MessageTest;
 import org.springframework.xml.transform.StringResult;
+import org.springframework.xml.DocumentBuilderFactoryUtils;
 import org.springframework.xml.transform.StringSource;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -100,4 +109,41 @@ public class SaajSoap11MessageTest extends AbstractSoap11MessageTest {
 		assertThat(bodyElement.getElementName().getLocalName()).isEqualTo("child");
 	}
 
+	@Test
+	public void testDocumentRoundTripWithAttachment() throws Exception {
+
+		int itemCount = 20000;
+		StringBuilder payload = new StringBuilder("<items xmlns='urn:test'>");
+		for (int i = 0; i < itemCount; i++) {
+			payload.append("<item>value ").append(i).append("</item>");
+		}
+		payload.append("</items>");
+		transformer.transform(new StringSource(payload.toString()), soapMessage.getPayloadResult());
+		Resource picture = new ClassPathResource("spring-ws.png", AbstractMimeMessageTest.class);
+		soapMessage.addAttachment("spring-ws", picture, "image/png");
+
+		Document document = soapMessage.getDocument();
+
+		assertThat(document.getElementsByTagNameNS("urn:test", "item").getLength()).isEqualTo(itemCount);
+		assertThat(soapMessage.getAttachment("spring-ws").getInputStream()).hasSameContentAs(picture.getInputStream());
+
+		DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactoryUtils.newInstance();
+		documentBuilderFactory.setNamespaceAware(true);
+		Document copy = documentBuilderFactory.newDocumentBuilder().newDocument();
+		copy.appendChild(copy.importNode(document.getDocumentElement(), true));
+		NodeList items = copy.getElementsByTagNameNS("urn:test", "item");
+		((Element) items.item(itemCount - 1)).setAttribute("last", "true");
+
+		soapMessage.setDocument(copy);
+
+		SOAPBody body = ((SaajSoapMessage) soapMessage).getSaajMessage().getSOAPBody();
+		NodeList bodyItems = body.getElementsByTagNameNS("urn:test", "item");
+		assertThat(bodyItems.getLength()).isEqualTo(itemCount);
+		assertThat(((Element) bodyItems.item(itemCount - 1)).getAttribute("last")).isEqualTo("true");
+		Attachment attachment = soapMessage.getAttachment("spring-ws");
+		assertThat(attachment).isNotNull();
+		assertThat(attachment.getContentType()).isEqualTo("image/png");
+		assertThat(attachment.getInputStream()).hasSameContentAs(picture.getInputStream());
+	}
+
 }
@@ -110,6 +110,62 @@ public class SoapMessageDispatcherTest {
 		verify(interceptorMock);
 	}
 
+	@Test
+	public void testProcessMustUnderstandHeadersUnderstoodPerElement() throws Exception {
+
+		MessageFactory messageFactory = MessageFactory.newInstance(SOAPConstants.SOAP_1_1_PROTOCOL);
+		SOAPMessage request = messageFactory.createMessage();
+		for (int i = 0; i < 3; i++) {
+			SOAPHeaderElement header = request.getSOAPHeader()
+				.addHeaderElement(new QName("http://www.springframework.org", "Header"));
+			header.setActor(SOAPConstants.URI_SOAP_ACTOR_NEXT);
+			header.setMustUnderstand(true);
+		}
+		SoapMessageFactory factory = new SaajSoapMessageFactory(messageFactory);
+		MessageContext context = new DefaultMessageContext(new SaajSoapMessage(request), factory);
+		expect(interceptorMock.understands(isA(SoapHeaderElement.class))).andReturn(true).times(3);
+
+		replay(interceptorMock);
+
+		SoapEndpointInvocationChain chain = new SoapEndpointInvocationChain(new Object(),
+				new SoapEndpointInterceptor[] { interceptorMock });
+
+		boolean result = dispatcher.handleRequest(chain, context);
+
+		assertThat(result).isTrue();
+
+		verify(interceptorMock);
+	}
+
+	@Test
+	public void testProcessMustUnderstandHeadersUnderstoodOncePerName() throws Exception {
+
+		dispatcher.setCacheUnderstoodHeaders(true);
+
+		MessageFactory messageFactory = MessageFactory.newInstance(SOAPConstants.SOAP_1_1_PROTOCOL);
+		SOAPMessage request = messageFactory.createMessage();
+		for (int i = 0; i < 3; i++) {
+			SOAPHeaderElement header = request.getSOAPHeader()
+				.addHeaderElement(new QName("http://www.springframework.org", "Header"));
+			header.setActor(SOAPConstants.URI_SOAP_ACTOR_NEXT);
+			header.setMustUnderstand(true);
+		}
+		SoapMessageFactory factory = new SaajSoapMessageFactory(messageFactory);
+		MessageContext context = new DefaultMessageContext(new SaajSoapMessage(request), factory);
+		expect(interceptorMock.understands(isA(SoapHeaderElement.class))).andReturn(true).once();
+
+		replay(interceptorMock);
+
+		SoapEndpointInvocationChain chain = new SoapEndpointInvocationChain(new Object(),
+				new SoapEndpointInterceptor[] { interceptorMock });
+
+		boolean result = dispatcher.handleRequest(chain, context);
+
+		assertThat(result).isTrue();
+
+		verify(interceptorMock);
+	}
+
 	@Test
 	public void testProcessMustUnderstandHeadersNotUnderstoodSoap11() throws Exception {
 
@@ -125,6 +125,25 @@ public class SoapHeaderElementMethodArgumentResolverTest extends AbstractMethodA
 		}
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void resolveSoapHeaderElementListTwice() throws Exception {
+
+		List<SoapHeaderElement> first = (List<SoapHeaderElement>) resolver.resolveArgument(messageContext,
+				soapHeaderElementListParameter);
+		first.clear();
+
+		List<SoapHeaderElement> second = (List<SoapHeaderElement>) resolver.resolveArgument(messageContext,
+				soapHeaderElementListParameter);
+
+		assertThat(second).hasSize(3);
+
+		SoapHeaderElement element = (SoapHeaderElement) resolver.resolveArgument(messageContext,
+				soapHeaderElementParameter);
+
+		assertThat(element.getText()).isEqualTo(HEADER_CONTENT + "0");
+	}
+
 	@Test
 	public void resolveSoapHeaderMismatch() throws Exception {
 
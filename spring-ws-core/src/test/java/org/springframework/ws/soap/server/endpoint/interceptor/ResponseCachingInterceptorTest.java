@@ -0,0 +1,270 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.soap.server.endpoint.interceptor;
+
+import java.io.StringWriter;
+import java.security.Principal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import javax.xml.namespace.QName;
+import javax.xml.transform.stream.StreamResult;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ws.context.DefaultMessageContext;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.server.endpoint.MethodEndpoint;
+import org.springframework.ws.server.endpoint.support.PrincipalUtils;
+import org.springframework.ws.soap.SoapMessage;
+import org.springframework.ws.soap.saaj.SaajSoapMessageFactory;
+import org.springframework.ws.soap.server.endpoint.annotation.CacheableResponse;
+import org.springframework.xml.transform.StringSource;
+import org.springframework.xml.transform.TransformerHelper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResponseCachingInterceptorTest {
+
+	private static final QName HEADER_NAME = new QName("http://springframework.org/spring-ws", "tenant");
+
+	private ResponseCachingInterceptor interceptor;
+
+	private SaajSoapMessageFactory messageFactory;
+
+	private TransformerHelper transformerHelper;
+
+	private MethodEndpoint cacheableEndpoint;
+
+	private Instant now;
+
+	@BeforeEach
+	public void setUp() throws Exception {
+
+		interceptor = new ResponseCachingInterceptor();
+		now = Instant.now();
+		interceptor.setClock(Clock.fixed(now, ZoneOffset.UTC));
+		messageFactory = new SaajSoapMessageFactory();
+		messageFactory.afterPropertiesSet();
+		transformerHelper = new TransformerHelper();
+		cacheableEndpoint = new MethodEndpoint(this, "cacheable");
+	}
+
+	@Test
+	public void testCacheResponse() throws Exception {
+
+		MessageContext original = createMessageContext("<request xmlns='urn:test'>1</request>", null);
+
+		assertThat(interceptor.handleRequest(original, cacheableEndpoint)).isTrue();
+
+		writeResponse(original, "<response xmlns='urn:test'>1</response>");
+
+		assertThat(interceptor.handleResponse(original, cacheableEndpoint)).isTrue();
+		assertThat(interceptor.size()).isEqualTo(1);
+
+		MessageContext repeated = createMessageContext("<request xmlns='urn:test'>1</request>", null);
+
+		assertThat(interceptor.handleRequest(repeated, cacheableEndpoint)).isFalse();
+		assertThat(repeated.hasResponse()).isTrue();
+		assertThat(readPayload(repeated)).contains("response");
+		assertThat(interceptor.getHitCount()).isEqualTo(1);
+		assertThat(interceptor.getMissCount()).isEqualTo(1);
+
+		MessageContext other = createMessageContext("<request xmlns='urn:test'>2</request>", null);
+
+		assertThat(interceptor.handleRequest(other, cacheableEndpoint)).isTrue();
+		assertThat(interceptor.getMissCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void testCacheKeyIncludesHeaders() throws Exception {
+
+		MessageContext original = createMessageContext("<request xmlns='urn:test'/>", "a");
+		interceptor.handleRequest(original, cacheableEndpoint);
+		writeResponse(original, "<response xmlns='urn:test'/>");
+		interceptor.handleResponse(original, cacheableEndpoint);
+
+		assertThat(interceptor.handleRequest(createMessageContext("<request xmlns='urn:test'/>", "a"),
+				cacheableEndpoint))
+			.isFalse();
+		assertThat(interceptor.handleRequest(createMessageContext("<request xmlns='urn:test'/>", "b"),
+				cacheableEndpoint))
+			.isTrue();
+	}
+
+	@Test
+	public void testCacheKeyIncludesPrincipal() throws Exception {
+
+		String[] principal = { "alice" };
+		interceptor = new ResponseCachingInterceptor() {
+
+			@Override
+			protected Principal getPrincipal(MessageContext messageContext) {
+				return () -> principal[0];
+			}
+
+		};
+		MessageContext original = createMessageContext("<request xmlns='urn:test'/>", null);
+		interceptor.handleRequest(original, cacheableEndpoint);
+		writeResponse(original, "<response xmlns='urn:test'/>");
+		interceptor.handleResponse(original, cacheableEndpoint);
+
+		principal[0] = "bob";
+
+		assertThat(interceptor.handleRequest(createMessageContext("<request xmlns='urn:test'/>", null),
+				cacheableEndpoint))
+			.isTrue();
+
+		principal[0] = "alice";
+
+		assertThat(interceptor.handleRequest(createMessageContext("<request xmlns='urn:test'/>", null),
+				cacheableEndpoint))
+			.isFalse();
+	}
+
+	@Test
+	public void testCacheKeyIncludesMessageContextPrincipal() throws Exception {
+
+		MessageContext original = createMessageContext("<request xmlns='urn:test'/>", null, "alice");
+		interceptor.handleRequest(original, cacheableEndpoint);
+		writeResponse(original, "<response xmlns='urn:test'/>");
+		interceptor.handleResponse(original, cacheableEndpoint);
+
+		assertThat(interceptor.handleRequest(createMessageContext("<request xmlns='urn:test'/>", null, "bob"),
+				cacheableEndpoint))
+			.isTrue();
+		assertThat(interceptor.handleRequest(createMessageContext("<request xmlns='urn:test'/>", null, "alice"),
+				cacheableEndpoint))
+			.isFalse();
+	}
+
+	@Test
+	public void testRequestWithoutPrincipalNotCached() throws Exception {
+
+		MessageContext original = createMessageContext("<request xmlns='urn:test'/>", null, null);
+
+		assertThat(interceptor.handleRequest(original, cacheableEndpoint)).isTrue();
+
+		writeResponse(original, "<response xmlns='urn:test'/>");
+		interceptor.handleResponse(original, cacheableEndpoint);
+
+		assertThat(interceptor.size()).isZero();
+		assertThat(interceptor.getMissCount()).isZero();
+	}
+
+	@Test
+	public void testExpiredResponse() throws Exception {
+
+		MessageContext original = createMessageContext("<request xmlns='urn:test'/>", null);
+		interceptor.handleRequest(original, cacheableEndpoint);
+		writeResponse(original, "<response xmlns='urn:test'/>");
+		interceptor.handleResponse(original, cacheableEndpoint);
+
+		interceptor.setClock(Clock.fixed(now.plus(Duration.ofSeconds(11)), ZoneOffset.UTC));
+
+		assertThat(interceptor.handleRequest(createMessageContext("<request xmlns='urn:test'/>", null),
+				cacheableEndpoint))
+			.isTrue();
+		assertThat(interceptor.getEvictionCount()).isEqualTo(1);
+		assertThat(interceptor.size()).isZero();
+	}
+
+	@Test
+	public void testMaxEntries() throws Exception {
+
+		for (int i = 0; i < 3; i++) {
+			MessageContext messageContext = createMessageContext("<request xmlns='urn:test'>" + i + "</request>", null);
+			interceptor.handleRequest(messageContext, cacheableEndpoint);
+			writeResponse(messageContext, "<response xmlns='urn:test'/>");
+			interceptor.handleResponse(messageContext, cacheableEndpoint);
+		}
+
+		assertThat(interceptor.size()).isEqualTo(2);
+		assertThat(interceptor.getEvictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void testMaxResponseSize() throws Exception {
+
+		interceptor.setMaxResponseSize(16);
+
+		MessageContext original = createMessageContext("<request xmlns='urn:test'/>", null);
+		interceptor.handleRequest(original, cacheableEndpoint);
+		writeResponse(original, "<response xmlns='urn:test'/>");
+		interceptor.handleResponse(original, cacheableEndpoint);
+
+		assertThat(interceptor.size()).isZero();
+	}
+
+	@Test
+	public void testNonCacheableEndpoint() throws Exception {
+
+		MethodEndpoint endpoint = new MethodEndpoint(this, "nonCacheable");
+		MessageContext original = createMessageContext("<request xmlns='urn:test'/>", null);
+
+		assertThat(interceptor.handleRequest(original, endpoint)).isTrue();
+
+		writeResponse(original, "<response xmlns='urn:test'/>");
+		interceptor.handleResponse(original, endpoint);
+
+		assertThat(interceptor.size()).isZero();
+		assertThat(interceptor.getMissCount()).isZero();
+	}
+
+	@CacheableResponse(timeToLive = 10, maxEntries = 2, headers = "{http://springframework.org/spring-ws}tenant")
+	public void cacheable() {
+	}
+
+	public void nonCacheable() {
+	}
+
+	private MessageContext createMessageContext(String payload, String tenant) throws Exception {
+		return createMessageContext(payload, tenant, "alice");
+	}
+
+	private MessageContext createMessageContext(String payload, String tenant, String principalName)
+			throws Exception {
+
+		SoapMessage request = messageFactory.createWebServiceMessage();
+		transformerHelper.transform(new StringSource(payload), request.getPayloadResult());
+		if (tenant != null) {
+			request.getSoapHeader().addHeaderElement(HEADER_NAME).setText(tenant);
+		}
+		MessageContext messageContext = new DefaultMessageContext(request, messageFactory);
+		if (principalName != null) {
+			Principal principal = () -> principalName;
+			messageContext.setProperty(PrincipalUtils.PRINCIPAL_PROPERTY, principal);
+		}
+		return messageContext;
+	}
+
+	private void writeResponse(MessageContext messageContext, String payload) throws Exception {
+		transformerHelper.transform(new StringSource(payload), messageContext.getResponse().getPayloadResult());
+	}
+
+	private String readPayload(MessageContext messageContext) throws Exception {
+
+		StringWriter writer = new StringWriter();
+		transformerHelper.transform(messageContext.getResponse().getPayloadSource(),
+				new StreamResult(writer));
+		return writer.toString();
+	}
+
+}
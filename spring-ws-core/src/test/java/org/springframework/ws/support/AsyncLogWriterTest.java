@@ -0,0 +1,165 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.support;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AsyncLogWriterTest {
+
+	@Test
+	public void testSubmit() throws Exception {
+		AsyncLogWriter writer = new AsyncLogWriter("test");
+		CountDownLatch written = new CountDownLatch(1);
+
+		assertThat(writer.submit(written::countDown)).isTrue();
+
+		assertThat(written.await(5, TimeUnit.SECONDS)).isTrue();
+		writer.destroy();
+	}
+
+	@Test
+	public void testDropOldest() throws Exception {
+		AsyncLogWriter writer = new AsyncLogWriter("test", 2, AsyncLogWriter.OverflowPolicy.DROP_OLDEST);
+		List<String> statements = new CopyOnWriteArrayList<>();
+		CountDownLatch blocked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		writer.submit(() -> block(blocked, release));
+		assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+
+		writer.submit(() -> statements.add("first"));
+		writer.submit(() -> statements.add("second"));
+		assertThat(writer.submit(() -> statements.add("third"))).isTrue();
+
+		assertThat(writer.getDroppedCount()).isEqualTo(1);
+		release.countDown();
+		writer.destroy();
+		assertThat(statements).containsExactly("second", "third");
+	}
+
+	@Test
+	public void testDropNewest() throws Exception {
+		AsyncLogWriter writer = new AsyncLogWriter("test", 2, AsyncLogWriter.OverflowPolicy.DROP_NEWEST);
+		List<String> statements = new CopyOnWriteArrayList<>();
+		CountDownLatch blocked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		writer.submit(() -> block(blocked, release));
+		assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+
+		writer.submit(() -> statements.add("first"));
+		writer.submit(() -> statements.add("second"));
+		assertThat(writer.submit(() -> statements.add("third"))).isFalse();
+
+		assertThat(writer.getDroppedCount()).isEqualTo(1);
+		release.countDown();
+		writer.destroy();
+		assertThat(statements).containsExactly("first", "second");
+	}
+
+	@Test
+	public void testDestroyWritesPendingWithoutInterrupting() throws Exception {
+		AsyncLogWriter writer = new AsyncLogWriter("test");
+		List<String> statements = new CopyOnWriteArrayList<>();
+		AtomicBoolean interrupted = new AtomicBoolean();
+		CountDownLatch blocked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		writer.submit(() -> {
+			block(blocked, release);
+			interrupted.set(Thread.currentThread().isInterrupted());
+		});
+		assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+		writer.submit(() -> statements.add("pending"));
+
+		Thread destroyer = new Thread(() -> {
+			try {
+				writer.destroy();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		destroyer.start();
+		release.countDown();
+		destroyer.join(TimeUnit.SECONDS.toMillis(10));
+
+		assertThat(destroyer.isAlive()).isFalse();
+		assertThat(interrupted).isFalse();
+		assertThat(statements).containsExactly("pending");
+		assertThat(writer.submit(() -> statements.add("after"))).isFalse();
+		assertThat(writer.getDroppedCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void testThreadStopsWhenIdle() throws Exception {
+		AsyncLogWriter writer = new AsyncLogWriter("idle-test");
+		writer.setKeepAliveTime(Duration.ofMillis(50));
+		CountDownLatch written = new CountDownLatch(2);
+
+		writer.submit(written::countDown);
+		assertThat(writerThreadStopped("idle-test")).isTrue();
+
+		writer.submit(written::countDown);
+		assertThat(written.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(writerThreadStopped("idle-test")).isTrue();
+	}
+
+	@Test
+	public void testStatementsSubmittedWhileStoppingAreWritten() throws Exception {
+		AsyncLogWriter writer = new AsyncLogWriter("stopping-test");
+		writer.setKeepAliveTime(Duration.ofNanos(1));
+
+		for (int i = 0; i < 500; i++) {
+			CountDownLatch written = new CountDownLatch(1);
+			writer.submit(written::countDown);
+			assertThat(written.await(5, TimeUnit.SECONDS)).isTrue();
+		}
+	}
+
+	private static boolean writerThreadStopped(String name) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (System.nanoTime() < deadline) {
+			boolean running = Thread.getAllStackTraces()
+				.keySet()
+				.stream()
+				.anyMatch(thread -> thread.getName().startsWith(name + "-"));
+			if (!running) {
+				return true;
+			}
+			Thread.sleep(10);
+		}
+		return false;
+	}
+
+	private static void block(CountDownLatch blocked, CountDownLatch release) {
+		blocked.countDown();
+		try {
+			release.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
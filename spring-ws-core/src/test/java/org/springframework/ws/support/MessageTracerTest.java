@@ -0,0 +1,126 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.support;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ws.MockWebServiceMessage;
+import org.springframework.ws.WebServiceMessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class MessageTracerTest {
+
+	private MessageTracer tracer;
+
+	@BeforeEach
+	public void setUp() {
+		this.tracer = new MessageTracer();
+	}
+
+	@AfterEach
+	public void tearDown() throws Exception {
+		this.tracer.destroy();
+	}
+
+	@Test
+	public void testToTraceString() {
+		assertThat(this.tracer.toTraceString(new ContentMessage("<root/>"))).isEqualTo("<root/>");
+	}
+
+	@Test
+	public void testToTraceStringTruncated() {
+		this.tracer.setMaxPayloadLength(10);
+
+		String content = this.tracer.toTraceString(new ContentMessage("<root>0123456789</root>"));
+
+		assertThat(content).isEqualTo("<root>0123... [truncated]");
+	}
+
+	@Test
+	public void testToTraceStringTruncatedAtCharacterBoundary() {
+		this.tracer.setMaxPayloadLength(9);
+
+		String content = this.tracer.toTraceString(new ContentMessage("<root>01\u00e9</root>"));
+
+		assertThat(content).isEqualTo("<root>01... [truncated]");
+	}
+
+	@Test
+	public void testToTraceStringFailure() {
+		WebServiceMessage message = new MockWebServiceMessage() {
+			@Override
+			public void writeTo(OutputStream outputStream) {
+				throw new IllegalStateException("Broken");
+			}
+		};
+
+		assertThat(this.tracer.toTraceString(message)).isEqualTo("[could not serialize message: Broken]");
+	}
+
+	@Test
+	public void testIsSampled() {
+		assertThat(this.tracer.isSampled(() -> "operation")).isTrue();
+		this.tracer.setSampleRate(0);
+		assertThat(this.tracer.isSampled(() -> "operation")).isFalse();
+	}
+
+	@Test
+	public void testIsSampledPerOperation() {
+		this.tracer.setSampleRate(0);
+		this.tracer.setOperationSampleRates(Map.of("{http://example.com}traced", 1.0));
+
+		assertThat(this.tracer.isSampled(() -> "{http://example.com}traced")).isTrue();
+		assertThat(this.tracer.isSampled(() -> "{http://example.com}other")).isFalse();
+	}
+
+	@Test
+	public void testInvalidSampleRate() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.tracer.setSampleRate(1.5));
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> this.tracer.setOperationSampleRates(Map.of("operation", -1.0)));
+	}
+
+	private static final class ContentMessage extends MockWebServiceMessage {
+
+		private final byte[] content;
+
+		ContentMessage(String content) {
+			this.content = content.getBytes(StandardCharsets.UTF_8);
+		}
+
+		@Override
+		public void writeTo(OutputStream outputStream) {
+			try {
+				outputStream.write(this.content);
+			}
+			catch (IOException ex) {
+				throw new IllegalStateException(ex);
+			}
+		}
+
+	}
+
+}
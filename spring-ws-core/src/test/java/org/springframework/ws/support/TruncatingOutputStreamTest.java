@@ -0,0 +1,75 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.ws.support;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class TruncatingOutputStreamTest {
+
+	@Test
+	public void testUnlimited() {
+		TruncatingOutputStream outputStream = new TruncatingOutputStream(-1);
+
+		outputStream.writeBytes("<root>0123456789</root>".getBytes(StandardCharsets.UTF_8));
+
+		assertThat(outputStream.isLimitReached()).isFalse();
+		assertThat(outputStream.getContent()).isEqualTo("<root>0123456789</root>");
+	}
+
+	@Test
+	public void testLimitReached() {
+		TruncatingOutputStream outputStream = new TruncatingOutputStream(10);
+
+		assertThatExceptionOfType(RuntimeException.class)
+			.isThrownBy(() -> outputStream.writeBytes("<root>0123456789</root>".getBytes(StandardCharsets.UTF_8)));
+		assertThatExceptionOfType(RuntimeException.class).isThrownBy(() -> outputStream.write('x'));
+
+		assertThat(outputStream.isLimitReached()).isTrue();
+		assertThat(outputStream.getContent()).isEqualTo("<root>0123" + TruncatingOutputStream.TRUNCATED_SUFFIX);
+	}
+
+	@Test
+	public void testTruncatedAtCharacterBoundary() {
+		TruncatingOutputStream outputStream = new TruncatingOutputStream(9);
+
+		assertThatExceptionOfType(RuntimeException.class)
+			.isThrownBy(() -> outputStream.writeBytes("<root>01\u00e9</root>".getBytes(StandardCharsets.UTF_8)));
+
+		assertThat(outputStream.getContent()).isEqualTo("<root>01" + TruncatingOutputStream.TRUNCATED_SUFFIX);
+	}
+
+	@Test
+	public void testReset() {
+		TruncatingOutputStream outputStream = new TruncatingOutputStream(4);
+		assertThatExceptionOfType(RuntimeException.class)
+			.isThrownBy(() -> outputStream.writeBytes("<root/>".getBytes(StandardCharsets.UTF_8)));
+
+		outputStream.reset();
+		outputStream.setLimit(-1);
+		outputStream.writeBytes("<root/>".getBytes(StandardCharsets.UTF_8));
+
+		assertThat(outputStream.isLimitReached()).isFalse();
+		assertThat(outputStream.getContent()).isEqualTo("<root/>");
+	}
+
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.ws.transport;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+
+import jakarta.xml.soap.MessageFactory;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.soap.saaj.SaajSoapMessageFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TransportStatisticsTest {
+
+	private static final Duration DELAY = Duration.ofMillis(20);
+
+	@Test
+	public void recordsReads() throws Exception {
+
+		TransportStatistics statistics = new TransportStatistics();
+		TransportInputStream inputStream = new MockTransportInputStream(
+				new SlowInputStream(new ByteArrayInputStream("<content/>".getBytes(StandardCharsets.UTF_8))));
+		inputStream.setStatistics(statistics);
+
+		statistics.receiveStarted();
+		assertThat(statistics.getTimeToFirstByte()).isNull();
+		assertThat(inputStream.read()).isEqualTo('<');
+		assertThat(statistics.getTimeToFirstByte()).isGreaterThanOrEqualTo(DELAY);
+		assertThat(inputStream.read(new byte[4])).isEqualTo(4);
+		assertThat(inputStream.read(new byte[16], 0, 16)).isEqualTo(5);
+		assertThat(inputStream.read()).isEqualTo(-1);
+
+		assertThat(statistics.getBytesRead()).isEqualTo(10);
+		assertThat(statistics.getReadTime()).isGreaterThanOrEqualTo(DELAY.multipliedBy(4));
+		assertThat(statistics.getBytesWritten()).isZero();
+		assertThat(statistics.getWriteTime()).isZero();
+	}
+
+	@Test
+	public void timeToFirstByteIgnoresEmptyReads() throws Exception {
+
+		TransportStatistics statistics = new TransportStatistics();
+		TransportInputStream inputStream = new MockTransportInputStream(new ByteArrayInputStream(new byte[0]));
+		inputStream.setStatistics(statistics);
+
+		statistics.receiveStarted();
+		assertThat(inputStream.read()).isEqualTo(-1);
+		assertThat(inputStream.read(new byte[4])).isEqualTo(-1);
+
+		assertThat(statistics.getTimeToFirstByte()).isNull();
+		assertThat(statistics.getBytesRead()).isZero();
+	}
+
+	@Test
+	public void recordsWrites() throws Exception {
+
+		TransportStatistics statistics = new TransportStatistics();
+		ByteArrayOutputStream target = new ByteArrayOutputStream();
+		TransportOutputStream outputStream = new MockTransportOutputStream(new SlowOutputStream(target));
+		outputStream.setStatistics(statistics);
+
+		outputStream.write('<');
+		outputStream.write("content".getBytes(StandardCharsets.UTF_8));
+		outputStream.write("//>".getBytes(StandardCharsets.UTF_8), 1, 2);
+		outputStream.flush();
+
+		assertThat(target.toString(StandardCharsets.UTF_8)).isEqualTo("<content/>");
+		assertThat(statistics.getBytesWritten()).isEqualTo(10);
+		assertThat(statistics.getWriteTime()).isGreaterThanOrEqualTo(DELAY.multipliedBy(3));
+		assertThat(statistics.getBytesRead()).isZero();
+		assertThat(statistics.getReadTime()).isZero();
+	}
+
+	@Test
+	public void connectionRecordsStatistics() throws Exception {
+
+		SaajSoapMessageFactory messageFactory = new SaajSoapMessageFactory(MessageFactory.newInstance());
+		ByteArrayOutputStream request = new ByteArrayOutputStream();
+		messageFactory.createWebServiceMessage().writeTo(request);
+		byte[] response = request.toByteArray();
+		StubConnection connection = new StubConnection(response);
+		connection.setStatistics(new TransportStatistics());
+
+		connection.send(messageFactory.createWebServiceMessage());
+		assertThat(connection.getStatistics().getBytesWritten()).isEqualTo(response.length);
+		assertThat(connection.getStatistics().getTimeToFirstByte()).isNull();
+
+		WebServiceMessage message = connection.receive(messageFactory);
+		assertThat(message).isNotNull();
+		assertThat(connection.getStatistics().getBytesRead()).isEqualTo(response.length);
+		assertThat(connection.getStatistics().getTimeToFirstByte()).isGreaterThanOrEqualTo(DELAY);
+		assertThat(connection.getStatistics().getReadTime()).isGreaterThanOrEqualTo(DELAY);
+		assertThat(connection.getStatistics().getWriteTime()).isGreaterThanOrEqualTo(DELAY);
+		connection.close();
+	}
+
+	@Test
+	public void connectionRecordsNoStatisticsByDefault() throws Exception {
+
+		SaajSoapMessageFactory messageFactory = new SaajSoapMessageFactory(MessageFactory.newInstance());
+		ByteArrayOutputStream request = new ByteArrayOutputStream();
+		messageFactory.createWebServiceMessage().writeTo(request);
+		StubConnection connection = new StubConnection(request.toByteArray());
+
+		connection.send(messageFactory.createWebServiceMessage());
+		assertThat(connection.receive(messageFactory)).isNotNull();
+		assertThat(connection.getStatistics()).isNull();
+		connection.close();
+	}
+
+	private static void sleep() throws IOException {
+		try {
+			Thread.sleep(DELAY.toMillis());
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IOException(ex);
+		}
+	}
+
+	private static final class SlowInputStream extends FilterInputStream {
+
+		SlowInputStream(InputStream in) {
+			super(in);
+		}
+
+		@Override
+		public int read() throws IOException {
+			sleep();
+			return super.read();
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			sleep();
+			return super.read(b, off, len);
+		}
+
+	}
+
+	private static final class SlowOutputStream extends FilterOutputStream {
+
+		SlowOutputStream(OutputStream out) {
+			super(out);
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			sleep();
+			super.write(b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			sleep();
+			this.out.write(b, off, len);
+		}
+
+	}
+
+	private static final class StubConnection extends AbstractWebServiceConnection {
+
+		private final byte[] response;
+
+		StubConnection(byte[] response) {
+			this.response = response;
+		}
+
+		@Override
+		protected TransportOutputStream createTransportOutputStream() {
+			return new MockTransportOutputStream(new SlowOutputStream(new ByteArrayOutputStream()));
+		}
+
+		@Override
+		protected TransportInputStream createTransportInputStream() {
+			return new MockTransportInputStream(new SlowInputStream(new ByteArrayInputStream(this.response)),
+					Collections.singletonMap("Content-Type", "text/xml"));
+		}
+
+		@Override
+		public URI getUri() {
+			return URI.create("http://localhost");
+		}
+
+		@Override
+		public boolean hasError() {
+			return false;
+		}
+
+		@Override
+		public String getErrorMessage() {
+			return null;
+		}
+
+	}
+
+}
@@ -19,11 +19,19 @@ package org.springframework.ws.transport.http;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mock.web.MockAsyncContext;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.ws.FaultAwareWebServiceMessage;
@@ -31,8 +39,11 @@ import org.springframework.ws.InvalidXmlException;
 import org.springframework.ws.NoEndpointFoundException;
 import org.springframework.ws.WebServiceMessageFactory;
 import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.server.AdmissionController;
 import org.springframework.ws.soap.SoapVersion;
+import org.springframework.ws.soap.saaj.SaajSoapMessageFactory;
 import org.springframework.ws.transport.WebServiceMessageReceiver;
+import org.springframework.ws.transport.context.TransportContextHolder;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.easymock.EasyMock.createMock;
@@ -195,6 +206,221 @@ public class WebServiceMessageReceiverHandlerAdapterTest {
 		verifyMockControls();
 	}
 
+	@Test
+	public void testHandlePostAdmissionRejected() throws Exception {
+
+		AdmissionController admissionController = new AdmissionController();
+		admissionController.setMaxConcurrency(1);
+		admissionController.acquire();
+		adapter.setAdmissionController(admissionController);
+		SaajSoapMessageFactory messageFactory = new SaajSoapMessageFactory();
+		messageFactory.afterPropertiesSet();
+		adapter.setMessageFactory(messageFactory);
+		httpRequest.setMethod(HttpTransportConstants.METHOD_POST);
+		httpRequest.setContent(REQUEST.getBytes(StandardCharsets.UTF_8));
+		httpRequest.setContentType("text/xml; charset=\"utf-8\"");
+		httpRequest.setCharacterEncoding("UTF-8");
+
+		adapter.handle(httpRequest, httpResponse, (WebServiceMessageReceiver) messageContext -> {
+			throw new AssertionError("Message should have been rejected");
+		});
+
+		assertThat(httpResponse.getStatus()).isEqualTo(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+		assertThat(httpResponse.getContentAsString()).contains(AdmissionController.DEFAULT_REJECTION_FAULT_STRING);
+		assertThat(admissionController.getInFlight()).isEqualTo(1);
+	}
+
+	@Test
+	public void testHandlePostAsyncAdmissionRejected() throws Exception {
+
+		AdmissionController admissionController = new AdmissionController();
+		admissionController.setMaxConcurrency(1);
+		admissionController.acquire();
+		adapter.setAdmissionController(admissionController);
+		List<Runnable> tasks = new ArrayList<>();
+		adapter.setAsyncTaskExecutor(tasks::add);
+		SaajSoapMessageFactory messageFactory = new SaajSoapMessageFactory();
+		messageFactory.afterPropertiesSet();
+		adapter.setMessageFactory(messageFactory);
+		httpRequest.setAsyncSupported(true);
+		httpRequest.setMethod(HttpTransportConstants.METHOD_POST);
+		httpRequest.setContent(REQUEST.getBytes(StandardCharsets.UTF_8));
+		httpRequest.setContentType("text/xml; charset=\"utf-8\"");
+		httpRequest.setCharacterEncoding("UTF-8");
+
+		adapter.handle(httpRequest, httpResponse, (WebServiceMessageReceiver) MessageContext::getResponse);
+
+		assertThat(httpResponse.getStatus()).isEqualTo(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+		assertThat(httpRequest.isAsyncStarted()).isFalse();
+		assertThat(httpRequest.getInputStream().readAllBytes()).isEqualTo(REQUEST.getBytes(StandardCharsets.UTF_8));
+		assertThat(tasks).isEmpty();
+	}
+
+	@Test
+	public void testHandlePostAsyncReleasesPermit() throws Exception {
+
+		AdmissionController admissionController = new AdmissionController();
+		admissionController.setMaxConcurrency(1);
+		adapter.setAdmissionController(admissionController);
+		List<Runnable> tasks = new ArrayList<>();
+		adapter.setAsyncTaskExecutor(tasks::add);
+		SaajSoapMessageFactory messageFactory = new SaajSoapMessageFactory();
+		messageFactory.afterPropertiesSet();
+		adapter.setMessageFactory(messageFactory);
+		httpRequest.setAsyncSupported(true);
+		httpRequest.setMethod(HttpTransportConstants.METHOD_POST);
+		httpRequest.setContent(REQUEST.getBytes(StandardCharsets.UTF_8));
+		httpRequest.setContentType("text/xml; charset=\"utf-8\"");
+		httpRequest.setCharacterEncoding("UTF-8");
+
+		adapter.handle(httpRequest, httpResponse, (WebServiceMessageReceiver) MessageContext::getResponse);
+
+		assertThat(admissionController.getInFlight()).isEqualTo(1);
+
+		tasks.get(0).run();
+
+		assertThat(httpResponse.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+		assertThat(admissionController.getInFlight()).isZero();
+	}
+
+	@Test
+	public void testHandlePostResponseAsync() throws Exception {
+
+		adapter.setAsyncTaskExecutor(new SyncTaskExecutor());
+		httpRequest.setAsyncSupported(true);
+		httpRequest.setMethod(HttpTransportConstants.METHOD_POST);
+		httpRequest.setContent(REQUEST.getBytes(StandardCharsets.UTF_8));
+		httpRequest.setContentType("text/xml; charset=\"utf-8\"");
+		httpRequest.setCharacterEncoding("UTF-8");
+		expect(factoryMock.createWebServiceMessage(isA(InputStream.class))).andReturn(requestMock);
+		expect(factoryMock.createWebServiceMessage()).andReturn(responseMock);
+		expect(responseMock.getFaultCode()).andReturn(null);
+		responseMock.writeTo(isA(OutputStream.class));
+
+		replayMockControls();
+
+		adapter.handle(httpRequest, httpResponse, (WebServiceMessageReceiver) MessageContext::getResponse);
+
+		assertThat(httpResponse.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+		assertThat(httpRequest.isAsyncStarted()).isFalse();
+
+		verifyMockControls();
+	}
+
+	@Test
+	public void testHandlePostAsyncTimeout() throws Exception {
+
+		List<Runnable> tasks = new ArrayList<>();
+		adapter.setAsyncTaskExecutor(tasks::add);
+		adapter.setAsyncTimeout(Duration.ofSeconds(1));
+		SaajSoapMessageFactory messageFactory = new SaajSoapMessageFactory();
+		messageFactory.afterPropertiesSet();
+		adapter.setMessageFactory(messageFactory);
+		httpRequest.setAsyncSupported(true);
+		httpRequest.setMethod(HttpTransportConstants.METHOD_POST);
+		httpRequest.setContent(REQUEST.getBytes(StandardCharsets.UTF_8));
+		httpRequest.setContentType("text/xml; charset=\"utf-8\"");
+		httpRequest.setCharacterEncoding("UTF-8");
+
+		adapter.handle(httpRequest, httpResponse, (WebServiceMessageReceiver) MessageContext::getResponse);
+
+		assertThat(httpRequest.isAsyncStarted()).isTrue();
+		assertThat(tasks).hasSize(1);
+
+		MockAsyncContext asyncContext = (MockAsyncContext) httpRequest.getAsyncContext();
+
+		assertThat(asyncContext.getTimeout()).isEqualTo(1000);
+
+		for (AsyncListener listener : asyncContext.getListeners()) {
+			listener.onTimeout(new AsyncEvent(asyncContext));
+		}
+
+		assertThat(httpResponse.getStatus()).isEqualTo(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+		assertThat(httpResponse.getContentAsString())
+			.contains(WebServiceMessageReceiverHandlerAdapter.ASYNC_TIMEOUT_FAULT_STRING);
+
+		String content = httpResponse.getContentAsString();
+		tasks.get(0).run();
+
+		assertThat(httpResponse.getStatus()).isEqualTo(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+		assertThat(httpResponse.getContentAsString()).isEqualTo(content);
+	}
+
+	@Test
+	public void testHandlePostAsyncReadsRequestOnContainerThread() throws Exception {
+
+		List<Runnable> tasks = new ArrayList<>();
+		adapter.setAsyncTaskExecutor(tasks::add);
+		SaajSoapMessageFactory messageFactory = new SaajSoapMessageFactory();
+		messageFactory.afterPropertiesSet();
+		adapter.setMessageFactory(messageFactory);
+		httpRequest.setAsyncSupported(true);
+		httpRequest.setMethod(HttpTransportConstants.METHOD_POST);
+		httpRequest.setContent(REQUEST.getBytes(StandardCharsets.UTF_8));
+		httpRequest.setContentType("text/xml; charset=\"utf-8\"");
+		httpRequest.setCharacterEncoding("UTF-8");
+		httpRequest.addHeader("X-Test", "value");
+		List<String> headers = new ArrayList<>();
+
+		adapter.handle(httpRequest, httpResponse, (WebServiceMessageReceiver) messageContext -> {
+			HttpServletConnection connection = (HttpServletConnection) TransportContextHolder.getTransportContext()
+				.getConnection();
+			connection.getRequestHeaders("x-test").forEachRemaining(headers::add);
+			messageContext.getResponse();
+		});
+
+		httpRequest.setContent(null);
+		httpRequest.removeHeader("X-Test");
+		tasks.get(0).run();
+
+		assertThat(headers).containsExactly("value");
+		assertThat(httpResponse.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+	}
+
+	@Test
+	public void testHandlePostAsyncRejected() throws Exception {
+
+		adapter.setAsyncTaskExecutor(task -> {
+			throw new TaskRejectedException("Executor is full");
+		});
+		SaajSoapMessageFactory messageFactory = new SaajSoapMessageFactory();
+		messageFactory.afterPropertiesSet();
+		adapter.setMessageFactory(messageFactory);
+		httpRequest.setAsyncSupported(true);
+		httpRequest.setMethod(HttpTransportConstants.METHOD_POST);
+		httpRequest.setContent(REQUEST.getBytes(StandardCharsets.UTF_8));
+		httpRequest.setContentType("text/xml; charset=\"utf-8\"");
+		httpRequest.setCharacterEncoding("UTF-8");
+
+		adapter.handle(httpRequest, httpResponse, (WebServiceMessageReceiver) MessageContext::getResponse);
+
+		assertThat(httpResponse.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+		assertThat(httpResponse.getContentAsString()).contains("Envelope");
+		assertThat(httpRequest.isAsyncStarted()).isFalse();
+	}
+
+	@Test
+	public void testHandlePostAsyncRequestTooLarge() throws Exception {
+
+		List<Runnable> tasks = new ArrayList<>();
+		adapter.setAsyncTaskExecutor(tasks::add);
+		adapter.setAsyncMaxRequestSize(16);
+		httpRequest.setAsyncSupported(true);
+		httpRequest.setMethod(HttpTransportConstants.METHOD_POST);
+		httpRequest.setContent(REQUEST.getBytes(StandardCharsets.UTF_8));
+		httpRequest.setContentType("text/xml; charset=\"utf-8\"");
+		httpRequest.setCharacterEncoding("UTF-8");
+		replayMockControls();
+
+		adapter.handle(httpRequest, httpResponse, (WebServiceMessageReceiver) MessageContext::getResponse);
+
+		assertThat(httpResponse.getStatus()).isEqualTo(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+		assertThat(httpRequest.isAsyncStarted()).isFalse();
+		assertThat(tasks).isEmpty();
+
+		verifyMockControls();
+	}
+
 	private void replayMockControls() {
 		replay(factoryMock, requestMock, responseMock);
 	}
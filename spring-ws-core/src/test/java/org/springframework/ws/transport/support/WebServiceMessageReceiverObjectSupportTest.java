@@ -16,8 +16,14 @@
 
 package org.springframework.ws.transport.support;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.xml.namespace.QName;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -25,6 +31,7 @@ import org.springframework.ws.MockWebServiceMessage;
 import org.springframework.ws.MockWebServiceMessageFactory;
 import org.springframework.ws.WebServiceMessage;
 import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.server.observation.MessageDispatchObservationContext;
 import org.springframework.ws.soap.SoapVersion;
 import org.springframework.ws.transport.FaultAwareWebServiceConnection;
 import org.springframework.ws.transport.WebServiceMessageReceiver;
@@ -122,6 +129,50 @@ public class WebServiceMessageReceiverObjectSupportTest {
 		verify(connectionMock).receive(messageFactory);
 	}
 
+	@Test
+	public void handleConnectionObserved() throws Exception {
+
+		final QName faultCode = SoapVersion.SOAP_11.getServerOrReceiverFaultName();
+		List<Observation.Context> observations = new ArrayList<>();
+		ObservationRegistry registry = ObservationRegistry.create();
+		registry.observationConfig().observationHandler(new ObservationHandler<>() {
+
+			@Override
+			public void onStop(Observation.Context context) {
+				observations.add(context);
+			}
+
+			@Override
+			public boolean supportsContext(Observation.Context context) {
+				return true;
+			}
+
+		});
+		receiverSupport.setObservationRegistry(registry);
+		when(connectionMock.receive(messageFactory)).thenReturn(request);
+
+		WebServiceMessageReceiver receiver = messageContext -> {
+			assertThat(MessageDispatchObservationContext.get(messageContext)).isNotNull();
+			assertThat(registry.getCurrentObservation()).isNotNull();
+			MockWebServiceMessage response = (MockWebServiceMessage) messageContext.getResponse();
+			response.setFault(true);
+			response.setFaultCode(faultCode);
+		};
+
+		receiverSupport.handleConnection(connectionMock, receiver);
+
+		verify(connectionMock).send(isA(WebServiceMessage.class));
+		assertThat(observations).hasSize(3);
+		assertThat(observations.subList(0, 2))
+			.extracting(context -> context.getLowCardinalityKeyValue("phase").getValue())
+			.containsExactly("message.parse", "response.write");
+		Observation.Context observation = observations.get(2);
+		assertThat(observation.getName()).isEqualTo("spring.ws.server.requests");
+		assertThat(observation.getLowCardinalityKeyValue("outcome").getValue()).isEqualTo("FAULT");
+		assertThat(observation.getLowCardinalityKeyValue("fault.code").getValue()).isEqualTo(faultCode.toString());
+		assertThat(registry.getCurrentObservation()).isNull();
+	}
+
 	private static class MyReceiverSupport extends WebServiceMessageReceiverObjectSupport {
 
 	}
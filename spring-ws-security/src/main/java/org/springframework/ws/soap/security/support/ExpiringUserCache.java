@@ -0,0 +1,256 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.soap.security.support;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.util.Assert;
+
+/**
+ * Bounded, in-memory {@link UserCache} whose entries expire after a fixed time to live.
+ * When the cache is full, the least recently used entry is evicted.
+ * <p>
+ * Besides users, this cache can remember user names that were not found, for a
+ * separate, typically shorter, {@link #setNotFoundTimeToLive(Duration) time to live}.
+ * This is used by the
+ * {@link org.springframework.ws.soap.security.wss4j2.callback.SpringSecurityPasswordValidationCallbackHandler}
+ * to avoid looking up unknown users over and over again. User names that were not found
+ * are kept in a separate, smaller cache, so that requests for many unknown user names
+ * cannot evict the cached users.
+ *
+ * @since 4.0.12
+ */
+public class ExpiringUserCache implements UserCache {
+
+	/** The default maximum number of cached users. */
+	public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+	/** The default maximum number of cached user names that were not found. */
+	public static final int DEFAULT_MAX_NOT_FOUND_ENTRIES = 100;
+
+	/** The default time to live of cached users. */
+	public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(5);
+
+	private final Map<String, Entry> entries;
+
+	private final Map<String, Entry> notFoundEntries;
+
+	private Duration timeToLive = DEFAULT_TIME_TO_LIVE;
+
+	private Duration notFoundTimeToLive = Duration.ZERO;
+
+	private Clock clock = Clock.systemUTC();
+
+	private long hitCount;
+
+	private long missCount;
+
+	/**
+	 * Create a new {@code ExpiringUserCache} with the default maximum number of entries.
+	 */
+	public ExpiringUserCache() {
+		this(DEFAULT_MAX_ENTRIES);
+	}
+
+	/**
+	 * Create a new {@code ExpiringUserCache} that holds at most
+	 * {@value #DEFAULT_MAX_NOT_FOUND_ENTRIES} user names that were not found.
+	 * @param maxEntries the maximum number of cached users
+	 */
+	public ExpiringUserCache(int maxEntries) {
+		this(maxEntries, DEFAULT_MAX_NOT_FOUND_ENTRIES);
+	}
+
+	/**
+	 * Create a new {@code ExpiringUserCache}.
+	 * @param maxEntries the maximum number of cached users
+	 * @param maxNotFoundEntries the maximum number of cached user names that were not
+	 * found
+	 */
+	public ExpiringUserCache(int maxEntries, int maxNotFoundEntries) {
+		Assert.isTrue(maxEntries > 0, "maxEntries must be positive");
+		Assert.isTrue(maxNotFoundEntries > 0, "maxNotFoundEntries must be positive");
+		this.entries = createLruMap(maxEntries);
+		this.notFoundEntries = createLruMap(maxNotFoundEntries);
+	}
+
+	private static Map<String, Entry> createLruMap(int maxEntries) {
+		return new LinkedHashMap<>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+				return size() > maxEntries;
+			}
+
+		};
+	}
+
+	/**
+	 * Sets the time to live of cached users. Default is 5 minutes.
+	 */
+	public void setTimeToLive(Duration timeToLive) {
+		Assert.notNull(timeToLive, "timeToLive must not be null");
+		Assert.isTrue(!timeToLive.isNegative(), "timeToLive must not be negative");
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * Sets the time to live of user names that were not found. Default is zero, meaning
+	 * that unknown user names are not cached.
+	 */
+	public void setNotFoundTimeToLive(Duration notFoundTimeToLive) {
+		Assert.notNull(notFoundTimeToLive, "notFoundTimeToLive must not be null");
+		Assert.isTrue(!notFoundTimeToLive.isNegative(), "notFoundTimeToLive must not be negative");
+		this.notFoundTimeToLive = notFoundTimeToLive;
+	}
+
+	/**
+	 * Sets the clock used to expire entries. Default is the system UTC clock.
+	 */
+	public void setClock(Clock clock) {
+		Assert.notNull(clock, "clock must not be null");
+		this.clock = clock;
+	}
+
+	@Override
+	public UserDetails getUserFromCache(String username) {
+		long now = clock.millis();
+		synchronized (entries) {
+			Entry entry = getEntry(entries, username, now);
+			if (entry != null) {
+				hitCount++;
+				return entry.user;
+			}
+			else {
+				missCount++;
+				return null;
+			}
+		}
+	}
+
+	@Override
+	public void putUserInCache(UserDetails user) {
+		synchronized (notFoundEntries) {
+			notFoundEntries.remove(user.getUsername());
+		}
+		put(entries, user.getUsername(), user, timeToLive);
+	}
+
+	/**
+	 * Remembers that the given user name was not found.
+	 * @param username the user name that was not found
+	 * @see #isUserNotFound(String)
+	 */
+	public void putUserNotFoundInCache(String username) {
+		put(notFoundEntries, username, null, notFoundTimeToLive);
+	}
+
+	/**
+	 * Indicates whether the given user name is known not to exist. Unlike
+	 * {@link #getUserFromCache(String)}, this lookup is not counted in the hit and miss
+	 * counts.
+	 * @param username the user name
+	 * @return {@code true} if the user name was recently not found; {@code false}
+	 * otherwise
+	 */
+	public boolean isUserNotFound(String username) {
+		long now = clock.millis();
+		synchronized (notFoundEntries) {
+			return getEntry(notFoundEntries, username, now) != null;
+		}
+	}
+
+	@Override
+	public void removeUserFromCache(String username) {
+		synchronized (entries) {
+			entries.remove(username);
+		}
+		synchronized (notFoundEntries) {
+			notFoundEntries.remove(username);
+		}
+	}
+
+	/**
+	 * Removes all entries from this cache.
+	 */
+	public void removeAllUsersFromCache() {
+		synchronized (entries) {
+			entries.clear();
+		}
+		synchronized (notFoundEntries) {
+			notFoundEntries.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of {@linkplain #getUserFromCache(String) user lookups} that found
+	 * an unexpired entry.
+	 */
+	public long getHitCount() {
+		synchronized (entries) {
+			return hitCount;
+		}
+	}
+
+	/**
+	 * Returns the number of {@linkplain #getUserFromCache(String) user lookups} that found
+	 * no unexpired entry.
+	 */
+	public long getMissCount() {
+		synchronized (entries) {
+			return missCount;
+		}
+	}
+
+	private static Entry getEntry(Map<String, Entry> entries, String username, long now) {
+		Entry entry = entries.get(username);
+		if (entry != null && entry.expiresAt <= now) {
+			entries.remove(username);
+			return null;
+		}
+		return entry;
+	}
+
+	private void put(Map<String, Entry> entries, String username, UserDetails user, Duration timeToLive) {
+		if (timeToLive.isZero()) {
+			return;
+		}
+		long expiresAt = clock.millis() + timeToLive.toMillis();
+		synchronized (entries) {
+			entries.put(username, new Entry(user, expiresAt));
+		}
+	}
+
+	private static final class Entry {
+
+		private final UserDetails user;
+
+		private final long expiresAt;
+
+		private Entry(UserDetails user, long expiresAt) {
+			this.user = user;
+			this.expiresAt = expiresAt;
+		}
+
+	}
+
+}
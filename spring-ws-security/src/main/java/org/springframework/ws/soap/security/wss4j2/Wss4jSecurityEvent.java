@@ -0,0 +1,93 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.soap.security.wss4j2;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Java Flight Recorder event for the securement or validation of a message by the
+ * {@link Wss4jSecurityInterceptor}.
+ *
+ * @since 4.0.12
+ */
+@Name("org.springframework.ws.Wss4jSecurity")
+@Label("WS-Security Processing")
+@Category({ "Spring Web Services", "Security" })
+@Description("Securement or validation of a SOAP message with WSS4J")
+class Wss4jSecurityEvent extends Event {
+
+	static final String SECUREMENT = "Securement";
+
+	static final String VALIDATION = "Validation";
+
+	@Label("Operation")
+	String operation;
+
+	@Label("Actions")
+	String actions;
+
+	@Label("Failed")
+	boolean failed;
+
+	@Label("Document Conversion Time")
+	@Description("Time spent converting the message to and from a DOM document")
+	@Timespan(Timespan.NANOSECONDS)
+	long documentConversionTime;
+
+	@Label("Processing Time")
+	@Description("Time spent in WSS4J")
+	@Timespan(Timespan.NANOSECONDS)
+	long processingTime;
+
+	Wss4jSecurityEvent(String operation, String actions) {
+		this.operation = operation;
+		this.actions = actions;
+	}
+
+	/**
+	 * Returns the start time of a phase, or 0 if this event is not recorded, so that no
+	 * time is read when there is no recording.
+	 */
+	long startPhase() {
+		return isEnabled() ? System.nanoTime() : 0L;
+	}
+
+	void endDocumentConversion(long phaseStart) {
+		if (isEnabled()) {
+			this.documentConversionTime += System.nanoTime() - phaseStart;
+		}
+	}
+
+	/**
+	 * Records the time spent in WSS4J, and commits this event if processing failed.
+	 */
+	void endProcessing(long phaseStart, boolean failed) {
+		if (isEnabled()) {
+			this.processingTime = System.nanoTime() - phaseStart;
+			this.failed = failed;
+			if (failed) {
+				commit();
+			}
+		}
+	}
+
+}
@@ -28,6 +28,7 @@ import javax.security.auth.callback.CallbackHandler;
 import javax.security.auth.callback.UnsupportedCallbackException;
 
 import org.apache.wss4j.common.ConfigurationConstants;
+import org.apache.wss4j.common.cache.ReplayCache;
 import org.apache.wss4j.common.crypto.Crypto;
 import org.apache.wss4j.common.ext.WSSecurityException;
 import org.apache.wss4j.common.principal.WSUsernameTokenPrincipalImpl;
@@ -44,6 +45,7 @@ import org.apache.wss4j.dom.util.WSSecurityUtil;
 import org.apache.wss4j.dom.validate.Credential;
 import org.apache.wss4j.dom.validate.SignatureTrustValidator;
 import org.apache.wss4j.dom.validate.TimestampValidator;
+import org.apache.wss4j.dom.validate.Validator;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
@@ -52,6 +54,7 @@ import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.server.endpoint.support.PrincipalUtils;
 import org.springframework.ws.soap.SoapMessage;
 import org.springframework.ws.soap.security.AbstractWsSecurityInterceptor;
 import org.springframework.ws.soap.security.WsSecuritySecurementException;
@@ -151,8 +154,13 @@ public class Wss4jSecurityInterceptor extends AbstractWsSecurityInterceptor impl
 
 	public static final String SECUREMENT_PASSWORD_PROPERTY_NAME = "Wss4jSecurityInterceptor.securementPassword";
 
+	private static final int[] PRINCIPAL_ACTIONS = { WSConstants.UT, WSConstants.SIGN, WSConstants.ST_SIGNED,
+			WSConstants.ST_UNSIGNED };
+
 	private String securementActions;
 
+	private volatile List<Integer> securementActionCodes;
+
 	private String securementUsername;
 
 	private CallbackHandler validationCallbackHandler;
@@ -167,6 +175,10 @@ public class Wss4jSecurityInterceptor extends AbstractWsSecurityInterceptor impl
 
 	private Crypto validationSignatureCrypto;
 
+	private ReplayCache validationNonceReplayCache;
+
+	private ReplayCache validationTimestampReplayCache;
+
 	private boolean timestampStrict = true;
 
 	private boolean enableSignatureConfirmation;
@@ -183,6 +195,12 @@ public class Wss4jSecurityInterceptor extends AbstractWsSecurityInterceptor impl
 
 	private final WSSecurityEngine securityEngine;
 
+	private final WSSConfig timestampWssConfig = WSSConfig.getNewInstance();
+
+	private final SignatureTrustValidator signatureTrustValidator = new SignatureTrustValidator();
+
+	private final TimestampValidator timestampValidator = new TimestampValidator();
+
 	private boolean enableRevocation;
 
 	private boolean bspCompliant;
@@ -216,6 +234,7 @@ public class Wss4jSecurityInterceptor extends AbstractWsSecurityInterceptor impl
 
 	public void setSecurementActions(String securementActions) {
 		this.securementActions = securementActions;
+		this.securementActionCodes = null;
 	}
 
 	/**
@@ -501,6 +520,26 @@ public class Wss4jSecurityInterceptor extends AbstractWsSecurityInterceptor impl
 		this.validationSignatureCrypto = signatureCrypto;
 	}
 
+	/**
+	 * Sets the {@link ReplayCache} used to detect replayed {@code UsernameToken} nonces
+	 * in incoming messages. By default, nonces are not checked for replay.
+	 * @see org.springframework.ws.soap.security.wss4j2.support.InMemoryReplayCache
+	 * @since 4.0.12
+	 */
+	public void setValidationNonceReplayCache(ReplayCache nonceReplayCache) {
+		this.validationNonceReplayCache = nonceReplayCache;
+	}
+
+	/**
+	 * Sets the {@link ReplayCache} used to detect replayed {@code Timestamp}s in incoming
+	 * messages. By default, timestamps are not checked for replay.
+	 * @see org.springframework.ws.soap.security.wss4j2.support.InMemoryReplayCache
+	 * @since 4.0.12
+	 */
+	public void setValidationTimestampReplayCache(ReplayCache timestampReplayCache) {
+		this.validationTimestampReplayCache = timestampReplayCache;
+	}
+
 	/**
 	 * Whether to enable signatureConfirmation or not. By default, signatureConfirmation
 	 * is enabled.
@@ -554,11 +593,13 @@ public class Wss4jSecurityInterceptor extends AbstractWsSecurityInterceptor impl
 	 * the OASIS specs.
 	 * @param config web service security configuration or {@code null} to use default
 	 * settings
+	 * @see org.springframework.ws.soap.security.wss4j2.support.CachingSignatureTrustValidator
 	 */
 	public void setWssConfig(WSSConfig config) {
 
 		securityEngine.setWssConfig(config);
 		wssConfig = config;
+		securementActionCodes = null;
 	}
 
 	/**
@@ -639,7 +680,7 @@ public class Wss4jSecurityInterceptor extends AbstractWsSecurityInterceptor impl
 
 		List<HandlerAction> securementActionsVector;
 		try {
-			securementActionsVector = WSSecurityUtil.decodeHandlerAction(securementActions, wssConfig);
+			securementActionsVector = getSecurementHandlerActions();
 		}
 		catch (WSSecurityException ex) {
 			throw new Wss4jSecuritySecurementException(ex.getMessage(), ex);
@@ -651,17 +692,57 @@ public class Wss4jSecurityInterceptor extends AbstractWsSecurityInterceptor impl
 		if (logger.isDebugEnabled()) {
 			logger.debug("Securing message [" + soapMessage + "] with actions [" + securementActions + "]");
 		}
+		Wss4jSecurityEvent event = new Wss4jSecurityEvent(Wss4jSecurityEvent.SECUREMENT, securementActions);
+		event.begin();
 		RequestData requestData = initializeRequestData(messageContext);
 
+		long phaseStart = event.startPhase();
 		Document envelopeAsDocument = soapMessage.getDocument();
+		event.endDocumentConversion(phaseStart);
+		phaseStart = event.startPhase();
+		boolean failed = true;
 		try {
 			handler.doSenderAction(envelopeAsDocument, requestData, securementActionsVector, false);
+			failed = false;
 		}
 		catch (WSSecurityException ex) {
 			throw new Wss4jSecuritySecurementException(ex.getMessage(), ex);
 		}
+		finally {
+			event.endProcessing(phaseStart, failed);
+		}
 
+		phaseStart = event.startPhase();
 		soapMessage.setDocument(envelopeAsDocument);
+		event.endDocumentConversion(phaseStart);
+		event.commit();
+	}
+
+	/**
+	 * Returns new handler actions for the securement actions. The action string is decoded
+	 * once, and decoded again only when the securement actions or the WSS configuration
+	 * change.
+	 * <p>
+	 * The handler actions themselves are created for every message, as WSS4J stores
+	 * per-message state in them, such as the signature or encryption parts.
+	 * @return the securement handler actions
+	 * @throws WSSecurityException if the securement actions cannot be decoded
+	 */
+	private List<HandlerAction> getSecurementHandlerActions() throws WSSecurityException {
+		List<Integer> actionCodes = this.securementActionCodes;
+		if (actionCodes == null) {
+			actionCodes = new ArrayList<>();
+			for (HandlerAction handlerAction : WSSecurityUtil.decodeHandlerAction(securementActions, wssConfig)) {
+				actionCodes.add(handlerAction.getAction());
+			}
+			actionCodes = Collections.unmodifiableList(actionCodes);
+			this.securementActionCodes = actionCodes;
+		}
+		List<HandlerAction> handlerActions = new ArrayList<>(actionCodes.size());
+		for (Integer actionCode : actionCodes) {
+			handlerActions.add(new HandlerAction(actionCode));
+		}
+		return handlerActions;
 	}
 
 	/**
@@ -719,6 +800,10 @@ public class Wss4jSecurityInterceptor extends AbstractWsSecurityInterceptor impl
 
 		requestData.setCallbackHandler(validationCallbackHandler);
 
+		requestData.setNonceReplayCache(validationNonceReplayCache);
+
+		requestData.setTimestampReplayCache(validationTimestampReplayCache);
+
 		messageContext.setProperty(WSHandlerConstants.TIMESTAMP_STRICT, timestampStrict);
 		messageContext.setProperty(WSHandlerConstants.TTL_TIMESTAMP, Integer.toString(validationTimeToLive));
 		messageContext.setProperty(WSHandlerConstants.TTL_FUTURE_TIMESTAMP, Integer.toString(futureTimeToLive));
@@ -752,10 +837,16 @@ public class Wss4jSecurityInterceptor extends AbstractWsSecurityInterceptor impl
 			return;
 		}
 
+		Wss4jSecurityEvent event = new Wss4jSecurityEvent(Wss4jSecurityEvent.VALIDATION, validationActions);
+		event.begin();
+		long phaseStart = event.startPhase();
 		Document envelopeAsDocument = soapMessage.getDocument();
+		event.endDocumentConversion(phaseStart);
 
 		// Header processing
 
+		phaseStart = event.startPhase();
+		boolean failed = true;
 		try {
 			RequestData validationData = initializeValidationRequestData(messageContext);
 
@@ -783,12 +874,24 @@ public class Wss4jSecurityInterceptor extends AbstractWsSecurityInterceptor impl
 			verifyTimestamp(result);
 
 			processPrincipal(result);
+
+			Principal principal = getPrincipal(result);
+			if (principal != null) {
+				messageContext.setProperty(PrincipalUtils.PRINCIPAL_PROPERTY, principal);
+			}
+			failed = false;
 		}
 		catch (WSSecurityException ex) {
 			throw new Wss4jSecurityValidationException(ex.getMessage(), ex);
 		}
+		finally {
+			event.endProcessing(phaseStart, failed);
+		}
 
+		phaseStart = event.startPhase();
 		soapMessage.setDocument(envelopeAsDocument);
+		event.endDocumentConversion(phaseStart);
+		event.commit();
 
 		if (this.getRemoveSecurityHeader()) {
 			soapMessage.getEnvelope().getHeader().removeHeaderElement(WS_SECURITY_NAME);
@@ -829,7 +932,8 @@ public class Wss4jSecurityInterceptor extends AbstractWsSecurityInterceptor impl
 	}
 
 	/**
-	 * Verifies the trust of a certificate.
+	 * Verifies the trust of a certificate, with the signature validator of the
+	 * {@link #setWssConfig(WSSConfig) WSSConfig} if one is set.
 	 * @param result the {@link WSHandlerResult} to use
 	 */
 	protected void verifyCertificateTrust(WSHandlerResult result) throws WSSecurityException {
@@ -847,7 +951,10 @@ public class Wss4jSecurityInterceptor extends AbstractWsSecurityInterceptor impl
 			requestData.setSigVerCrypto(validationSignatureCrypto);
 			requestData.setEnableRevocation(enableRevocation);
 
-			SignatureTrustValidator validator = new SignatureTrustValidator();
+			Validator validator = (wssConfig != null) ? wssConfig.getValidator(WSConstants.SIGNATURE) : null;
+			if (validator == null) {
+				validator = signatureTrustValidator;
+			}
 			validator.validate(credential, requestData);
 		}
 	}
@@ -868,13 +975,12 @@ public class Wss4jSecurityInterceptor extends AbstractWsSecurityInterceptor impl
 				credential.setTimestamp(timestamp);
 
 				RequestData requestData = new RequestData();
-				requestData.setWssConfig(WSSConfig.getNewInstance());
+				requestData.setWssConfig(timestampWssConfig);
 				requestData.setTimeStampTTL(validationTimeToLive);
 				requestData.setTimeStampStrict(timestampStrict);
 				requestData.setTimeStampFutureTTL(futureTimeToLive);
 
-				TimestampValidator validator = new TimestampValidator();
-				validator.validate(credential, requestData);
+				timestampValidator.validate(credential, requestData);
 			}
 		}
 	}
@@ -901,6 +1007,21 @@ public class Wss4jSecurityInterceptor extends AbstractWsSecurityInterceptor impl
 		}
 	}
 
+	/**
+	 * Returns the principal authenticated by the {@code UsernameToken}, signature, or SAML
+	 * assertion in the given results, in that order of preference.
+	 */
+	private static Principal getPrincipal(WSHandlerResult result) {
+		for (int action : PRINCIPAL_ACTIONS) {
+			List<WSSecurityEngineResult> results = result.getActionResults().get(action);
+			if (!CollectionUtils.isEmpty(results)
+					&& results.get(0).get(WSSecurityEngineResult.TAG_PRINCIPAL) instanceof Principal principal) {
+				return principal;
+			}
+		}
+		return null;
+	}
+
 	@Override
 	protected void cleanUp() {
 
@@ -22,6 +22,8 @@ import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.UnrecoverableKeyException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.security.auth.callback.UnsupportedCallbackException;
 
@@ -34,6 +36,10 @@ import org.springframework.ws.soap.security.support.KeyStoreUtils;
  * Callback handler that uses Java Security {@code KeyStore}s to handle cryptographic
  * callbacks. Allows for specific key stores to be set for various cryptographic
  * operations.
+ * <p>
+ * When {@link #setCacheSecretKeys(boolean) cacheSecretKeys} is enabled, secret keys are
+ * unwrapped from the key store once, and cached by name. The cache is discarded when a
+ * new key store or password is set, or explicitly through {@link #clearKeyCache()}.
  *
  * @author Tareq Abed Rabbo
  * @author Arjen Poutsma
@@ -49,6 +55,10 @@ public class KeyStoreCallbackHandler extends AbstractWsPasswordCallbackHandler i
 
 	private KeyStore keyStore;
 
+	private boolean cacheSecretKeys = false;
+
+	private final Map<String, byte[]> secretKeys = new ConcurrentHashMap<>();
+
 	/**
 	 * Invoked when the callback has a {@link WSPasswordCallback#DECRYPT} usage.
 	 * <p>
@@ -71,22 +81,49 @@ public class KeyStoreCallbackHandler extends AbstractWsPasswordCallbackHandler i
 	 */
 	protected void handleSecretKey(WSPasswordCallback callback) throws IOException, UnsupportedCallbackException {
 		String id = callback.getIdentifier();
-		Key key;
+		byte[] encodedKey = cacheSecretKeys ? secretKeys.get(id) : null;
 
-		try {
-			key = keyStore.getKey(id,
-					symmetricKeyPassword != null ? symmetricKeyPassword : privateKeyPassword.toCharArray());
-		}
-		catch (UnrecoverableKeyException | KeyStoreException | NoSuchAlgorithmException e) {
-			throw new IOException("Could not get key", e);
+		if (encodedKey == null) {
+			Key key;
+			try {
+				key = keyStore.getKey(id,
+						symmetricKeyPassword != null ? symmetricKeyPassword : privateKeyPassword.toCharArray());
+			}
+			catch (UnrecoverableKeyException | KeyStoreException | NoSuchAlgorithmException e) {
+				throw new IOException("Could not get key", e);
+			}
+			encodedKey = key.getEncoded();
+			if (cacheSecretKeys) {
+				secretKeys.put(id, encodedKey);
+			}
 		}
 
-		callback.setKey(key.getEncoded());
+		callback.setKey(encodedKey.clone());
 	}
 
 	/** Sets the key store to use if a symmetric key name is embedded. */
 	public void setKeyStore(KeyStore keyStore) {
 		this.keyStore = keyStore;
+		clearKeyCache();
+	}
+
+	/**
+	 * Sets whether secret keys are cached by name, so that they are only unwrapped from
+	 * the key store once. Default is {@code false}.
+	 * @since 4.0.12
+	 */
+	public void setCacheSecretKeys(boolean cacheSecretKeys) {
+		this.cacheSecretKeys = cacheSecretKeys;
+		clearKeyCache();
+	}
+
+	/**
+	 * Discards all cached secret keys, so that they are read from the key store again.
+	 * Useful when the contents of the key store have changed.
+	 * @since 4.0.12
+	 */
+	public void clearKeyCache() {
+		secretKeys.clear();
 	}
 
 	/**
@@ -96,6 +133,7 @@ public class KeyStoreCallbackHandler extends AbstractWsPasswordCallbackHandler i
 	public void setPrivateKeyPassword(String privateKeyPassword) {
 		if (privateKeyPassword != null) {
 			this.privateKeyPassword = privateKeyPassword;
+			clearKeyCache();
 		}
 	}
 
@@ -107,6 +145,7 @@ public class KeyStoreCallbackHandler extends AbstractWsPasswordCallbackHandler i
 	public void setSymmetricKeyPassword(String symmetricKeyPassword) {
 		if (symmetricKeyPassword != null) {
 			this.symmetricKeyPassword = symmetricKeyPassword.toCharArray();
+			clearKeyCache();
 		}
 	}
 
@@ -34,6 +34,7 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.core.userdetails.cache.NullUserCache;
 import org.springframework.util.Assert;
 import org.springframework.ws.soap.security.callback.CleanupCallback;
+import org.springframework.ws.soap.security.support.ExpiringUserCache;
 import org.springframework.ws.soap.security.support.SpringSecurityUtils;
 
 /**
@@ -55,7 +56,12 @@ public class SpringSecurityPasswordValidationCallbackHandler extends AbstractWsP
 
 	private UserDetailsService userDetailsService;
 
-	/** Sets the users cache. Not required, but can benefit performance. */
+	/**
+	 * Sets the users cache. Not required, but can benefit performance.
+	 * <p>
+	 * When set to an {@link ExpiringUserCache}, user names that are not found can be
+	 * cached as well, see {@link ExpiringUserCache#setNotFoundTimeToLive(java.time.Duration)}.
+	 */
 	public void setUserCache(UserCache userCache) {
 		this.userCache = userCache;
 	}
@@ -109,6 +115,13 @@ public class SpringSecurityPasswordValidationCallbackHandler extends AbstractWsP
 		UserDetails user = userCache.getUserFromCache(username);
 
 		if (user == null) {
+			if (userCache instanceof ExpiringUserCache expiringUserCache
+					&& expiringUserCache.isUserNotFound(username)) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Username '" + username + "' not found (cached)");
+				}
+				return null;
+			}
 			try {
 				user = userDetailsService.loadUserByUsername(username);
 			}
@@ -116,6 +129,9 @@ public class SpringSecurityPasswordValidationCallbackHandler extends AbstractWsP
 				if (logger.isDebugEnabled()) {
 					logger.debug("Username '" + username + "' not found");
 				}
+				if (userCache instanceof ExpiringUserCache expiringUserCache) {
+					expiringUserCache.putUserNotFoundInCache(username);
+				}
 				return null;
 			}
 			userCache.putUserInCache(user);
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.soap.security.wss4j2.support;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyStore;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509Certificate;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.security.auth.callback.CallbackHandler;
+import javax.security.auth.x500.X500Principal;
+
+import org.apache.wss4j.common.crypto.CryptoType;
+import org.apache.wss4j.common.crypto.Merlin;
+import org.apache.wss4j.common.crypto.PasswordEncryptor;
+import org.apache.wss4j.common.ext.WSSecurityException;
+
+/**
+ * {@link Merlin} crypto that caches the private keys and certificate chains it looks up
+ * in its key store, so that keys are not unwrapped again for every signed or encrypted
+ * message.
+ * <p>
+ * Private keys obtained by alias are cached together with a digest of their password, and
+ * are only served from the cache when the same password is presented. Private keys
+ * obtained by certificate are cached per certificate and callback handler. Certificate
+ * lookups by alias, issuer and serial number, subject key identifier, thumbprint, and
+ * subject DN are cached as well. Since issuers and subject DNs are taken from incoming
+ * messages, they are cached in their canonical form, and at most
+ * {@value #MAX_CERTIFICATE_ENTRIES} certificate chains are kept, the least recently used
+ * being discarded first.
+ * <p>
+ * Setting a new {@link #setKeyStore(KeyStore) key store} or
+ * {@link #setTrustStore(KeyStore) trust store} discards the cache, which allows for key
+ * store rotation. The cache can also be discarded explicitly with {@link #clearCache()}.
+ *
+ * @since 4.0.12
+ * @see CryptoFactoryBean#setCacheKeys(boolean)
+ */
+public class CachingMerlin extends Merlin {
+
+	/** The maximum number of cached certificate chains. */
+	public static final int MAX_CERTIFICATE_ENTRIES = 1000;
+
+	private static final HexFormat HEX_FORMAT = HexFormat.of();
+
+	private final Map<String, CachedPrivateKey> privateKeys = new ConcurrentHashMap<>();
+
+	private final Map<String, X509Certificate[]> certificates = Collections
+		.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, X509Certificate[]> eldest) {
+				return size() > MAX_CERTIFICATE_ENTRIES;
+			}
+
+		});
+
+	/**
+	 * Create a new, unconfigured {@code CachingMerlin}.
+	 */
+	public CachingMerlin() {
+	}
+
+	/**
+	 * Create a new {@code CachingMerlin} with the given configuration.
+	 * @param properties the Merlin configuration
+	 * @param loader the class loader used to load the key stores
+	 * @param passwordEncryptor the password encryptor; may be {@code null}
+	 * @see Merlin#Merlin(Properties, ClassLoader, PasswordEncryptor)
+	 */
+	public CachingMerlin(Properties properties, ClassLoader loader, PasswordEncryptor passwordEncryptor)
+			throws WSSecurityException, IOException {
+		super(properties, loader, passwordEncryptor);
+	}
+
+	@Override
+	public void setKeyStore(KeyStore keyStore) {
+		super.setKeyStore(keyStore);
+		clearCache();
+	}
+
+	@Override
+	public void setTrustStore(KeyStore trustStore) {
+		super.setTrustStore(trustStore);
+		clearCache();
+	}
+
+	/**
+	 * Discards all cached private keys and certificates.
+	 */
+	public void clearCache() {
+		// invoked from the Merlin constructor, before the caches are initialized
+		if (this.privateKeys != null) {
+			this.privateKeys.clear();
+		}
+		if (this.certificates != null) {
+			this.certificates.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of cached certificate chains.
+	 */
+	int getCertificateCacheSize() {
+		return this.certificates.size();
+	}
+
+	@Override
+	public PrivateKey getPrivateKey(String identifier, String password) throws WSSecurityException {
+		if (identifier == null) {
+			return super.getPrivateKey(identifier, password);
+		}
+		byte[] passwordDigest = digest((password != null) ? password.getBytes(StandardCharsets.UTF_8) : new byte[0]);
+		String key = "alias:" + identifier;
+		CachedPrivateKey cached = this.privateKeys.get(key);
+		if (cached != null && MessageDigest.isEqual(cached.credential, passwordDigest)) {
+			return cached.privateKey;
+		}
+		PrivateKey privateKey = super.getPrivateKey(identifier, password);
+		if (privateKey != null) {
+			this.privateKeys.put(key, new CachedPrivateKey(privateKey, passwordDigest, null));
+		}
+		return privateKey;
+	}
+
+	@Override
+	public PrivateKey getPrivateKey(X509Certificate certificate, CallbackHandler callbackHandler)
+			throws WSSecurityException {
+		if (certificate == null) {
+			return super.getPrivateKey(certificate, callbackHandler);
+		}
+		String key = "certificate:" + fingerprint(certificate);
+		CachedPrivateKey cached = this.privateKeys.get(key);
+		if (cached != null && cached.callbackHandler == callbackHandler) {
+			return cached.privateKey;
+		}
+		PrivateKey privateKey = super.getPrivateKey(certificate, callbackHandler);
+		if (privateKey != null) {
+			this.privateKeys.put(key, new CachedPrivateKey(privateKey, null, callbackHandler));
+		}
+		return privateKey;
+	}
+
+	@Override
+	public X509Certificate[] getX509Certificates(CryptoType cryptoType) throws WSSecurityException {
+		String key = cacheKey(cryptoType);
+		if (key == null) {
+			return super.getX509Certificates(cryptoType);
+		}
+		X509Certificate[] chain = this.certificates.get(key);
+		if (chain == null) {
+			chain = super.getX509Certificates(cryptoType);
+			if (chain == null || chain.length == 0) {
+				return chain;
+			}
+			this.certificates.put(key, chain);
+		}
+		return chain.clone();
+	}
+
+	private static String cacheKey(CryptoType cryptoType) {
+		if (cryptoType == null || cryptoType.getType() == null) {
+			return null;
+		}
+		return switch (cryptoType.getType()) {
+			case ALIAS -> (cryptoType.getAlias() != null) ? "alias:" + cryptoType.getAlias() : null;
+			case ISSUER_SERIAL -> {
+				String issuer = canonicalName(cryptoType.getIssuer());
+				yield (issuer != null && cryptoType.getSerial() != null)
+						? "issuer-serial:" + issuer + ':' + cryptoType.getSerial() : null;
+			}
+			case SKI_BYTES -> (cryptoType.getBytes() != null) ? "ski:" + HEX_FORMAT.formatHex(cryptoType.getBytes())
+					: null;
+			case THUMBPRINT_SHA1 -> (cryptoType.getBytes() != null)
+					? "thumbprint:" + HEX_FORMAT.formatHex(cryptoType.getBytes()) : null;
+			case SUBJECT_DN -> {
+				String subject = canonicalName(cryptoType.getSubjectDN());
+				yield (subject != null) ? "subject:" + subject : null;
+			}
+			default -> null;
+		};
+	}
+
+	/**
+	 * Returns the canonical form of the given distinguished name, so that different
+	 * spellings of the same name share a cache entry; or {@code null} if it cannot be
+	 * parsed, in which case the lookup is not cached.
+	 */
+	private static String canonicalName(String name) {
+		if (name == null) {
+			return null;
+		}
+		try {
+			return new X500Principal(name).getName(X500Principal.CANONICAL);
+		}
+		catch (IllegalArgumentException ex) {
+			return null;
+		}
+	}
+
+	private static String fingerprint(X509Certificate certificate) throws WSSecurityException {
+		try {
+			return HEX_FORMAT.formatHex(digest(certificate.getEncoded()));
+		}
+		catch (CertificateEncodingException ex) {
+			throw new WSSecurityException(WSSecurityException.ErrorCode.FAILURE, ex);
+		}
+	}
+
+	private static byte[] digest(byte[] input) {
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(input);
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("SHA-256 not supported", ex);
+		}
+	}
+
+	private static final class CachedPrivateKey {
+
+		private final PrivateKey privateKey;
+
+		private final byte[] credential;
+
+		private final CallbackHandler callbackHandler;
+
+		private CachedPrivateKey(PrivateKey privateKey, byte[] credential, CallbackHandler callbackHandler) {
+			this.privateKey = privateKey;
+			this.credential = credential;
+			this.callbackHandler = callbackHandler;
+		}
+
+	}
+
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.ws.soap.security.wss4j2.support;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.wss4j.common.crypto.Crypto;
+import org.apache.wss4j.common.ext.WSSecurityException;
+import org.apache.wss4j.dom.handler.RequestData;
+import org.apache.wss4j.dom.validate.SignatureTrustValidator;
+
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * {@link SignatureTrustValidator} that remembers the certificate chains it verified to be
+ * trusted, so that partners signing many messages with the same certificate do not have
+ * their certificate path validated on every message.
+ * <p>
+ * To use it, register it as the signature validator of the {@code WSSConfig} of the
+ * {@link org.springframework.ws.soap.security.wss4j2.Wss4jSecurityInterceptor}:
+ *
+ * <pre class="code">
+ * WSSConfig wssConfig = WSSConfig.getNewInstance();
+ * wssConfig.setValidator(WSConstants.SIGNATURE, new CachingSignatureTrustValidator());
+ * interceptor.setWssConfig(wssConfig);
+ * </pre>
+ *
+ * WSS4J still verifies the signature itself, and the validity period of the
+ * certificates, for every message: only the trust verification is cached. Chains are
+ * keyed by the SHA-256 fingerprints of their certificates, and are only considered
+ * trusted by the {@link Crypto} that verified them. An entry expires after the configured
+ * time to live, and at most {@code maxEntries} chains are kept, the least recently used
+ * being discarded first. Trust is verified without the cache when revocation checking is
+ * enabled, or when subject or issuer constraints are configured.
+ *
+ * @since 4.0.12
+ * @see org.apache.wss4j.dom.engine.WSSConfig#setValidator(javax.xml.namespace.QName,
+ * org.apache.wss4j.dom.validate.Validator)
+ */
+public class CachingSignatureTrustValidator extends SignatureTrustValidator {
+
+	/** The default maximum number of cached certificate chains. */
+	public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+	/** The default time to live of cached certificate chains. */
+	public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(5);
+
+	private static final HexFormat HEX_FORMAT = HexFormat.of();
+
+	private final Map<String, Entry> entries;
+
+	private final long timeToLiveMillis;
+
+	private Clock clock = Clock.systemUTC();
+
+	private long hitCount;
+
+	private long missCount;
+
+	/**
+	 * Create a new {@code CachingSignatureTrustValidator} with the default maximum number
+	 * of entries and time to live.
+	 */
+	public CachingSignatureTrustValidator() {
+		this(DEFAULT_MAX_ENTRIES, DEFAULT_TIME_TO_LIVE);
+	}
+
+	/**
+	 * Create a new {@code CachingSignatureTrustValidator}.
+	 * @param maxEntries the maximum number of cached certificate chains
+	 * @param timeToLive the time after which the trust in a chain must be verified again
+	 */
+	public CachingSignatureTrustValidator(int maxEntries, Duration timeToLive) {
+		Assert.isTrue(maxEntries > 0, "maxEntries must be positive");
+		Assert.notNull(timeToLive, "timeToLive must not be null");
+		Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "timeToLive must be positive");
+		this.timeToLiveMillis = timeToLive.toMillis();
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+				return size() > maxEntries;
+			}
+
+		};
+	}
+
+	void setClock(Clock clock) {
+		this.clock = clock;
+	}
+
+	@Override
+	protected void verifyTrustInCerts(X509Certificate[] certificates, Crypto crypto, RequestData data,
+			boolean enableRevocation) throws WSSecurityException {
+		if (enableRevocation || !CollectionUtils.isEmpty(data.getSubjectCertConstraints())
+				|| !CollectionUtils.isEmpty(data.getIssuerDNPatterns())) {
+			super.verifyTrustInCerts(certificates, crypto, data, enableRevocation);
+			return;
+		}
+		String key = cacheKey(certificates);
+		if (key == null) {
+			super.verifyTrustInCerts(certificates, crypto, data, enableRevocation);
+			return;
+		}
+		long now = this.clock.millis();
+		synchronized (this.entries) {
+			Entry entry = this.entries.get(key);
+			if (entry != null && entry.crypto == crypto && entry.expiresAt > now) {
+				this.hitCount++;
+				return;
+			}
+			this.missCount++;
+		}
+		super.verifyTrustInCerts(certificates, crypto, data, enableRevocation);
+		synchronized (this.entries) {
+			this.entries.put(key, new Entry(crypto, now + this.timeToLiveMillis));
+		}
+	}
+
+	/**
+	 * Removes all certificate chains from this cache. Should be invoked when the trust
+	 * store changes.
+	 */
+	public void clear() {
+		synchronized (this.entries) {
+			this.entries.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of verifications that found a trusted certificate chain.
+	 */
+	public long getHitCount() {
+		synchronized (this.entries) {
+			return this.hitCount;
+		}
+	}
+
+	/**
+	 * Returns the number of verifications that did not find a trusted certificate chain.
+	 */
+	public long getMissCount() {
+		synchronized (this.entries) {
+			return this.missCount;
+		}
+	}
+
+	private static String cacheKey(X509Certificate[] certificates) {
+		try {
+			MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+			StringBuilder key = new StringBuilder();
+			for (X509Certificate certificate : certificates) {
+				if (certificate == null) {
+					return null;
+				}
+				key.append(HEX_FORMAT.formatHex(messageDigest.digest(certificate.getEncoded()))).append(':');
+			}
+			return key.toString();
+		}
+		catch (CertificateEncodingException ex) {
+			return null;
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("SHA-256 not supported", ex);
+		}
+	}
+
+	private static final class Entry {
+
+		private final Crypto crypto;
+
+		private final long expiresAt;
+
+		private Entry(Crypto crypto, long expiresAt) {
+			this.crypto = crypto;
+			this.expiresAt = expiresAt;
+		}
+
+	}
+
+}
@@ -48,8 +48,12 @@ public class CryptoFactoryBean implements FactoryBean<Crypto>, InitializingBean
 
 	private Crypto crypto;
 
+	private boolean cacheKeys;
+
 	private static final String CRYPTO_PROVIDER_PROPERTY = "org.apache.wss4j.crypto.provider";
 
+	private static final String LEGACY_CRYPTO_PROVIDER_PROPERTY = "org.apache.ws.security.crypto.provider";
+
 	private static final String CRYPTO_MERLIN_FILE_PROPERTY = "org.apache.ws.security.crypto.merlin.file";
 
 	/**
@@ -160,12 +164,32 @@ public class CryptoFactoryBean implements FactoryBean<Crypto>, InitializingBean
 		this.configuration.setProperty("org.apache.ws.security.crypto.merlin.keystore.alias", defaultX509Alias);
 	}
 
+	/**
+	 * Sets whether the private keys and certificates looked up in the key store should be
+	 * cached. Only applies to the default {@link Merlin} provider, which is replaced by a
+	 * {@link CachingMerlin}. Default is {@code false}.
+	 * @param cacheKeys whether to cache private keys and certificates
+	 * @see CachingMerlin
+	 */
+	public void setCacheKeys(boolean cacheKeys) {
+		this.cacheKeys = cacheKeys;
+	}
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
 		if (!configuration.containsKey(CRYPTO_PROVIDER_PROPERTY)) {
 			configuration.setProperty(CRYPTO_PROVIDER_PROPERTY, Merlin.class.getName());
 		}
-		this.crypto = CryptoFactory.getInstance(configuration);
+		Properties cryptoConfiguration = configuration;
+		if (cacheKeys && Merlin.class.getName().equals(configuration.getProperty(CRYPTO_PROVIDER_PROPERTY))) {
+			// let the factory create the CachingMerlin, with the class loader and password
+			// encryptor it would use for a Merlin
+			cryptoConfiguration = new Properties();
+			cryptoConfiguration.putAll(configuration);
+			cryptoConfiguration.remove(LEGACY_CRYPTO_PROVIDER_PROPERTY);
+			cryptoConfiguration.setProperty(CRYPTO_PROVIDER_PROPERTY, CachingMerlin.class.getName());
+		}
+		this.crypto = CryptoFactory.getInstance(cryptoConfiguration);
 	}
 
 	@Override
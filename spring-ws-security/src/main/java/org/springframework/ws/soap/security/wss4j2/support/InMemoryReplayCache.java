@@ -0,0 +1,384 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.soap.security.wss4j2.support;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.wss4j.common.cache.ReplayCache;
+
+import org.springframework.util.Assert;
+
+/**
+ * In-memory implementation of the WSS4J {@link ReplayCache}, to detect replayed
+ * {@code UsernameToken} nonces and {@code Timestamp}s without requiring EhCache.
+ * <p>
+ * Identifiers are stored as 64-bit digests in a number of independently locked stripes,
+ * so that concurrent validations rarely contend. Within a stripe, digests are grouped in
+ * buckets by expiry time, so that expired entries are discarded a bucket at a time.
+ * <p>
+ * Unexpired identifiers are never evicted, as that would allow them to be replayed.
+ * Instead, the cache fails closed: when a stripe holds its share of the
+ * {@link #InMemoryReplayCache(int, Duration) maxEntries}, {@link #contains(String)}
+ * reports every identifier not yet in that stripe as replayed, until entries expire.
+ * Such rejections are counted in {@link #getRejectionCount()}. Since WSS4J looks an
+ * identifier up before adding it, the cache only exceeds {@code maxEntries} by the
+ * identifiers of validations running concurrently.
+ * <p>
+ * The time to live is the default lifetime of identifiers added without an expiry, and
+ * the longest lifetime an identifier is kept. It should be at least the
+ * {@link org.springframework.ws.soap.security.wss4j2.Wss4jSecurityInterceptor#setValidationTimeToLive(int)
+ * validationTimeToLive} plus the
+ * {@link org.springframework.ws.soap.security.wss4j2.Wss4jSecurityInterceptor#setFutureTimeToLive(int)
+ * futureTimeToLive} of the interceptor it is used with, which is the case with the
+ * default of {@value #DEFAULT_TIME_TO_LIVE_SECONDS} seconds.
+ *
+ * @see org.springframework.ws.soap.security.wss4j2.Wss4jSecurityInterceptor#setValidationNonceReplayCache(ReplayCache)
+ * @see org.springframework.ws.soap.security.wss4j2.Wss4jSecurityInterceptor#setValidationTimestampReplayCache(ReplayCache)
+ * @since 4.0.12
+ */
+public class InMemoryReplayCache implements ReplayCache {
+
+	/** The default maximum number of entries. */
+	public static final int DEFAULT_MAX_ENTRIES = 100_000;
+
+	/** The default time to live, in seconds. */
+	public static final long DEFAULT_TIME_TO_LIVE_SECONDS = 360;
+
+	private static final int BUCKET_COUNT = 8;
+
+	private static final ThreadLocal<MessageDigest> messageDigest = ThreadLocal
+		.withInitial(InMemoryReplayCache::createMessageDigest);
+
+	private final Stripe[] stripes;
+
+	private final long timeToLiveMillis;
+
+	private final long bucketMillis;
+
+	private final Clock clock;
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	private final LongAdder rejectionCount = new LongAdder();
+
+	/**
+	 * Create a new {@code InMemoryReplayCache} with the default maximum number of entries
+	 * and time to live.
+	 */
+	public InMemoryReplayCache() {
+		this(DEFAULT_MAX_ENTRIES, Duration.ofSeconds(DEFAULT_TIME_TO_LIVE_SECONDS));
+	}
+
+	/**
+	 * Create a new {@code InMemoryReplayCache}.
+	 * @param maxEntries the maximum number of entries
+	 * @param timeToLive the time to live of entries added without an expiry, and the
+	 * longest time entries are kept
+	 */
+	public InMemoryReplayCache(int maxEntries, Duration timeToLive) {
+		this(maxEntries, timeToLive, Clock.systemUTC());
+	}
+
+	InMemoryReplayCache(int maxEntries, Duration timeToLive, Clock clock) {
+		Assert.isTrue(maxEntries > 0, "maxEntries must be positive");
+		Assert.notNull(timeToLive, "timeToLive must not be null");
+		Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "timeToLive must be positive");
+		Assert.notNull(clock, "clock must not be null");
+		int stripeCount = Math.min(stripeCount(), Integer.highestOneBit(maxEntries));
+		this.stripes = new Stripe[stripeCount];
+		int stripeCapacity = Math.max(1, maxEntries / stripeCount);
+		for (int i = 0; i < stripeCount; i++) {
+			this.stripes[i] = new Stripe(stripeCapacity);
+		}
+		this.timeToLiveMillis = timeToLive.toMillis();
+		// entries within the time to live span at most BUCKET_COUNT epochs
+		this.bucketMillis = Math.max(1, -Math.floorDiv(-timeToLiveMillis, BUCKET_COUNT - 2));
+		this.clock = clock;
+	}
+
+	private static int stripeCount() {
+		int processors = Runtime.getRuntime().availableProcessors();
+		return Math.min(64, Integer.highestOneBit(Math.max(1, processors * 4 - 1)) << 1);
+	}
+
+	@Override
+	public void add(String identifier) {
+		add(identifier, null);
+	}
+
+	@Override
+	public void add(String identifier, Instant expiry) {
+		Assert.notNull(identifier, "identifier must not be null");
+		long now = clock.millis();
+		long currentEpoch = now / bucketMillis;
+		long expiryMillis = (expiry != null) ? expiry.toEpochMilli() : now + timeToLiveMillis;
+		long epoch = Math.min(expiryMillis / bucketMillis, currentEpoch + BUCKET_COUNT - 1);
+		if (epoch < currentEpoch) {
+			return;
+		}
+		long key = digest(identifier);
+		getStripe(key).add(key, epoch, currentEpoch);
+	}
+
+	/**
+	 * Indicates whether the given identifier was added, and has not expired yet. Also
+	 * returns {@code true} when the cache is too full to add the identifier.
+	 */
+	@Override
+	public boolean contains(String identifier) {
+		Assert.notNull(identifier, "identifier must not be null");
+		long currentEpoch = clock.millis() / bucketMillis;
+		long key = digest(identifier);
+		Lookup lookup = getStripe(key).lookup(key, currentEpoch);
+		if (lookup == Lookup.FOUND) {
+			hitCount.increment();
+			return true;
+		}
+		if (lookup == Lookup.FULL) {
+			rejectionCount.increment();
+			return true;
+		}
+		missCount.increment();
+		return false;
+	}
+
+	/**
+	 * Removes all entries from this cache.
+	 */
+	@Override
+	public void close() {
+		for (Stripe stripe : stripes) {
+			stripe.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of unexpired entries in this cache.
+	 */
+	public int size() {
+		long currentEpoch = clock.millis() / bucketMillis;
+		int size = 0;
+		for (Stripe stripe : stripes) {
+			size += stripe.size(currentEpoch);
+		}
+		return size;
+	}
+
+	/**
+	 * Returns the number of lookups that found a replayed identifier.
+	 */
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	/**
+	 * Returns the number of lookups that did not find the identifier.
+	 */
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	/**
+	 * Returns the number of lookups of identifiers that were not found, but reported as
+	 * replayed because the cache was full.
+	 */
+	public long getRejectionCount() {
+		return rejectionCount.sum();
+	}
+
+	private Stripe getStripe(long key) {
+		return stripes[(int) (key >>> 32) & (stripes.length - 1)];
+	}
+
+	private static long digest(String identifier) {
+		byte[] digest = messageDigest.get().digest(identifier.getBytes(StandardCharsets.UTF_8));
+		long key = ByteBuffer.wrap(digest).getLong();
+		// zero marks empty slots
+		return (key != 0) ? key : 1;
+	}
+
+	private static MessageDigest createMessageDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("SHA-256 not supported", ex);
+		}
+	}
+
+	/**
+	 * Result of looking up a digest in a {@link Stripe}.
+	 */
+	private enum Lookup {
+
+		FOUND, ABSENT, FULL
+
+	}
+
+	/**
+	 * A ring of buckets holding the digests that expire in the same epoch, guarded by
+	 * the stripe's monitor.
+	 */
+	private final class Stripe {
+
+		private final LongSet[] buckets = new LongSet[BUCKET_COUNT];
+
+		private final long[] epochs = new long[BUCKET_COUNT];
+
+		private final int capacity;
+
+		private int size;
+
+		Stripe(int capacity) {
+			this.capacity = capacity;
+			for (int i = 0; i < BUCKET_COUNT; i++) {
+				this.buckets[i] = new LongSet();
+				this.epochs[i] = Long.MIN_VALUE;
+			}
+		}
+
+		synchronized Lookup lookup(long key, long currentEpoch) {
+			expire(currentEpoch);
+			for (int i = 0; i < BUCKET_COUNT; i++) {
+				if (buckets[i].contains(key)) {
+					return Lookup.FOUND;
+				}
+			}
+			return (size >= capacity) ? Lookup.FULL : Lookup.ABSENT;
+		}
+
+		synchronized void add(long key, long epoch, long currentEpoch) {
+			expire(currentEpoch);
+			int slot = (int) Math.floorMod(epoch, (long) BUCKET_COUNT);
+			// live epochs map to distinct slots, so a different epoch in the slot has expired
+			if (epochs[slot] != epoch) {
+				clearBucket(slot);
+				epochs[slot] = epoch;
+			}
+			if (buckets[slot].add(key)) {
+				size++;
+			}
+		}
+
+		private void expire(long currentEpoch) {
+			for (int i = 0; i < BUCKET_COUNT; i++) {
+				if (epochs[i] < currentEpoch && buckets[i].size() > 0) {
+					clearBucket(i);
+				}
+			}
+		}
+
+		private void clearBucket(int slot) {
+			size -= buckets[slot].size();
+			buckets[slot].clear();
+			epochs[slot] = Long.MIN_VALUE;
+		}
+
+		synchronized void clear() {
+			for (int i = 0; i < BUCKET_COUNT; i++) {
+				clearBucket(i);
+			}
+		}
+
+		synchronized int size(long currentEpoch) {
+			int result = 0;
+			for (int i = 0; i < BUCKET_COUNT; i++) {
+				if (epochs[i] >= currentEpoch) {
+					result += buckets[i].size();
+				}
+			}
+			return result;
+		}
+
+	}
+
+	/**
+	 * Open-addressing hash set of non-zero {@code long}s.
+	 */
+	private static final class LongSet {
+
+		private static final int INITIAL_CAPACITY = 16;
+
+		private long[] keys = new long[INITIAL_CAPACITY];
+
+		private int size;
+
+		boolean contains(long key) {
+			int mask = keys.length - 1;
+			for (int i = (int) key & mask; keys[i] != 0; i = (i + 1) & mask) {
+				if (keys[i] == key) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		boolean add(long key) {
+			if ((size + 1) * 2 > keys.length) {
+				resize();
+			}
+			int mask = keys.length - 1;
+			int i = (int) key & mask;
+			while (keys[i] != 0) {
+				if (keys[i] == key) {
+					return false;
+				}
+				i = (i + 1) & mask;
+			}
+			keys[i] = key;
+			size++;
+			return true;
+		}
+
+		private void resize() {
+			long[] oldKeys = keys;
+			keys = new long[oldKeys.length * 2];
+			int mask = keys.length - 1;
+			for (long key : oldKeys) {
+				if (key != 0) {
+					int i = (int) key & mask;
+					while (keys[i] != 0) {
+						i = (i + 1) & mask;
+					}
+					keys[i] = key;
+				}
+			}
+		}
+
+		int size() {
+			return size;
+		}
+
+		void clear() {
+			if (size > 0) {
+				keys = new long[INITIAL_CAPACITY];
+				size = 0;
+			}
+		}
+
+	}
+
+}
@@ -32,7 +32,7 @@ import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.SpringSecurityMessageSource;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.util.Assert;
-import org.springframework.ws.soap.security.x509.cache.NullX509UserCache;
+import org.springframework.ws.soap.security.x509.cache.InMemoryX509UserCache;
 import org.springframework.ws.soap.security.x509.cache.X509UserCache;
 
 /**
@@ -58,7 +58,7 @@ public class X509AuthenticationProvider implements AuthenticationProvider, Initi
 
 	private X509AuthoritiesPopulator x509AuthoritiesPopulator;
 
-	private X509UserCache userCache = new NullX509UserCache();
+	private X509UserCache userCache = new InMemoryX509UserCache();
 
 	// ~ Methods
 	// ========================================================================================================
@@ -130,6 +130,12 @@ public class X509AuthenticationProvider implements AuthenticationProvider, Initi
 		this.x509AuthoritiesPopulator = x509AuthoritiesPopulator;
 	}
 
+	/**
+	 * Sets the cache of users, keyed by certificate. Defaults to an
+	 * {@link InMemoryX509UserCache}; set a
+	 * {@link org.springframework.ws.soap.security.x509.cache.NullX509UserCache} to
+	 * disable caching.
+	 */
 	public void setX509UserCache(X509UserCache cache) {
 		this.userCache = cache;
 	}
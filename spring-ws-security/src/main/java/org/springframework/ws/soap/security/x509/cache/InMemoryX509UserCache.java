@@ -0,0 +1,288 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.soap.security.x509.cache;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.util.Assert;
+
+/**
+ * Dependency-free {@link X509UserCache} that keeps users in memory, keyed by the SHA-256
+ * fingerprint of their certificate.
+ * <p>
+ * The cache is split into independently locked segments, each managed as a segmented LRU:
+ * new entries are admitted into a probationary area and promoted to a protected area
+ * when they are read again. This keeps certificates that are seen only once from pushing
+ * out frequently used ones. Entries expire after a configurable time to live.
+ *
+ * @since 4.0.12
+ * @see org.springframework.ws.soap.security.x509.X509AuthenticationProvider
+ */
+public class InMemoryX509UserCache implements X509UserCache {
+
+	/** The default maximum number of cached users. */
+	public static final int DEFAULT_MAX_ENTRIES = 1024;
+
+	/** The default time to live of cached users. */
+	public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(5);
+
+	private static final Log logger = LogFactory.getLog(InMemoryX509UserCache.class);
+
+	private static final int SEGMENT_COUNT = 16;
+
+	private static final HexFormat HEX_FORMAT = HexFormat.of();
+
+	private final Segment[] segments;
+
+	private final long timeToLiveMillis;
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	private final LongAdder evictionCount = new LongAdder();
+
+	private Clock clock = Clock.systemUTC();
+
+	/**
+	 * Create a new {@code InMemoryX509UserCache} with the default maximum number of
+	 * entries and time to live.
+	 */
+	public InMemoryX509UserCache() {
+		this(DEFAULT_MAX_ENTRIES, DEFAULT_TIME_TO_LIVE);
+	}
+
+	/**
+	 * Create a new {@code InMemoryX509UserCache}.
+	 * @param maxEntries the maximum number of cached users
+	 * @param timeToLive the time after which a cached user expires
+	 */
+	public InMemoryX509UserCache(int maxEntries, Duration timeToLive) {
+		Assert.isTrue(maxEntries > 0, "maxEntries must be positive");
+		Assert.notNull(timeToLive, "timeToLive must not be null");
+		Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "timeToLive must be positive");
+		int segmentCount = Math.min(SEGMENT_COUNT, Integer.highestOneBit(maxEntries));
+		this.segments = new Segment[segmentCount];
+		for (int i = 0; i < segmentCount; i++) {
+			int capacity = maxEntries / segmentCount + ((i < maxEntries % segmentCount) ? 1 : 0);
+			this.segments[i] = new Segment(capacity);
+		}
+		this.timeToLiveMillis = timeToLive.toMillis();
+	}
+
+	void setClock(Clock clock) {
+		this.clock = clock;
+	}
+
+	@Override
+	public UserDetails getUserFromCache(X509Certificate certificate) {
+		String fingerprint = fingerprint(certificate);
+		UserDetails user = (fingerprint != null) ? segmentFor(fingerprint).get(fingerprint, clock.millis()) : null;
+		if (user != null) {
+			hitCount.increment();
+		}
+		else {
+			missCount.increment();
+		}
+		return user;
+	}
+
+	@Override
+	public void putUserInCache(X509Certificate certificate, UserDetails user) {
+		String fingerprint = fingerprint(certificate);
+		if (fingerprint != null) {
+			segmentFor(fingerprint).put(fingerprint, user, clock.millis() + timeToLiveMillis);
+		}
+	}
+
+	@Override
+	public void removeUserFromCache(X509Certificate certificate) {
+		String fingerprint = fingerprint(certificate);
+		if (fingerprint != null) {
+			segmentFor(fingerprint).remove(fingerprint);
+		}
+	}
+
+	/**
+	 * Removes all users from this cache.
+	 */
+	public void removeAllUsersFromCache() {
+		for (Segment segment : segments) {
+			segment.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of cached users, including those that have expired but have not
+	 * been removed yet.
+	 */
+	public int size() {
+		int size = 0;
+		for (Segment segment : segments) {
+			size += segment.size();
+		}
+		return size;
+	}
+
+	/**
+	 * Returns the number of lookups that found a cached user.
+	 */
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	/**
+	 * Returns the number of lookups that did not find a cached user.
+	 */
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	/**
+	 * Returns the number of users that were evicted to make room for others.
+	 */
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	private Segment segmentFor(String fingerprint) {
+		int hash = fingerprint.hashCode();
+		return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+	}
+
+	private static String fingerprint(X509Certificate certificate) {
+		if (certificate == null) {
+			return null;
+		}
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HEX_FORMAT.formatHex(digest.digest(certificate.getEncoded()));
+		}
+		catch (CertificateEncodingException ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Could not encode certificate " + certificate.getSubjectX500Principal(), ex);
+			}
+			return null;
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("SHA-256 not supported", ex);
+		}
+	}
+
+	/**
+	 * A segmented LRU: entries enter the probationary area, and move to the protected
+	 * area on their second access. Entries demoted from the protected area return to the
+	 * probationary area, from which victims are chosen.
+	 */
+	private final class Segment {
+
+		private final int capacity;
+
+		private final int protectedCapacity;
+
+		private final LinkedHashMap<String, Entry> probation = new LinkedHashMap<>(16, 0.75f, true);
+
+		private final LinkedHashMap<String, Entry> protect = new LinkedHashMap<>(16, 0.75f, true);
+
+		private Segment(int capacity) {
+			this.capacity = capacity;
+			this.protectedCapacity = Math.max(1, capacity * 4 / 5);
+		}
+
+		synchronized UserDetails get(String key, long now) {
+			Entry entry = protect.get(key);
+			if (entry == null) {
+				entry = probation.remove(key);
+				if (entry != null && entry.expiresAt > now) {
+					protect.put(key, entry);
+					if (protect.size() > protectedCapacity) {
+						Map.Entry<String, Entry> demoted = eldest(protect);
+						probation.put(demoted.getKey(), demoted.getValue());
+					}
+				}
+			}
+			else if (entry.expiresAt <= now) {
+				protect.remove(key);
+			}
+			return (entry != null && entry.expiresAt > now) ? entry.user : null;
+		}
+
+		synchronized void put(String key, UserDetails user, long expiresAt) {
+			Entry entry = new Entry(user, expiresAt);
+			if (protect.containsKey(key)) {
+				protect.put(key, entry);
+				return;
+			}
+			probation.put(key, entry);
+			while (probation.size() + protect.size() > capacity) {
+				eldest(!probation.isEmpty() ? probation : protect);
+				evictionCount.increment();
+			}
+		}
+
+		synchronized void remove(String key) {
+			if (protect.remove(key) == null) {
+				probation.remove(key);
+			}
+		}
+
+		synchronized void clear() {
+			probation.clear();
+			protect.clear();
+		}
+
+		synchronized int size() {
+			return probation.size() + protect.size();
+		}
+
+		private Map.Entry<String, Entry> eldest(LinkedHashMap<String, Entry> map) {
+			Iterator<Map.Entry<String, Entry>> iterator = map.entrySet().iterator();
+			Map.Entry<String, Entry> eldest = iterator.next();
+			iterator.remove();
+			return eldest;
+		}
+
+	}
+
+	private static final class Entry {
+
+		private final UserDetails user;
+
+		private final long expiresAt;
+
+		private Entry(UserDetails user, long expiresAt) {
+			this.user = user;
+			this.expiresAt = expiresAt;
+		}
+
+	}
+
+}
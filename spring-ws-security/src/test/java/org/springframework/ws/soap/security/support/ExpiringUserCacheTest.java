@@ -0,0 +1,172 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.soap.security.support;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ExpiringUserCacheTest {
+
+	private MutableClock clock;
+
+	private UserDetails ernie;
+
+	@BeforeEach
+	public void setUp() {
+		clock = new MutableClock();
+		ernie = new User("Ernie", "Bert", Collections.emptyList());
+	}
+
+	@Test
+	public void testPutAndGet() {
+		ExpiringUserCache cache = new ExpiringUserCache();
+		cache.setClock(clock);
+
+		assertThat(cache.getUserFromCache("Ernie")).isNull();
+		cache.putUserInCache(ernie);
+
+		assertThat(cache.getUserFromCache("Ernie")).isSameAs(ernie);
+		assertThat(cache.getHitCount()).isEqualTo(1);
+		assertThat(cache.getMissCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void testExpiry() {
+		ExpiringUserCache cache = new ExpiringUserCache();
+		cache.setClock(clock);
+		cache.setTimeToLive(Duration.ofSeconds(10));
+		cache.putUserInCache(ernie);
+
+		clock.advance(Duration.ofSeconds(9));
+		assertThat(cache.getUserFromCache("Ernie")).isSameAs(ernie);
+
+		clock.advance(Duration.ofSeconds(1));
+		assertThat(cache.getUserFromCache("Ernie")).isNull();
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEviction() {
+		ExpiringUserCache cache = new ExpiringUserCache(2);
+		cache.setClock(clock);
+		cache.putUserInCache(ernie);
+		cache.putUserInCache(new User("Bert", "Ernie", Collections.emptyList()));
+
+		assertThat(cache.getUserFromCache("Ernie")).isSameAs(ernie);
+		cache.putUserInCache(new User("Grover", "Elmo", Collections.emptyList()));
+
+		assertThat(cache.getUserFromCache("Bert")).isNull();
+		assertThat(cache.getUserFromCache("Ernie")).isSameAs(ernie);
+		assertThat(cache.getUserFromCache("Grover")).isNotNull();
+	}
+
+	@Test
+	public void testNotFound() {
+		ExpiringUserCache cache = new ExpiringUserCache();
+		cache.setClock(clock);
+
+		cache.putUserNotFoundInCache("Ernie");
+		assertThat(cache.isUserNotFound("Ernie")).isFalse();
+
+		cache.setNotFoundTimeToLive(Duration.ofSeconds(5));
+		cache.putUserNotFoundInCache("Ernie");
+		assertThat(cache.isUserNotFound("Ernie")).isTrue();
+		assertThat(cache.getUserFromCache("Ernie")).isNull();
+
+		clock.advance(Duration.ofSeconds(5));
+		assertThat(cache.isUserNotFound("Ernie")).isFalse();
+	}
+
+	@Test
+	public void testNotFoundDoesNotEvictUsers() {
+		ExpiringUserCache cache = new ExpiringUserCache(2, 1);
+		cache.setClock(clock);
+		cache.setNotFoundTimeToLive(Duration.ofSeconds(5));
+		cache.putUserInCache(ernie);
+
+		cache.putUserNotFoundInCache("Bert");
+		cache.putUserNotFoundInCache("Grover");
+
+		assertThat(cache.getUserFromCache("Ernie")).isSameAs(ernie);
+		assertThat(cache.isUserNotFound("Bert")).isFalse();
+		assertThat(cache.isUserNotFound("Grover")).isTrue();
+	}
+
+	@Test
+	public void testLookupsCountedOnce() {
+		ExpiringUserCache cache = new ExpiringUserCache();
+		cache.setClock(clock);
+		cache.setNotFoundTimeToLive(Duration.ofSeconds(5));
+
+		assertThat(cache.getUserFromCache("Ernie")).isNull();
+		assertThat(cache.isUserNotFound("Ernie")).isFalse();
+
+		assertThat(cache.getHitCount()).isZero();
+		assertThat(cache.getMissCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void testRemove() {
+		ExpiringUserCache cache = new ExpiringUserCache();
+		cache.putUserInCache(ernie);
+		cache.removeUserFromCache("Ernie");
+
+		assertThat(cache.getUserFromCache("Ernie")).isNull();
+
+		cache.putUserInCache(ernie);
+		cache.removeAllUsersFromCache();
+
+		assertThat(cache.getUserFromCache("Ernie")).isNull();
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant instant = Instant.parse("2025-01-01T00:00:00Z");
+
+		void advance(Duration duration) {
+			instant = instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+
+	}
+
+}
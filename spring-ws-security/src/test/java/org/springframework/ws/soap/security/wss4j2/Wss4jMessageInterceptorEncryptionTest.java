@@ -87,4 +87,19 @@ public abstract class Wss4jMessageInterceptorEncryptionTest extends Wss4jTest {
 				document);
 	}
 
+	@Test
+	public void testEncryptSeveralResponses() throws Exception {
+
+		interceptor.setSecurementEncryptionUser("rsakey");
+		for (int i = 0; i < 3; i++) {
+			SoapMessage message = loadSoap11Message("empty-soap.xml");
+			MessageContext messageContext = getSoap11MessageContext(message);
+
+			interceptor.secureMessage(message, messageContext);
+
+			assertXpathEvaluatesTo("Invalid number of encrypted parts", "1", "count(//xenc:DataReference)",
+					getDocument(message));
+		}
+	}
+
 }
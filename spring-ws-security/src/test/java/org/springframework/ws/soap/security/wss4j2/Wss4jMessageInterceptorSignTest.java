@@ -18,6 +18,8 @@ package org.springframework.ws.soap.security.wss4j2;
 
 import java.util.Properties;
 
+import org.apache.wss4j.dom.WSConstants;
+import org.apache.wss4j.dom.engine.WSSConfig;
 import org.junit.jupiter.api.Test;
 import org.w3c.dom.Document;
 
@@ -25,6 +27,7 @@ import org.springframework.ws.WebServiceMessage;
 import org.springframework.ws.context.DefaultMessageContext;
 import org.springframework.ws.context.MessageContext;
 import org.springframework.ws.soap.SoapMessage;
+import org.springframework.ws.soap.security.wss4j2.support.CachingSignatureTrustValidator;
 import org.springframework.ws.soap.security.wss4j2.support.CryptoFactoryBean;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -70,6 +73,24 @@ public abstract class Wss4jMessageInterceptorSignTest extends Wss4jTest {
 				getDocument(message));
 	}
 
+	@Test
+	public void testValidateCertificateWithCachingSignatureTrustValidator() throws Exception {
+
+		CachingSignatureTrustValidator validator = new CachingSignatureTrustValidator();
+		WSSConfig wssConfig = WSSConfig.getNewInstance();
+		wssConfig.setValidator(WSConstants.SIGNATURE, validator);
+		interceptor.setWssConfig(wssConfig);
+
+		for (int i = 0; i < 2; i++) {
+			SoapMessage message = loadSoap11Message("signed-soap.xml");
+			MessageContext messageContext = new DefaultMessageContext(message, getSoap11MessageFactory());
+			interceptor.validateMessage(message, messageContext);
+		}
+
+		assertThat(validator.getMissCount()).isEqualTo(1);
+		assertThat(validator.getHitCount()).isEqualTo(3);
+	}
+
 	@Test
 	public void testValidateCertificateWithSignatureConfirmation() throws Exception {
 
@@ -106,6 +127,24 @@ public abstract class Wss4jMessageInterceptorSignTest extends Wss4jTest {
 				"/SOAP-ENV:Envelope/SOAP-ENV:Header/wsse:Security/ds:Signature", document);
 	}
 
+	@Test
+	public void testSignSeveralResponses() throws Exception {
+
+		interceptor.setSecurementActions("Signature");
+		interceptor.setEnableSignatureConfirmation(false);
+		interceptor.setSecurementPassword("123456");
+		interceptor.setSecurementUsername("rsaKey");
+		for (int i = 0; i < 3; i++) {
+			SoapMessage message = loadSoap11Message("empty-soap.xml");
+			MessageContext messageContext = getSoap11MessageContext(message);
+
+			interceptor.secureMessage(message, messageContext);
+
+			assertXpathEvaluatesTo("Invalid number of signature references", "1",
+					"count(//ds:SignedInfo/ds:Reference)", getDocument(message));
+		}
+	}
+
 	@Test
 	public void testSignResponseWithSignatureUser() throws Exception {
 
@@ -47,6 +47,22 @@ public abstract class Wss4jMessageInterceptorTimestampTest extends Wss4jTest {
 				"/SOAP-ENV:Envelope/SOAP-ENV:Header/wsse:Security/wsu:Timestamp", document);
 	}
 
+	@Test
+	public void testAddTimestampTwice() throws Exception {
+
+		Wss4jSecurityInterceptor interceptor = new Wss4jSecurityInterceptor();
+		interceptor.setSecurementActions("Timestamp");
+		interceptor.afterPropertiesSet();
+		for (int i = 0; i < 2; i++) {
+			SoapMessage message = loadSoap11Message("empty-soap.xml");
+			MessageContext context = getSoap11MessageContext(message);
+			interceptor.secureMessage(message, context);
+
+			assertXpathExists("timestamp header not found",
+					"/SOAP-ENV:Envelope/SOAP-ENV:Header/wsse:Security/wsu:Timestamp", getDocument(message));
+		}
+	}
+
 	@Test
 	public void testValidateTimestamp() throws Exception {
 
@@ -16,18 +16,31 @@
 
 package org.springframework.ws.soap.security.wss4j2;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.util.Properties;
 
+import jakarta.xml.soap.MimeHeaders;
+
 import org.apache.wss4j.dom.WSConstants;
 import org.junit.jupiter.api.Test;
 import org.w3c.dom.Document;
 
 import org.springframework.ws.context.DefaultMessageContext;
 import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.server.endpoint.MethodEndpoint;
 import org.springframework.ws.soap.SoapMessage;
+import org.springframework.ws.soap.saaj.SaajSoapMessage;
+import org.springframework.ws.soap.security.WsSecurityValidationException;
 import org.springframework.ws.soap.security.wss4j2.callback.SimplePasswordValidationCallbackHandler;
+import org.springframework.ws.soap.security.wss4j2.support.InMemoryReplayCache;
+import org.springframework.ws.soap.server.endpoint.annotation.CacheableResponse;
+import org.springframework.ws.soap.server.endpoint.interceptor.ResponseCachingInterceptor;
+import org.springframework.xml.transform.StringSource;
+import org.springframework.xml.transform.TransformerHelper;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 public abstract class Wss4jMessageInterceptorUsernameTokenTest extends Wss4jTest {
 
@@ -36,6 +49,7 @@ public abstract class Wss4jMessageInterceptorUsernameTokenTest extends Wss4jTest
 	@Override
 	protected void onSetup() {
 		users.setProperty("Bert", "Ernie");
+		users.setProperty("Ernie", "Bert");
 	}
 
 	@Test
@@ -67,6 +81,67 @@ public abstract class Wss4jMessageInterceptorUsernameTokenTest extends Wss4jTest
 		assertValidateUsernameToken(message);
 	}
 
+	@Test
+	public void testValidateUsernameTokenReplayedNonce() throws Exception {
+
+		Wss4jSecurityInterceptor interceptor = prepareInterceptor("UsernameToken", false, true);
+		interceptor.setSecurementUsername("Bert");
+		interceptor.setSecurementPassword("Ernie");
+		SoapMessage message = loadSoap11Message("empty-soap.xml");
+		interceptor.secureMessage(message, getSoap11MessageContext(message));
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		message.writeTo(bos);
+
+		Wss4jSecurityInterceptor validator = prepareInterceptor("UsernameToken", true, true);
+		validator.setValidationNonceReplayCache(new InMemoryReplayCache());
+
+		SoapMessage original = copySoap11Message(bos.toByteArray());
+		validator.validateMessage(original, getSoap11MessageContext(original));
+
+		assertValidateUsernameToken(original);
+
+		SoapMessage replayed = copySoap11Message(bos.toByteArray());
+		MessageContext replayedContext = getSoap11MessageContext(replayed);
+
+		assertThatExceptionOfType(WsSecurityValidationException.class)
+			.isThrownBy(() -> validator.validateMessage(replayed, replayedContext));
+	}
+
+	@Test
+	public void testResponseCachingPerUsernameTokenPrincipal() throws Exception {
+
+		Wss4jSecurityInterceptor validator = prepareInterceptor("UsernameToken", true, false);
+		ResponseCachingInterceptor cachingInterceptor = new ResponseCachingInterceptor();
+		MethodEndpoint endpoint = new MethodEndpoint(this, "cacheable");
+
+		MessageContext original = createUsernameTokenMessageContext("Bert", "Ernie");
+
+		assertThat(validator.handleRequest(original, endpoint)).isTrue();
+		assertThat(cachingInterceptor.handleRequest(original, endpoint)).isTrue();
+
+		new TransformerHelper().transform(new StringSource("<response xmlns='urn:test'/>"),
+				original.getResponse().getPayloadResult());
+		cachingInterceptor.handleResponse(original, endpoint);
+
+		assertThat(cachingInterceptor.size()).isEqualTo(1);
+
+		MessageContext other = createUsernameTokenMessageContext("Ernie", "Bert");
+		validator.handleRequest(other, endpoint);
+
+		assertThat(cachingInterceptor.handleRequest(other, endpoint)).isTrue();
+		assertThat(other.hasResponse()).isFalse();
+
+		MessageContext repeated = createUsernameTokenMessageContext("Bert", "Ernie");
+		validator.handleRequest(repeated, endpoint);
+
+		assertThat(cachingInterceptor.handleRequest(repeated, endpoint)).isFalse();
+		assertThat(repeated.hasResponse()).isTrue();
+	}
+
+	@CacheableResponse
+	public void cacheable() {
+	}
+
 	@Test
 	public void testValidateUsernameTokenWithQualifiedType() throws Exception {
 
@@ -160,6 +235,23 @@ public abstract class Wss4jMessageInterceptorUsernameTokenTest extends Wss4jTest
 				doc);
 	}
 
+	private MessageContext createUsernameTokenMessageContext(String username, String password) throws Exception {
+		Wss4jSecurityInterceptor interceptor = prepareInterceptor("UsernameToken", false, false);
+		interceptor.setSecurementUsername(username);
+		interceptor.setSecurementPassword(password);
+		SoapMessage message = loadSoap11Message("empty-soap.xml");
+		interceptor.secureMessage(message, getSoap11MessageContext(message));
+		return new DefaultMessageContext(message, getSoap11MessageFactory());
+	}
+
+	private SoapMessage copySoap11Message(byte[] content) throws Exception {
+		MimeHeaders mimeHeaders = new MimeHeaders();
+		mimeHeaders.addHeader("Content-Type", "text/xml");
+		return new SaajSoapMessage(
+				saajSoap11MessageFactory.createMessage(mimeHeaders, new ByteArrayInputStream(content)),
+				saajSoap11MessageFactory);
+	}
+
 	protected Wss4jSecurityInterceptor prepareInterceptor(String actions, boolean validating, boolean digest)
 			throws Exception {
 
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.ws.soap.security.wss4j2;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.ws.context.DefaultMessageContext;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.soap.SoapMessage;
+import org.springframework.ws.soap.security.WsSecurityValidationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public abstract class Wss4jSecurityEventTest extends Wss4jTest {
+
+	private static final String EVENT_NAME = "org.springframework.ws.Wss4jSecurity";
+
+	@Test
+	public void testSecurementEvent(@TempDir Path tempDir) throws Exception {
+
+		Wss4jSecurityInterceptor interceptor = new Wss4jSecurityInterceptor();
+		interceptor.setSecurementActions("Timestamp");
+		interceptor.afterPropertiesSet();
+		SoapMessage message = loadSoap11Message("empty-soap.xml");
+		MessageContext context = getSoap11MessageContext(message);
+
+		Path file = tempDir.resolve("securement.jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable(EVENT_NAME);
+			recording.start();
+			interceptor.secureMessage(message, context);
+			recording.stop();
+			recording.dump(file);
+		}
+
+		List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+		assertThat(events).singleElement().satisfies(event -> {
+			assertThat(event.getString("operation")).isEqualTo(Wss4jSecurityEvent.SECUREMENT);
+			assertThat(event.getString("actions")).isEqualTo("Timestamp");
+			assertThat(event.getBoolean("failed")).isFalse();
+			assertThat(event.getLong("processingTime")).isPositive();
+			assertThat(event.getLong("documentConversionTime")).isPositive();
+		});
+	}
+
+	@Test
+	public void testFailedValidationEvent(@TempDir Path tempDir) throws Exception {
+
+		Wss4jSecurityInterceptor interceptor = new Wss4jSecurityInterceptor();
+		interceptor.setValidationActions("Timestamp");
+		interceptor.afterPropertiesSet();
+		SoapMessage message = loadSoap11Message("expiredTimestamp-soap.xml");
+		MessageContext context = new DefaultMessageContext(message, getSoap11MessageFactory());
+
+		Path file = tempDir.resolve("validation.jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable(EVENT_NAME);
+			recording.start();
+			assertThatExceptionOfType(WsSecurityValidationException.class)
+				.isThrownBy(() -> interceptor.validateMessage(message, context));
+			recording.stop();
+			recording.dump(file);
+		}
+
+		List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+		assertThat(events).singleElement().satisfies(event -> {
+			assertThat(event.getString("operation")).isEqualTo(Wss4jSecurityEvent.VALIDATION);
+			assertThat(event.getBoolean("failed")).isTrue();
+			assertThat(event.getLong("processingTime")).isPositive();
+		});
+	}
+
+	@Test
+	public void testNoTimingWithoutRecording() throws Exception {
+
+		Wss4jSecurityEvent event = new Wss4jSecurityEvent(Wss4jSecurityEvent.SECUREMENT, "Timestamp");
+
+		assertThat(event.isEnabled()).isFalse();
+		assertThat(event.startPhase()).isZero();
+		event.endDocumentConversion(event.startPhase());
+		event.endProcessing(event.startPhase(), true);
+		assertThat(event.documentConversionTime).isZero();
+		assertThat(event.processingTime).isZero();
+		assertThat(event.failed).isFalse();
+	}
+
+}
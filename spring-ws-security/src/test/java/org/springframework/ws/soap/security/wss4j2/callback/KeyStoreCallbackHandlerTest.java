@@ -57,4 +57,17 @@ public class KeyStoreCallbackHandlerTest {
 		assertThat(callback.getKey()).isNotNull();
 	}
 
+	@Test
+	public void testHandleKeyNameCached() throws Exception {
+
+		callbackHandler.setCacheSecretKeys(true);
+		callbackHandler.handleInternal(callback);
+		byte[] key = callback.getKey();
+
+		WSPasswordCallback secondCallback = new WSPasswordCallback("secretkey", WSPasswordCallback.SECRET_KEY);
+		callbackHandler.handleInternal(secondCallback);
+
+		assertThat(secondCallback.getKey()).isEqualTo(key).isNotSameAs(key);
+	}
+
 }
@@ -16,6 +16,7 @@
 
 package org.springframework.ws.soap.security.wss4j2.callback;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 
@@ -33,6 +34,7 @@ import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.ws.soap.security.support.ExpiringUserCache;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.easymock.EasyMock.createMock;
@@ -107,6 +109,30 @@ public class SpringSecurityPasswordValidationCallbackHandlerTest {
 		verify(userDetailsService);
 	}
 
+	@Test
+	public void testHandleUsernameTokenUserNotFoundCached() throws Exception {
+
+		UserDetailsService userDetailsService = createMock(UserDetailsService.class);
+		callbackHandler.setUserDetailsService(userDetailsService);
+		ExpiringUserCache userCache = new ExpiringUserCache();
+		userCache.setNotFoundTimeToLive(Duration.ofMinutes(1));
+		callbackHandler.setUserCache(userCache);
+
+		expect(userDetailsService.loadUserByUsername("Ernie"))
+			.andThrow(new UsernameNotFoundException("User 'Ernie' not found"))
+			.once();
+
+		replay(userDetailsService);
+
+		callbackHandler.handleUsernameToken(passwordCallback);
+		callbackHandler.handleUsernameToken(passwordCallback);
+
+		assertThat(passwordCallback.getPassword()).isNull();
+		assertThat(userCache.isUserNotFound("Ernie")).isTrue();
+
+		verify(userDetailsService);
+	}
+
 	@Test
 	public void testHandleUsernameTokenPrincipal() throws Exception {
 
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.ws.soap.security.wss4j2.support;
+
+import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.apache.wss4j.common.crypto.Crypto;
+import org.apache.wss4j.dom.handler.RequestData;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.aryEq;
+import static org.easymock.EasyMock.createMock;
+import static org.easymock.EasyMock.createNiceMock;
+import static org.easymock.EasyMock.eq;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.expectLastCall;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
+
+public class CachingSignatureTrustValidatorTest {
+
+	private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+	@Test
+	public void testTrustIsCached() throws Exception {
+		CachingSignatureTrustValidator validator = new CachingSignatureTrustValidator();
+		validator.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+		X509Certificate[] first = { certificate(1) };
+		X509Certificate[] second = { certificate(2) };
+		Crypto crypto = expectVerifyTrust(first, 1, second, 1);
+
+		validator.verifyTrustInCerts(first, crypto, new RequestData(), false);
+		validator.verifyTrustInCerts(first, crypto, new RequestData(), false);
+		validator.verifyTrustInCerts(second, crypto, new RequestData(), false);
+
+		verify(crypto);
+		assertThat(validator.getHitCount()).isEqualTo(1);
+		assertThat(validator.getMissCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void testTrustIsCachedPerCrypto() throws Exception {
+		CachingSignatureTrustValidator validator = new CachingSignatureTrustValidator();
+		X509Certificate[] certificates = { certificate(1) };
+		Crypto crypto = expectVerifyTrust(certificates, 1);
+		Crypto otherCrypto = expectVerifyTrust(certificates, 1);
+
+		validator.verifyTrustInCerts(certificates, crypto, new RequestData(), false);
+		validator.verifyTrustInCerts(certificates, otherCrypto, new RequestData(), false);
+
+		verify(crypto, otherCrypto);
+	}
+
+	@Test
+	public void testTimeToLive() throws Exception {
+		CachingSignatureTrustValidator validator = new CachingSignatureTrustValidator(10, Duration.ofMinutes(1));
+		validator.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+		X509Certificate[] certificates = { certificate(1) };
+		Crypto crypto = expectVerifyTrust(certificates, 2);
+
+		validator.verifyTrustInCerts(certificates, crypto, new RequestData(), false);
+		validator.setClock(Clock.fixed(NOW.plus(Duration.ofMinutes(1)), ZoneOffset.UTC));
+		validator.verifyTrustInCerts(certificates, crypto, new RequestData(), false);
+
+		verify(crypto);
+	}
+
+	@Test
+	public void testBounded() throws Exception {
+		CachingSignatureTrustValidator validator = new CachingSignatureTrustValidator(1, Duration.ofMinutes(5));
+		X509Certificate[] first = { certificate(1) };
+		X509Certificate[] second = { certificate(2) };
+		Crypto crypto = expectVerifyTrust(first, 2, second, 1);
+
+		validator.verifyTrustInCerts(first, crypto, new RequestData(), false);
+		validator.verifyTrustInCerts(second, crypto, new RequestData(), false);
+		validator.verifyTrustInCerts(second, crypto, new RequestData(), false);
+		validator.verifyTrustInCerts(first, crypto, new RequestData(), false);
+
+		verify(crypto);
+	}
+
+	@Test
+	public void testRevocationIsNotCached() throws Exception {
+		CachingSignatureTrustValidator validator = new CachingSignatureTrustValidator();
+		X509Certificate[] certificates = { certificate(1) };
+		Crypto crypto = createMock(Crypto.class);
+		crypto.verifyTrust(aryEq(certificates), eq(true), anyObject(), anyObject());
+		expectLastCall().times(2);
+		replay(crypto);
+
+		validator.verifyTrustInCerts(certificates, crypto, new RequestData(), true);
+		validator.verifyTrustInCerts(certificates, crypto, new RequestData(), true);
+
+		verify(crypto);
+		assertThat(validator.getHitCount()).isZero();
+	}
+
+	private static Crypto expectVerifyTrust(Object... certificatesAndTimes) throws Exception {
+		Crypto crypto = createMock(Crypto.class);
+		for (int i = 0; i < certificatesAndTimes.length; i += 2) {
+			crypto.verifyTrust(aryEq((X509Certificate[]) certificatesAndTimes[i]), eq(false), anyObject(),
+					anyObject());
+			expectLastCall().times((Integer) certificatesAndTimes[i + 1]);
+		}
+		replay(crypto);
+		return crypto;
+	}
+
+	private static X509Certificate certificate(int serial) throws Exception {
+		X509Certificate certificate = createNiceMock(X509Certificate.class);
+		expect(certificate.getEncoded()).andReturn(new byte[] { (byte) serial }).anyTimes();
+		replay(certificate);
+		return certificate;
+	}
+
+}
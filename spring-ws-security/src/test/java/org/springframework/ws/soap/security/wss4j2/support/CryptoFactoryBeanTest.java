@@ -16,15 +16,20 @@
 
 package org.springframework.ws.soap.security.wss4j2.support;
 
+import java.security.PrivateKey;
+import java.security.cert.X509Certificate;
 import java.util.Properties;
 
+import org.apache.wss4j.common.crypto.CryptoType;
 import org.apache.wss4j.common.crypto.Merlin;
+import org.apache.wss4j.common.ext.WSSecurityException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.core.io.ClassPathResource;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 public class CryptoFactoryBeanTest {
 
@@ -67,4 +72,60 @@ public class CryptoFactoryBeanTest {
 		assertThat(result).isInstanceOf(Merlin.class);
 	}
 
+	@Test
+	public void testCacheKeys() throws Exception {
+
+		factoryBean.setKeyStoreType("jceks");
+		factoryBean.setKeyStorePassword("123456");
+		factoryBean.setKeyStoreLocation(new ClassPathResource("private.jks"));
+		factoryBean.setCacheKeys(true);
+		factoryBean.afterPropertiesSet();
+		Object result = factoryBean.getObject();
+
+		assertThat(result).isInstanceOf(CachingMerlin.class);
+
+		CachingMerlin crypto = (CachingMerlin) result;
+		PrivateKey privateKey = crypto.getPrivateKey("rsaKey", "123456");
+
+		assertThat(privateKey).isNotNull();
+		assertThat(crypto.getPrivateKey("rsaKey", "123456")).isSameAs(privateKey);
+		assertThatExceptionOfType(WSSecurityException.class)
+			.isThrownBy(() -> crypto.getPrivateKey("rsaKey", "wrong"));
+
+		CryptoType cryptoType = new CryptoType(CryptoType.TYPE.ALIAS);
+		cryptoType.setAlias("rsaKey");
+		X509Certificate[] certificates = crypto.getX509Certificates(cryptoType);
+
+		assertThat(certificates).isNotEmpty();
+		assertThat(crypto.getX509Certificates(cryptoType)).containsExactly(certificates);
+
+		crypto.clearCache();
+
+		assertThat(crypto.getPrivateKey("rsaKey", "123456")).isNotSameAs(privateKey);
+	}
+
+	@Test
+	public void testCacheKeysSubjectDnSpellings() throws Exception {
+
+		factoryBean.setKeyStoreType("jceks");
+		factoryBean.setKeyStorePassword("123456");
+		factoryBean.setKeyStoreLocation(new ClassPathResource("private.jks"));
+		factoryBean.setCacheKeys(true);
+		factoryBean.afterPropertiesSet();
+		CachingMerlin crypto = (CachingMerlin) factoryBean.getObject();
+
+		CryptoType aliasType = new CryptoType(CryptoType.TYPE.ALIAS);
+		aliasType.setAlias("rsaKey");
+		X509Certificate certificate = crypto.getX509Certificates(aliasType)[0];
+		String subject = certificate.getSubjectX500Principal().getName();
+
+		for (String spelling : new String[] { subject, subject.replace(",", ", "), subject.toLowerCase() }) {
+			CryptoType subjectType = new CryptoType(CryptoType.TYPE.SUBJECT_DN);
+			subjectType.setSubjectDN(spelling);
+
+			assertThat(crypto.getX509Certificates(subjectType)).startsWith(certificate);
+		}
+		assertThat(crypto.getCertificateCacheSize()).isEqualTo(2);
+	}
+
 }
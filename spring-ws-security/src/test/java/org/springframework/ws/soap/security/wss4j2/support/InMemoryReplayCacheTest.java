@@ -0,0 +1,180 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.soap.security.wss4j2.support;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InMemoryReplayCacheTest {
+
+	private MutableClock clock;
+
+	private InMemoryReplayCache cache;
+
+	@BeforeEach
+	public void setUp() {
+		clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+		cache = new InMemoryReplayCache(1000, Duration.ofSeconds(300), clock);
+	}
+
+	@Test
+	public void testContains() {
+
+		assertThat(cache.contains("nonce")).isFalse();
+
+		cache.add("nonce");
+
+		assertThat(cache.contains("nonce")).isTrue();
+		assertThat(cache.contains("other")).isFalse();
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.getHitCount()).isEqualTo(1);
+		assertThat(cache.getMissCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void testDefaultExpiry() {
+
+		cache.add("nonce");
+		clock.advance(Duration.ofSeconds(299));
+
+		assertThat(cache.contains("nonce")).isTrue();
+
+		clock.advance(Duration.ofSeconds(120));
+
+		assertThat(cache.contains("nonce")).isFalse();
+	}
+
+	@Test
+	public void testExplicitExpiry() {
+
+		cache.add("timestamp", clock.instant().plusSeconds(30));
+		clock.advance(Duration.ofSeconds(29));
+
+		assertThat(cache.contains("timestamp")).isTrue();
+
+		clock.advance(Duration.ofSeconds(120));
+
+		assertThat(cache.contains("timestamp")).isFalse();
+	}
+
+	@Test
+	public void testAlreadyExpired() {
+
+		cache.add("timestamp", clock.instant().minusSeconds(120));
+
+		assertThat(cache.contains("timestamp")).isFalse();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	public void testFullCacheFailsClosed() {
+
+		int added = 0;
+		for (int i = 0; i < 10_000; i++) {
+			String nonce = "nonce" + i;
+			if (!cache.contains(nonce)) {
+				cache.add(nonce);
+				added++;
+			}
+		}
+
+		assertThat(added).isLessThanOrEqualTo(1000);
+		assertThat(cache.size()).isEqualTo(added);
+		assertThat(cache.getRejectionCount()).isEqualTo(10_000 - added);
+		for (int i = 0; i < 10_000; i++) {
+			assertThat(cache.contains("nonce" + i)).isTrue();
+		}
+
+		clock.advance(Duration.ofSeconds(600));
+
+		assertThat(cache.contains("nonce0")).isFalse();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	public void testUnexpiredEntriesAreNotForgotten() {
+
+		for (int i = 0; i < 10_000; i++) {
+			cache.add("nonce" + i);
+		}
+
+		assertThat(cache.size()).isEqualTo(10_000);
+		assertThat(cache.contains("nonce0")).isTrue();
+		assertThat(cache.contains("nonce9999")).isTrue();
+	}
+
+	@Test
+	public void testExpiredEntriesAreDiscarded() {
+
+		for (int i = 0; i < 500; i++) {
+			cache.add("nonce" + i);
+		}
+		clock.advance(Duration.ofSeconds(600));
+		cache.add("nonce");
+
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.getRejectionCount()).isZero();
+	}
+
+	@Test
+	public void testClose() {
+
+		cache.add("nonce");
+		cache.close();
+
+		assertThat(cache.contains("nonce")).isFalse();
+		assertThat(cache.size()).isZero();
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant instant;
+
+		MutableClock(Instant instant) {
+			this.instant = instant;
+		}
+
+		void advance(Duration duration) {
+			this.instant = this.instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+
+	}
+
+}
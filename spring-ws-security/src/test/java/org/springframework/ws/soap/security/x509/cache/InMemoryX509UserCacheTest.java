@@ -0,0 +1,113 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.soap.security.x509.cache;
+
+import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.createMock;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+
+public class InMemoryX509UserCacheTest {
+
+	@Test
+	public void testPutAndGet() throws Exception {
+		InMemoryX509UserCache cache = new InMemoryX509UserCache();
+		UserDetails ernie = user("Ernie");
+
+		assertThat(cache.getUserFromCache(certificate(1))).isNull();
+		cache.putUserInCache(certificate(1), ernie);
+
+		assertThat(cache.getUserFromCache(certificate(1))).isSameAs(ernie);
+		assertThat(cache.getUserFromCache(certificate(2))).isNull();
+		assertThat(cache.getHitCount()).isEqualTo(1);
+		assertThat(cache.getMissCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void testRemove() throws Exception {
+		InMemoryX509UserCache cache = new InMemoryX509UserCache();
+		cache.putUserInCache(certificate(1), user("Ernie"));
+		cache.removeUserFromCache(certificate(1));
+
+		assertThat(cache.getUserFromCache(certificate(1))).isNull();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	public void testExpiry() throws Exception {
+		InMemoryX509UserCache cache = new InMemoryX509UserCache(10, Duration.ofSeconds(10));
+		Instant now = Instant.now();
+		cache.setClock(Clock.fixed(now, ZoneOffset.UTC));
+		cache.putUserInCache(certificate(1), user("Ernie"));
+
+		cache.setClock(Clock.fixed(now.plusSeconds(10), ZoneOffset.UTC));
+
+		assertThat(cache.getUserFromCache(certificate(1))).isNull();
+	}
+
+	@Test
+	public void testBounded() throws Exception {
+		InMemoryX509UserCache cache = new InMemoryX509UserCache(1, Duration.ofMinutes(1));
+		UserDetails ernie = user("Ernie");
+		cache.putUserInCache(certificate(1), ernie);
+		cache.getUserFromCache(certificate(1));
+
+		cache.putUserInCache(certificate(2), user("Bert"));
+
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.getEvictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void testFrequentlyUsedEntriesSurviveScan() throws Exception {
+		InMemoryX509UserCache cache = new InMemoryX509UserCache(10, Duration.ofMinutes(1));
+		UserDetails ernie = user("Ernie");
+		cache.putUserInCache(certificate(0), ernie);
+		cache.getUserFromCache(certificate(0));
+
+		for (int i = 1; i <= 100; i++) {
+			cache.putUserInCache(certificate(i), user("User" + i));
+		}
+
+		assertThat(cache.getUserFromCache(certificate(0))).isSameAs(ernie);
+		assertThat(cache.size()).isLessThanOrEqualTo(10);
+	}
+
+	private static UserDetails user(String name) {
+		return new User(name, "", Collections.emptyList());
+	}
+
+	private static X509Certificate certificate(int serial) throws Exception {
+		X509Certificate certificate = createMock(X509Certificate.class);
+		expect(certificate.getEncoded()).andReturn(new byte[] { (byte) (serial >> 8), (byte) serial }).anyTimes();
+		replay(certificate);
+		return certificate;
+	}
+
+}
@@ -21,12 +21,17 @@ import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
 
+import javax.xml.namespace.QName;
 import javax.xml.stream.XMLEventReader;
 import javax.xml.stream.XMLEventWriter;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
 import javax.xml.stream.XMLStreamWriter;
+import javax.xml.stream.events.XMLEvent;
 import javax.xml.transform.Result;
 import javax.xml.transform.Source;
+import javax.xml.transform.TransformerException;
 import javax.xml.transform.dom.DOMResult;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.sax.SAXResult;
@@ -45,6 +50,7 @@ import org.xml.sax.ext.LexicalHandler;
 
 import org.springframework.util.StringUtils;
 import org.springframework.util.xml.StaxUtils;
+import org.springframework.xml.namespace.QNameUtils;
 
 /**
  * Convenient utility methods for dealing with TrAX.
@@ -121,6 +127,44 @@ public abstract class TraxUtils {
 		}
 	}
 
+	/**
+	 * Returns the qualified name of the root element of the given source, transforming it
+	 * if necessary.
+	 * @param source the source to get the root element from
+	 * @param transformerHelper a transformer helper, necessary if the given source is not
+	 * a {@code DOMSource} or StAX source
+	 * @return the name of the root element, or {@code null} if {@code source} is
+	 * {@code null} or has no root element
+	 * @throws TransformerException in case of transformation errors
+	 * @since 4.0.12
+	 */
+	public static QName getRootElementName(Source source, TransformerHelper transformerHelper)
+			throws TransformerException {
+		if (source == null) {
+			return null;
+		}
+		try {
+			RootElementNameCallback callback = new RootElementNameCallback();
+			doWithSource(source, callback);
+			if (callback.result != null) {
+				return callback.result;
+			}
+			else {
+				// we have no other option than to transform
+				DOMResult domResult = new DOMResult();
+				transformerHelper.transform(source, domResult);
+				Document document = (Document) domResult.getNode();
+				return QNameUtils.getQNameForNode(document.getDocumentElement());
+			}
+		}
+		catch (TransformerException ex) {
+			throw ex;
+		}
+		catch (Exception ex) {
+			return null;
+		}
+	}
+
 	/**
 	 * Performs the given
 	 * {@linkplain org.springframework.xml.transform.TraxUtils.ResultCallback callback}
@@ -284,4 +328,73 @@ public abstract class TraxUtils {
 
 	}
 
+	private static final class RootElementNameCallback implements SourceCallback {
+
+		private QName result;
+
+		@Override
+		public void domSource(Node node) throws Exception {
+			if (node.getNodeType() == Node.ELEMENT_NODE) {
+				result = QNameUtils.getQNameForNode(node);
+			}
+			else if (node.getNodeType() == Node.DOCUMENT_NODE) {
+				Document document = (Document) node;
+				result = QNameUtils.getQNameForNode(document.getDocumentElement());
+			}
+		}
+
+		@Override
+		public void staxSource(XMLEventReader eventReader) throws Exception {
+			XMLEvent event = eventReader.peek();
+			if (event != null && event.isStartDocument()) {
+				event = eventReader.nextTag();
+			}
+			if (event != null) {
+				if (event.isStartElement()) {
+					result = event.asStartElement().getName();
+				}
+				else if (event.isEndElement()) {
+					result = event.asEndElement().getName();
+				}
+			}
+		}
+
+		@Override
+		public void staxSource(XMLStreamReader streamReader) throws Exception {
+			if (streamReader.getEventType() == XMLStreamConstants.START_DOCUMENT) {
+				try {
+					streamReader.nextTag();
+				}
+				catch (XMLStreamException ex) {
+					throw new IllegalStateException("Could not read next tag: " + ex.getMessage(), ex);
+				}
+			}
+			if (streamReader.getEventType() == XMLStreamConstants.START_ELEMENT
+					|| streamReader.getEventType() == XMLStreamConstants.END_ELEMENT) {
+				result = streamReader.getName();
+			}
+		}
+
+		@Override
+		public void saxSource(XMLReader reader, InputSource inputSource) throws Exception {
+			// Do nothing
+		}
+
+		@Override
+		public void streamSource(InputStream inputStream) throws Exception {
+			// Do nothing
+		}
+
+		@Override
+		public void streamSource(Reader reader) throws Exception {
+			// Do nothing
+		}
+
+		@Override
+		public void source(String systemId) throws Exception {
+			// Do nothing
+		}
+
+	}
+
 }
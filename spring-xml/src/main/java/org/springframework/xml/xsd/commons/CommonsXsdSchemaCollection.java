@@ -21,6 +21,8 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -39,6 +41,7 @@ import org.springframework.context.ResourceLoaderAware;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.core.io.UrlResource;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 import org.springframework.xml.sax.SaxUtils;
@@ -55,6 +58,11 @@ import org.springframework.xml.xsd.XsdSchemaCollection;
  * referenced schemas (included and imported) being merged into the referred schema. When
  * including the schemas into a WSDL, this greatly simplifies the deployment of the
  * schemas.
+ * <p>
+ * Setting a {@link #setSchemaCache(XsdResourceCache) schema cache} shared by several
+ * collections will only read the schemas they have in common, such as type libraries,
+ * once. Setting a {@link #setTaskExecutor(TaskExecutor) task executor} will fetch the
+ * schema resources concurrently before they are parsed.
  *
  * @author Arjen Poutsma
  * @see <a href="http://ws.apache.org/commons/XmlSchema/">Commons XML Schema</a>
@@ -76,6 +84,13 @@ public class CommonsXsdSchemaCollection implements XsdSchemaCollection, Initiali
 
 	private ResourceLoader resourceLoader;
 
+	private TaskExecutor taskExecutor;
+
+	private XsdResourceCache schemaCache;
+
+	/** Cache used while the schemas are loaded; the schema cache, or a temporary one. */
+	private XsdResourceCache loadingCache;
+
 	/**
 	 * Constructs a new, empty instance of the {@code CommonsXsdSchemaCollection}.
 	 * <p>
@@ -121,6 +136,30 @@ public class CommonsXsdSchemaCollection implements XsdSchemaCollection, Initiali
 		this.uriResolver = uriResolver;
 	}
 
+	/**
+	 * Sets the task executor used to fetch the schema resources concurrently.
+	 * <p>
+	 * By default, schema resources are fetched sequentially, on the calling thread.
+	 * Parsing always happens on the calling thread.
+	 * @since 4.0.12
+	 */
+	public void setTaskExecutor(TaskExecutor taskExecutor) {
+		this.taskExecutor = taskExecutor;
+	}
+
+	/**
+	 * Sets the cache used to read schema documents, typically shared with other
+	 * collections.
+	 * <p>
+	 * By default, schema documents are read from their resources. When a
+	 * {@link #setTaskExecutor(TaskExecutor) task executor} is set, the schema documents
+	 * fetched concurrently are kept in a temporary cache while the schemas are loaded.
+	 * @since 4.0.12
+	 */
+	public void setSchemaCache(XsdResourceCache schemaCache) {
+		this.schemaCache = schemaCache;
+	}
+
 	@Override
 	public void setResourceLoader(ResourceLoader resourceLoader) {
 		this.resourceLoader = resourceLoader;
@@ -132,13 +171,34 @@ public class CommonsXsdSchemaCollection implements XsdSchemaCollection, Initiali
 
 		schemaCollection.setSchemaResolver(uriResolver);
 
+		for (Resource xsdResource : xsdResources) {
+			Assert.isTrue(xsdResource.exists(), xsdResource + " does not exist");
+		}
+		loadingCache = schemaCache;
+		if (taskExecutor != null && loadingCache == null) {
+			loadingCache = new XsdResourceCache();
+		}
+		try {
+			if (taskExecutor != null) {
+				prefetchXsds();
+			}
+			loadXsds();
+		}
+		finally {
+			loadingCache = null;
+		}
+		if (logger.isInfoEnabled()) {
+			logger.info("Loaded " + StringUtils.arrayToCommaDelimitedString(xsdResources));
+		}
+	}
+
+	private void loadXsds() {
 		Set<XmlSchema> processedIncludes = new HashSet<>();
 		Set<XmlSchema> processedImports = new HashSet<>();
 
 		for (Resource xsdResource : xsdResources) {
-			Assert.isTrue(xsdResource.exists(), xsdResource + " does not exist");
 			try {
-				XmlSchema xmlSchema = schemaCollection.read(SaxUtils.createInputSource(xsdResource));
+				XmlSchema xmlSchema = schemaCollection.read(createInputSource(xsdResource));
 				xmlSchemas.add(xmlSchema);
 
 				if (inline) {
@@ -150,10 +210,43 @@ public class CommonsXsdSchemaCollection implements XsdSchemaCollection, Initiali
 				throw new CommonsXsdSchemaException("Schema [" + xsdResource + "] could not be loaded", ex);
 			}
 		}
-		if (logger.isInfoEnabled()) {
-			logger.info("Loaded " + StringUtils.arrayToCommaDelimitedString(xsdResources));
+	}
+
+	/**
+	 * Reads the schema resources concurrently, so that they can subsequently be parsed
+	 * from the cache. Resources that cannot be cached, such as input stream resources, are
+	 * only read when parsed.
+	 */
+	private void prefetchXsds() {
+		XsdResourceCache cache = loadingCache;
+		List<CompletableFuture<?>> futures = new ArrayList<>(xsdResources.length);
+		for (Resource xsdResource : xsdResources) {
+			if (!XsdResourceCache.isCacheable(xsdResource)) {
+				continue;
+			}
+			futures.add(CompletableFuture.runAsync(() -> {
+				try {
+					cache.createInputSource(xsdResource).getByteStream().close();
+				}
+				catch (IOException ex) {
+					throw new CommonsXsdSchemaException("Schema [" + xsdResource + "] could not be loaded", ex);
+				}
+			}, taskExecutor));
 		}
+		try {
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof CommonsXsdSchemaException schemaException) {
+				throw schemaException;
+			}
+			throw new CommonsXsdSchemaException("Schemas could not be loaded", ex.getCause());
+		}
+	}
 
+	private InputSource createInputSource(Resource resource) throws IOException {
+		XsdResourceCache cache = (loadingCache != null) ? loadingCache : schemaCache;
+		return (cache != null) ? cache.createInputSource(resource) : SaxUtils.createInputSource(resource);
 	}
 
 	@Override
@@ -270,7 +363,7 @@ public class CommonsXsdSchemaCollection implements XsdSchemaCollection, Initiali
 
 		private InputSource createInputSource(Resource resource) {
 			try {
-				return SaxUtils.createInputSource(resource);
+				return CommonsXsdSchemaCollection.this.createInputSource(resource);
 			}
 			catch (IOException ex) {
 				throw new CommonsXsdSchemaException("Could not resolve location", ex);
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.xml.xsd.commons;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.xml.sax.InputSource;
+
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+import org.springframework.util.FileCopyUtils;
+import org.springframework.xml.sax.SaxUtils;
+
+/**
+ * Cache of schema documents, that can be shared by several
+ * {@link CommonsXsdSchemaCollection} instances so that schemas they have in common, such
+ * as type libraries, are only read once.
+ * <p>
+ * Entries are keyed by the resolved URL of the schema, and the least recently used
+ * entry is evicted when the cache is full. Schemas in the file system are read again
+ * when they have been modified since they were cached; other schemas are cached until
+ * evicted. Resources that do not resolve to a URL are not cached.
+ *
+ * @since 4.0.12
+ * @see CommonsXsdSchemaCollection#setSchemaCache(XsdResourceCache)
+ */
+public class XsdResourceCache {
+
+	/** The default maximum number of cached schema documents. */
+	public static final int DEFAULT_MAX_ENTRIES = 256;
+
+	private final Map<String, Entry> entries;
+
+	/**
+	 * Create a new {@code XsdResourceCache} that holds at most
+	 * {@value #DEFAULT_MAX_ENTRIES} schema documents.
+	 */
+	public XsdResourceCache() {
+		this(DEFAULT_MAX_ENTRIES);
+	}
+
+	/**
+	 * Create a new {@code XsdResourceCache}.
+	 * @param maxEntries the maximum number of cached schema documents
+	 */
+	public XsdResourceCache(int maxEntries) {
+		Assert.isTrue(maxEntries > 0, "maxEntries must be positive");
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+				return size() > maxEntries;
+			}
+
+		};
+	}
+
+	/**
+	 * Creates a SAX {@code InputSource} for the given resource, reading its contents
+	 * from the cache when available.
+	 * @param resource the schema resource
+	 * @return the input source
+	 * @throws IOException in case of I/O errors
+	 */
+	public InputSource createInputSource(Resource resource) throws IOException {
+		String systemId = SaxUtils.getSystemId(resource);
+		if (systemId == null) {
+			return SaxUtils.createInputSource(resource);
+		}
+		long lastModified = resource.isFile() ? resource.lastModified() : 0;
+		Entry entry;
+		synchronized (this.entries) {
+			entry = this.entries.get(systemId);
+		}
+		if (entry == null || entry.lastModified != lastModified) {
+			entry = new Entry(lastModified, FileCopyUtils.copyToByteArray(resource.getInputStream()));
+			synchronized (this.entries) {
+				this.entries.put(systemId, entry);
+			}
+		}
+		InputSource inputSource = new InputSource(new ByteArrayInputStream(entry.content));
+		inputSource.setSystemId(systemId);
+		return inputSource;
+	}
+
+	/**
+	 * Indicates whether the given resource can be cached, that is, whether it resolves to
+	 * a URL.
+	 */
+	static boolean isCacheable(Resource resource) {
+		return SaxUtils.getSystemId(resource) != null;
+	}
+
+	/**
+	 * Removes all cached schema documents.
+	 */
+	public void clear() {
+		synchronized (this.entries) {
+			this.entries.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of cached schema documents.
+	 */
+	public int size() {
+		synchronized (this.entries) {
+			return this.entries.size();
+		}
+	}
+
+	private static final class Entry {
+
+		private final long lastModified;
+
+		private final byte[] content;
+
+		Entry(long lastModified, byte[] content) {
+			this.lastModified = lastModified;
+			this.content = content;
+		}
+
+	}
+
+}
@@ -16,6 +16,10 @@
 
 package org.springframework.xml.xsd.commons;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.transform.Transformer;
@@ -25,10 +29,15 @@ import javax.xml.transform.dom.DOMResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
 import org.xmlunit.assertj.XmlAssert;
 
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.xml.DocumentBuilderFactoryUtils;
 import org.springframework.xml.sax.SaxUtils;
 import org.springframework.xml.transform.TransformerFactoryUtils;
@@ -177,4 +186,106 @@ public class CommonsXsdSchemaCollectionTest {
 		XmlAssert.assertThat(domResult.getNode()).and(expected).ignoreWhitespace().areIdentical();
 	}
 
+	@Test
+	public void testTaskExecutor() throws Exception {
+
+		Resource a = new ClassPathResource("A.xsd", AbstractXsdSchemaTest.class);
+		Resource single = new ClassPathResource("single.xsd", AbstractXsdSchemaTest.class);
+		collection.setXsds(a, single);
+		collection.setInline(true);
+		collection.setTaskExecutor(new SimpleAsyncTaskExecutor());
+		collection.afterPropertiesSet();
+
+		XsdSchema[] schemas = collection.getXsdSchemas();
+
+		assertThat(schemas).hasSize(3);
+		assertThat(schemas[0].getTargetNamespace()).isEqualTo("urn:1");
+	}
+
+	@Test
+	public void testTaskExecutorWithInputStreamResource() throws Exception {
+
+		Resource single = new ClassPathResource("single.xsd", AbstractXsdSchemaTest.class);
+		collection.setXsds(new InputStreamResource(single.getInputStream()));
+		collection.setTaskExecutor(new SimpleAsyncTaskExecutor());
+		collection.afterPropertiesSet();
+
+		XsdSchema[] schemas = collection.getXsdSchemas();
+
+		assertThat(schemas).hasSize(1);
+		assertThat(schemas[0].getTargetNamespace()).isEqualTo("http://www.springframework.org/spring-ws/single/schema");
+	}
+
+	@Test
+	public void testTaskExecutorOpensUncacheableResourcesOnce() throws Exception {
+
+		Resource single = new ClassPathResource("single.xsd", AbstractXsdSchemaTest.class);
+		CountingResource counting = new CountingResource(single.getContentAsByteArray());
+		collection.setXsds(counting);
+		collection.setTaskExecutor(new SimpleAsyncTaskExecutor());
+		collection.afterPropertiesSet();
+
+		assertThat(collection.getXsdSchemas()).hasSize(1);
+		assertThat(counting.opened).hasValue(1);
+	}
+
+	@Test
+	public void testSharedSchemasAreCached() throws Exception {
+
+		XsdResourceCache cache = new XsdResourceCache();
+		Resource hr = new ClassPathResource("hr.xsd", getClass());
+		collection.setXsds(hr);
+		collection.setInline(true);
+		collection.setResourceLoader(new DefaultResourceLoader());
+		collection.setSchemaCache(cache);
+		collection.afterPropertiesSet();
+
+		int cached = cache.size();
+		assertThat(cached).isGreaterThan(1);
+
+		CommonsXsdSchemaCollection other = new CommonsXsdSchemaCollection(hr);
+		other.setInline(true);
+		other.setResourceLoader(new DefaultResourceLoader());
+		other.setSchemaCache(cache);
+		other.afterPropertiesSet();
+
+		assertThat(cache.size()).isEqualTo(cached);
+		assertThat(other.getXsdSchemas()).hasSize(2);
+	}
+
+	@Test
+	public void testSchemaCacheIsBounded() throws Exception {
+
+		XsdResourceCache cache = new XsdResourceCache(2);
+		Resource a = new ClassPathResource("A.xsd", AbstractXsdSchemaTest.class);
+		Resource b = new ClassPathResource("B.xsd", AbstractXsdSchemaTest.class);
+		Resource single = new ClassPathResource("single.xsd", AbstractXsdSchemaTest.class);
+
+		cache.createInputSource(a);
+		cache.createInputSource(b);
+		cache.createInputSource(a);
+		cache.createInputSource(single);
+
+		assertThat(cache.size()).isEqualTo(2);
+		InputSource inputSource = cache.createInputSource(a);
+		assertThat(inputSource.getSystemId()).isEqualTo(SaxUtils.getSystemId(a));
+		assertThat(inputSource.getByteStream()).hasSameContentAs(a.getInputStream());
+	}
+
+	private static final class CountingResource extends ByteArrayResource {
+
+		private final AtomicInteger opened = new AtomicInteger();
+
+		CountingResource(byte[] content) {
+			super(content);
+		}
+
+		@Override
+		public InputStream getInputStream() throws IOException {
+			this.opened.incrementAndGet();
+			return super.getInputStream();
+		}
+
+	}
+
 }